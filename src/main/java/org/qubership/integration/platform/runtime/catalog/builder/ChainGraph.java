@@ -0,0 +1,174 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.builder;
+
+import org.qubership.integration.platform.runtime.catalog.model.library.ElementDescriptor;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Dependency;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Immutable view of chain elements indexed by int, used to build routes.
+ * Element descriptors, dependencies and container children are read once when the graph
+ * is created, adjacency is kept in compressed sparse row arrays. Elements passed
+ * to {@link #of} come first in the same order, elements reachable from them
+ * through dependencies, children and parents follow.
+ */
+public final class ChainGraph {
+
+    public static final int NO_ELEMENT = -1;
+
+    private final ChainElement[] elements;
+    private final ElementDescriptor[] descriptors;
+    private final Map<String, Integer> indexes;
+    private final int listedCount;
+    private final int[] parents;
+    private final boolean[] containers;
+    private final int[] inputCounts;
+    private final int[] outputOffsets;
+    private final int[] outputs;
+    private final int[] childOffsets;
+    private final int[] children;
+
+    private ChainGraph(List<ChainElement> elements, Map<String, Integer> indexes, int listedCount,
+                       Function<ChainElement, ElementDescriptor> descriptorProvider) {
+        int size = elements.size();
+        this.elements = elements.toArray(new ChainElement[0]);
+        this.indexes = indexes;
+        this.listedCount = listedCount;
+        this.descriptors = new ElementDescriptor[size];
+        this.parents = new int[size];
+        this.containers = new boolean[size];
+        this.inputCounts = new int[size];
+        this.outputOffsets = new int[size + 1];
+        this.childOffsets = new int[size + 1];
+
+        for (int i = 0; i < size; i++) {
+            ChainElement element = this.elements[i];
+            descriptors[i] = descriptorProvider.apply(element);
+            parents[i] = element.getParent() == null ? NO_ELEMENT : indexes.get(element.getParent().getId());
+            containers[i] = element instanceof ContainerChainElement;
+            inputCounts[i] = element.getInputDependencies().size();
+            outputOffsets[i + 1] = outputOffsets[i] + element.getOutputDependencies().size();
+            childOffsets[i + 1] = childOffsets[i] + (containers[i] ? ((ContainerChainElement) element).getElements().size() : 0);
+        }
+
+        this.outputs = new int[outputOffsets[size]];
+        this.children = new int[childOffsets[size]];
+        for (int i = 0; i < size; i++) {
+            int position = outputOffsets[i];
+            for (Dependency dependency : this.elements[i].getOutputDependencies()) {
+                outputs[position++] = indexes.get(dependency.getElementTo().getId());
+            }
+            if (containers[i]) {
+                position = childOffsets[i];
+                for (ChainElement child : ((ContainerChainElement) this.elements[i]).getElements()) {
+                    children[position++] = indexes.get(child.getId());
+                }
+            }
+        }
+    }
+
+    public static ChainGraph of(List<ChainElement> elements, Function<ChainElement, ElementDescriptor> descriptorProvider) {
+        List<ChainElement> indexed = new ArrayList<>(elements.size());
+        Map<String, Integer> indexes = new HashMap<>();
+        elements.forEach(element -> register(element, indexed, indexes));
+        int listedCount = indexed.size();
+
+        for (int i = 0; i < indexed.size(); i++) {
+            ChainElement element = indexed.get(i);
+            if (element.getParent() != null) {
+                register(element.getParent(), indexed, indexes);
+            }
+            for (Dependency dependency : element.getOutputDependencies()) {
+                register(dependency.getElementTo(), indexed, indexes);
+            }
+            if (element instanceof ContainerChainElement container) {
+                for (ChainElement child : container.getElements()) {
+                    register(child, indexed, indexes);
+                }
+            }
+        }
+        return new ChainGraph(indexed, indexes, listedCount, descriptorProvider);
+    }
+
+    private static void register(ChainElement element, List<ChainElement> indexed, Map<String, Integer> indexes) {
+        if (indexes.putIfAbsent(element.getId(), indexed.size()) == null) {
+            indexed.add(element);
+        }
+    }
+
+    public int size() {
+        return elements.length;
+    }
+
+    /**
+     * @return number of elements passed to {@link #of}, they have indexes from zero to this number
+     */
+    public int getListedCount() {
+        return listedCount;
+    }
+
+    public int indexOf(ChainElement element) {
+        return indexes.getOrDefault(element.getId(), NO_ELEMENT);
+    }
+
+    public ChainElement getElement(int index) {
+        return elements[index];
+    }
+
+    public ElementDescriptor getDescriptor(int index) {
+        return descriptors[index];
+    }
+
+    public int getParent(int index) {
+        return parents[index];
+    }
+
+    public boolean isContainer(int index) {
+        return containers[index];
+    }
+
+    public int getInputCount(int index) {
+        return inputCounts[index];
+    }
+
+    public int getOutputCount(int index) {
+        return outputOffsets[index + 1] - outputOffsets[index];
+    }
+
+    /**
+     * @return index of the element the n-th output dependency of the element leads to
+     */
+    public int getOutput(int index, int n) {
+        return outputs[outputOffsets[index] + n];
+    }
+
+    public int getChildCount(int index) {
+        return childOffsets[index + 1] - childOffsets[index];
+    }
+
+    public int getChild(int index, int n) {
+        return children[childOffsets[index] + n];
+    }
+}
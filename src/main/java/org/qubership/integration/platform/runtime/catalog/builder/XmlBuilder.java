@@ -18,7 +18,6 @@
 
 import com.ctc.wstx.stax.WstxOutputFactory;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.tuple.Pair;
 import org.codehaus.stax2.XMLStreamWriter2;
 import org.qubership.integration.platform.runtime.catalog.builder.templates.TemplateService;
 import org.qubership.integration.platform.runtime.catalog.consul.ConfigurationPropertiesConstants;
@@ -26,9 +25,7 @@
 import org.qubership.integration.platform.runtime.catalog.model.constant.CamelNames;
 import org.qubership.integration.platform.runtime.catalog.model.library.ElementDescriptor;
 import org.qubership.integration.platform.runtime.catalog.model.library.ElementType;
-import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Dependency;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
-import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
 import org.qubership.integration.platform.runtime.catalog.service.library.LibraryElementsService;
 import org.qubership.integration.platform.runtime.catalog.util.ElementUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -36,8 +33,9 @@
 
 import java.io.IOException;
 import java.io.StringWriter;
+import java.io.Writer;
 import java.util.*;
-import java.util.stream.Collectors;
+import javax.xml.stream.XMLOutputFactory;
 import javax.xml.stream.XMLStreamException;
 
 import static org.qubership.integration.platform.runtime.catalog.model.constant.CamelNames.CONTAINER;
@@ -46,6 +44,9 @@
 @Component
 public class XmlBuilder {
 
+    // Output factories are thread-safe once configured
+    private static final XMLOutputFactory OUTPUT_FACTORY = new WstxOutputFactory();
+
     private final TemplateService templateService;
     private final LibraryElementsService libraryService;
     private final ElementUtils elementUtils;
@@ -59,27 +60,22 @@ public XmlBuilder(TemplateService templateService, LibraryElementsService librar
     }
 
     public String build(List<ChainElement> elements) throws XMLStreamException, IOException {
+        StringWriter result = new StringWriter();
+        build(elements, result);
+        return result.toString();
+    }
 
-        elements = elementUtils.splitCompositeTriggers(elements);
-        List<ChainElement> startElements = elements.stream()
-                .filter(chainElement -> {
-                    ElementDescriptor descriptor = libraryService.getElementDescriptor(chainElement);
-                    boolean elementHasNoParent = chainElement.getParent() == null
-                            || CONTAINER.equals(chainElement.getParent().getType());
-                    return descriptor != null
-                            && (descriptor.getType() == ElementType.TRIGGER
-                                || descriptor.getType() == ElementType.REUSE
-                                || (descriptor.getType() == ElementType.COMPOSITE_TRIGGER
-                            && elementHasNoParent
-                            && chainElement.getInputDependencies().isEmpty()));
-                })
-                .collect(Collectors.toList());
+    /**
+     * Writes the routes XML to the writer. The writer is flushed but not closed.
+     */
+    public void build(List<ChainElement> elements, Writer writer) throws XMLStreamException, IOException {
+        ChainGraph graph = ChainGraph.of(elementUtils.splitCompositeTriggers(elements), libraryService::getElementDescriptor);
 
         Map<String, String> routesWithCustomIdPlaceholder = new HashMap<>();
-        List<ChainRoute> routes = collectRoutes(startElements, routesWithCustomIdPlaceholder);
+        List<ChainRoute> routes = collectRoutes(graph, routesWithCustomIdPlaceholder);
 
-        StringWriter result = new StringWriter();
-        XMLStreamWriter2 streamWriter = (XMLStreamWriter2) new WstxOutputFactory().createXMLStreamWriter(result);
+        XMLStreamWriter2 streamWriter = (XMLStreamWriter2) OUTPUT_FACTORY.createXMLStreamWriter(writer);
+        Writer templateWriter = new RawXmlWriter(streamWriter);
         streamWriter.writeStartDocument();
         streamWriter.writeStartElement(BuilderConstants.ROUTES);
         streamWriter.writeDefaultNamespace(BuilderConstants.SCHEMA);
@@ -91,19 +87,19 @@ public String build(List<ChainElement> elements) throws XMLStreamException, IOEx
                         BuilderConstants.ID,
                         routesWithCustomIdPlaceholder.get(chainRoute.getId()));
             }
-            if (isRouteReferencedFromAnother(chainRoute)) {
+            if (isRouteReferencedFromAnother(graph, chainRoute)) {
                 streamWriter.writeEmptyElement(BuilderConstants.FROM);
                 streamWriter.writeAttribute(BuilderConstants.URI, BuilderConstants.DIRECT + chainRoute.getId());
             }
             for (ChainElement chainElement : chainRoute.getElements()) {
-                ElementDescriptor elementDescriptor = libraryService.getElementDescriptor(chainElement);
+                ElementDescriptor elementDescriptor = graph.getDescriptor(graph.indexOf(chainElement));
                 ElementType type = elementDescriptor.getType();
                 if (type == ElementType.TRIGGER && !BuilderConstants.ON_COMPLETION_EXCLUDE_TRIGGERS.contains(elementDescriptor.getName())) {
                     addOnCompletion(streamWriter);
                     addChainStart(streamWriter);
                 }
                 if (type != ElementType.CONTAINER) {
-                    streamWriter.writeRaw(templateService.applyTemplate(chainElement));
+                    templateService.applyTemplate(chainElement, templateWriter);
                 }
             }
             if (chainRoute.getNextRoutes().size() > 1) {
@@ -119,40 +115,40 @@ public String build(List<ChainElement> elements) throws XMLStreamException, IOEx
             streamWriter.writeEndElement();
 
             // add extra route with onCompletion for split async element
-            addWiretapBridgeRoute(chainRoute, streamWriter);
+            addWiretapBridgeRoute(graph, chainRoute, streamWriter);
         }
         streamWriter.writeEndElement();
         streamWriter.writeEndDocument();
         streamWriter.flush();
         streamWriter.close();
-
-        return result.toString();
     }
 
-    private void addWiretapBridgeRoute(ChainRoute chainRoute, XMLStreamWriter2 streamWriter) throws XMLStreamException {
+    private static void addWiretapBridgeRoute(ChainGraph graph, ChainRoute chainRoute, XMLStreamWriter2 streamWriter)
+            throws XMLStreamException {
         for (ChainElement element : chainRoute.getElements()) {
-            ElementDescriptor elementDescriptor = libraryService.getElementDescriptor(element);
-            String elementName = elementDescriptor.getName();
+            int index = graph.indexOf(element);
+            String elementName = graph.getDescriptor(index).getName();
             if (CamelNames.SPLIT_ASYNC_2_COMPONENT.equals(elementName) || CamelNames.SPLIT_ASYNC_COMPONENT.equals(elementName)) {
-                ContainerChainElement splitContainer = (ContainerChainElement) element;
-                for (ChainElement splitElement : splitContainer.getElements()) {
-                    String splitElementName = libraryService.getElementDescriptor(splitElement).getName();
+                for (int n = 0; n < graph.getChildCount(index); n++) {
+                    int splitElement = graph.getChild(index, n);
+                    String splitElementName = graph.getDescriptor(splitElement).getName();
                     if (ConfigurationPropertiesConstants.ASYNC_SPLIT_ELEMENT.equals(splitElementName)
                             || ConfigurationPropertiesConstants.ASYNC_SPLIT_ELEMENT_2.equals(splitElementName)
                     ) {
+                        String splitElementId = graph.getElement(splitElement).getId();
                         streamWriter.writeStartElement(BuilderConstants.ROUTE);
 
                         addOnCompletion(streamWriter);
 
                         streamWriter.writeEmptyElement(BuilderConstants.FROM);
                         streamWriter.writeAttribute(BuilderConstants.URI,
-                                BuilderConstants.DIRECT + splitElement.getId() + BuilderConstants.ON_COMPLETION_ID_POSTFIX);
+                                BuilderConstants.DIRECT + splitElementId + BuilderConstants.ON_COMPLETION_ID_POSTFIX);
 
                         addSplitAsyncStart(streamWriter);
 
                         streamWriter.writeEmptyElement(BuilderConstants.TO);
                         streamWriter.writeAttribute(BuilderConstants.URI,
-                                BuilderConstants.DIRECT + splitElement.getId());
+                                BuilderConstants.DIRECT + splitElementId);
 
                         streamWriter.writeEndElement();
                     }
@@ -178,76 +174,88 @@ private static void addSplitAsyncStart(XMLStreamWriter2 streamWriter) throws XML
         streamWriter.writeAttribute(BuilderConstants.REF, BuilderConstants.SPLIT_ASYNC_PROCESSOR);
     }
 
-    private List<ChainRoute> collectRoutes(List<ChainElement> startElements, Map<String, String> routesWithCustomId) {
-        List<ChainRoute> routes = new LinkedList<>();
-        Map<String, ChainRoute> elementToRoute = new HashMap<>(); // map of elements where key is "to" element id and value is its route
-        Deque<Pair<ChainElement, ChainRoute>> stack = new LinkedList<>();
-        for (ChainElement startElement : startElements) {
-            ChainRoute route = !BuilderConstants.REUSE_ELEMENT_TYPE.equals(startElement.getType())
+    private static boolean isStartElement(ChainGraph graph, int index) {
+        ElementDescriptor descriptor = graph.getDescriptor(index);
+        int parent = graph.getParent(index);
+        boolean elementHasNoParent = parent == ChainGraph.NO_ELEMENT
+                || CONTAINER.equals(graph.getElement(parent).getType());
+        return descriptor != null
+                && (descriptor.getType() == ElementType.TRIGGER
+                    || descriptor.getType() == ElementType.REUSE
+                    || (descriptor.getType() == ElementType.COMPOSITE_TRIGGER
+                && elementHasNoParent
+                && graph.getInputCount(index) == 0));
+    }
+
+    static List<ChainRoute> collectRoutes(ChainGraph graph, Map<String, String> routesWithCustomId) {
+        List<ChainRoute> routes = new ArrayList<>();
+        ChainRoute[] elementToRoute = new ChainRoute[graph.size()]; // routes started by elements
+        RouteStack stack = new RouteStack();
+        for (int startElement = 0; startElement < graph.getListedCount(); startElement++) {
+            if (!isStartElement(graph, startElement)) {
+                continue;
+            }
+            ChainElement element = graph.getElement(startElement);
+            ChainRoute route = !BuilderConstants.REUSE_ELEMENT_TYPE.equals(element.getType())
                     ? new ChainRoute()
-                    : new ChainRoute(startElement.getOriginalId());
+                    : new ChainRoute(element.getOriginalId());
             routes.add(route);
-            stack.push(Pair.of(startElement, route));
+            stack.push(startElement, route);
 
-            if (startElement.getType().startsWith(BuilderConstants.SFTP_TRIGGER_PREFIX)) {
+            if (element.getType().startsWith(BuilderConstants.SFTP_TRIGGER_PREFIX)) {
                 routesWithCustomId.put(
                         route.getId(),
-                        BuilderConstants.DEPLOYMENT_ID_PLACEHOLDER + "-" + startElement.getId());
+                        BuilderConstants.DEPLOYMENT_ID_PLACEHOLDER + "-" + element.getId());
             }
         }
         while (!stack.isEmpty()) {
-            Pair<ChainElement, ChainRoute> currentElement = stack.pop();
-            ChainElement current = currentElement.getLeft();
-            ChainRoute currentRoute = currentElement.getRight();
-            ElementDescriptor elementDescriptor = libraryService.getElementDescriptor(current);
+            int current = stack.getElement();
+            ChainRoute currentRoute = stack.getRoute();
+            stack.pop();
+            ElementDescriptor elementDescriptor = graph.getDescriptor(current);
             ElementType elementType = elementDescriptor.getType();
 
             if (currentRoute.getElements().isEmpty()) {
-                elementToRoute.put(current.getId(), currentRoute);
+                elementToRoute[current] = currentRoute;
             }
-            currentRoute.getElements().add(current);
+            currentRoute.getElements().add(graph.getElement(current));
 
             //Condition that decide route need to be finished
             boolean completeRoute =
                     elementType == ElementType.TRIGGER
                             || (elementType == ElementType.COMPOSITE_TRIGGER)
-                            || current.getOutputDependencies().size() != 1;
+                            || graph.getOutputCount(current) != 1;
 
-            for (Dependency dependency : current.getOutputDependencies()) {
-                ChainElement nextElement = dependency.getElementTo();
-                if (elementToRoute.containsKey(nextElement.getId())) { // if a route with nextElement already exists
-                    ChainRoute nextRoute = elementToRoute.get(nextElement.getId());
-                    currentRoute.getNextRoutes().add(nextRoute);
+            for (int n = 0; n < graph.getOutputCount(current); n++) {
+                int nextElement = graph.getOutput(current, n);
+                if (elementToRoute[nextElement] != null) { // if a route with nextElement already exists
+                    currentRoute.getNextRoutes().add(elementToRoute[nextElement]);
                 } else {
                     ChainRoute route = currentRoute;
-                    if (completeRoute || nextElement.getInputDependencies().size() > 1) {
+                    if (completeRoute || graph.getInputCount(nextElement) > 1) {
                         route = new ChainRoute(); // start new route
                         routes.add(route);
                         currentRoute.getNextRoutes().add(route);
                     }
-                    stack.push(Pair.of(dependency.getElementTo(), route));
+                    stack.push(nextElement, route);
                 }
             }
 
-            if (current instanceof ContainerChainElement && elementType != ElementType.CONTAINER) {
+            if (graph.isContainer(current) && elementType != ElementType.CONTAINER) {
                 if (!elementDescriptor.isOldStyleContainer()) {
-                    List<ChainRoute> containerRoutes = collectContainerSubRoutes(
-                            (ContainerChainElement) current,
-                            elementToRoute,
-                            stack
-                    );
-                    routes.addAll(containerRoutes);
+                    routes.addAll(collectContainerSubRoutes(graph, current, elementToRoute, stack));
                     continue;
                 }
 
                 // this block is used for deprecated containers that cannot contain logically nested
                 // dependent elements within themselves. It can be removed when such containers are
                 // completely removed from the project
-                for (ChainElement element : ((ContainerChainElement) current).getElements()) {
-                    ChainRoute branchRoute = new ChainRoute(element.getId());
+                for (int n = 0; n < graph.getChildCount(current); n++) {
+                    int element = graph.getChild(current, n);
+                    ChainRoute branchRoute = new ChainRoute(graph.getElement(element).getId());
                     routes.add(branchRoute);
-                    for (Dependency outputDependency : element.getOutputDependencies()) {
-                        ChainElement nextElement = outputDependency.getElementTo();
+                    for (int k = 0; k < graph.getOutputCount(element); k++) {
+                        int nextElement = graph.getOutput(element, k);
                         branchRoute.getNextRoutes().add(extractNextRoute(nextElement, routes, elementToRoute, stack));
                     }
                 }
@@ -256,80 +264,167 @@ private List<ChainRoute> collectRoutes(List<ChainElement> startElements, Map<Str
         return routes;
     }
 
-    private List<ChainRoute> collectContainerSubRoutes(
-            ContainerChainElement containerElement,
-            Map<String, ChainRoute> elementToRoute,
-            Deque<Pair<ChainElement, ChainRoute>> elementRouteStack
+    private static List<ChainRoute> collectContainerSubRoutes(
+            ChainGraph graph,
+            int containerElement,
+            ChainRoute[] elementToRoute,
+            RouteStack elementRouteStack
     ) {
-        List<ChainRoute> routes = new LinkedList<>();
-        ElementDescriptor elementDescriptor = libraryService.getElementDescriptor(containerElement);
-        if (!elementDescriptor.getAllowedChildren().isEmpty()) {
-            for (ChainElement child : containerElement.getElements()) {
-                if (!(child instanceof ContainerChainElement childContainer)) {
-                    ChainRoute branchRoute = new ChainRoute(child.getId());
+        List<ChainRoute> routes = new ArrayList<>();
+        if (!graph.getDescriptor(containerElement).getAllowedChildren().isEmpty()) {
+            for (int n = 0; n < graph.getChildCount(containerElement); n++) {
+                int child = graph.getChild(containerElement, n);
+                if (!graph.isContainer(child)) {
+                    ChainRoute branchRoute = new ChainRoute(graph.getElement(child).getId());
                     routes.add(branchRoute);
                     branchRoute.getNextRoutes().add(extractNextRoute(child, routes, elementToRoute, elementRouteStack));
                     continue;
                 }
 
-                addContainerRoutes(routes, childContainer, elementToRoute, elementRouteStack);
+                addContainerRoutes(graph, routes, child, elementToRoute, elementRouteStack);
             }
             return routes;
         }
 
-        addContainerRoutes(routes, containerElement, elementToRoute, elementRouteStack);
+        addContainerRoutes(graph, routes, containerElement, elementToRoute, elementRouteStack);
         return routes;
     }
 
-    private void addContainerRoutes(
+    private static void addContainerRoutes(
+            ChainGraph graph,
             List<ChainRoute> routes,
-            ContainerChainElement containerElement,
-            Map<String, ChainRoute> elementToRoute,
-            Deque<Pair<ChainElement, ChainRoute>> elementRouteStack
+            int containerElement,
+            ChainRoute[] elementToRoute,
+            RouteStack elementRouteStack
     ) {
-        ChainRoute containerRoute = new ChainRoute(containerElement.getId());
+        ChainRoute containerRoute = new ChainRoute(graph.getElement(containerElement).getId());
         routes.add(containerRoute);
 
-        List<ChainElement> startElements = containerElement.getElements().stream()
-                .filter(element -> element.getInputDependencies().isEmpty())
-                .toList();
-        if (startElements.size() == 1) {
-            elementRouteStack.push(Pair.of(startElements.get(0), containerRoute));
+        int startElementsCount = 0;
+        int firstStartElement = ChainGraph.NO_ELEMENT;
+        for (int n = 0; n < graph.getChildCount(containerElement); n++) {
+            int child = graph.getChild(containerElement, n);
+            if (graph.getInputCount(child) == 0) {
+                startElementsCount++;
+                if (firstStartElement == ChainGraph.NO_ELEMENT) {
+                    firstStartElement = child;
+                }
+            }
+        }
+        if (startElementsCount == 1) {
+            elementRouteStack.push(firstStartElement, containerRoute);
             return;
         }
 
-        for (ChainElement startElement : startElements) {
-            ChainRoute nextRoute = extractNextRoute(startElement, routes, elementToRoute, elementRouteStack);
-            containerRoute.getNextRoutes().add(nextRoute);
+        for (int n = 0; n < graph.getChildCount(containerElement); n++) {
+            int child = graph.getChild(containerElement, n);
+            if (graph.getInputCount(child) == 0) {
+                ChainRoute nextRoute = extractNextRoute(child, routes, elementToRoute, elementRouteStack);
+                containerRoute.getNextRoutes().add(nextRoute);
+            }
         }
     }
 
-    private ChainRoute extractNextRoute(
-            ChainElement element,
+    private static ChainRoute extractNextRoute(
+            int element,
             List<ChainRoute> routes,
-            Map<String, ChainRoute> elementToRoute,
-            Deque<Pair<ChainElement, ChainRoute>> elementRouteStack
+            ChainRoute[] elementToRoute,
+            RouteStack elementRouteStack
     ) {
-        if (elementToRoute.containsKey(element.getId())) {
-            return elementToRoute.get(element.getId());
+        if (elementToRoute[element] != null) {
+            return elementToRoute[element];
         }
 
         ChainRoute newRoute = new ChainRoute();
         routes.add(newRoute);
-        elementRouteStack.push(Pair.of(element, newRoute));
+        elementRouteStack.push(element, newRoute);
         /*  the nextElement can be 'nextElement' of
           another element in case of merging branches into one element,
           and we need to find existing route in elementToRoute map */
-        elementToRoute.put(element.getId(), newRoute);
+        elementToRoute[element] = newRoute;
         return newRoute;
     }
 
-    private boolean isRouteReferencedFromAnother(ChainRoute route) {
+    private static boolean isRouteReferencedFromAnother(ChainGraph graph, ChainRoute route) {
         if (route.getElements().isEmpty()) {
             return true;
         }
-        ChainElement routeStart = route.getElements().get(0);
-        return !routeStart.getInputDependencies().isEmpty()
-                || (routeStart.getParent() != null && !CONTAINER.equals(routeStart.getParent().getType()));
+        int routeStart = graph.indexOf(route.getElements().get(0));
+        int parent = graph.getParent(routeStart);
+        return graph.getInputCount(routeStart) > 0
+                || (parent != ChainGraph.NO_ELEMENT && !CONTAINER.equals(graph.getElement(parent).getType()));
+    }
+
+    /**
+     * Stack of elements to visit with the routes they are added to.
+     */
+    private static class RouteStack {
+        private int[] elements = new int[16];
+        private ChainRoute[] routes = new ChainRoute[16];
+        private int size;
+
+        void push(int element, ChainRoute route) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, size * 2);
+                routes = Arrays.copyOf(routes, size * 2);
+            }
+            elements[size] = element;
+            routes[size] = route;
+            size++;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        int getElement() {
+            return elements[size - 1];
+        }
+
+        ChainRoute getRoute() {
+            return routes[size - 1];
+        }
+
+        void pop() {
+            routes[--size] = null;
+        }
+    }
+
+    /**
+     * Passes rendered templates to the stream writer as raw XML, so they reach the sink
+     * in order with the surrounding elements.
+     */
+    private static class RawXmlWriter extends Writer {
+        private final XMLStreamWriter2 streamWriter;
+
+        RawXmlWriter(XMLStreamWriter2 streamWriter) {
+            this.streamWriter = streamWriter;
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) throws IOException {
+            try {
+                streamWriter.writeRaw(buffer, offset, length);
+            } catch (XMLStreamException e) {
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        public void write(String text, int offset, int length) throws IOException {
+            try {
+                streamWriter.writeRaw(text, offset, length);
+            } catch (XMLStreamException e) {
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
     }
 }
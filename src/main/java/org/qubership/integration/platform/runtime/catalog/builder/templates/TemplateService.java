@@ -29,13 +29,22 @@
 import org.qubership.integration.platform.runtime.catalog.model.library.ElementType;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.runtime.catalog.service.library.LibraryElementsService;
+import org.qubership.integration.platform.runtime.catalog.util.HashUtils;
 import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 @Slf4j
 @Component
@@ -50,6 +59,7 @@ public final class TemplateService {
 
     private final Handlebars handlebars;
     private final LibraryElementsService libraryService;
+    private volatile String templatesHash;
 
     @Autowired
     public TemplateService(ListableBeanFactory beanFactory, LibraryElementsService libraryService) {
@@ -89,15 +99,53 @@ private void registerCustomHelpers(ListableBeanFactory beanFactory) {
         }
     }
 
+    /**
+     * @return SHA-256 of the element and shared templates or null if they can't be read
+     */
+    @Nullable
+    public String getTemplatesHash() {
+        if (templatesHash == null) {
+            templatesHash = calculateTemplatesHash();
+        }
+        return templatesHash;
+    }
+
+    @Nullable
+    private String calculateTemplatesHash() {
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(getClass().getClassLoader());
+        Map<String, String> templateHashes = new TreeMap<>();
+        try {
+            for (String folder : List.of(TEMPLATE_FOLDER, SHARED_TEMPLATE_FOLDER)) {
+                for (Resource resource : resolver.getResources("classpath*:" + folder + "/**/*.hbs")) {
+                    String uri = resource.getURI().toString();
+                    templateHashes.put(uri.substring(uri.lastIndexOf(folder + "/")),
+                            HashUtils.sha256hex(resource.getContentAsString(StandardCharsets.UTF_8)));
+                }
+            }
+        } catch (IOException e) {
+            log.error("Can't read templates", e);
+            return null;
+        }
+        return HashUtils.sha256hex(templateHashes.toString());
+    }
+
     public String applyTemplate(ChainElement element) {
+        StringWriter writer = new StringWriter();
+        applyTemplate(element, writer);
+        return writer.toString();
+    }
+
+    /**
+     * Renders the element template straight into the writer.
+     */
+    public void applyTemplate(ChainElement element, Writer writer) {
         Template template = getTemplate(element);
         if (template == null) {
             throw new SnapshotCreationException("Element is not supposed to be outside a parent container.", element);
         }
 
-        String renderedElement;
         try {
-            renderedElement = template.apply(element);
+            template.apply(element, writer);
         } catch (IOException | RuntimeException e) {
             log.warn("Error while applying template to the element {}: {}", element.getType(), e.getMessage());
             if (e.getCause() instanceof SnapshotCreationException) {
@@ -109,8 +157,6 @@ public String applyTemplate(ChainElement element) {
             }
             throw new SnapshotCreationException("Fields are not properly defined or require mandatory connection", element, e);
         }
-
-        return renderedElement;
     }
 
     public Template getTemplate(ChainElement element) {
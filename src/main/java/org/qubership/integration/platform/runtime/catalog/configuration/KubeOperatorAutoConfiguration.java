@@ -22,15 +22,21 @@
 import io.kubernetes.client.util.credentials.TokenFileAuthentication;
 import lombok.extern.slf4j.Slf4j;
 import org.qubership.integration.platform.runtime.catalog.kubernetes.KubeOperator;
+import org.qubership.integration.platform.runtime.catalog.kubernetes.KubeResourceCache;
+import org.qubership.integration.platform.runtime.catalog.service.EngineService;
+import org.qubership.integration.platform.runtime.catalog.util.EngineDomainUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 
 @Slf4j
@@ -61,18 +67,10 @@ public KubeOperatorAutoConfiguration(
      */
     @Bean
     @ConditionalOnProperty(prefix = "kubernetes", name = "devmode", havingValue = "false", matchIfMissing = true)
-    public KubeOperator kubeOperator() {
+    public KubeOperator kubeOperator(KubeResourceCache kubeResourceCache) {
         try {
             log.info("Creating KubernetesOperator bean in PROD mode");
-
-            ApiClient client = new ClientBuilder()
-                    .setVerifyingSsl(false)
-                    .setBasePath(uri)
-                    .setCertificateAuthority(Files.readAllBytes(Paths.get(cert)))
-                    .setAuthentication(new TokenFileAuthentication(token))
-                    .build();
-
-            return new KubeOperator(client, namespace);
+            return new KubeOperator(buildClusterApiClient(), namespace, kubeResourceCache);
         } catch (Exception e) {
             log.error("Invalid k8s cluster parameters, can't initialize k8s API. {}", e.getMessage());
             return new KubeOperator();
@@ -85,20 +83,63 @@ public KubeOperator kubeOperator() {
      */
     @Bean
     @ConditionalOnProperty(prefix = "kubernetes", name = "devmode", havingValue = "true")
-    public KubeOperator kubeOperatorDev() {
+    public KubeOperator kubeOperatorDev(KubeResourceCache kubeResourceCache) {
         try {
             log.info("Creating KubernetesOperator bean in DEV mode");
-
-            ApiClient client = new ClientBuilder()
-                    .setVerifyingSsl(false)
-                    .setBasePath(uri)
-                    .setAuthentication(new AccessTokenAuthentication(token))
-                    .build();
-
-            return new KubeOperator(client, namespace);
+            return new KubeOperator(buildDevApiClient(), namespace, kubeResourceCache);
         } catch (Exception e) {
             log.error("Invalid k8s cluster parameters, can't initialize k8s API. {}", e.getMessage());
             return new KubeOperator();
         }
     }
+
+    /**
+     * Informer cache of engine deployments, engine pods and services.
+     * Watches use a dedicated ApiClient because watch requests must not be limited by a read timeout.
+     */
+    @Bean(destroyMethod = "stop")
+    public KubeResourceCache kubeResourceCache(
+            EngineDomainUtils domainUtils,
+            @Value("${kubernetes.devmode:false}") boolean devMode,
+            @Value("${kubernetes.informers.enabled}") boolean informersEnabled,
+            @Value("${kubernetes.informers.resync-period}") Duration resyncPeriod,
+            @Value("${qip.engine.app-check-custom-label}") String engineAppCheckLabel
+    ) {
+        KubeResourceCache cache = new KubeResourceCache(
+                namespace,
+                engineAppCheckLabel,
+                EngineService.ENGINE_NAME_LABEL,
+                domainUtils::convertKubeDeploymentToDomainName,
+                resyncPeriod
+        );
+        if (!informersEnabled) {
+            log.info("Kubernetes resource informers are disabled");
+            return cache;
+        }
+        try {
+            ApiClient client = devMode ? buildDevApiClient() : buildClusterApiClient();
+            client.setHttpClient(client.getHttpClient().newBuilder().readTimeout(0, TimeUnit.SECONDS).build());
+            cache.start(client);
+        } catch (Exception e) {
+            log.error("Failed to start k8s resource informers, API server will be queried directly. {}", e.getMessage());
+        }
+        return cache;
+    }
+
+    private ApiClient buildClusterApiClient() throws IOException {
+        return new ClientBuilder()
+                .setVerifyingSsl(false)
+                .setBasePath(uri)
+                .setCertificateAuthority(Files.readAllBytes(Paths.get(cert)))
+                .setAuthentication(new TokenFileAuthentication(token))
+                .build();
+    }
+
+    private ApiClient buildDevApiClient() {
+        return new ClientBuilder()
+                .setVerifyingSsl(false)
+                .setBasePath(uri)
+                .setAuthentication(new AccessTokenAuthentication(token))
+                .build();
+    }
 }
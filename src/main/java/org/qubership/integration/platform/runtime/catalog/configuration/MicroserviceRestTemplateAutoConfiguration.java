@@ -18,6 +18,7 @@
 
 import org.jetbrains.annotations.NotNull;
 import org.qubership.integration.platform.runtime.catalog.rest.handler.RestTemplateMsResponseErrorHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.web.client.RestTemplateBuilder;
@@ -47,6 +48,21 @@ public RestTemplate restTemplateMSDev(
                 .build();
     }
 
+    @Bean("restTemplateDiscovery")
+    @ConditionalOnMissingBean(name = "restTemplateDiscovery")
+    public RestTemplate restTemplateDiscovery(
+            RestTemplateBuilder builder,
+            RestTemplateMsResponseErrorHandler restTemplateMsResponseErrorHandler,
+            @Value("${qip.discovery.probe-timeout}") Duration probeTimeout
+    ) {
+        return builder
+                .requestFactory(getClientHttpRequestFactorySupplier())
+                .errorHandler(restTemplateMsResponseErrorHandler)
+                .setConnectTimeout(probeTimeout)
+                .setReadTimeout(probeTimeout)
+                .build();
+    }
+
     private static @NotNull Supplier<ClientHttpRequestFactory> getClientHttpRequestFactorySupplier() {
         return () -> new BufferingClientHttpRequestFactory(new SimpleClientHttpRequestFactory());
     }
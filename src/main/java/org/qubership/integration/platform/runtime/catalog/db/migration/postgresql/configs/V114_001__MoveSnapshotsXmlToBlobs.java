@@ -0,0 +1,94 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.db.migration.postgresql.configs;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.Context;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.SnapshotXmlBlob;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Moves XML configurations of existing snapshots to the deduplicated blobs.
+ * Snapshots are processed in batches ordered by id, so the whole table is never held in memory.
+ */
+@Slf4j
+@Component
+public class V114_001__MoveSnapshotsXmlToBlobs extends ConfigsJavaMigration {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (PreparedStatement select = connection.prepareStatement("""
+                     SELECT id, xml_configuration
+                     FROM snapshots
+                     WHERE xml_configuration IS NOT NULL AND id > ?
+                     ORDER BY id
+                     LIMIT ?""");
+             PreparedStatement insertBlob = connection.prepareStatement("""
+                     INSERT INTO snapshot_xml_blobs (hash, content, size)
+                     VALUES (?, ?, ?)
+                     ON CONFLICT (hash) DO NOTHING""");
+             PreparedStatement updateSnapshot = connection.prepareStatement("""
+                     UPDATE snapshots
+                     SET xml_hash = ?, xml_configuration = NULL
+                     WHERE id = ?""")) {
+            String lastId = "";
+            long snapshotsCount = 0;
+            int batchCount;
+            do {
+                batchCount = 0;
+                select.setString(1, lastId);
+                select.setInt(2, BATCH_SIZE);
+                try (ResultSet resultSet = select.executeQuery()) {
+                    while (resultSet.next()) {
+                        lastId = resultSet.getString(1);
+                        addToBatch(insertBlob, updateSnapshot, lastId, new SnapshotXmlBlob(resultSet.getString(2)));
+                        batchCount++;
+                    }
+                }
+                // Blobs are inserted first, reference counts are incremented by the snapshots update trigger
+                insertBlob.executeBatch();
+                updateSnapshot.executeBatch();
+                snapshotsCount += batchCount;
+            } while (batchCount == BATCH_SIZE);
+            log.info("XML configurations of {} snapshots moved to blobs", snapshotsCount);
+        }
+    }
+
+    private static void addToBatch(
+            PreparedStatement insertBlob,
+            PreparedStatement updateSnapshot,
+            String snapshotId,
+            SnapshotXmlBlob blob
+    ) throws SQLException {
+        insertBlob.setString(1, blob.getHash());
+        insertBlob.setBytes(2, blob.getContent());
+        insertBlob.setInt(3, blob.getSize());
+        insertBlob.addBatch();
+
+        updateSnapshot.setString(1, blob.getHash());
+        updateSnapshot.setString(2, snapshotId);
+        updateSnapshot.addBatch();
+    }
+}
@@ -21,10 +21,7 @@
 import io.kubernetes.client.openapi.apis.AppsV1Api;
 import io.kubernetes.client.openapi.apis.CoreV1Api;
 import io.kubernetes.client.openapi.apis.CustomObjectsApi;
-import io.kubernetes.client.openapi.models.V1DeploymentList;
-import io.kubernetes.client.openapi.models.V1PodList;
-import io.kubernetes.client.openapi.models.V1ServiceList;
-import io.kubernetes.client.openapi.models.V1ServicePort;
+import io.kubernetes.client.openapi.models.*;
 import lombok.extern.slf4j.Slf4j;
 import org.qubership.integration.platform.runtime.catalog.model.kubernetes.operator.KubeDeployment;
 import org.qubership.integration.platform.runtime.catalog.model.kubernetes.operator.KubePod;
@@ -44,15 +41,24 @@ public class KubeOperator {
     private final CustomObjectsApi customObjectsApi;
 
     private final String namespace;
+    private final KubeResourceCache resourceCache;
 
     public KubeOperator() {
         coreApi = new CoreV1Api();
         appsApi = new AppsV1Api();
         customObjectsApi = new CustomObjectsApi();
         namespace = null;
+        resourceCache = null;
     }
 
     public KubeOperator(ApiClient client, String namespace) {
+        this(client, namespace, null);
+    }
+
+    /**
+     * @param resourceCache informer cache used instead of list requests once it is synced, may be null
+     */
+    public KubeOperator(ApiClient client, String namespace, KubeResourceCache resourceCache) {
         coreApi = new CoreV1Api();
         coreApi.setApiClient(client);
 
@@ -63,10 +69,17 @@ public KubeOperator(ApiClient client, String namespace) {
         customObjectsApi.setApiClient(client);
 
         this.namespace = namespace;
+        this.resourceCache = resourceCache;
     }
 
     public List<KubeDeployment> getDeploymentsByLabel(String labelKey) throws KubeApiException {
         try {
+            if (isCacheSynced() && resourceCache.getDeploymentLabel().equals(labelKey)) {
+                return resourceCache.getDeployments().stream()
+                        .map(this::toKubeDeployment)
+                        .collect(Collectors.toList());
+            }
+
             V1DeploymentList list = appsApi.listNamespacedDeployment(
                     namespace,
                     null,
@@ -83,13 +96,7 @@ public List<KubeDeployment> getDeploymentsByLabel(String labelKey) throws KubeAp
             );
 
             return list.getItems().stream()
-                    .map(item -> KubeDeployment.builder()
-                            .id(Objects.requireNonNull(item.getMetadata().getUid()))
-                            .name(Objects.requireNonNull(item.getMetadata()).getName())
-                            .namespace(namespace)
-                            .replicas(Objects.requireNonNull(item.getSpec().getReplicas()))
-                            .version(Objects.requireNonNull(item.getMetadata().getLabels()).get(BUILD_VERSION_LABEL))
-                            .build())
+                    .map(this::toKubeDeployment)
                     .collect(Collectors.toList());
 
         } catch (ApiException e) {
@@ -103,6 +110,12 @@ public List<KubeDeployment> getDeploymentsByLabel(String labelKey) throws KubeAp
 
     public List<KubePod> getPodsByLabel(String labelKey, String labelValue) throws KubeApiException {
         try {
+            if (isCacheSynced() && resourceCache.getPodLabel().equals(labelKey)) {
+                return resourceCache.getPodsByLabelValue(labelValue).stream()
+                        .map(this::toKubePod)
+                        .collect(Collectors.toList());
+            }
+
             V1PodList list = coreApi.listNamespacedPod(
                     namespace,
                     null,
@@ -119,22 +132,7 @@ public List<KubePod> getPodsByLabel(String labelKey, String labelValue) throws K
             );
 
             return list.getItems().stream()
-                    .map(item -> {
-                        boolean ready = false;
-                        if (item.getStatus() != null
-                                && item.getStatus().getContainerStatuses() != null
-                                && !item.getStatus().getContainerStatuses().isEmpty()) {
-                            ready = item.getStatus().getContainerStatuses().get(0).getReady();
-                        }
-
-                        return KubePod.builder()
-                                .name(Objects.requireNonNull(item.getMetadata().getName()))
-                                .runningStatus(PodRunningStatus.get(Objects.requireNonNull(item.getStatus()).getPhase()))
-                                .ready(ready)
-                                .ip(item.getStatus().getPodIP())
-                                .namespace(namespace)
-                                .build();
-                    })
+                    .map(this::toKubePod)
                     .collect(Collectors.toList());
 
         } catch (ApiException e) {
@@ -148,6 +146,10 @@ public List<KubePod> getPodsByLabel(String labelKey, String labelValue) throws K
 
     public List<KubeService> getServices() {
         try {
+            if (isCacheSynced()) {
+                return toKubeServices(resourceCache.getServices());
+            }
+
             V1ServiceList list = coreApi.listNamespacedService(
                     namespace,
                     null,
@@ -163,17 +165,7 @@ public List<KubeService> getServices() {
                     null
             );
 
-            return list.getItems().stream()
-                    .filter(item -> !(Objects.requireNonNull(Objects.requireNonNull(item.getMetadata()).getName()).matches(REGEX_FOR_SEARCH_BLUEGREEN_SERVICE_NAME)))
-                    .map(item -> KubeService.builder()
-                            .id(Objects.requireNonNull(Objects.requireNonNull(item.getMetadata()).getUid()))
-                            .name(Objects.requireNonNull(item.getMetadata().getName()))
-                            .namespace(namespace)
-                            .ports(
-                                    Objects.requireNonNull(Objects.requireNonNull(item.getSpec()).getPorts()).stream()
-                                            .map(V1ServicePort::getPort).collect(Collectors.toList()
-                                            )).build())
-                    .collect(Collectors.toList());
+            return toKubeServices(list.getItems());
         } catch (ApiException e) {
             log.error(DEFAULT_ERR_MESSAGE + e.getResponseBody());
             throw new KubeApiException(DEFAULT_ERR_MESSAGE + e.getResponseBody(), e);
@@ -182,4 +174,49 @@ public List<KubeService> getServices() {
             throw new KubeApiException(DEFAULT_ERR_MESSAGE + e.getMessage(), e);
         }
     }
+
+    private boolean isCacheSynced() {
+        return resourceCache != null && resourceCache.isSynced();
+    }
+
+    private KubeDeployment toKubeDeployment(V1Deployment item) {
+        return KubeDeployment.builder()
+                .id(Objects.requireNonNull(item.getMetadata().getUid()))
+                .name(Objects.requireNonNull(item.getMetadata()).getName())
+                .namespace(namespace)
+                .replicas(Objects.requireNonNull(item.getSpec().getReplicas()))
+                .version(Objects.requireNonNull(item.getMetadata().getLabels()).get(BUILD_VERSION_LABEL))
+                .build();
+    }
+
+    private KubePod toKubePod(V1Pod item) {
+        boolean ready = false;
+        if (item.getStatus() != null
+                && item.getStatus().getContainerStatuses() != null
+                && !item.getStatus().getContainerStatuses().isEmpty()) {
+            ready = item.getStatus().getContainerStatuses().get(0).getReady();
+        }
+
+        return KubePod.builder()
+                .name(Objects.requireNonNull(item.getMetadata().getName()))
+                .runningStatus(PodRunningStatus.get(Objects.requireNonNull(item.getStatus()).getPhase()))
+                .ready(ready)
+                .ip(item.getStatus().getPodIP())
+                .namespace(namespace)
+                .build();
+    }
+
+    private List<KubeService> toKubeServices(List<V1Service> items) {
+        return items.stream()
+                .filter(item -> !(Objects.requireNonNull(Objects.requireNonNull(item.getMetadata()).getName()).matches(REGEX_FOR_SEARCH_BLUEGREEN_SERVICE_NAME)))
+                .map(item -> KubeService.builder()
+                        .id(Objects.requireNonNull(Objects.requireNonNull(item.getMetadata()).getUid()))
+                        .name(Objects.requireNonNull(item.getMetadata().getName()))
+                        .namespace(namespace)
+                        .ports(
+                                Objects.requireNonNull(Objects.requireNonNull(item.getSpec()).getPorts()).stream()
+                                        .map(V1ServicePort::getPort).collect(Collectors.toList()
+                                        )).build())
+                .collect(Collectors.toList());
+    }
 }
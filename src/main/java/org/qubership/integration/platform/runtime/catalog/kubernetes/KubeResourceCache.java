@@ -0,0 +1,211 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.kubernetes;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.informer.SharedIndexInformer;
+import io.kubernetes.client.informer.SharedInformerFactory;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.apis.AppsV1Api;
+import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.models.*;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Watch based cache of engine deployments, engine pods and services of the namespace.
+ * Until every informer has completed its initial list the cache reports itself as not synced
+ * and callers are expected to query the API server directly.
+ */
+@Slf4j
+public class KubeResourceCache {
+    private static final String DOMAIN_INDEX = "domain";
+    private static final String POD_LABEL_INDEX = "podLabel";
+
+    private final String namespace;
+    @Getter
+    private final String deploymentLabel;
+    @Getter
+    private final String podLabel;
+    private final Function<String, String> domainResolver;
+    private final Duration resyncPeriod;
+
+    private SharedInformerFactory informerFactory;
+    private SharedIndexInformer<V1Deployment> deploymentInformer;
+    private SharedIndexInformer<V1Pod> podInformer;
+    private SharedIndexInformer<V1Service> serviceInformer;
+
+    /**
+     * @param deploymentLabel label that marks engine deployments, only deployments with this label set to true are watched
+     * @param podLabel label that binds engine pods to their deployment name
+     * @param domainResolver converts a deployment name to the engine domain name
+     */
+    public KubeResourceCache(
+            String namespace,
+            String deploymentLabel,
+            String podLabel,
+            Function<String, String> domainResolver,
+            Duration resyncPeriod
+    ) {
+        this.namespace = namespace;
+        this.deploymentLabel = deploymentLabel;
+        this.podLabel = podLabel;
+        this.domainResolver = domainResolver;
+        this.resyncPeriod = resyncPeriod;
+    }
+
+    /**
+     * Registers informers and starts watching.
+     *
+     * @param client API client without a read timeout, watch requests are long-running
+     */
+    public synchronized void start(ApiClient client) {
+        if (informerFactory != null) {
+            return;
+        }
+
+        AppsV1Api appsApi = new AppsV1Api(client);
+        CoreV1Api coreApi = new CoreV1Api(client);
+        SharedInformerFactory factory = new SharedInformerFactory(client);
+
+        deploymentInformer = factory.sharedIndexInformerFor(
+                params -> appsApi.listNamespacedDeploymentCall(
+                        namespace,
+                        null,
+                        null,
+                        null,
+                        null,
+                        deploymentLabel + "=true",
+                        null,
+                        params.resourceVersion,
+                        null,
+                        null,
+                        params.timeoutSeconds,
+                        params.watch,
+                        null
+                ),
+                V1Deployment.class,
+                V1DeploymentList.class,
+                resyncPeriod.toMillis()
+        );
+        deploymentInformer.addIndexers(Map.of(DOMAIN_INDEX, deployment ->
+                getName(deployment).map(domainResolver).map(List::of).orElse(Collections.emptyList())));
+
+        podInformer = factory.sharedIndexInformerFor(
+                params -> coreApi.listNamespacedPodCall(
+                        namespace,
+                        null,
+                        null,
+                        null,
+                        null,
+                        podLabel,
+                        null,
+                        params.resourceVersion,
+                        null,
+                        null,
+                        params.timeoutSeconds,
+                        params.watch,
+                        null
+                ),
+                V1Pod.class,
+                V1PodList.class,
+                resyncPeriod.toMillis()
+        );
+        podInformer.addIndexers(Map.of(POD_LABEL_INDEX, pod ->
+                Optional.ofNullable(pod.getMetadata())
+                        .map(V1ObjectMeta::getLabels)
+                        .map(labels -> labels.get(podLabel))
+                        .map(List::of)
+                        .orElse(Collections.emptyList())));
+
+        serviceInformer = factory.sharedIndexInformerFor(
+                params -> coreApi.listNamespacedServiceCall(
+                        namespace,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        params.resourceVersion,
+                        null,
+                        null,
+                        params.timeoutSeconds,
+                        params.watch,
+                        null
+                ),
+                V1Service.class,
+                V1ServiceList.class,
+                resyncPeriod.toMillis()
+        );
+
+        factory.startAllRegisteredInformers();
+        informerFactory = factory;
+        log.info("Kubernetes resource informers started for namespace {}", namespace);
+    }
+
+    public synchronized void stop() {
+        if (informerFactory != null) {
+            informerFactory.stopAllRegisteredInformers();
+            informerFactory = null;
+        }
+    }
+
+    public boolean isSynced() {
+        return informerFactory != null
+                && deploymentInformer.hasSynced()
+                && podInformer.hasSynced()
+                && serviceInformer.hasSynced();
+    }
+
+    /**
+     * Cached resources are returned in name order, as list requests of the API server return them.
+     */
+    public List<V1Deployment> getDeployments() {
+        return sortedByName(deploymentInformer.getIndexer().list());
+    }
+
+    public List<V1Deployment> getDeploymentsByDomain(String domainName) {
+        return sortedByName(deploymentInformer.getIndexer().byIndex(DOMAIN_INDEX, domainName));
+    }
+
+    public List<V1Pod> getPodsByLabelValue(String labelValue) {
+        return sortedByName(podInformer.getIndexer().byIndex(POD_LABEL_INDEX, labelValue));
+    }
+
+    public List<V1Service> getServices() {
+        return sortedByName(serviceInformer.getIndexer().list());
+    }
+
+    private static <T extends KubernetesObject> List<T> sortedByName(List<T> objects) {
+        return objects.stream()
+                .sorted(Comparator.comparing(object -> getName(object).orElse("")))
+                .toList();
+    }
+
+    private static Optional<String> getName(KubernetesObject object) {
+        return Optional.ofNullable(object.getMetadata()).map(V1ObjectMeta::getName);
+    }
+}
@@ -18,7 +18,14 @@
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import io.atlasmap.json.v2.JsonDataSource;
 import io.atlasmap.json.v2.JsonField;
 import io.atlasmap.v2.*;
@@ -52,6 +59,7 @@
 import org.qubership.integration.platform.runtime.catalog.model.mapper.mapping.definition.MessageSchema;
 import org.qubership.integration.platform.runtime.catalog.model.mapper.mapping.definition.ObjectSchema;
 import org.qubership.integration.platform.runtime.catalog.model.mapper.mapping.definition.constant.*;
+import org.qubership.integration.platform.runtime.catalog.util.HashUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
@@ -59,6 +67,7 @@
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.Collection;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -92,6 +101,8 @@ public class AtlasMapInterpreter implements MappingInterpreter {
     private static final String UNKNOWN_CONSTANT_VALUE_GENERATOR_ERROR_MESSAGE = "Unknown constant value generator: %s";
     private static final String ATTRIBUTE_REFERENCE_PATH_IS_EMPTY_ERROR_MESSAGE = "Attribute reference path is empty.";
 
+    private static final String UNASSIGNED_MAPPING_ID = "mapping.";
+
     private static final String URI_ATLAS_PREFIX = "atlas:cip";
     private static final String CURRENT_SCOPE = "current";
     private static final String CURRENT_PATH = "/current/";
@@ -104,19 +115,79 @@ public class AtlasMapInterpreter implements MappingInterpreter {
 
     private static final Pattern XML_TEXT_PATH_PATTERN = Pattern.compile("\\/#text$");
 
+    private static final long INTERPRETATIONS_CACHE_MAXIMUM_SIZE = 1_000;
+
     private final ObjectMapper objectMapper;
+    private final ObjectWriter interpretationWriter;
+    private final ObjectWriter descriptionWriter;
+    private final String interpreterVersion;
 
     private final DataTypeToFieldTypeConverter dataTypeToFieldTypeConverter;
 
+    /**
+     * Interpretations by hash of the mapping description and the interpreter version.
+     * Mapper elements with the same mapping share the entry, so it is not interpreted again on every snapshot build.
+     * Cached interpretations hold {@link #UNASSIGNED_MAPPING_ID} in place of mapping ids, every result gets fresh ids.
+     */
+    private final Cache<String, ObjectNode> interpretationsCache = CacheBuilder.newBuilder()
+            .maximumSize(INTERPRETATIONS_CACHE_MAXIMUM_SIZE)
+            .build();
+
     @Autowired
     public AtlasMapInterpreter(@Qualifier("primaryObjectMapper") ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
         this.objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        this.interpretationWriter = objectMapper.writer();
+        this.descriptionWriter = objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+        this.interpreterVersion = Objects.toString(getClass().getPackage().getImplementationVersion(), "");
         this.dataTypeToFieldTypeConverter = new DataTypeToFieldTypeConverter();
     }
 
     @Override
     public String getInterpretation(MappingDescription mappingDescription) {
+        ObjectNode interpretation = getCachedInterpretation(mappingDescription).deepCopy();
+        assignMappingIds(interpretation);
+        try {
+            return interpretationWriter.writeValueAsString(interpretation);
+        } catch (JsonProcessingException e) {
+            throw new SnapshotCreationException(SERIALIZE_CONFIGURATION_ERROR_MESSAGE);
+        }
+    }
+
+    private ObjectNode getCachedInterpretation(MappingDescription mappingDescription) {
+        String cacheKey = buildCacheKey(mappingDescription);
+        if (cacheKey == null) {
+            return interpret(mappingDescription);
+        }
+        try {
+            // Concurrent requests for the same mapping wait for a single interpretation
+            return interpretationsCache.get(cacheKey, () -> interpret(mappingDescription));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new SnapshotCreationException(SERIALIZE_CONFIGURATION_ERROR_MESSAGE);
+        }
+    }
+
+    private void assignMappingIds(ObjectNode interpretation) {
+        for (JsonNode mapping : interpretation.path("mappings").path("mapping")) {
+            if (mapping.has("id")) {
+                ((ObjectNode) mapping).put("id", "mapping.".concat(UUID.randomUUID().toString()));
+            }
+        }
+    }
+
+    private String buildCacheKey(MappingDescription mappingDescription) {
+        try {
+            return HashUtils.sha256hex(interpreterVersion + "\n" + descriptionWriter.writeValueAsString(mappingDescription));
+        } catch (JsonProcessingException e) {
+            log.debug("Failed to serialize mapping description, interpretation is not cached", e);
+            return null;
+        }
+    }
+
+    private ObjectNode interpret(MappingDescription mappingDescription) {
         AtlasMapping atlasMapping = new AtlasMapping();
         atlasMapping.setName(MAPPING_NAME);
 
@@ -133,8 +204,8 @@ public String getInterpretation(MappingDescription mappingDescription) {
         fillActions(mappingDescription, atlasMapping);
 
         try {
-            return objectMapper.writeValueAsString(atlasMapping);
-        } catch (JsonProcessingException e) {
+            return objectMapper.valueToTree(atlasMapping);
+        } catch (IllegalArgumentException e) {
             throw new SnapshotCreationException(SERIALIZE_CONFIGURATION_ERROR_MESSAGE);
         }
     }
@@ -415,7 +486,7 @@ private List<? extends BaseMapping> getMappings(
         validateForSupportedMappings(inputFields, outputField, action);
 
         Mapping mapping = new Mapping();
-        mapping.setId("mapping.".concat(UUID.randomUUID().toString()));
+        mapping.setId(UNASSIGNED_MAPPING_ID);
         mapping.getOutputField().add(outputField);
 
         boolean hasExpressionTransformation = Optional.ofNullable(action.getTransformation())
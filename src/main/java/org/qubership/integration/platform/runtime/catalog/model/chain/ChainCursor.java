@@ -0,0 +1,57 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.model.chain;
+
+import org.qubership.integration.platform.runtime.catalog.exception.exceptions.BadRequestException;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Chain;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last chain of a page in the chains order by name and id.
+ * Encoded as URL-safe Base64 of the id and name separated by a NUL character,
+ * which can not appear in database text values.
+ *
+ * @param id chain id
+ * @param name chain name, {@code null} for chains without name
+ */
+public record ChainCursor(String id, String name) {
+    private static final char SEPARATOR = '\0';
+
+    public static ChainCursor of(Chain chain) {
+        return new ChainCursor(chain.getId(), chain.getName());
+    }
+
+    public static ChainCursor decode(String cursor) {
+        String value;
+        try {
+            value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid chains page cursor: " + cursor);
+        }
+        int separatorIndex = value.indexOf(SEPARATOR);
+        return separatorIndex < 0
+                ? new ChainCursor(value, null)
+                : new ChainCursor(value.substring(0, separatorIndex), value.substring(separatorIndex + 1));
+    }
+
+    public String encode() {
+        String value = name == null ? id : id + SEPARATOR + name;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.model.chain;
+
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Chain;
+
+import java.util.List;
+
+/**
+ * @param chains chains of the page ordered by name and id
+ * @param nextCursor cursor of the next page, {@code null} for the last page
+ */
+public record ChainsPage(List<Chain> chains, String nextCursor) {
+}
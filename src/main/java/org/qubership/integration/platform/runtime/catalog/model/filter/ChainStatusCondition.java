@@ -0,0 +1,30 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.model.filter;
+
+import java.util.Collection;
+
+/**
+ * Chains matching deployment status filters. Runtime statuses are kept in the engines state cache
+ * rather than in the database, so the cache is resolved to chain identifiers before querying.
+ *
+ * @param matchingChainIds chains reported by engines whose statuses match the filters
+ * @param deployedChainIds all chains reported by engines
+ * @param draftMatches whether chains not reported by engines, which have the draft status, match the filters
+ */
+public record ChainStatusCondition(Collection<String> matchingChainIds, Collection<String> deployedChainIds, boolean draftMatches) {
+}
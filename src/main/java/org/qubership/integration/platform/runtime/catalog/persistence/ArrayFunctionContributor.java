@@ -0,0 +1,63 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.persistence;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+import java.util.Collection;
+
+/**
+ * Registers array operators, so a collection of values is bound as a single array parameter
+ * instead of an {@code IN} list with a parameter per value.
+ * Registered with {@code META-INF/services/org.hibernate.boot.model.FunctionContributor}.
+ */
+public class ArrayFunctionContributor implements FunctionContributor {
+
+    /**
+     * {@code equals_any(value, array)} renders {@code value = any(array)}.
+     * The statement stays the same for any number of values and is served by btree indexes on the value.
+     */
+    public static final String EQUALS_ANY_FUNCTION = "equals_any";
+
+    /**
+     * Builds {@code expression = any(?)} with the values bound as a single array parameter.
+     */
+    public static Predicate equalsAny(CriteriaBuilder builder, Expression<String> expression, Collection<String> values) {
+        return builder.isTrue(builder.function(
+                EQUALS_ANY_FUNCTION,
+                Boolean.class,
+                expression,
+                ((HibernateCriteriaBuilder) builder).value(values.toArray(String[]::new))
+        ));
+    }
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.BOOLEAN);
+        functionContributions.getFunctionRegistry()
+                .registerPattern(EQUALS_ANY_FUNCTION, "(?1 = any(?2))", booleanType);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.persistence;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers jsonb operators that have no function form usable by indexes.
+ * Registered with {@code META-INF/services/org.hibernate.boot.model.FunctionContributor}.
+ */
+public class JsonbFunctionContributor implements FunctionContributor {
+
+    /**
+     * {@code jsonb_contains_json(document, json)} renders {@code document @> cast(json as jsonb)}.
+     * Unlike the {@code jsonb_contains} function, the operator is served by GIN indexes on the document.
+     */
+    public static final String JSONB_CONTAINS_JSON_FUNCTION = "jsonb_contains_json";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.BOOLEAN);
+        functionContributions.getFunctionRegistry()
+                .registerPattern(JSONB_CONTAINS_JSON_FUNCTION, "(?1 @> cast(?2 as jsonb))", booleanType);
+    }
+}
@@ -113,6 +113,12 @@ public class Chain extends FoldableEntity {
     @Column(name = "last_import_hash")
     private String lastImportHash;
 
+    /**
+     * Lowercase text of the searchable chain fields, generated by the database
+     */
+    @Column(insertable = false, updatable = false)
+    private String searchText;
+
     /**
      * Constructor is used to provide chain copy for building camel xml configuration
      */
@@ -28,9 +28,6 @@
 import org.hibernate.annotations.OnDeleteAction;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.AbstractEntity;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
-
 @Getter
 @Setter
 @SuperBuilder
@@ -47,14 +44,4 @@ protected FoldableEntity(FoldableEntity entity) {
         super(entity);
         this.parentFolder = entity.parentFolder;
     }
-
-    public Map<String, String> getAncestors() {
-        Map<String, String> navigationMap = new LinkedHashMap<>();
-        FoldableEntity foldable = this;
-        while (foldable != null) {
-            navigationMap.put(foldable.getId(), foldable.getName());
-            foldable = foldable.getParentFolder();
-        }
-        return navigationMap;
-    }
 }
@@ -20,7 +20,6 @@
 import lombok.*;
 import lombok.experimental.FieldNameConstants;
 import lombok.experimental.SuperBuilder;
-import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.AbstractEntity;
@@ -28,7 +27,6 @@
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.SwimlaneChainElement;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
-import java.sql.Types;
 import java.util.*;
 
 import static jakarta.persistence.CascadeType.*;
@@ -43,10 +41,14 @@
 @FieldNameConstants
 public class Snapshot extends AbstractEntity {
 
-    @Lob
-    @JdbcTypeCode(Types.LONGVARCHAR)
-    @Column(name = "xml_configuration", columnDefinition = "text")
-    private String xmlDefinition;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "xml_hash")
+    private SnapshotXmlBlob xmlBlob;
+
+    /**
+     * Fingerprint of the chain content the snapshot was built from.
+     */
+    private String fingerprint;
 
     @OnDelete(action = OnDeleteAction.CASCADE)
     @ManyToOne(fetch = FetchType.LAZY, cascade = {CascadeType.MERGE, CascadeType.REFRESH})
@@ -117,6 +119,10 @@ public void addLabels(Collection<SnapshotLabel> labels) {
         this.labels.addAll(labels);
     }
 
+    public String getXmlDefinition() {
+        return xmlBlob == null ? null : xmlBlob.getXml();
+    }
+
     public Set<Dependency> getDependencies() {
         Set<Dependency> dependencies = new HashSet<>();
         List<ChainElement> allChainElement = getElements();
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Snapshot retention of a chain, overriding the defaults of snapshots pruning.
+ * A {@code null} value falls back to the default of the pruning request.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity(name = "snapshot_retention_policies")
+public class SnapshotRetentionPolicy {
+
+    @Id
+    private String chainId;
+
+    /**
+     * Amount of the latest snapshots of the chain kept regardless of age.
+     */
+    private Integer keepLast;
+
+    /**
+     * Snapshots of the chain older than that amount of days are deleted.
+     */
+    private Integer olderThanDays;
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.qubership.integration.platform.runtime.catalog.util.CompressionUtils;
+import org.qubership.integration.platform.runtime.catalog.util.HashUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+
+/**
+ * Deflate-compressed XML configuration shared by snapshots with the same content.
+ * Blobs are addressed by SHA-256 of the XML. References from snapshots are counted
+ * by a database trigger, which deletes a blob when the last snapshot referencing it is removed.
+ */
+@Getter
+@NoArgsConstructor
+@Entity(name = "snapshot_xml_blobs")
+public class SnapshotXmlBlob {
+
+    @Id
+    private String hash;
+
+    @Column(nullable = false)
+    private byte[] content;
+
+    /**
+     * Length of the uncompressed XML.
+     */
+    private int size;
+
+    @Column(insertable = false, updatable = false)
+    private int refCount;
+
+    @Transient
+    private String xml;
+
+    public SnapshotXmlBlob(String xml) {
+        this.hash = HashUtils.sha256hex(xml);
+        this.content = CompressionUtils.deflate(xml);
+        this.size = xml.length();
+        this.xml = xml;
+    }
+
+    private SnapshotXmlBlob(String hash, byte[] content, int size) {
+        this.hash = hash;
+        this.content = content;
+        this.size = size;
+    }
+
+    public String getXml() {
+        if (xml == null) {
+            xml = CompressionUtils.inflate(content);
+        }
+        return xml;
+    }
+
+    /**
+     * Writer compressing the XML as it is written, so the blob is created without
+     * materializing the whole XML as a string.
+     */
+    public static class ContentWriter extends Writer {
+        private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        private final MessageDigest digest = DigestUtils.getSha256Digest();
+        private final Writer writer = new OutputStreamWriter(
+                new DigestOutputStream(CompressionUtils.deflating(content), digest), StandardCharsets.UTF_8);
+        private int size;
+        private boolean closed;
+
+        @Override
+        public void write(char[] buffer, int offset, int length) throws IOException {
+            writer.write(buffer, offset, length);
+            size += length;
+        }
+
+        @Override
+        public void write(String text, int offset, int length) throws IOException {
+            writer.write(text, offset, length);
+            size += length;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                writer.close();
+            }
+        }
+
+        /**
+         * Completes compression and creates the blob with the written XML.
+         */
+        public SnapshotXmlBlob toBlob() throws IOException {
+            close();
+            return new SnapshotXmlBlob(Hex.encodeHexString(digest.digest()), content.toByteArray(), size);
+        }
+    }
+}
@@ -75,6 +75,12 @@ public class ChainElement extends AbstractEntity {
 
     private String originalId;
 
+    /**
+     * Lowercase text of the searchable element properties, generated by the database
+     */
+    @Column(insertable = false, updatable = false)
+    private String searchText;
+
     @Builder.Default
     @OrderBy("elementFrom.id")
     @OneToMany(mappedBy = "elementTo", fetch = FetchType.LAZY, cascade = CascadeType.REMOVE)
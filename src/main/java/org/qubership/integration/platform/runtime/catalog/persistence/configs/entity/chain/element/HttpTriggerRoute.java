@@ -0,0 +1,67 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.*;
+import org.apache.commons.lang3.StringUtils;
+import org.qubership.integration.platform.runtime.catalog.model.ElementRoute;
+import org.springframework.http.HttpMethod;
+
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Route of an HTTP trigger in a snapshot.
+ * Rows are written when a snapshot is built and removed with the snapshot elements.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity(name = "http_trigger_routes")
+public class HttpTriggerRoute {
+    @Id
+    private String elementId;
+    private String snapshotId;
+    private String chainId;
+    private String path;
+    /**
+     * Path with placeholders replaced by the same character, routes with equal patterns intersect.
+     */
+    private String pathPattern;
+    /**
+     * Comma separated list of allowed methods, all methods are allowed when empty.
+     */
+    private String methods;
+    private boolean isExternal;
+    private boolean isPrivate;
+
+    public ElementRoute toElementRoute() {
+        Stream<HttpMethod> routeMethods = StringUtils.isBlank(methods)
+                ? Stream.of(HttpMethod.values())
+                : Stream.of(methods.split(",")).map(HttpMethod::valueOf);
+        return ElementRoute.builder()
+                .path(path)
+                .methods(routeMethods.collect(Collectors.toSet()))
+                .isExternal(isExternal)
+                .isPrivate(isPrivate)
+                .build();
+    }
+}
@@ -50,6 +50,7 @@ public class Operation extends AbstractSystemEntity {
 
     @Type(JsonBinaryType.class)
     @Column(columnDefinition = "jsonb")
+    @Basic(fetch = FetchType.LAZY)
     private JsonNode specification;
 
     @JsonBackReference
@@ -59,10 +60,12 @@ public class Operation extends AbstractSystemEntity {
 
     @Type(JsonBinaryType.class)
     @Column(columnDefinition = "jsonb")
+    @Basic(fetch = FetchType.LAZY)
     private Map<String, JsonNode> requestSchema;
 
     @Type(JsonBinaryType.class)
     @Column(columnDefinition = "jsonb")
+    @Basic(fetch = FetchType.LAZY)
     private Map<String, JsonNode> responseSchemas;
 
     @Transient
@@ -31,18 +31,50 @@
 
 @Repository
 public interface SnapshotRepository extends SnapshotBaseRepository {
+    /**
+     * Deletes a chunk of snapshots that are neither deployed nor current,
+     * applying the retention policy of the chain or the given defaults for chains without one.
+     * Snapshots older than the retention days are filtered first, then every candidate is checked
+     * to have at least keep last newer snapshots in its chain by a bounded scan of
+     * idx_snapshots_chain_id_created_when, so no chunk ranks the whole table.
+     * Elements, masked fields and labels of the snapshots are deleted by cascading foreign keys.
+     *
+     * @param now           moment the retention days are counted back from
+     * @param olderThanDays default amount of days snapshots are kept for
+     * @param keepLast      default amount of the latest snapshots of every chain kept regardless of age
+     * @return id, name, chain (chain id) and chain_name of deleted snapshots
+     */
     @Query(nativeQuery = true,
             value = """
-                    DELETE FROM {h-schema}snapshots where ctid in
-                    (SELECT s.ctid
-                    FROM {h-schema}snapshots s
-                    LEFT JOIN {h-schema}deployments d ON d.snapshot_id = s.id
-                    LEFT JOIN {h-schema}chains c ON c.current_snapshot_id = s.id
-                    WHERE s.created_when < :createdWhen AND
-                    d.id IS NULL AND c.id IS NULL
-                    LIMIT :chunk) RETURNING id, name, chain_id as chain"""
+                    WITH candidates AS (
+                        SELECT s.id
+                        FROM {h-schema}snapshots s
+                        LEFT JOIN {h-schema}snapshot_retention_policies p ON p.chain_id = s.chain_id
+                        WHERE s.created_when < CAST(:now AS timestamp)
+                                - make_interval(days => COALESCE(p.older_than_days, :olderThanDays))
+                            AND NOT EXISTS (SELECT 1 FROM {h-schema}deployments d WHERE d.snapshot_id = s.id)
+                            AND NOT EXISTS (SELECT 1 FROM {h-schema}chains c WHERE c.current_snapshot_id = s.id)
+                            AND CASE WHEN COALESCE(p.keep_last, :keepLast) = 0 THEN true
+                                ELSE (SELECT count(*)
+                                      FROM (SELECT 1
+                                            FROM {h-schema}snapshots n
+                                            WHERE n.chain_id = s.chain_id
+                                                AND n.created_when >= s.created_when
+                                                AND (n.created_when > s.created_when OR n.id > s.id)
+                                            LIMIT COALESCE(p.keep_last, :keepLast)) newer
+                                     ) >= COALESCE(p.keep_last, :keepLast)
+                            END
+                        LIMIT :chunk
+                    ), deleted AS (
+                        DELETE FROM {h-schema}snapshots
+                        WHERE id IN (SELECT id FROM candidates)
+                        RETURNING id, name, chain_id
+                    )
+                    SELECT deleted.id, deleted.name, deleted.chain_id AS chain, c.name AS chain_name
+                    FROM deleted
+                    LEFT JOIN {h-schema}chains c ON c.id = deleted.chain_id"""
     )
-    List<Map<String, String>> pruneByCreatedWhen(@NonNull Timestamp createdWhen, int chunk);
+    List<Map<String, String>> prune(@NonNull Timestamp now, int olderThanDays, int keepLast, int chunk);
 
     List<Snapshot> findAllByChainId(String chainId);
 
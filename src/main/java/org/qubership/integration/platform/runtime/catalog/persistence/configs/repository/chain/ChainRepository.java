@@ -48,19 +48,9 @@ public interface ChainRepository extends CommonRepository<Chain>, JpaRepository<
                 SELECT *
                 FROM catalog.chains ch
                 WHERE ch.parent_folder_id IN (
-                    WITH RECURSIVE parent_folders AS (
-                        SELECT f1.*
-                        FROM catalog.folders f1
-                        WHERE f1.id = :folderId
-
-                        UNION ALL
-
-                        SELECT f2.*
-                        FROM catalog.folders f2
-                                 INNER JOIN parent_folders pf ON f2.id = pf.parent_folder_id
-                    )
-                    SELECT DISTINCT id
-                    FROM parent_folders)"""
+                    SELECT fc.ancestor_id
+                    FROM catalog.folder_closure fc
+                    WHERE fc.descendant_id = :folderId)"""
     )
     List<Chain> findAllChainsToRootParentFolder(String folderId);
 
@@ -70,19 +60,9 @@ WITH RECURSIVE parent_folders AS (
                 SELECT *
                 FROM catalog.chains ch
                 WHERE ch.parent_folder_id IN (
-                    WITH RECURSIVE parent_folders AS (
-                        SELECT f1.*
-                        FROM catalog.folders f1
-                        WHERE f1.id in :folderIds
-
-                        UNION ALL
-
-                        SELECT f2.*
-                        FROM catalog.folders f2
-                                 INNER JOIN parent_folders pf ON f2.parent_folder_id = pf.id
-                    )
-                    SELECT DISTINCT id
-                    FROM parent_folders)"""
+                    SELECT fc.descendant_id
+                    FROM catalog.folder_closure fc
+                    WHERE fc.ancestor_id IN :folderIds)"""
     )
     List<Chain> findAllChainsInFolders(List<String> folderIds);
 
@@ -16,11 +16,22 @@
 
 package org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain;
 
+import org.qubership.integration.platform.runtime.catalog.model.filter.ChainStatusCondition;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElementFilterRequestDTO;
 
 import java.util.List;
 
 public interface ElementFilterRepository {
-    List<ChainElement> findElementsByFilter(int offset, int limit, List<String> types, List<ChainElementFilterRequestDTO> filters, boolean isImplementedOnly);
+    default List<ChainElement> findElementsByFilter(int offset, int limit, List<String> types, List<ChainElementFilterRequestDTO> filters, boolean isImplementedOnly) {
+        return findElementsByFilter(offset, limit, types, filters, isImplementedOnly, null);
+    }
+
+    /**
+     * Finds elements of the given types with all filters applied before the page is cut.
+     *
+     * @param chainStatusCondition chains matching deployment status filters, {@code null} when there are no such filters
+     */
+    List<ChainElement> findElementsByFilter(int offset, int limit, List<String> types, List<ChainElementFilterRequestDTO> filters,
+                                            boolean isImplementedOnly, ChainStatusCondition chainStatusCondition);
 }
@@ -16,18 +16,35 @@
 
 package org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.criteria.*;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.qubership.integration.platform.runtime.catalog.model.filter.ChainStatusCondition;
 import org.qubership.integration.platform.runtime.catalog.model.filter.FilterCondition;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Chain;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElementFilterRequestDTO;
+import org.springframework.beans.factory.annotation.Qualifier;
 
+import java.sql.Timestamp;
 import java.util.*;
 
+import static org.qubership.integration.platform.runtime.catalog.persistence.ArrayFunctionContributor.equalsAny;
+import static org.qubership.integration.platform.runtime.catalog.persistence.JsonbFunctionContributor.JSONB_CONTAINS_JSON_FUNCTION;
+
 
 public class ElementFilterRepositoryImpl implements ElementFilterRepository {
 
+    private static final String ID_ATTRIBUTE_NAME = "id";
+    private static final String MODIFIED_WHEN_ATTRIBUTE_NAME = "modifiedWhen";
+    private static final String UNSAVED_CHANGES_ATTRIBUTE_NAME = "unsavedChanges";
+    private static final String CHAIN_ID_ALIAS = "chainId";
+    private static final String CHAIN_NAME_ALIAS = "chainName";
     private static final String TYPE_ATTRIBUTE_NAME = "type";
     private static final String CHAIN_ATTRIBUTE_NAME = "chain";
     private static final String PROPERTIES_ATTRIBUTE = "properties";
@@ -45,59 +62,88 @@ public class ElementFilterRepositoryImpl implements ElementFilterRepository {
     private static final String INTEGRATION_SPECIFICATION_ID = "integrationSpecificationId";
     private static final String ACCESS_CONTROL_TYPE_PROPERTY = "accessControlType";
     private static final String ABAC_RESOURCE_PROPERTY = "abacResource";
-    private static final Set<String> PROPERTIES_FILTER = Set.of(ROLES_PROPERTY, CONTEXT_PATH_PROPERTY, PRIVATE_ROUTE_PROPERTY, EXTERNAL_ROUTE_PROPERTY, INTEGRATION_OPERATION_PATH_PROPERTY, INTEGRATION_SPECIFICATION_ID, ACCESS_CONTROL_TYPE_PROPERTY, ABAC_RESOURCE_PROPERTY);
+    private static final List<String> PROPERTIES_FILTER = List.of(ROLES_PROPERTY, CONTEXT_PATH_PROPERTY, PRIVATE_ROUTE_PROPERTY, EXTERNAL_ROUTE_PROPERTY, INTEGRATION_OPERATION_PATH_PROPERTY, INTEGRATION_SPECIFICATION_ID, ACCESS_CONTROL_TYPE_PROPERTY, ABAC_RESOURCE_PROPERTY);
+    private static final TypeReference<LinkedHashMap<String, Object>> PROPERTIES_TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
 
     @PersistenceContext
     private EntityManager entityManager;
 
+    public ElementFilterRepositoryImpl(@Qualifier("primaryObjectMapper") ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
     @Override
-    public List<ChainElement> findElementsByFilter(int offset, int limit, List<String> types, List<ChainElementFilterRequestDTO> filters, boolean isImplementedOnly) {
+    public List<ChainElement> findElementsByFilter(int offset, int limit, List<String> types, List<ChainElementFilterRequestDTO> filters,
+                                                   boolean isImplementedOnly, ChainStatusCondition chainStatusCondition) {
         CriteriaBuilder builder = entityManager.getCriteriaBuilder();
-        CriteriaQuery<ChainElement> query = buildFilterQuery(builder, types, filters);
-        List<ChainElement> resultList = entityManager.createQuery(query)
+        CriteriaQuery<Tuple> query = buildFilterQuery(builder, types, filters, isImplementedOnly, chainStatusCondition);
+        return entityManager.createQuery(query)
                 .setFirstResult(offset)
                 .setMaxResults(limit)
-                .getResultList();
-
-        if (isImplementedOnly) {
-            resultList = filterImplementedServices(resultList);
-        }
-        filterElementProperties(resultList);
-        return resultList;
+                .getResultList()
+                .stream()
+                .map(this::toChainElement)
+                .toList();
     }
 
-    private List<ChainElement> filterImplementedServices(List<ChainElement> elementList) {
-        List<ChainElement> filteredChainList = new ArrayList<>();
-        elementList.forEach(chainElement -> {
-            if (IMPLEMENTED_SERVICE_TYPE.equals(chainElement.getProperty(SYSTEM_TYPE_PROPERTY))) {
-                filteredChainList.add(chainElement);
-            }
-        });
-        return filteredChainList;
+    /**
+     * Builds an element detached from the persistence context, so the filtered properties are never flushed back.
+     */
+    private ChainElement toChainElement(Tuple row) {
+        Chain chain = Chain.builder()
+                .id(row.get(CHAIN_ID_ALIAS, String.class))
+                .name(row.get(CHAIN_NAME_ALIAS, String.class))
+                .unsavedChanges(Boolean.TRUE.equals(row.get(UNSAVED_CHANGES_ATTRIBUTE_NAME, Boolean.class)))
+                .build();
+        return ChainElement.builder()
+                .id(row.get(ID_ATTRIBUTE_NAME, String.class))
+                .name(row.get(NAME_PROPERTY, String.class))
+                .modifiedWhen(row.get(MODIFIED_WHEN_ATTRIBUTE_NAME, Timestamp.class))
+                .properties(readProperties(row.get(PROPERTIES_ATTRIBUTE, String.class)))
+                .chain(chain)
+                .build();
     }
 
-    private void filterElementProperties(List<ChainElement> elementList) {
-        elementList.forEach(chainElement -> {
-            Map<String, Object> filteredProperties = chainElement
-                    .getProperties()
-                    .entrySet()
-                    .stream()
-                    .filter((propertyEntry -> PROPERTIES_FILTER.contains(propertyEntry.getKey())))
-                    .collect(HashMap::new, (m, v) -> m.put(v.getKey(), v.getValue()), HashMap::putAll);
-            chainElement.setProperties(filteredProperties);
-        });
+    private Map<String, Object> readProperties(String properties) {
+        if (properties == null) {
+            return new LinkedHashMap<>();
+        }
+        try {
+            return objectMapper.readValue(properties, PROPERTIES_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read element properties", e);
+        }
     }
 
-    private CriteriaQuery<ChainElement> buildFilterQuery(CriteriaBuilder builder, List<String> types, List<ChainElementFilterRequestDTO> filters) {
-        CriteriaQuery<ChainElement> query = builder.createQuery(ChainElement.class);
+    private CriteriaQuery<Tuple> buildFilterQuery(CriteriaBuilder builder, List<String> types, List<ChainElementFilterRequestDTO> filters,
+                                                  boolean isImplementedOnly, ChainStatusCondition chainStatusCondition) {
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
         Root<ChainElement> chainElementRoot = query.from(ChainElement.class);
         List<Predicate> predicates = new LinkedList<>(); // combined with 'AND'
 
         removeRedundantFilters(filters);
         addPermanentFiltersToQuery(builder, types, chainElementRoot, predicates);
+        if (isImplementedOnly) {
+            predicates.add(getContainsPropertyPredicate(builder, chainElementRoot, SYSTEM_TYPE_PROPERTY, IMPLEMENTED_SERVICE_TYPE));
+        }
         addRequestFiltersToQuery(builder, filters, chainElementRoot, predicates);
+        if (chainStatusCondition != null) {
+            predicates.add(getChainStatusPredicate(builder, chainElementRoot, chainStatusCondition));
+        }
 
-        query.select(chainElementRoot);
+        Path<Chain> chainPath = chainElementRoot.get(CHAIN_ATTRIBUTE_NAME);
+        query.multiselect(
+                chainElementRoot.get(ID_ATTRIBUTE_NAME).alias(ID_ATTRIBUTE_NAME),
+                chainElementRoot.get(NAME_PROPERTY).alias(NAME_PROPERTY),
+                chainElementRoot.get(MODIFIED_WHEN_ATTRIBUTE_NAME).alias(MODIFIED_WHEN_ATTRIBUTE_NAME),
+                getFilteredPropertiesExpression(builder, chainElementRoot).alias(PROPERTIES_ATTRIBUTE),
+                chainPath.get(ID_ATTRIBUTE_NAME).alias(CHAIN_ID_ALIAS),
+                chainPath.get(NAME_PROPERTY).alias(CHAIN_NAME_ALIAS),
+                chainPath.get(UNSAVED_CHANGES_ATTRIBUTE_NAME).alias(UNSAVED_CHANGES_ATTRIBUTE_NAME)
+        );
 
         Predicate finalPredicate = builder.and(
                 predicates.stream()
@@ -251,18 +297,16 @@ private Predicate getInTypePredicate(CriteriaBuilder builder, Root<ChainElement>
         for (String value : filterValue) {
             switch (value) {
                 case INTERNAL_ROUTE_TYPE, EXTERNAL_ROUTE_TYPE -> {
-                    Expression<Boolean> externalRouteExpression = getJsonPropertyBooleamExpression(builder, chainElementRoot, EXTERNAL_ROUTE_PROPERTY);
-                    Boolean predicateFlag = value.equals(EXTERNAL_ROUTE_TYPE);
+                    Predicate externalRoutePredicate = getContainsPropertyPredicate(builder, chainElementRoot, EXTERNAL_ROUTE_PROPERTY, value.equals(EXTERNAL_ROUTE_TYPE));
                     typePredicate = typePredicate == null
-                            ? builder.equal(externalRouteExpression, predicateFlag)
-                            : builder.or(typePredicate, builder.equal(externalRouteExpression, predicateFlag));
+                            ? externalRoutePredicate
+                            : builder.or(typePredicate, externalRoutePredicate);
                 }
                 case PRIVATE_ROUTE_TYPE -> {
-                    Expression<Boolean> privateRouteExpression = getJsonPropertyBooleamExpression(builder, chainElementRoot, PRIVATE_ROUTE_PROPERTY);
+                    Predicate privateRoutePredicate = getContainsPropertyPredicate(builder, chainElementRoot, PRIVATE_ROUTE_PROPERTY, true);
                     typePredicate = typePredicate == null
-                            ? builder.equal(privateRouteExpression, true)
-                            : builder.or(typePredicate, builder.equal(privateRouteExpression, true));
-
+                            ? privateRoutePredicate
+                            : builder.or(typePredicate, privateRoutePredicate);
                 }
             }
         }
@@ -274,18 +318,7 @@ private Predicate getLikeRolesPredicate(CriteriaBuilder builder, Root<ChainEleme
     }
 
     private Predicate getIsRolesPredicate(CriteriaBuilder builder, Root<ChainElement> chainElementRoot, String filterValue) {
-        Expression<Object> jsonbFilterValue = builder.function("to_jsonb", Object.class, builder.literal(filterValue).as(String.class));
-
-        Expression<Object> rolesJsonb = builder.function(
-                "jsonb_extract_path",
-                Object.class,
-                chainElementRoot.get(PROPERTIES_ATTRIBUTE),
-                builder.literal(ROLES_PROPERTY)
-        );
-
-        return builder.isTrue(
-                builder.function("jsonb_contains", Boolean.class, rolesJsonb, jsonbFilterValue)
-        );
+        return getContainsPropertyPredicate(builder, chainElementRoot, ROLES_PROPERTY, List.of(filterValue));
     }
 
     private Predicate getEmptyRolesPredicate(CriteriaBuilder builder, Root<ChainElement> chainElementRoot) {
@@ -297,6 +330,18 @@ private Predicate getLikeChainPredicate(CriteriaBuilder builder, Root<ChainEleme
         return builder.like(builder.lower(chainElementRoot.get(CHAIN_ATTRIBUTE_NAME).get(NAME_PROPERTY)), filterValue);
     }
 
+    /**
+     * Chains reported by engines are matched by identifiers bound as array parameters,
+     * the others have the draft status.
+     */
+    private Predicate getChainStatusPredicate(CriteriaBuilder builder, Root<ChainElement> chainElementRoot, ChainStatusCondition condition) {
+        Expression<String> chainIdExpression = chainElementRoot.get(CHAIN_ATTRIBUTE_NAME).get(ID_ATTRIBUTE_NAME);
+        Predicate matchingPredicate = equalsAny(builder, chainIdExpression, condition.matchingChainIds());
+        return condition.draftMatches()
+                ? builder.or(matchingPredicate, equalsAny(builder, chainIdExpression, condition.deployedChainIds()).not())
+                : matchingPredicate;
+    }
+
     private Expression<String> getJsonPropertyStringExpression(CriteriaBuilder builder, Root<ChainElement> chainElementRoot, String propertyName, Boolean isCaseSensitive) {
         Expression<String> propertyStringExpression =
                 builder.function(
@@ -308,16 +353,44 @@ private Expression<String> getJsonPropertyStringExpression(CriteriaBuilder build
         return isCaseSensitive ? builder.lower(propertyStringExpression) : propertyStringExpression;
     }
 
-    private Expression<Boolean> getJsonPropertyBooleamExpression(CriteriaBuilder builder, Root<ChainElement> chainElementRoot, String propertyName) {
-        return builder.function(
-                "BOOL",
+    /**
+     * Checks that the property contains the given value with the jsonb {@code @>} operator,
+     * which is served by the {@code jsonb_path_ops} GIN index on element properties.
+     */
+    private Predicate getContainsPropertyPredicate(CriteriaBuilder builder, Root<ChainElement> chainElementRoot, String propertyName, Object value) {
+        String jsonFilterValue;
+        try {
+            jsonFilterValue = objectMapper.writeValueAsString(Map.of(propertyName, value));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to write element properties filter", e);
+        }
+        // Bound as a parameter, so statements do not differ by filter values
+        return builder.isTrue(builder.function(
+                JSONB_CONTAINS_JSON_FUNCTION,
                 Boolean.class,
-                builder.function(
-                        "jsonb_extract_path",
-                        Object.class,
-                        chainElementRoot.get(PROPERTIES_ATTRIBUTE),
-                        builder.literal(propertyName)
-                )
+                chainElementRoot.get(PROPERTIES_ATTRIBUTE),
+                ((HibernateCriteriaBuilder) builder).value(jsonFilterValue)
+        ));
+    }
+
+    /**
+     * Selects only the properties shown in the roles list, without null values for the missing ones.
+     */
+    private Expression<String> getFilteredPropertiesExpression(CriteriaBuilder builder, Root<ChainElement> chainElementRoot) {
+        List<Expression<?>> arguments = new ArrayList<>();
+        for (String propertyName : PROPERTIES_FILTER) {
+            arguments.add(builder.literal(propertyName).as(String.class));
+            arguments.add(builder.function(
+                    "jsonb_extract_path",
+                    Object.class,
+                    chainElementRoot.get(PROPERTIES_ATTRIBUTE),
+                    builder.literal(propertyName)
+            ));
+        }
+        return builder.function(
+                "jsonb_strip_nulls",
+                String.class,
+                builder.function("jsonb_build_object", Object.class, arguments.toArray(new Expression<?>[0]))
         );
     }
 
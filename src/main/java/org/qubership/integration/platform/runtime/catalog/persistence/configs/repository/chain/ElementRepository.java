@@ -40,6 +40,11 @@ public interface ElementRepository extends CommonRepository<ChainElement>, JpaRe
     @Query(value = "select e from elements e join fetch e.chain where e.type in ?1 and e.chain is not null")
     List<ChainElement> findAllByTypeInAndFetchChain(Collection<String> type);
 
+    @Query("select e from elements e join fetch e.chain "
+            + "where e.type in :types "
+            + "and function('jsonb_extract_path_text', e.properties, 'systemType') = :systemType")
+    List<ChainElement> findAllByTypeInAndSystemTypeAndFetchChain(Collection<String> types, String systemType);
+
     Optional<ChainElement> findByOriginalId(String originalId);
 
     ChainElement findByIdAndChainId(String id, String chainId);
@@ -66,42 +71,35 @@ public interface ElementRepository extends CommonRepository<ChainElement>, JpaRe
     @Query("SELECT e FROM swimlane_elements e WHERE e.chain.id = :chainId AND e.reuseSwimlane = TRUE")
     Optional<SwimlaneChainElement> findReuseSwimlaneWithLockingByChainId(String chainId);
 
+    /**
+     * Returns distinct pairs of snapshot id and job id of SDS triggers in the snapshots.
+     */
     @Query("""
-        SELECT e
+        SELECT DISTINCT e.snapshot.id, function('jsonb_extract_path_text', e.properties, 'jobId')
         FROM elements e
-        WHERE e.type IN :types
-            AND (e.snapshot.id IN (
-                    SELECT d.snapshot.id
-                    FROM deployments d
-                    WHERE
-                        d.domain <> :domain
-                        AND d.chain.id = :excludeChainId
-                        AND (:excludeDeploymentIds IS NULL
-                        OR d.id NOT IN :excludeDeploymentIds)
-                    )
-                )""")
-    List<ChainElement> findElementsForDomainTriggerCheck(
-            List<String> types,
-            String domain,
-            String excludeChainId,
-            @Nullable @NotEmpty List<String> excludeDeploymentIds);
-
+        WHERE e.type = 'sds-trigger'
+            AND e.snapshot.id IN :snapshotIds
+            AND function('jsonb_extract_path_text', e.properties, 'jobId') IS NOT NULL""")
+    List<Object[]> findSdsTriggerJobIds(Collection<String> snapshotIds);
+
+    /**
+     * Returns distinct triples of snapshot id, deployment domain and job id
+     * for SDS triggers deployed by the chains of the snapshots with the same job ids as triggers in the snapshots.
+     */
     @Query("""
-        SELECT e
-        FROM elements e
-        WHERE e.type IN :types
-            AND (e.snapshot.id IN (
-                    SELECT d.snapshot.id
-                    FROM deployments d
-                    WHERE
-                        d.chain.id <> :excludeChainId
-                        AND (:excludeDeploymentIds IS NULL
-                        OR d.id NOT IN :excludeDeploymentIds)
-                    )
-                )""")
-    List<ChainElement> findElementsForTriggerCheck(
-            List<String> types,
-            String excludeChainId,
+        SELECT DISTINCT p.snapshot.id, d.domain, function('jsonb_extract_path_text', p.properties, 'jobId')
+        FROM elements p, elements o, deployments d
+        WHERE p.type = 'sds-trigger'
+            AND o.type = 'sds-trigger'
+            AND function('jsonb_extract_path_text', o.properties, 'jobId')
+                = function('jsonb_extract_path_text', p.properties, 'jobId')
+            AND o.snapshot.id = d.snapshot.id
+            AND p.snapshot.id IN :snapshotIds
+            AND d.chain.id = p.snapshot.chain.id
+            AND (:excludeDeploymentIds IS NULL
+            OR d.id NOT IN :excludeDeploymentIds)""")
+    List<Object[]> findDeployedSdsTriggerJobIds(
+            Collection<String> snapshotIds,
             @Nullable @NotEmpty List<String> excludeDeploymentIds);
 
     @Query("""
@@ -145,15 +143,6 @@ Collection<ChainElement> findElementsByTypesAndChains(
     @Query("SELECT e FROM elements e INNER JOIN deployments d ON e.snapshot.id = d.snapshot.id WHERE e.type IN :types")
     Collection<ChainElement> findAllDeployedElementsByTypes(Collection<String> types);
 
-    @Query("SELECT e "
-            + "FROM elements e "
-            + "INNER JOIN deployments d "
-            + "ON e.snapshot.id = d.snapshot.id "
-            + "WHERE e.type IN :types AND d.chain.id <> :excludeChainId")
-    List<ChainElement> findElementsForRouteExistenceCheck(
-            List<String> types,
-            String excludeChainId);
-
     List<ChainElement> findAllByParentId(String parentId);
 
     List<ChainElement> findAllBySnapshotId(String id);
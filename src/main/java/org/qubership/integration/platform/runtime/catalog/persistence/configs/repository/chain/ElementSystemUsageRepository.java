@@ -0,0 +1,45 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain;
+
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ElementSystemUsage;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@org.springframework.stereotype.Repository
+public interface ElementSystemUsageRepository extends Repository<ElementSystemUsage, ElementSystemUsage.ElementSystemUsageId> {
+
+    /**
+     * Returns distinct (system id, specification id) pairs used by elements of the chains.
+     * Specification id is null for services used without a specification.
+     */
+    @Query("select u.systemId, u.specificationId "
+            + "from element_system_usage u "
+            + "where u.chainId in :chainIds "
+            + "group by u.systemId, u.specificationId "
+            + "order by u.systemId, u.specificationId")
+    List<Object[]> findUsedSystemsByChainIds(Collection<String> chainIds);
+
+    @Query("select u.systemId, u.specificationId "
+            + "from element_system_usage u "
+            + "group by u.systemId, u.specificationId "
+            + "order by u.systemId, u.specificationId")
+    List<Object[]> findAllUsedSystems();
+}
@@ -36,22 +36,17 @@ public interface FolderRepository extends CommonRepository<Folder>, JpaRepositor
 
     List<Folder> findAllByParentFolderEquals(Folder folder);
 
+    /**
+     * Returns the folder followed by its ancestors, from the nearest to the root.
+     */
     @Query(
             nativeQuery = true,
             value = """
-                WITH RECURSIVE folder_hierarchy AS (
-                        SELECT
-                            f1.*
-                        FROM
-                            catalog.folders f1
-                        WHERE f1.id = :folderId
-                        UNION ALL
-                        SELECT
-                            f2.*
-                        FROM catalog.folders f2 INNER JOIN folder_hierarchy fh
-                            ON f2.id = fh.parent_folder_id
-                )
-                SELECT * FROM folder_hierarchy;
+                SELECT f.*
+                FROM catalog.folders f
+                         INNER JOIN catalog.folder_closure fc ON f.id = fc.ancestor_id
+                WHERE fc.descendant_id = :folderId
+                ORDER BY fc.depth
             """
     )
     List<Folder> getPath(String folderId);
@@ -59,80 +54,65 @@ WITH RECURSIVE folder_hierarchy AS (
     @Query(
             nativeQuery = true,
             value = """
-                    WITH RECURSIVE folder_hierarchy AS (
-                            SELECT
-                                f1.*
-                            FROM
-                                catalog.folders f1
-                            WHERE f1.id in :chainFolderIds
-                            UNION ALL
-                            SELECT
-                                f2.*
-                            FROM catalog.folders f2 INNER JOIN folder_hierarchy fh
-                                ON f2.id = fh.parent_folder_id)
-                    SELECT DISTINCT * FROM folder_hierarchy;"""
+                    SELECT f.*
+                    FROM catalog.folders f
+                    WHERE f.id IN (
+                        SELECT fc.ancestor_id
+                        FROM catalog.folder_closure fc
+                        WHERE fc.descendant_id IN :chainFolderIds)"""
     )
     List<Folder> getFoldersHierarchically(List<String> chainFolderIds);
 
     @Query(
             nativeQuery = true,
             value = """
-                    with recursive nested_folders as (
-                        select f1.* from catalog.folders f1
-                               where f1.parent_folder_id = :folderId
-                        union all
-                        select f2.* from catalog.folders f2
-                               inner join nested_folders nf
-                                       on f2.parent_folder_id = nf.id
-                    ) select distinct * from nested_folders"""
+                    SELECT f.*
+                    FROM catalog.folders f
+                             INNER JOIN catalog.folder_closure fc ON f.id = fc.descendant_id
+                    WHERE fc.ancestor_id = :folderId
+                        AND fc.depth > 0"""
     )
     List<Folder> findNestedFolders(String folderId);
 
+    /**
+     * Returns the folder, its ancestors and the direct children of all of them.
+     */
     @Query(
             nativeQuery = true,
             value = """
-                    WITH parent_folders_table AS (
-                        WITH RECURSIVE parent_folders AS (
-                            SELECT f1.*
-                            FROM catalog.folders f1
-                            WHERE f1.id = :folderId OR f1.parent_folder_id = :folderId
-
-                            UNION ALL
-
-                            SELECT f2.*
-                            FROM catalog.folders f2
-                                     INNER JOIN parent_folders pf ON f2.id = pf.parent_folder_id
-                        )
-                        SELECT DISTINCT *
-                        FROM parent_folders
-                    )
-
-                    SELECT *
-                    FROM catalog.folders result
-                    WHERE result.id IN (
-                            SELECT id
-                            FROM parent_folders_table)
-                        OR result.parent_folder_id IN (
-                            SELECT id
-                            FROM parent_folders_table
-                            WHERE parent_folder_id <> :folderId OR parent_folder_id IS NULL)"""
+                    SELECT f.*
+                    FROM catalog.folders f
+                    WHERE f.id IN (
+                            SELECT fc.ancestor_id
+                            FROM catalog.folder_closure fc
+                            WHERE fc.descendant_id = :folderId)
+                        OR f.parent_folder_id IN (
+                            SELECT fc.ancestor_id
+                            FROM catalog.folder_closure fc
+                            WHERE fc.descendant_id = :folderId)"""
     )
     List<Folder> findAllFoldersToRootParentFolder(String folderId);
 
     @Query(
             nativeQuery = true,
             value = """
-                with recursive nested_folders as (
-                    select f1.* from catalog.folders f1
-                           where f1.id in :folderIds
-                    union all
-                    select f2.* from catalog.folders f2
-                           inner join nested_folders nf
-                                   on f2.parent_folder_id = nf.id
-                )
+                SELECT EXISTS (
+                    SELECT 1
+                    FROM catalog.folder_closure fc
+                    WHERE fc.ancestor_id = :ancestorId
+                        AND fc.descendant_id = :folderId)
+            """
+    )
+    boolean isFolderOrDescendant(String folderId, String ancestorId);
+
+    @Query(
+            nativeQuery = true,
+            value = """
                 delete
                 from catalog.folders f
-                where f.id in (select id from nested_folders)
+                where f.id in (select fc.descendant_id
+                               from catalog.folder_closure fc
+                               where fc.ancestor_id in :folderIds)
                 returning f.id
             """
     )
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain;
+
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotEmpty;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.HttpTriggerRoute;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface HttpTriggerRouteRepository extends JpaRepository<HttpTriggerRoute, String> {
+
+    List<HttpTriggerRoute> findAllBySnapshotId(String snapshotId);
+
+    /**
+     * Returns pairs of route and deployment for deployed routes with the path pattern.
+     */
+    @Query("""
+        SELECT r, d
+        FROM http_trigger_routes r
+            INNER JOIN deployments d ON r.snapshotId = d.snapshot.id
+        WHERE r.pathPattern = :pathPattern
+            AND d.chain.id <> :excludeChainId""")
+    List<Object[]> findDeployedRoutesByPathPattern(String pathPattern, String excludeChainId);
+
+    @Query("""
+        SELECT r
+        FROM http_trigger_routes r
+        WHERE r.path IN :paths
+            AND r.snapshotId IN (
+                SELECT d.snapshot.id
+                FROM deployments d
+                WHERE
+                    d.chain.id <> :excludeChainId
+                    AND (:excludeDeploymentIds IS NULL
+                    OR d.id NOT IN :excludeDeploymentIds)
+                )""")
+    List<HttpTriggerRoute> findRoutesForTriggerCheck(
+            Collection<String> paths,
+            String excludeChainId,
+            @Nullable @NotEmpty List<String> excludeDeploymentIds);
+
+    @Query("""
+        SELECT r
+        FROM http_trigger_routes r
+        WHERE r.path IN :paths
+            AND r.snapshotId IN (
+                SELECT d.snapshot.id
+                FROM deployments d
+                WHERE
+                    d.domain <> :domain
+                    AND d.chain.id = :excludeChainId
+                    AND (:excludeDeploymentIds IS NULL
+                    OR d.id NOT IN :excludeDeploymentIds)
+                )""")
+    List<HttpTriggerRoute> findRoutesForDomainTriggerCheck(
+            Collection<String> paths,
+            String domain,
+            String excludeChainId,
+            @Nullable @NotEmpty List<String> excludeDeploymentIds);
+}
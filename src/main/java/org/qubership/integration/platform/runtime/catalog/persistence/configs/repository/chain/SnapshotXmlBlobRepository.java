@@ -0,0 +1,39 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain;
+
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.SnapshotXmlBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface SnapshotXmlBlobRepository extends JpaRepository<SnapshotXmlBlob, String> {
+
+    /**
+     * Stores the blob unless a blob with the same content exists.
+     * An existing blob is locked until the end of the transaction, so the reference count trigger
+     * of a concurrently deleted snapshot can not remove it before the new snapshot references it.
+     */
+    @Modifying
+    @Query(nativeQuery = true,
+            value = """
+                    INSERT INTO {h-schema}snapshot_xml_blobs (hash, content, size)
+                    VALUES (:hash, :content, :size)
+                    ON CONFLICT (hash) DO UPDATE SET hash = EXCLUDED.hash"""
+    )
+    void insertIfAbsent(String hash, byte[] content, int size);
+}
@@ -16,8 +16,10 @@
 
 package org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.operations;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.criteria.*;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.Operation;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.SystemModel;
@@ -27,42 +29,53 @@
 import java.util.List;
 
 public class OperationFilterRepositoryImpl implements OperationFilterRepository {
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String METHOD = "method";
+    private static final String PATH = "path";
+    private static final String SPECIFICATION = "specification";
+    private static final String MODEL_ID = "modelId";
+
     @PersistenceContext
     private EntityManager entityManager;
 
     @Override
     public List<Operation> getOperations(String modelId, List<String> sortColumns) {
-        CriteriaQuery<Operation> query = createGetOperationsByFilterQuery(modelId, Collections.emptyList(), sortColumns);
-        return entityManager.createQuery(query).getResultList();
+        CriteriaQuery<Tuple> query = createGetOperationsByFilterQuery(modelId, Collections.emptyList(), sortColumns);
+        return toOperations(entityManager.createQuery(query).getResultList());
     }
 
     @Override
     public List<Operation> getOperations(String modelId, List<String> sortColumns, int offset, int count) {
-        CriteriaQuery<Operation> query = createGetOperationsByFilterQuery(modelId, Collections.emptyList(), sortColumns);
-        return entityManager.createQuery(query).setFirstResult(offset).setMaxResults(count).getResultList();
+        CriteriaQuery<Tuple> query = createGetOperationsByFilterQuery(modelId, Collections.emptyList(), sortColumns);
+        return toOperations(entityManager.createQuery(query).setFirstResult(offset).setMaxResults(count).getResultList());
     }
 
     @Override
     public List<Operation> getOperationsByFilter(String modelId, List<String> filter, List<String> sortColumns) {
-        CriteriaQuery<Operation> query = createGetOperationsByFilterQuery(modelId, filter, sortColumns);
-        return entityManager.createQuery(query).getResultList();
+        CriteriaQuery<Tuple> query = createGetOperationsByFilterQuery(modelId, filter, sortColumns);
+        return toOperations(entityManager.createQuery(query).getResultList());
     }
 
     @Override
     public List<Operation> getOperationsByFilter(String modelId, List<String> filter, List<String> sortColumns, int offset, int count) {
-        CriteriaQuery<Operation> query = createGetOperationsByFilterQuery(modelId, filter, sortColumns);
-        return entityManager.createQuery(query).setFirstResult(offset).setMaxResults(count).getResultList();
+        CriteriaQuery<Tuple> query = createGetOperationsByFilterQuery(modelId, filter, sortColumns);
+        return toOperations(entityManager.createQuery(query).setFirstResult(offset).setMaxResults(count).getResultList());
     }
 
-    private CriteriaQuery<Operation> createGetOperationsByFilterQuery(String modelId, List<String> filter, List<String> sortColumns) {
+    /**
+     * Selects only the columns shown in operation lists, request and response schemas are not fetched.
+     */
+    private CriteriaQuery<Tuple> createGetOperationsByFilterQuery(String modelId, List<String> filter, List<String> sortColumns) {
         CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-        CriteriaQuery<Operation> query = cb.createQuery(Operation.class);
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
         Root<Operation> operation = query.from(Operation.class);
 
         Join<Operation, SystemModel> joinSystemModel = operation.join("systemModel", JoinType.INNER);
 
         Expression<String> searchExpr =
-                cb.concat(operation.get("method"), cb.concat(operation.get("name"), operation.get("path")));
+                cb.concat(operation.get(METHOD), cb.concat(operation.get(NAME), operation.get(PATH)));
 
         List<Predicate> predicates = new ArrayList<>();
 
@@ -73,7 +86,7 @@ private CriteriaQuery<Operation> createGetOperationsByFilterQuery(String modelId
         if (modelId.isBlank()) {
             predicates.add(cb.equal(joinSystemModel.get("active"), true));
         } else {
-            predicates.add(cb.equal(joinSystemModel.get("id"), modelId));
+            predicates.add(cb.equal(joinSystemModel.get(ID), modelId));
         }
 
         List<Order> orders = new ArrayList<>();
@@ -82,8 +95,34 @@ private CriteriaQuery<Operation> createGetOperationsByFilterQuery(String modelId
         }
 
         return query
-                .select(operation)
+                .multiselect(
+                        operation.get(ID).alias(ID),
+                        operation.get(NAME).alias(NAME),
+                        operation.get(DESCRIPTION).alias(DESCRIPTION),
+                        operation.get(METHOD).alias(METHOD),
+                        operation.get(PATH).alias(PATH),
+                        operation.get(SPECIFICATION).alias(SPECIFICATION),
+                        joinSystemModel.get(ID).alias(MODEL_ID))
                 .where(cb.and(predicates.toArray(new Predicate[0])))
                 .orderBy(orders);
     }
+
+    private static List<Operation> toOperations(List<Tuple> rows) {
+        return rows.stream().map(OperationFilterRepositoryImpl::toOperation).toList();
+    }
+
+    /**
+     * Builds an operation detached from the persistence context, so it is never flushed back.
+     */
+    private static Operation toOperation(Tuple row) {
+        return Operation.builder()
+                .id(row.get(ID, String.class))
+                .name(row.get(NAME, String.class))
+                .description(row.get(DESCRIPTION, String.class))
+                .method(row.get(METHOD, String.class))
+                .path(row.get(PATH, String.class))
+                .specification(row.get(SPECIFICATION, JsonNode.class))
+                .systemModel(SystemModel.builder().id(row.get(MODEL_ID, String.class)).build())
+                .build();
+    }
 }
@@ -18,7 +18,42 @@
 
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.Operation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface OperationRepository extends JpaRepository<Operation, String>, OperationFilterRepository {
 
+    @Query(
+            nativeQuery = true,
+            value = """
+                SELECT CAST(o.specification AS text)
+                FROM catalog.operations o
+                WHERE o.id = :operationId"""
+    )
+    String findSpecificationById(String operationId);
+
+    @Query(
+            nativeQuery = true,
+            value = """
+                SELECT CAST(o.request_schema -> CAST(:contentType AS text) AS text)
+                FROM catalog.operations o
+                WHERE o.id = :operationId"""
+    )
+    String findRequestSchema(String operationId, String contentType);
+
+    @Query(
+            nativeQuery = true,
+            value = """
+                SELECT CAST(o.response_schemas -> CAST(:responseCode AS text) -> CAST(:contentType AS text) AS text)
+                FROM catalog.operations o
+                WHERE o.id = :operationId"""
+    )
+    String findResponseSchema(String operationId, String responseCode, String contentType);
+
+    @Query("select operation.id, operation.modifiedWhen "
+            + "from Operation operation "
+            + "where operation.id in :ids")
+    List<Object[]> findModifiedWhenByIds(Collection<String> ids);
 }
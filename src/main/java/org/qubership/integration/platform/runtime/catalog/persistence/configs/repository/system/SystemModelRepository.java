@@ -21,6 +21,7 @@
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface SystemModelRepository extends JpaRepository<SystemModel, String> {
@@ -44,4 +45,9 @@ public interface SystemModelRepository extends JpaRepository<SystemModel, String
 
     @Query(nativeQuery = true, value = "SELECT model.version from catalog.models model where model.id=:id")
     String findVersionById(String id);
+
+    @Query("select model.id, model.version, model.modifiedWhen "
+            + "from SystemModel model "
+            + "where model.id in :ids")
+    List<Object[]> findVersionsByIds(Collection<String> ids);
 }
@@ -18,10 +18,12 @@
 
 import org.qubership.integration.platform.runtime.catalog.model.system.OperationProtocol;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.IntegrationSystem;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface SystemRepository extends JpaRepository<IntegrationSystem, String>, JpaSpecificationExecutor<IntegrationSystem> {
@@ -30,6 +32,9 @@ public interface SystemRepository extends JpaRepository<IntegrationSystem, Strin
 
     List<IntegrationSystem> findAllByInternalServiceNameNotNull();
 
+    @EntityGraph(attributePaths = IntegrationSystem.Fields.environments)
+    List<IntegrationSystem> findAllWithEnvironmentsByIdIn(Collection<String> ids);
+
     /**
      * Find all systems with at least one not deprecated model
      *
@@ -26,10 +26,12 @@
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.extern.slf4j.Slf4j;
 import org.qubership.integration.platform.runtime.catalog.exception.exceptions.ChainDifferenceClientException;
+import org.qubership.integration.platform.runtime.catalog.model.chain.ChainsPage;
 import org.qubership.integration.platform.runtime.catalog.model.dto.chain.EntityDifferenceResponse;
 import org.qubership.integration.platform.runtime.catalog.model.dto.system.UsedSystem;
 import org.qubership.integration.platform.runtime.catalog.model.mapper.mapping.EntityDiffResponseMapper;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Chain;
+import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.FilterRequestDTO;
 import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.chain.*;
 import org.qubership.integration.platform.runtime.catalog.rest.v1.mapper.ChainLabelsMapper;
 import org.qubership.integration.platform.runtime.catalog.rest.v1.mapper.ChainMapper;
@@ -206,6 +208,20 @@ public ResponseEntity<Map<String, String>> getNamesMapByChainIds(@RequestParam @
         return ResponseEntity.ok(chainService.getNamesMapByChainIds(chainIds));
     }
 
+    @PostMapping("/filter")
+    @Operation(description = "Get a page of chains without chain elements matching the filters")
+    public ResponseEntity<ChainsPageResponse> filter(
+            @RequestParam(required = false) @Parameter(description = "Cursor returned with the previous page") String cursor,
+            @RequestParam(defaultValue = "100") @Parameter(description = "Maximum number of chains in the page") int limit,
+            @RequestBody @Parameter(description = "List of filters") List<FilterRequestDTO> filters
+    ) {
+        ChainsPage page = chainService.findByFilterRequest(filters, cursor, limit);
+        return ResponseEntity.ok(ChainsPageResponse.builder()
+                .chains(chainMapper.asChainResponseLight(page.chains()))
+                .nextCursor(page.nextCursor())
+                .build());
+    }
+
     @RequestMapping(method = RequestMethod.HEAD, value = "/{chainId}")
     @Operation(description = "Find chain by id if it exists", extensions = @Extension(properties = {@ExtensionProperty(name = "x-api-kind", value = "bwc")}))
     public ResponseEntity<Chain> findExistingChain(@PathVariable String chainId) {
@@ -21,9 +21,11 @@
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
+import org.qubership.integration.platform.runtime.catalog.model.deployment.engine.LiveExchangesResult;
 import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.engine.LiveExchangeExtDTO;
 import org.qubership.integration.platform.runtime.catalog.service.LiveExchangesService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.CollectionUtils;
@@ -38,6 +40,8 @@
 @Validated
 @Tag(name = "live-exchanges-controller", description = "Live Exchanges Controller")
 public class LiveExchangesController {
+    public static final String TIMED_OUT_ENGINES_HEADER = "X-Timed-Out-Engines";
+
     private final LiveExchangesService liveExchangesService;
 
     @Autowired
@@ -46,13 +50,18 @@ public LiveExchangesController(LiveExchangesService liveExchangesService) {
     }
 
     @GetMapping
-    @Operation(description = "Get top N running sessions live exchanges ordered by execution time DESC from all running engines")
+    @Operation(description = "Get top N running sessions live exchanges ordered by execution time DESC from all running engines. "
+            + "Hosts of engines that did not respond in time are listed in the " + TIMED_OUT_ENGINES_HEADER + " header")
     public ResponseEntity<List<LiveExchangeExtDTO>> getLiveExchanges(@RequestParam(required = false, defaultValue = "10") @Positive @Parameter(description = "Amount of entries to view") Integer limit) {
-        List<LiveExchangeExtDTO> result = liveExchangesService.getTopLongLiveExchanges(limit);
-        if (CollectionUtils.isEmpty(result)) {
-            return ResponseEntity.noContent().build();
+        LiveExchangesResult result = liveExchangesService.getTopLongLiveExchanges(limit);
+        HttpHeaders headers = new HttpHeaders();
+        if (!result.timedOutEngines().isEmpty()) {
+            headers.add(TIMED_OUT_ENGINES_HEADER, String.join(",", result.timedOutEngines()));
+        }
+        if (CollectionUtils.isEmpty(result.exchanges())) {
+            return ResponseEntity.noContent().headers(headers).build();
         }
-        return ResponseEntity.ok(result);
+        return ResponseEntity.ok().headers(headers).body(result.exchanges());
     }
 
     @DeleteMapping("/{podIp}/{deploymentId}/{exchangeId}")
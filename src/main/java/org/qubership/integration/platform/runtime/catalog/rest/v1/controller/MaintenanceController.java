@@ -47,10 +47,11 @@ public MaintenanceController(SnapshotService snapshotService) {
     @Operation(extensions = @Extension(properties = {@ExtensionProperty(name = "x-api-kind", value = "bwc")}),
     description = "Delete old snapshots from all chains")
     @PostMapping("/snapshots/prune")
-    public ResponseEntity<Void> pruneSnapshots(@RequestParam @Valid @Min(0) @Parameter(description = "Snapshots older than that amount of days will be deleted") int olderThanDays,
+    public ResponseEntity<Void> pruneSnapshots(@RequestParam @Valid @Min(0) @Parameter(description = "Snapshots older than that amount of days will be deleted, for chains without own retention policy") int olderThanDays,
+                                               @RequestParam(defaultValue = "0") @Valid @Min(0) @Parameter(description = "Amount of the latest snapshots of every chain without own retention policy that will be kept regardless of age") int keepLast,
                                                @RequestParam(defaultValue = "1000") @Valid @Min(1) @Parameter(description = "How much entries will be deleted at the same time") int chunk) {
-        log.info("Request to clear snapshots older than {} day(s) by {} snapshots", olderThanDays, chunk);
-        snapshotService.pruneSnapshotsAsync(olderThanDays, chunk);
+        log.info("Request to clear snapshots older than {} day(s), keeping last {} of every chain, by {} snapshots", olderThanDays, keepLast, chunk);
+        snapshotService.pruneSnapshotsAsync(olderThanDays, keepLast, chunk);
         return ResponseEntity.accepted().build();
     }
 }
@@ -19,11 +19,15 @@
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Snapshot;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.SnapshotRetentionPolicy;
 import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.snapshot.SnapshotRequest;
 import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.snapshot.SnapshotResponse;
+import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.snapshot.SnapshotRetentionPolicyDTO;
 import org.qubership.integration.platform.runtime.catalog.rest.v1.mapper.SnapshotMapper;
+import org.qubership.integration.platform.runtime.catalog.service.SnapshotRetentionPolicyService;
 import org.qubership.integration.platform.runtime.catalog.service.SnapshotService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -42,12 +46,15 @@ public class SnapshotController {
 
     private final SnapshotService snapshotService;
     private final SnapshotMapper snapshotMapper;
+    private final SnapshotRetentionPolicyService retentionPolicyService;
 
     @Autowired
     public SnapshotController(SnapshotService snapshotService,
-                              SnapshotMapper snapshotMapper) {
+                              SnapshotMapper snapshotMapper,
+                              SnapshotRetentionPolicyService retentionPolicyService) {
         this.snapshotService = snapshotService;
         this.snapshotMapper = snapshotMapper;
+        this.retentionPolicyService = retentionPolicyService;
     }
 
     @GetMapping
@@ -57,8 +64,7 @@ public ResponseEntity<List<SnapshotResponse>> findByChainIdLight(@PathVariable @
             log.debug("Request to find all snapshots for chain: {}", chainId);
         }
         var entities = snapshotService.findByChainIdLight(chainId);
-        var responseList = snapshotMapper.asResponse(entities);
-        responseList.forEach(snapshotDto -> snapshotDto.setXmlDefinition(null));
+        var responseList = snapshotMapper.asLightResponse(entities);
         return ResponseEntity.ok(responseList);
     }
 
@@ -73,10 +79,7 @@ public ResponseEntity<SnapshotResponse> findById(
             log.debug("Request to find snapshot {} in chain {}: ", snapshotId, chainId);
         }
         var entity = snapshotService.findById(snapshotId);
-        var response = snapshotMapper.asResponse(entity);
-        if (light) {
-            response.setXmlDefinition(null);
-        }
+        var response = light ? snapshotMapper.asLightResponse(entity) : snapshotMapper.asResponse(entity);
         return ResponseEntity.ok(response);
     }
 
@@ -85,8 +88,7 @@ public ResponseEntity<SnapshotResponse> findById(
     public ResponseEntity<SnapshotResponse> build(@PathVariable @Parameter(description = "Chain id") String chainId) {
         log.info("Request to build snapshot for chain with id: {}", chainId);
         var entity = snapshotService.build(chainId);
-        var response = snapshotMapper.asResponse(entity);
-        response.setXmlDefinition(null);
+        var response = snapshotMapper.asLightResponse(entity);
         return ResponseEntity.ok(response);
     }
 
@@ -108,8 +110,7 @@ public ResponseEntity<SnapshotResponse> revert(
             @PathVariable @Parameter(description = "Snapshot id") String snapshotId) {
         log.info("Request to revert chain with id: {}, to snapshot id: {}", chainId, snapshotId);
         var entity = snapshotService.revert(chainId, snapshotId);
-        var response = snapshotMapper.asResponse(entity);
-        response.setXmlDefinition(null);
+        var response = snapshotMapper.asLightResponse(entity);
         return ResponseEntity.ok(response);
     }
 
@@ -130,4 +131,36 @@ public ResponseEntity<Void> deleteById(@PathVariable @Parameter(description = "C
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
+    @GetMapping("/retention-policy")
+    @Operation(description = "Get snapshot retention policy of specified chain")
+    public ResponseEntity<SnapshotRetentionPolicyDTO> getRetentionPolicy(@PathVariable @Parameter(description = "Chain id") String chainId) {
+        return retentionPolicyService.findByChainId(chainId)
+                .map(policy -> ResponseEntity.ok(asRetentionPolicyDTO(policy)))
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    @PutMapping("/retention-policy")
+    @Operation(description = "Set snapshot retention policy of specified chain, applied instead of the defaults of snapshots pruning")
+    public ResponseEntity<SnapshotRetentionPolicyDTO> saveRetentionPolicy(
+            @PathVariable @Parameter(description = "Chain id") String chainId,
+            @RequestBody @Valid @Parameter(description = "Snapshot retention policy object") SnapshotRetentionPolicyDTO request) {
+        log.info("Request to set snapshot retention policy of chain: {}", chainId);
+        SnapshotRetentionPolicy policy = retentionPolicyService.save(chainId, request.getKeepLast(), request.getOlderThanDays());
+        return ResponseEntity.ok(asRetentionPolicyDTO(policy));
+    }
+
+    @DeleteMapping("/retention-policy")
+    @Operation(description = "Delete snapshot retention policy of specified chain")
+    public ResponseEntity<Void> deleteRetentionPolicy(@PathVariable @Parameter(description = "Chain id") String chainId) {
+        log.info("Request to delete snapshot retention policy of chain: {}", chainId);
+        retentionPolicyService.deleteByChainId(chainId);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    private static SnapshotRetentionPolicyDTO asRetentionPolicyDTO(SnapshotRetentionPolicy policy) {
+        return SnapshotRetentionPolicyDTO.builder()
+                .keepLast(policy.getKeepLast())
+                .olderThanDays(policy.getOlderThanDays())
+                .build();
+    }
 }
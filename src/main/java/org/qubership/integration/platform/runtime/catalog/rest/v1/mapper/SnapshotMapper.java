@@ -16,7 +16,10 @@
 
 package org.qubership.integration.platform.runtime.catalog.rest.v1.mapper;
 
+import org.mapstruct.IterableMapping;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 import org.qubership.integration.platform.runtime.catalog.model.mapper.mapping.UserMapper;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Snapshot;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.SnapshotLabel;
@@ -39,6 +42,16 @@ public interface SnapshotMapper {
 
     List<SnapshotResponse> asResponse(List<Snapshot> snapshots);
 
+    /**
+     * Maps the snapshot without XML definition, so the XML is not loaded.
+     */
+    @Named("asLightResponse")
+    @Mapping(target = "xmlDefinition", ignore = true)
+    SnapshotResponse asLightResponse(Snapshot snapshot);
+
+    @IterableMapping(qualifiedByName = "asLightResponse")
+    List<SnapshotResponse> asLightResponse(List<Snapshot> snapshots);
+
     Snapshot asRequest(SnapshotRequest snapshot);
 
     SnapshotLabel asLabelRequest(SnapshotLabelDTO snapshotLabel);
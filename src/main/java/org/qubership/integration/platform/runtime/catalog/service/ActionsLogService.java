@@ -91,6 +91,26 @@ public boolean logAction(ActionLog action) {
         return false;
     }
 
+    /**
+     * Logs the actions at once, they are saved by the writer thread in the same batch.
+     */
+    public boolean logActions(Collection<ActionLog> actions) {
+        try {
+            for (ActionLog action : actions) {
+                injectCurrentUser(action);
+                injectRequestId(action);
+                consoleLogAction(action);
+            }
+            queue.addAll(actions);
+            return true;
+        } catch (IllegalStateException e) {
+            log.error("Queue of actions is full, elements are not added, {}", actions);
+        } catch (Exception e) {
+            log.error("Failed to save action logs to database: {}", actions, e);
+        }
+        return false;
+    }
+
     private void injectRequestId(ActionLog action) {
         action.setRequestId(RequestIdContext.get());
     }
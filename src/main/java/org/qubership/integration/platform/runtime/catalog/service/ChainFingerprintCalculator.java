@@ -0,0 +1,159 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.qubership.integration.platform.runtime.catalog.builder.templates.TemplateService;
+import org.qubership.integration.platform.runtime.catalog.model.system.ServiceEnvironment;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.AbstractEntity;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Chain;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Dependency;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.MaskedField;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.operations.OperationRepository;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.system.SystemModelRepository;
+import org.qubership.integration.platform.runtime.catalog.service.library.LibraryElementsService;
+import org.qubership.integration.platform.runtime.catalog.util.HashUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+
+import static org.qubership.integration.platform.runtime.catalog.model.constant.CamelOptions.OPERATION_ID;
+import static org.qubership.integration.platform.runtime.catalog.model.constant.CamelOptions.SPECIFICATION_ID;
+
+/**
+ * Calculates fingerprints of chains content. Snapshots of chains with the same fingerprint
+ * are built from the same elements, dependencies, masked fields, system environments
+ * and versions of referenced specifications and operations by the same element descriptors and templates,
+ * so they have the same configuration.
+ */
+@Slf4j
+@Component
+public class ChainFingerprintCalculator {
+
+    private final ElementService elementService;
+    private final SystemEnvironmentsGenerator systemEnvironmentsGenerator;
+    private final LibraryElementsService libraryElementsService;
+    private final TemplateService templateService;
+    private final SystemModelRepository systemModelRepository;
+    private final OperationRepository operationRepository;
+    private final ObjectWriter canonicalWriter;
+
+    @Autowired
+    public ChainFingerprintCalculator(ElementService elementService,
+                                      SystemEnvironmentsGenerator systemEnvironmentsGenerator,
+                                      LibraryElementsService libraryElementsService,
+                                      TemplateService templateService,
+                                      SystemModelRepository systemModelRepository,
+                                      OperationRepository operationRepository,
+                                      @Qualifier("primaryObjectMapper") ObjectMapper objectMapper) {
+        this.elementService = elementService;
+        this.systemEnvironmentsGenerator = systemEnvironmentsGenerator;
+        this.libraryElementsService = libraryElementsService;
+        this.templateService = templateService;
+        this.systemModelRepository = systemModelRepository;
+        this.operationRepository = operationRepository;
+        // Keys of all maps are sorted, so the order of properties loaded from the database does not matter
+        this.canonicalWriter = objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+    }
+
+    /**
+     * @return SHA-256 of the canonical chain content or null if the content can't be serialized
+     * or the templates can't be read
+     */
+    @Nullable
+    public String calculate(Chain chain) {
+        String templatesHash = templateService.getTemplatesHash();
+        if (templatesHash == null) {
+            log.debug("Templates are not read, fingerprint of chain {} is not calculated", chain.getId());
+            return null;
+        }
+        List<ChainElement> elements = chain.getElements().stream()
+                .sorted(Comparator.comparing(ChainElement::getId))
+                .toList();
+
+        Map<String, Object> content = new HashMap<>();
+        content.put("descriptors", libraryElementsService.getDescriptorsHash());
+        content.put("templates", templatesHash);
+        content.put("defaultSwimlane", getId(chain.getDefaultSwimlane()));
+        content.put("reuseSwimlane", getId(chain.getReuseSwimlane()));
+        content.put("maskedFields", chain.getMaskedFields().stream().map(MaskedField::getName).sorted().toList());
+        content.put("environments", systemEnvironmentsGenerator
+                .generateSystemEnvironments(new TreeSet<>(elementService.getElementsBySystemId(elements).keySet()))
+                .stream()
+                .sorted(Comparator.comparing(ServiceEnvironment::getSystemId))
+                .toList());
+        content.put("specifications", getReferencedVersions(elements, SPECIFICATION_ID, systemModelRepository::findVersionsByIds));
+        content.put("operations", getReferencedVersions(elements, OPERATION_ID, operationRepository::findModifiedWhenByIds));
+        content.put("elements", elements.stream().map(this::getElementContent).toList());
+
+        try {
+            return HashUtils.sha256hex(canonicalWriter.writeValueAsString(content));
+        } catch (JsonProcessingException e) {
+            log.debug("Failed to serialize content of chain {}, fingerprint is not calculated", chain.getId(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Returns rows of entities referenced by the element property, ordered by id in the first column.
+     */
+    private static List<Object[]> getReferencedVersions(List<ChainElement> elements, String idProperty,
+                                                        Function<Collection<String>, List<Object[]>> versionsLoader) {
+        Set<String> ids = new TreeSet<>();
+        for (ChainElement element : elements) {
+            if (element.getProperties() != null && element.getProperties().get(idProperty) instanceof String id) {
+                ids.add(id);
+            }
+        }
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return versionsLoader.apply(ids).stream()
+                .sorted(Comparator.comparing(row -> (String) row[0]))
+                .toList();
+    }
+
+    private Map<String, Object> getElementContent(ChainElement element) {
+        Map<String, Object> content = new HashMap<>();
+        content.put("id", element.getId());
+        content.put("type", element.getType());
+        content.put("name", element.getName());
+        content.put("description", element.getDescription());
+        content.put("parent", getId(element.getParent()));
+        content.put("swimlane", getId(element.getSwimlane()));
+        content.put("properties", element.getProperties());
+        content.put("dependencies", element.getOutputDependencies().stream()
+                .map(Dependency::getElementTo)
+                .map(AbstractEntity::getId)
+                .sorted()
+                .toList());
+        return content;
+    }
+
+    private static String getId(@Nullable AbstractEntity entity) {
+        return entity == null ? null : entity.getId();
+    }
+}
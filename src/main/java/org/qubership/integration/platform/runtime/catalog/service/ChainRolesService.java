@@ -25,6 +25,7 @@
 import org.qubership.integration.platform.runtime.catalog.model.deployment.engine.DeploymentStatus;
 import org.qubership.integration.platform.runtime.catalog.model.deployment.engine.EngineDeployment;
 import org.qubership.integration.platform.runtime.catalog.model.filter.ChainElementFilterColumn;
+import org.qubership.integration.platform.runtime.catalog.model.filter.ChainStatusCondition;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.actionlog.ActionLog;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.actionlog.EntityType;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.actionlog.LogOperation;
@@ -94,14 +95,11 @@ public ChainRolesResponse findAllChainByHttpTrigger(ChainElementSearchCriteria r
             return new ChainRolesResponse(0, Collections.emptyList());
         }
 
-        List<ChainElement> elementList = elementRepository.findElementsByFilter(offset, limit, List.of(CamelNames.HTTP_TRIGGER_COMPONENT), filters, isImplementedOnly);
+        Map<String, Collection<ChainRuntimeDeployment>> runtimeDeployments = runtimeDeploymentService.getChainRuntimeDeployments();
+        List<ChainElement> elementList = elementRepository.findElementsByFilter(offset, limit, List.of(CamelNames.HTTP_TRIGGER_COMPONENT),
+                filters, isImplementedOnly, getChainStatusCondition(filters, runtimeDeployments));
         List<ChainRolesDTO> chainRolesResponse = chainRolesMapper.asChainRolesResponses(elementList);
-
-        if (!chainRolesResponse.isEmpty()) {
-            Map<String, Collection<ChainRuntimeDeployment>> runtimeDeployments = runtimeDeploymentService.getChainRuntimeDeployments();
-            setDeploymentStatuses(chainRolesResponse, runtimeDeployments);
-            chainRolesResponse = getChainsFilteredByStatus(chainRolesResponse, filters);
-        }
+        setDeploymentStatuses(chainRolesResponse, runtimeDeployments);
 
         return chainFilters(new ChainRolesResponse(offset + chainRolesResponse.size(), chainRolesResponse));
     }
@@ -150,7 +148,7 @@ public ChainRolesResponse redeploy(List<UpdateRolesRequest> request) {
                     try {
                         List<Deployment> deployments = chain.getDeployments();
                         List<DeploymentRequest> deploymentRequestLst = new ArrayList<>();
-                        Snapshot snapshot = snapshotService.build(chain.getId());
+                        Snapshot snapshot = snapshotService.buildIfChanged(chain.getId());
                         if (deployments.isEmpty()) {
                             DeploymentRequest deploymentRequest = chainRolesMapper.prepareDeploymentRequest(snapshot);
                             deploymentRequestLst.add(deploymentRequest);
@@ -181,15 +179,28 @@ public ChainRolesResponse redeploy(List<UpdateRolesRequest> request) {
     }
 
 
-    private List<ChainRolesDTO> getChainsFilteredByStatus(List<ChainRolesDTO> chainRolesResponse, List<ChainElementFilterRequestDTO> filters) {
-        Predicate<ChainRolesDTO> predicate = filters.stream()
+    /**
+     * Deployment statuses are resolved from the engines state cache to chain identifiers,
+     * so the status filters are applied by the database before the page is cut.
+     */
+    private ChainStatusCondition getChainStatusCondition(List<ChainElementFilterRequestDTO> filters,
+                                                         Map<String, Collection<ChainRuntimeDeployment>> runtimeDeployments) {
+        Predicate<Collection<DeploymentStatus>> predicate = filters.stream()
                 .filter(chainFilter -> chainFilter.getColumn().equals(ChainElementFilterColumn.CHAIN_STATUS))
                 .map(this::buildDeploymentStatusFilterPredicate)
-                .reduce(chainRolesDTO -> true, Predicate::and);
-        return chainRolesResponse.stream().filter(predicate).toList();
+                .reduce(Predicate::and)
+                .orElse(null);
+        if (predicate == null) {
+            return null;
+        }
+        List<String> matchingChainIds = runtimeDeployments.keySet().stream()
+                .filter(chainId -> predicate.test(getDeploymentStatuses(chainId, runtimeDeployments)))
+                .toList();
+        return new ChainStatusCondition(matchingChainIds, runtimeDeployments.keySet(),
+                predicate.test(Collections.singletonList(DeploymentStatus.DRAFT)));
     }
 
-    private Predicate<ChainRolesDTO> buildDeploymentStatusFilterPredicate(ChainElementFilterRequestDTO filter) {
+    private Predicate<Collection<DeploymentStatus>> buildDeploymentStatusFilterPredicate(ChainElementFilterRequestDTO filter) {
         assert filter.getColumn().equals(ChainElementFilterColumn.CHAIN_STATUS);
         Collection<String> values = Arrays.stream(filter.getValue().split(","))
                 .map(String::toLowerCase)
@@ -199,7 +210,7 @@ private Predicate<ChainRolesDTO> buildDeploymentStatusFilterPredicate(ChainEleme
             case IS_NOT, NOT_IN -> status -> !values.contains(status);
             default -> status -> true;
         };
-        return chainRolesDTO -> chainRolesDTO.getDeploymentStatus().stream()
+        return deploymentStatuses -> deploymentStatuses.stream()
                 .map(status -> status.name().toLowerCase())
                 .anyMatch(predicate);
     }
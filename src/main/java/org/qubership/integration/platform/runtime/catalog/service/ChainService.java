@@ -16,9 +16,14 @@
 
 package org.qubership.integration.platform.runtime.catalog.service;
 
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
 import lombok.extern.slf4j.Slf4j;
 import org.codehaus.plexus.util.StringUtils;
 import org.qubership.integration.platform.runtime.catalog.configuration.aspect.ChainModification;
+import org.qubership.integration.platform.runtime.catalog.exception.exceptions.BadRequestException;
+import org.qubership.integration.platform.runtime.catalog.model.chain.ChainCursor;
+import org.qubership.integration.platform.runtime.catalog.model.chain.ChainsPage;
 import org.qubership.integration.platform.runtime.catalog.model.dto.system.UsedSystem;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.AbstractEntity;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.AbstractLabel;
@@ -46,6 +51,7 @@
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.auditing.AuditingHandler;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -65,6 +71,7 @@
 @Transactional
 public class ChainService extends ChainBaseService {
     private static final String CHAIN_TRIGGER = "chain-trigger-2";
+    private static final Sort CHAINS_PAGE_SORT = Sort.by("name", "id");
 
     private final ChainRepository chainRepository;
     private final ElementRepository elementRepository;
@@ -217,8 +224,7 @@ public Optional<Chain> deleteByIdIfExists(String chainId) {
     }
 
     public Map<String, String> provideNavigationPath(String chainId) {
-        Chain chain = chainFinderService.findById(chainId);
-        return chain.getAncestors();
+        return chainFinderService.provideNavigationPath(chainId);
     }
 
     public Map<String, String> getNamesMapByChainIds(Set<String> chainIds) {
@@ -240,30 +246,71 @@ public List<Chain> findByRequest(ListFolderRequest request) {
                         : criteriaBuilder.equal(root.get("parentFolder").get("id"), request.getFolderId())
         );
 
-        List<Chain> chains = chainRepository.findAll(specification);
-        return applyComplexFilters(chains, request.getFilters());
+        specification = specification.and(buildComplexFiltersSpecification(request.getFilters()));
+        return chainRepository.findAll(specification);
     }
 
     public List<Chain> searchChains(ChainSearchRequestDTO searchRequestDTO) {
-        Specification<Chain> specification = chainFilterSpecificationBuilder.buildSearch(searchRequestDTO.getSearchCondition());
+        Specification<Chain> specification = chainFilterSpecificationBuilder.buildRankedSearch(searchRequestDTO.getSearchCondition());
         return chainRepository.findAll(specification);
     }
 
     public List<Chain> findByFilterRequest(List<FilterRequestDTO> filters) {
-        // TODO pagination
-        Specification<Chain> specification = chainFilterSpecificationBuilder.buildFilter(filters);
-        List<Chain> chains = chainRepository.findAll(specification);
+        return chainRepository.findAll(buildFilterRequestSpecification(filters));
+    }
+
+    /**
+     * Returns a page of filtered chains ordered by name and id.
+     * The page starts right after the chain the cursor points to, so pages stay consistent
+     * while chains are created or removed.
+     */
+    public ChainsPage findByFilterRequest(List<FilterRequestDTO> filters, String cursor, int limit) {
+        if (limit < 1) {
+            throw new BadRequestException("Chains page limit must be positive: " + limit);
+        }
+        Specification<Chain> specification = buildFilterRequestSpecification(filters);
+        if (StringUtils.isNotBlank(cursor)) {
+            specification = specification.and(buildCursorSpecification(ChainCursor.decode(cursor)));
+        }
 
-        return applyComplexFilters(chains, filters);
+        List<Chain> chains = chainRepository.findBy(specification, query -> query
+                .sortBy(CHAINS_PAGE_SORT)
+                .limit(limit + 1)
+                .all());
+        if (chains.size() <= limit) {
+            return new ChainsPage(chains, null);
+        }
+        List<Chain> page = chains.subList(0, limit);
+        return new ChainsPage(page, ChainCursor.of(page.get(limit - 1)).encode());
     }
 
-    public List<Chain> applyComplexFilters(List<Chain> chains, List<FilterRequestDTO> filters) {
+    private Specification<Chain> buildFilterRequestSpecification(List<FilterRequestDTO> filters) {
+        return chainFilterSpecificationBuilder.buildFilter(filters)
+                .and(buildComplexFiltersSpecification(filters));
+    }
 
-        chains = new ChainStatusFilters(runtimeDeploymentService).apply(chains, filters);
-        chains = new ElementFilter().apply(chains, filters);
-        chains = new LoggingFilter(chainRuntimePropertiesService).apply(chains, filters);
+    private Specification<Chain> buildComplexFiltersSpecification(List<FilterRequestDTO> filters) {
+        return new ChainStatusFilters(runtimeDeploymentService).toSpecification(filters)
+                .and(new ElementFilter().toSpecification(filters))
+                .and(new LoggingFilter(chainRuntimePropertiesService).toSpecification(filters));
+    }
 
-        return chains;
+    /**
+     * Selects chains following the cursor in the page order. Chains without name go last,
+     * as PostgreSQL puts nulls after other values in ascending order.
+     */
+    private Specification<Chain> buildCursorSpecification(ChainCursor cursor) {
+        return (root, query, criteriaBuilder) -> {
+            Path<String> name = root.get("name");
+            Predicate idAfter = criteriaBuilder.greaterThan(root.get("id"), cursor.id());
+            if (isNull(cursor.name())) {
+                return criteriaBuilder.and(criteriaBuilder.isNull(name), idAfter);
+            }
+            return criteriaBuilder.or(
+                    criteriaBuilder.greaterThan(name, cursor.name()),
+                    criteriaBuilder.and(criteriaBuilder.equal(name, cursor.name()), idAfter),
+                    criteriaBuilder.isNull(name));
+        };
     }
 
     public void update(Chain chain) {
@@ -45,10 +45,12 @@
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.DeploymentRoute;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Snapshot;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.HttpTriggerRoute;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.Environment;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.IntegrationSystem;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.DeploymentRepository;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ElementRepository;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.HttpTriggerRouteRepository;
 import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.deployment.bulk.BulkDeploymentRequest;
 import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.deployment.bulk.BulkDeploymentResponse;
 import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.deployment.bulk.BulkDeploymentStatus;
@@ -56,9 +58,11 @@
 import org.qubership.integration.platform.runtime.catalog.service.deployment.DeploymentBuilderService;
 import org.qubership.integration.platform.runtime.catalog.service.helpers.ChainFinderService;
 import org.qubership.integration.platform.runtime.catalog.util.*;
+import org.qubership.integration.platform.runtime.catalog.util.paths.PathIntersectionChecker;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpMethod;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -84,6 +88,7 @@ public class DeploymentService {
 
     private final DeploymentRepository deploymentRepository;
     private final ElementRepository elementRepository;
+    private final HttpTriggerRouteRepository httpTriggerRouteRepository;
 
     private final ChainFinderService chainFinderService;
     private final SystemService systemService;
@@ -127,10 +132,60 @@ public LoggingInfo(Optional<Deployment> deploymentOptional) {
         }
     }
 
+    /**
+     * Job ids of SDS triggers in snapshots being deployed, with domains where snapshots
+     * of the same chains have triggers with these job ids deployed.
+     */
+    private static class SdsTriggerJobIds {
+        // <snapshotId, jobIds>
+        private final Map<String, Set<String>> pendingJobIds = new HashMap<>();
+        // <snapshotId, <domain, jobIds>>
+        private final Map<String, Map<String, Set<String>>> deployedJobIds = new HashMap<>();
+
+        void addPendingJobId(String snapshotId, String jobId) {
+            pendingJobIds.computeIfAbsent(snapshotId, key -> new HashSet<>()).add(jobId);
+        }
+
+        void addDeployedJobId(String snapshotId, String domain, String jobId) {
+            deployedJobIds.computeIfAbsent(snapshotId, key -> new HashMap<>())
+                    .computeIfAbsent(domain, key -> new HashSet<>())
+                    .add(jobId);
+        }
+
+        boolean hasPendingJobIds() {
+            return !pendingJobIds.isEmpty();
+        }
+
+        Set<String> getSnapshotIds() {
+            return pendingJobIds.keySet();
+        }
+
+        /**
+         * Registers a deployment created after the job ids were loaded.
+         */
+        void addDeployment(String snapshotId, String domain) {
+            pendingJobIds.getOrDefault(snapshotId, Collections.emptySet())
+                    .forEach(jobId -> addDeployedJobId(snapshotId, domain, jobId));
+        }
+
+        Set<String> findDeployedOnOtherDomains(String snapshotId, String domain) {
+            Set<String> jobIds = new TreeSet<>();
+            if (domain != null) {
+                deployedJobIds.getOrDefault(snapshotId, Collections.emptyMap()).forEach((deployedDomain, deployed) -> {
+                    if (deployedDomain != null && !deployedDomain.equals(domain)) {
+                        jobIds.addAll(deployed);
+                    }
+                });
+            }
+            return jobIds;
+        }
+    }
+
 
     @Autowired
     public DeploymentService(DeploymentRepository deploymentRepository,
                              ElementRepository elementRepository,
+                             HttpTriggerRouteRepository httpTriggerRouteRepository,
                              ChainFinderService chainFinderService,
                              SystemService systemService,
                              SnapshotService snapshotService,
@@ -139,6 +194,7 @@ public DeploymentService(DeploymentRepository deploymentRepository,
                              TransactionHandler transactionHandler) {
         this.deploymentRepository = deploymentRepository;
         this.elementRepository = elementRepository;
+        this.httpTriggerRouteRepository = httpTriggerRouteRepository;
         this.chainFinderService = chainFinderService;
         this.systemService = systemService;
         this.snapshotService = snapshotService;
@@ -180,13 +236,18 @@ public List<Deployment> createAll(List<Deployment> deployments, String chainId)
      */
     @DeploymentModification
     public List<Deployment> createAll(List<Deployment> deployments, String chainId, Snapshot snapshot) {
+        SdsTriggerJobIds sdsTriggerJobIds = findSdsTriggerJobIds(List.of(snapshot.getId()), null);
+        return createAll(deployments, chainFinderService.findById(chainId), snapshot, sdsTriggerJobIds);
+    }
+
+    private List<Deployment> createAll(List<Deployment> deployments, Chain chain, Snapshot snapshot, SdsTriggerJobIds sdsTriggerJobIds) {
         if (!checkTriggersInBulkDeploy(deployments)) {
             throw new DeploymentProcessingException("Found external or private triggers while deploying to multiple domains");
         }
 
         List<Deployment> createdDeployments = new ArrayList<>(deployments.size());
         for (Deployment deployment : deployments) {
-            Deployment createdDeployment = create(deployment, chainId, snapshot);
+            Deployment createdDeployment = create(deployment, chain, snapshot, null, sdsTriggerJobIds);
             if (createdDeployment != null) {
                 createdDeployments.add(createdDeployment);
             }
@@ -207,6 +268,15 @@ public Deployment create(Deployment deployment, String chainId, String snapshotI
 
     @DeploymentModification
     public Deployment create(Deployment deployment, Chain chain, Snapshot snapshot, List<Deployment> excludeDeployments) {
+        return create(deployment, chain, snapshot, excludeDeployments, null);
+    }
+
+    /**
+     * @param sdsTriggerJobIds job ids of SDS triggers loaded for several deployments at once,
+     *                         loaded for this deployment only when null
+     */
+    private Deployment create(Deployment deployment, Chain chain, Snapshot snapshot, List<Deployment> excludeDeployments,
+                              @Nullable SdsTriggerJobIds sdsTriggerJobIds) {
         if (log.isDebugEnabled()) {
             log.debug("Request to create deployment for chain {}, snapshot {}", chain.getId(), snapshot.getId());
         }
@@ -215,9 +285,12 @@ public Deployment create(Deployment deployment, Chain chain, Snapshot snapshot,
 
 
         transactionHandler.runInNewTransaction(() -> {
-            checkTriggers(deployment.getDomain(), snapshot.getId(), chain.getId(), excludeDeployments);
+            checkTriggers(deployment.getDomain(), snapshot.getId(), chain.getId(), excludeDeployments, sdsTriggerJobIds);
             prepareDeployment(deployment, snapshot, chain);
             savedDeployment.set(deploymentRepository.save(deployment));
+            if (sdsTriggerJobIds != null) {
+                sdsTriggerJobIds.addDeployment(snapshot.getId(), deployment.getDomain());
+            }
             logDeploymentAction(savedDeployment.get(), chain.getId(), chain.getName(), LogOperation.CREATE);
         });
         return savedDeployment.get();
@@ -262,6 +335,10 @@ public Pair<Boolean, List<BulkDeploymentResponse>> bulkCreate(BulkDeploymentRequ
             case LAST_CREATED -> snapshotService.findLastCreatedOrBuild(chains.keySet(), errorHandler);
         };
 
+        // Job ids of SDS triggers are checked for all snapshots at once
+        SdsTriggerJobIds sdsTriggerJobIds = findSdsTriggerJobIds(
+                snapshots.values().stream().map(Snapshot::getId).toList(), null);
+
         for (Map.Entry<String, Snapshot> entry : snapshots.entrySet()) {
             List<Deployment> deps = request.getDomains().stream().map(domain -> {
                 Deployment dep = new Deployment();
@@ -270,7 +347,7 @@ public Pair<Boolean, List<BulkDeploymentResponse>> bulkCreate(BulkDeploymentRequ
             }).toList();
 
             try {
-                createAll(deps, entry.getKey(), entry.getValue());
+                createAll(deps, chains.get(entry.getKey()), entry.getValue(), sdsTriggerJobIds);
                 statuses.add(BulkDeploymentResponse.builder()
                         .chainId(entry.getKey())
                         .chainName(chains.get(entry.getKey()).getName())
@@ -328,26 +405,29 @@ private List<DeploymentRoute> buildDeploymentRoutes(Deployment deployment) {
     }
 
     public boolean checkRouteExists(ElementRoute route, String excludeChainId) {
-        return findElementsThatUseRoute(route, excludeChainId).findAny().isPresent();
+        return findDeployedRoutes(route, excludeChainId).findAny().isPresent();
     }
 
     public List<Pair<String, Deployment>> findRouteDeployments(ElementRoute route, String excludeChainId) {
-        return findElementsThatUseRoute(route, excludeChainId)
-                .flatMap(element -> {
-                    String path = getHttpTriggerPath(element);
-                    return element.getSnapshot().getDeployments().stream().map(deployment -> Pair.of(path, deployment));
-                })
+        return findDeployedRoutes(route, excludeChainId)
+                .map(routeDeployment -> Pair.of(routeDeployment.getLeft().getPath(), routeDeployment.getRight()))
                 .collect(Collectors.toList());
     }
 
-    private Stream<ChainElement> findElementsThatUseRoute(ElementRoute route, String excludeChainId) {
-        return elementRepository
-                .findElementsForRouteExistenceCheck(List.of(CamelNames.HTTP_TRIGGER_COMPONENT), excludeChainId)
+    /**
+     * Routes intersect only when their path patterns are equal,
+     * so candidates are selected by the indexed pattern and then checked for common methods.
+     */
+    private Stream<Pair<HttpTriggerRoute, Deployment>> findDeployedRoutes(ElementRoute route, String excludeChainId) {
+        String pathPattern = new PathIntersectionChecker().getIntersectionKey(route.getPath());
+        return httpTriggerRouteRepository.findDeployedRoutesByPathPattern(pathPattern, excludeChainId)
                 .stream()
-                .filter(element -> getHttpTriggerRoute(element).intersectsWith(route));
+                .map(row -> Pair.of((HttpTriggerRoute) row[0], (Deployment) row[1]))
+                .filter(routeDeployment -> routeDeployment.getLeft().toElementRoute().intersectsWith(route));
     }
 
-    private void checkTriggers(String domain, String snapshotId, String chainId, List<Deployment> excludeDeployments) {
+    private void checkTriggers(String domain, String snapshotId, String chainId, List<Deployment> excludeDeployments,
+                               @Nullable SdsTriggerJobIds sdsTriggerJobIds) {
         if (!triggersCheckEnabled) {
             return;
         }
@@ -358,54 +438,62 @@ private void checkTriggers(String domain, String snapshotId, String chainId, Lis
 
         checkHttpTriggers(snapshotId, chainId, excludeDeploymentIds, domain);
 
-        checkSdsTriggers(snapshotId, chainId, excludeDeploymentIds, domain);
-
+        checkSdsTriggers(
+                sdsTriggerJobIds == null ? findSdsTriggerJobIds(List.of(snapshotId), excludeDeploymentIds) : sdsTriggerJobIds,
+                snapshotId,
+                domain);
     }
 
-    private void checkSdsTriggers(String snapshotId, String chainId, List<String> excludeDeploymentIds, String domain) {
-        List<String> triggersToCheck = List.of(CamelNames.SDS_TRIGGER_COMPONENT);
-        List<String> pendingJobIds = mapSdsTriggerJobIds(
-                elementRepository.findAllBySnapshotIdAndTypeIn(
-                        snapshotId,
-                        triggersToCheck));
-        if (pendingJobIds.isEmpty()) {
-            return;
-        }
-
-        List<String> domainJobIds = mapSdsTriggerJobIds(
-                elementRepository.findElementsForDomainTriggerCheck(
-                        triggersToCheck,
-                        domain,
-                        chainId,
-                        SQLUtils.prepareCollectionForHqlNotInClause(excludeDeploymentIds)));
-
-        Set<String> domainEqualJobIds = findSameSdsTriggerJobIds(pendingJobIds, domainJobIds);
+    private void checkSdsTriggers(SdsTriggerJobIds sdsTriggerJobIds, String snapshotId, String domain) {
+        Set<String> domainEqualJobIds = sdsTriggerJobIds.findDeployedOnOtherDomains(snapshotId, domain);
         if (!domainEqualJobIds.isEmpty()) {
             throw new EntityExistsException("Found similar Job Ids registered on scheduling-service (SDS) on the same domain: "
                     + domainEqualJobIds);
         }
     }
 
-    private void checkHttpTriggers(String snapshotId, String chainId, List<String> excludeDeploymentIds, String domain) {
-        List<String> triggersToCheck = List.of(CamelNames.HTTP_TRIGGER_COMPONENT);
+    /**
+     * Loads job ids of SDS triggers in the snapshots and the domains where the same chains have triggers
+     * with these job ids deployed. The deployments are not loaded when the snapshots have no SDS triggers.
+     */
+    private SdsTriggerJobIds findSdsTriggerJobIds(Collection<String> snapshotIds, List<String> excludeDeploymentIds) {
+        SdsTriggerJobIds sdsTriggerJobIds = new SdsTriggerJobIds();
+        if (!triggersCheckEnabled || snapshotIds.isEmpty()) {
+            return sdsTriggerJobIds;
+        }
+
+        for (Object[] row : elementRepository.findSdsTriggerJobIds(snapshotIds)) {
+            sdsTriggerJobIds.addPendingJobId((String) row[0], (String) row[1]);
+        }
+        if (sdsTriggerJobIds.hasPendingJobIds()) {
+            List<Object[]> deployedJobIds = elementRepository.findDeployedSdsTriggerJobIds(
+                    sdsTriggerJobIds.getSnapshotIds(),
+                    SQLUtils.prepareCollectionForHqlNotInClause(excludeDeploymentIds));
+            for (Object[] row : deployedJobIds) {
+                sdsTriggerJobIds.addDeployedJobId((String) row[0], (String) row[1], (String) row[2]);
+            }
+        }
+        return sdsTriggerJobIds;
+    }
 
-        List<ElementRoute> pendingRoutes = mapHttpTriggerRoutes(
-                elementRepository.findAllBySnapshotIdAndTypeIn(
-                        snapshotId,
-                        triggersToCheck));
+    private void checkHttpTriggers(String snapshotId, String chainId, List<String> excludeDeploymentIds, String domain) {
+        List<ElementRoute> pendingRoutes = mapHttpTriggerRoutes(httpTriggerRouteRepository.findAllBySnapshotId(snapshotId));
         if (pendingRoutes.isEmpty()) {
             return;
         }
 
+        // Only routes with the same paths as pending ones are compared
+        Set<String> pendingPaths = pendingRoutes.stream().map(ElementRoute::getPath).collect(Collectors.toSet());
+
         List<ElementRoute> allRoutes = mapHttpTriggerRoutes(
-                elementRepository.findElementsForTriggerCheck(
-                        triggersToCheck,
+                httpTriggerRouteRepository.findRoutesForTriggerCheck(
+                        pendingPaths,
                         chainId,
                         SQLUtils.prepareCollectionForHqlNotInClause(excludeDeploymentIds)));
 
         List<ElementRoute> otherDomainsRoutes = mapHttpTriggerRoutes(
-                elementRepository.findElementsForDomainTriggerCheck(
-                        triggersToCheck,
+                httpTriggerRouteRepository.findRoutesForDomainTriggerCheck(
+                        pendingPaths,
                         domain,
                         chainId,
                         SQLUtils.prepareCollectionForHqlNotInClause(excludeDeploymentIds)));
@@ -434,12 +522,8 @@ private boolean checkTriggersInBulkDeploy(List<Deployment> deployments) {
         return true;
     }
 
-    private List<ElementRoute> mapHttpTriggerRoutes(Collection<ChainElement> listOfObjects) {
-        return listOfObjects.stream().map(TriggerUtils::getHttpTriggerRoute).toList();
-    }
-
-    private List<String> mapSdsTriggerJobIds(Collection<ChainElement> listOfObjects) {
-        return listOfObjects.stream().map(TriggerUtils::getSdsTriggerJobId).toList();
+    private List<ElementRoute> mapHttpTriggerRoutes(Collection<HttpTriggerRoute> routes) {
+        return routes.stream().map(HttpTriggerRoute::toElementRoute).toList();
     }
 
     private Set<String> findSameHttpTriggerPaths(List<ElementRoute> pendingRoutes, List<ElementRoute> existingRoutes, boolean checkGatewayOnly) {
@@ -473,10 +557,6 @@ private Set<String> findSameHttpTriggerPaths(List<ElementRoute> pendingRoutes, L
         return equalPaths;
     }
 
-    private Set<String> findSameSdsTriggerJobIds(List<String> pendingJobIds, List<String> domainJobIds) {
-        return pendingJobIds.stream().filter(domainJobIds::contains).collect(Collectors.toSet());
-    }
-
     @DeploymentModification
     public void deleteAllByChainId(String chainId) throws DeploymentProcessingException {
         List<Deployment> deployments = findAllByChainId(chainId);
@@ -49,6 +49,7 @@
 import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
@@ -56,10 +57,14 @@
 
 import java.io.IOException;
 import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static io.swagger.v3.parser.util.DeserializationUtils.isJson;
@@ -84,6 +89,8 @@ public class DiscoveryService {
     private final DiscoveryServiceMapper discoveryServiceMapper;
     private final ConfigParameterService configParameterService;
     private final ActionsLogService actionLogger;
+    private final Duration discoveryTimeout;
+    private final int maxConcurrency;
 
     @Autowired
     public DiscoveryService(
@@ -95,10 +102,12 @@ public DiscoveryService(
             SpecificationGroupService specificationGroupService,
             YAMLMapper yamlMapper,
             @Qualifier("primaryObjectMapper") ObjectMapper objectMapper,
-            RestTemplate restTemplateMS,
+            @Qualifier("restTemplateDiscovery") RestTemplate restTemplate,
             DiscoveryServiceMapper discoveryServiceMapper,
             ConfigParameterService configParameterService,
-            ActionsLogService actionLogger
+            ActionsLogService actionLogger,
+            @Value("${qip.discovery.timeout}") Duration discoveryTimeout,
+            @Value("${qip.discovery.max-concurrency}") int maxConcurrency
     ) {
         this.operator = operator;
         this.systemService = systemService;
@@ -108,15 +117,20 @@ public DiscoveryService(
         this.specificationGroupService = specificationGroupService;
         this.yamlMapper = yamlMapper;
         this.objectMapper = objectMapper;
-        this.restTemplate = restTemplateMS;
+        this.restTemplate = restTemplate;
         this.discoveryServiceMapper = discoveryServiceMapper;
         this.configParameterService = configParameterService;
         this.actionLogger = actionLogger;
+        this.discoveryTimeout = discoveryTimeout;
+        this.maxConcurrency = maxConcurrency;
     }
 
     private record DiscoveredSpecificationSource(String contentType, String content) {
     }
 
+    private record DiscoveryProbe(String serviceName, Future<?> future) {
+    }
+
     @AllArgsConstructor
     @Getter
     private static class SpecificationDiscoveryErrorMsg {
@@ -152,11 +166,15 @@ private static class DiscoveryStatusDTO {
         private String errorMessage;
     }
 
-    @AllArgsConstructor
+    /**
+     * Entities saved by the probes. Every entity is reported as soon as it is saved,
+     * so the result also lists what was saved by probes cancelled at the deadline.
+     */
     @Getter
-    private static class SpecificationChanges {
-        private List<SpecificationGroup> createdGroups;
-        private List<SystemModel> createdSpecifications;
+    private static class DiscoveryChanges {
+        private final Queue<IntegrationSystem> createdSystems = new ConcurrentLinkedQueue<>();
+        private final Queue<SpecificationGroup> createdGroups = new ConcurrentLinkedQueue<>();
+        private final Queue<SystemModel> createdSpecifications = new ConcurrentLinkedQueue<>();
     }
 
     private static final String DISCOVERY_RESULT_NAME = "discoveryResult";
@@ -175,11 +193,14 @@ private static class SpecificationChanges {
             OperationProtocol.HTTP, "",
             OperationProtocol.KAFKA, "async"
     );
+    private static final String DISCOVERY_TIMEOUT_MESSAGE = "Discovery timed out";
     private double percent;
-    private final Object lock = new Object();
+    // Not a monitor: progress updates hit the database and must not pin virtual threads
+    private final Lock lock = new ReentrantLock();
 
     public void runDiscovery() {
-        synchronized (lock) {
+        lock.lock();
+        try {
             String requestId = MDC.get(ContextHeaders.REQUEST_ID);
             if (!isDiscoveryComplete()) {
                 throw new RuntimeException("Autodiscovery is in progress");
@@ -190,13 +211,15 @@ public void runDiscovery() {
                     .supplyAsync(() -> {
                         MDC.put(ContextHeaders.REQUEST_ID, requestId);
                         return runDiscoveryAsync();
-                    })
+                    }, runnable -> Thread.ofVirtual().name("discovery").start(runnable))
                     .whenCompleteAsync(
                             (DiscoveryResultDTO result, Throwable throwable) -> {
                                 MDC.put(ContextHeaders.REQUEST_ID, requestId);
                                 discoveryComplete(result, throwable);
                             }
                     );
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -216,60 +239,111 @@ private DiscoveryResultDTO runDiscoveryAsync() {
         log.info("Discovery started");
         String requestId = MDC.get(ContextHeaders.REQUEST_ID);
 
-        List<CompletableFuture<List<IntegrationSystem>>> newlyDiscoveredFuture = new ArrayList<>();
-        List<CompletableFuture<SpecificationChanges>> specificationChangedFuture = new ArrayList<>();
-        List<SpecificationDiscoveryErrorMsg> errorMessages = new ArrayList<>();
+        DiscoveryChanges changes = new DiscoveryChanges();
+        Queue<SpecificationDiscoveryErrorMsg> errorMessages = new ConcurrentLinkedQueue<>();
 
         List<IntegrationSystem> systems = systemService.getAllDiscoveredServices();
         List<KubeService> services = operator.getServices();
+        Map<String, KubeService> servicesByName = buildServiceIndex(services);
         percent = 99.0 / (services.size() + systems.size());
         log.debug("Percent step size: {}", percent);
 
-        for (IntegrationSystem system : systems) {
-            specificationChangedFuture.add(CompletableFuture.supplyAsync(() -> {
-                MDC.put(ContextHeaders.REQUEST_ID, requestId);
-                return makeSpecificationChange(system, errorMessages, services);
-            }));
+        Semaphore permits = new Semaphore(maxConcurrency);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            List<DiscoveryProbe> probes = new ArrayList<>(systems.size() + services.size());
+            for (IntegrationSystem system : systems) {
+                probes.add(submitProbe(executor, permits, requestId, system.getInternalServiceName(),
+                        () -> makeSpecificationChange(system, changes, errorMessages, servicesByName)));
+            }
+
+            for (KubeService service : services) {
+                probes.add(submitProbe(executor, permits, requestId, service.getName(),
+                        () -> createDiscoveredService(service, changes, errorMessages)));
+            }
+
+            awaitProbes(probes, errorMessages);
+        } finally {
+            // Probes still running after the deadline are interrupted
+            executor.shutdownNow();
+            awaitTermination(executor);
         }
 
-        for (KubeService service : services) {
-            newlyDiscoveredFuture.add(CompletableFuture.supplyAsync(() -> {
-                MDC.put(ContextHeaders.REQUEST_ID, requestId);
-                return createDiscoveredService(service, errorMessages);
-            }));
+        return toDiscoveryResultDTO(changes, new ArrayList<>(errorMessages));
+    }
+
+    /**
+     * Waits for the interrupted probes to stop, so that entities they saved before the interruption are reported.
+     */
+    private void awaitTermination(ExecutorService executor) {
+        try {
+            if (!executor.awaitTermination(discoveryTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                log.warn("Discovery probes did not stop within {} after the deadline, their changes may be missing from the result",
+                        discoveryTimeout);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
+    }
 
-        return toDiscoveryResultDTO(
-                getFuturesResultFlat(newlyDiscoveredFuture),
-                getFuturesResult(specificationChangedFuture),
-                errorMessages
-        );
+    private DiscoveryProbe submitProbe(ExecutorService executor,
+                                       Semaphore permits,
+                                       String requestId,
+                                       String serviceName,
+                                       Runnable action) {
+        Future<?> future = executor.submit(() -> {
+            MDC.put(ContextHeaders.REQUEST_ID, requestId);
+            permits.acquire();
+            try {
+                action.run();
+            } finally {
+                permits.release();
+            }
+            return null;
+        });
+        return new DiscoveryProbe(serviceName, future);
     }
 
-    private <T> List<T> getFuturesResult(List<CompletableFuture<T>> futureList) {
-        return futureList.stream()
-                .filter(Objects::nonNull)
-                .map(CompletableFuture::join)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+    private void awaitProbes(List<DiscoveryProbe> probes, Collection<SpecificationDiscoveryErrorMsg> errorMessages) {
+        long deadline = System.nanoTime() + discoveryTimeout.toNanos();
+        for (DiscoveryProbe probe : probes) {
+            try {
+                probe.future().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                log.warn("Discovery of service {} did not complete within {}", probe.serviceName(), discoveryTimeout);
+                probe.future().cancel(true);
+                addErrorMessage(errorMessages, probe.serviceName(), null, DISCOVERY_TIMEOUT_MESSAGE);
+            } catch (ExecutionException e) {
+                log.error("Discovery of service {} failed", probe.serviceName(), e.getCause());
+                addErrorMessage(errorMessages, probe.serviceName(), null, e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Autodiscovery was interrupted", e);
+            }
+        }
     }
 
-    private <T> List<T> getFuturesResultFlat(List<CompletableFuture<List<T>>> futureLists) {
-        return getFuturesResult(futureLists).stream()
-                .flatMap(List::stream)
-                .collect(Collectors.toList());
+    private Map<String, KubeService> buildServiceIndex(List<KubeService> services) {
+        return services.stream().collect(Collectors.toMap(
+                KubeService::getName,
+                Function.identity(),
+                (first, second) -> first
+        ));
     }
 
-    private SpecificationChanges makeSpecificationChange(IntegrationSystem system,
-                                                         List<SpecificationDiscoveryErrorMsg> errorMessages,
-                                                         List<KubeService> services) {
+    private void makeSpecificationChange(IntegrationSystem system,
+                                         DiscoveryChanges changes,
+                                         Collection<SpecificationDiscoveryErrorMsg> errorMessages,
+                                         Map<String, KubeService> servicesByName) {
         List<String> ignoreUrl = Collections.emptyList();
         if (system.getSpecificationGroups() != null) {
             ignoreUrl = system.getSpecificationGroups().stream().filter(group -> !group.isSynchronization())
                     .map(SpecificationGroup::getUrl).filter(Objects::nonNull).collect(Collectors.toList());
         }
 
-        KubeService service = findCorrespondingService(system, services);
+        KubeService service = isNull(system.getInternalServiceName())
+                ? null
+                : servicesByName.get(system.getInternalServiceName());
         SpecificationDiscoveryResult specificationDiscoveryResult = null;
         if (service != null) {
             specificationDiscoveryResult = runSpecificationDiscovery(service.getName(), service.getPorts(),
@@ -278,14 +352,13 @@ private SpecificationChanges makeSpecificationChange(IntegrationSystem system,
         if (specificationDiscoveryResult == null) {
             log.debug("Not found specifications for system: {}", system.getName());
             addProgress();
-            return null;
+            return;
         }
 
         Set<String> oldSystemModelsIds = systemModelService.getSystemModelsBySystemId(system.getId()).stream()
                 .map(AbstractEntity::getId).collect(Collectors.toSet());
 
         List<SpecificationGroup> createdGroups = new ArrayList<>();
-        List<SystemModel> createdSpecifications = new ArrayList<>();
         for (SpecificationDiscoveryDTO specificationDTO : specificationDiscoveryResult.getSpecificationDiscoveryDTOS()) {
             SpecificationGroup specificationGroup = specificationGroupService.getById(
                     specificationGroupService.buildSpecificationGroupId(system, specificationDTO.getName()));
@@ -297,6 +370,7 @@ private SpecificationChanges makeSpecificationChange(IntegrationSystem system,
                 specificationGroup = specificationGroupService.createAndSaveUniqueSpecificationGroup(
                         system, specificationDTO.getName(), specificationDTO.getType(), specificationDTO.getUrl(), true);
                 createdGroups.add(specificationGroup);
+                changes.getCreatedGroups().add(specificationGroup);
             } else if (isNull(specificationGroup.getUrl()) || !specificationGroup.getUrl().equals(specificationDTO.getUrl())) {
                 specificationGroup.setUrl(specificationDTO.getUrl());
                 specificationGroup.setSynchronization(true);
@@ -318,7 +392,7 @@ private SpecificationChanges makeSpecificationChange(IntegrationSystem system,
                 );
                 String groupId = specificationGroup.getId();
                 if (createdGroups.stream().noneMatch(group -> group.getId().equals(groupId))) {
-                    createdSpecifications.add(model);
+                    changes.getCreatedSpecifications().add(model);
                 }
 
             } catch (SpecificationDiscoveryException e) {
@@ -326,28 +400,19 @@ private SpecificationChanges makeSpecificationChange(IntegrationSystem system,
             }
         }
         addProgress();
-
-        return new SpecificationChanges(createdGroups, createdSpecifications);
     }
 
-    private KubeService findCorrespondingService(IntegrationSystem system, List<KubeService> services) {
-        return services.stream().filter(kubeService -> kubeService.getName().equals(system.getInternalServiceName()))
-                .findAny().orElse(null);
-    }
-
-    private DiscoveryResultDTO toDiscoveryResultDTO(List<IntegrationSystem> discoveredSystems,
-                                                    List<SpecificationChanges> specificationChanges,
+    private DiscoveryResultDTO toDiscoveryResultDTO(DiscoveryChanges changes,
                                                     List<SpecificationDiscoveryErrorMsg> errorMessages) {
+        List<IntegrationSystem> discoveredSystems = new ArrayList<>(changes.getCreatedSystems());
+        List<SpecificationGroup> discoveredGroups = new ArrayList<>(changes.getCreatedGroups());
+        List<SystemModel> discoveredSpecifications = new ArrayList<>(changes.getCreatedSpecifications());
 
-        log.debug("Discovered systems size: {}. Specification changes size: {}", discoveredSystems, specificationChanges);
+        log.debug("Discovered systems size: {}. Discovered groups size: {}. Discovered specifications size: {}",
+                discoveredSystems.size(), discoveredGroups.size(), discoveredSpecifications.size());
 
         DiscoveryResultDTO discoveryResultDTO = new DiscoveryResultDTO();
 
-        List<SpecificationGroup> discoveredGroups = specificationChanges.stream()
-                .map(SpecificationChanges::getCreatedGroups).flatMap(List::stream).collect(Collectors.toList());
-        List<SystemModel> discoveredSpecifications = specificationChanges.stream()
-                .map(SpecificationChanges::getCreatedSpecifications).flatMap(List::stream).collect(Collectors.toList());
-
         discoveryResultDTO.setDiscoveredSystemIds(
                 discoveredSystems.stream().map(AbstractSystemEntity::getId).collect(Collectors.toList()));
         discoveryResultDTO.setDiscoveredGroupIds(
@@ -487,9 +552,9 @@ private SpecificationDiscoveryResult runSpecificationDiscovery(String serviceNam
         return new SpecificationDiscoveryResult(serviceAddress, specifications);
     }
 
-    private List<IntegrationSystem> createDiscoveredService(KubeService service, List<SpecificationDiscoveryErrorMsg> errorMessages) {
-        List<IntegrationSystem> integrationSystems = new ArrayList<>(PROTOCOL_POSTFIX_MAP.keySet().size());
-
+    private void createDiscoveredService(KubeService service,
+                                         DiscoveryChanges changes,
+                                         Collection<SpecificationDiscoveryErrorMsg> errorMessages) {
         for (Map.Entry<OperationProtocol, String> entry : PROTOCOL_POSTFIX_MAP.entrySet()) {
             OperationProtocol protocolType = entry.getKey();
             String systemPostfix = entry.getValue();
@@ -515,6 +580,7 @@ private List<IntegrationSystem> createDiscoveredService(KubeService service, Lis
                     .modifiedWhen(currentTime)
                     .build();
             system = systemService.create(system);
+            changes.getCreatedSystems().add(system);
 
             Environment environment = Environment.builder()
                     .name(service.getName())
@@ -539,13 +605,9 @@ private List<IntegrationSystem> createDiscoveredService(KubeService service, Lis
                     addErrorMessage(errorMessages, service.getName(), specificationDTO.getName(), e.getMessage());
                 }
             }
-
-            integrationSystems.add(system);
         }
 
         addProgress();
-
-        return integrationSystems;
     }
 
     @NotNull
@@ -553,7 +615,7 @@ private String constructSystemId(KubeService service, String systemPostfix) {
         return service.getName() + getSystemIdPostfix(systemPostfix);
     }
 
-    private void addErrorMessage(List<SpecificationDiscoveryErrorMsg> errorMessages, String serviceName,
+    private void addErrorMessage(Collection<SpecificationDiscoveryErrorMsg> errorMessages, String serviceName,
                                  String specificationName, String message) {
         if (!StringUtils.isBlank(specificationName)) {
             serviceName += " " + specificationName;
@@ -800,11 +862,14 @@ public DiscoveryResultDTO getDiscoveryResult() {
     }
 
     private void addProgress() {
-        synchronized (lock) {
+        lock.lock();
+        try {
             ConfigParameter cp = configParameterService.findByName(DISCOVERY_NAMESPACE, DISCOVERY_PROGRESS_NAME);
             double currentProgress = cp == null ? 0 : Double.parseDouble(cp.getString());
             log.info("Current progress: {}", currentProgress);
             setDiscoveryStatus(String.valueOf(currentProgress + percent));
+        } finally {
+            lock.unlock();
         }
     }
 }
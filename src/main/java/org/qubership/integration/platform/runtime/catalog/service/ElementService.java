@@ -37,6 +37,7 @@
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.SwimlaneChainElement;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ElementRepository;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ElementSystemUsageRepository;
 import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.element.CreateElementRequest;
 import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.system.SystemType;
 import org.qubership.integration.platform.runtime.catalog.service.helpers.ChainFinderService;
@@ -78,6 +79,7 @@ public class ElementService extends ElementBaseService {
     protected final SystemEnvironmentsGenerator systemEnvironmentsGenerator;
     protected final SystemBaseService systemBaseService;
     protected final SystemModelBaseService systemModelBaseService;
+    protected final ElementSystemUsageRepository elementSystemUsageRepository;
 
     @Autowired
     public ElementService(
@@ -91,7 +93,8 @@ public ElementService(
             ElementUtils elementUtils,
             SystemEnvironmentsGenerator systemEnvironmentsGenerator,
             SystemBaseService systemBaseService,
-            SystemModelBaseService systemModelBaseService
+            SystemModelBaseService systemModelBaseService,
+            ElementSystemUsageRepository elementSystemUsageRepository
     ) {
         super(elementRepository);
         this.auditingHandler = jpaAuditingHandler;
@@ -104,6 +107,7 @@ public ElementService(
         this.systemEnvironmentsGenerator = systemEnvironmentsGenerator;
         this.systemBaseService = systemBaseService;
         this.systemModelBaseService = systemModelBaseService;
+        this.elementSystemUsageRepository = elementSystemUsageRepository;
     }
 
     public List<ChainElement> findAllBySnapshotIdAndType(String snapshotId, String type) {
@@ -713,48 +717,11 @@ private void logElementAction(ChainElement element, LogOperation operation) {
     }
 
     public List<UsedSystem> getUsedSystemIdsByChainIds(List<String> chainIds) {
-        List<UsedSystem> usedSystems = new ArrayList<>();
-        List<ChainElement> elements = getChainElementsWithSystemUsage();
-
-        for (String chainId : chainIds) {
-            for (ChainElement chainElement : elements) {
-                if (chainElement.getChain() != null) {
-                    if (Objects.equals(chainElement.getChain().getId(), chainId)) {
-                        String contextServiceId = (String) chainElement.getProperties().get(CONTEXT_SYSTEM_ID);
-                        String systemId = (String) chainElement.getProperties().get(SYSTEM_ID);
-                        String specificationId = (String) chainElement.getProperties().get(SPECIFICATION_ID);
-                        if (!StringUtils.isBlank(contextServiceId)) {
-                            if (usedSystems.stream().noneMatch(system -> system.getSystemId().equals(contextServiceId))) {
-                                UsedSystem usedSystem = new UsedSystem(contextServiceId, new ArrayList<>());
-                                usedSystems.add(usedSystem);
-                            }
-                        }
-                        if (!StringUtils.isBlank(systemId)) {
-                            if (usedSystems.stream().noneMatch(system -> system.getSystemId().equals(systemId))) {
-                                UsedSystem usedSystem = new UsedSystem(systemId, new ArrayList<>());
-                                usedSystems.add(usedSystem);
-                            }
-
-                            if (!StringUtils.isBlank(specificationId)) {
-                                UsedSystem usedSystem = usedSystems.stream().filter(system -> system.getSystemId().equals(systemId)).findFirst().orElse(null);
-
-                                if (usedSystem != null && !usedSystem.getUsedSystemModelIds().contains(specificationId)) {
-                                    usedSystem.getUsedSystemModelIds().add(specificationId);
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-        }
-
-        return usedSystems;
+        return toUsedSystems(elementSystemUsageRepository.findUsedSystemsByChainIds(chainIds));
     }
 
     public List<UsedSystem> getAllUsedSystemIds() {
-        List<ChainElement> elements = getChainElementsWithSystemUsage();
-
-        return getUsedSystemsFromElements(elements);
+        return toUsedSystems(elementSystemUsageRepository.findAllUsedSystems());
     }
 
     /**
@@ -774,7 +741,8 @@ public List<SystemUsageResponse> getUsedSystemsByType(String type) {
         }
         try {
             SystemType systemType = SystemType.valueOf(type.toUpperCase());
-            List<ChainElement> elements = getChainElementsWithSystemUsage();
+            List<ChainElement> elements = elementRepository.findAllByTypeInAndSystemTypeAndFetchChain(
+                    getElementTypesWithSystemUsage(), systemType.toString());
             List<SystemUsageResponse> result = fetchSystemUsageData(elements, systemType.toString());
             log.info("Fetched {} system usage records for type {}", result.size(), type);
             return result;
@@ -826,36 +794,20 @@ public void validateElementProperties(ChainElement element) {
         }
     }
 
-    private List<UsedSystem> getUsedSystemsFromElements(List<ChainElement> elements) {
-        List<UsedSystem> usedSystems = new ArrayList<>();
-        for (ChainElement chainElement : elements) {
-            if (chainElement.getChain() != null) {
-                String contextServiceId = (String) chainElement.getProperties().get(CONTEXT_SYSTEM_ID);
-                String systemId = (String) chainElement.getProperties().get(SYSTEM_ID);
-                String specificationId = (String) chainElement.getProperties().get(SPECIFICATION_ID);
-                if (!StringUtils.isBlank(contextServiceId)) {
-                    if (usedSystems.stream().noneMatch(system -> system.getSystemId().equals(contextServiceId))) {
-                        UsedSystem usedSystem = new UsedSystem(contextServiceId, new ArrayList<>());
-                        usedSystems.add(usedSystem);
-                    }
-                }
-                if (!StringUtils.isBlank(systemId)) {
-                    if (usedSystems.stream().noneMatch(system -> system.getSystemId().equals(systemId))) {
-                        UsedSystem usedSystem = new UsedSystem(systemId, new ArrayList<>());
-                        usedSystems.add(usedSystem);
-                    }
-
-                    if (!StringUtils.isBlank(specificationId)) {
-                        UsedSystem usedSystem = usedSystems.stream().filter(system -> system.getSystemId().equals(systemId)).findFirst().orElse(null);
-
-                        if (usedSystem != null && !usedSystem.getUsedSystemModelIds().contains(specificationId)) {
-                            usedSystem.getUsedSystemModelIds().add(specificationId);
-                        }
-                    }
-                }
+    /**
+     * Groups (system id, specification id) rows ordered by system id into used systems.
+     */
+    private List<UsedSystem> toUsedSystems(List<Object[]> rows) {
+        Map<String, UsedSystem> usedSystems = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            String systemId = (String) row[0];
+            String specificationId = (String) row[1];
+            UsedSystem usedSystem = usedSystems.computeIfAbsent(systemId, id -> new UsedSystem(id, new ArrayList<>()));
+            if (specificationId != null) {
+                usedSystem.getUsedSystemModelIds().add(specificationId);
             }
         }
-        return usedSystems;
+        return new ArrayList<>(usedSystems.values());
     }
 
     /**
@@ -898,14 +850,14 @@ private List<SystemUsageResponse> fetchSystemUsageData(List<ChainElement> elemen
         return systemUsageResponseList;
     }
 
-    private List<ChainElement> getChainElementsWithSystemUsage() {
+    private List<String> getElementTypesWithSystemUsage() {
         List<String> elementTypes = new ArrayList<>();
 
         for (var element : ElementsWithSystemUsage.values()) {
             elementTypes.add(element.getElementName());
         }
 
-        return elementRepository.findAllByTypeInAndChainNotNull(elementTypes);
+        return elementTypes;
     }
 
     private List<ChainElement> getAllChildElements(List<ChainElement> chainElementList) {
@@ -931,7 +883,6 @@ private List<ChainElement> getAllParentElements(List<ChainElement> chainElementL
     }
 
     public Map<String, String> provideNavigationPath(String chainId) {
-        Chain chain = chainFinderService.findById(chainId);
-        return chain.getAncestors();
+        return chainFinderService.provideNavigationPath(chainId);
     }
 }
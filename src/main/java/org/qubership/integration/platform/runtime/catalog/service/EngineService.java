@@ -19,6 +19,7 @@
 import lombok.extern.slf4j.Slf4j;
 import org.qubership.integration.platform.runtime.catalog.kubernetes.KubeApiException;
 import org.qubership.integration.platform.runtime.catalog.kubernetes.KubeOperator;
+import org.qubership.integration.platform.runtime.catalog.kubernetes.KubeResourceCache;
 import org.qubership.integration.platform.runtime.catalog.model.MultiConsumer;
 import org.qubership.integration.platform.runtime.catalog.model.kubernetes.operator.EventActionType;
 import org.qubership.integration.platform.runtime.catalog.model.kubernetes.operator.KubeDeployment;
@@ -39,8 +40,9 @@
 @Slf4j
 @Component
 public class EngineService {
-    private static final String ENGINE_NAME_LABEL = "name";
+    public static final String ENGINE_NAME_LABEL = "name";
     private final KubeOperator operator;
+    private final KubeResourceCache resourceCache;
     private final DeploymentService deploymentService;
     private final DevModeUtil devModeUtil;
     private final EngineDomainUtils domainUtils;
@@ -58,10 +60,12 @@ public class EngineService {
 
     @Autowired
     public EngineService(KubeOperator operator,
+                         KubeResourceCache resourceCache,
                          DeploymentService deploymentService,
                          DevModeUtil devModeUtil,
                          EngineDomainUtils domainUtils) {
         this.operator = operator;
+        this.resourceCache = resourceCache;
         this.deploymentService = deploymentService;
         this.devModeUtil = devModeUtil;
         this.domainUtils = domainUtils;
@@ -117,6 +121,13 @@ public long deploymentsCountByDomain(String domainName) {
     }
 
     public String getActiveKubeDeploymentNameByDomain(String domainName) {
+        if (resourceCache.isSynced()) {
+            // Deployments are in name order, so the same one is chosen as from the list request below
+            return resourceCache.getDeploymentsByDomain(domainName).stream()
+                    .map(deployment -> deployment.getMetadata().getName())
+                    .findFirst()
+                    .orElse(null);
+        }
         for (KubeDeployment deployment : getDeployments()) {
             if (domainUtils.convertKubeDeploymentToDomainName(deployment.getName()).equals(domainName)) {
                 return deployment.getName();
@@ -37,7 +37,7 @@
 @Transactional
 public class EnvironmentService extends EnvironmentBaseService {
 
-    private static final String ENVIRONMENT_WITH_ID_NOT_FOUND_MESSAGE = "Can't find environment with id ";
+    public static final String ENVIRONMENT_WITH_ID_NOT_FOUND_MESSAGE = "Can't find environment with id ";
 
     @Autowired
     public EnvironmentService(EnvironmentRepository environmentRepository,
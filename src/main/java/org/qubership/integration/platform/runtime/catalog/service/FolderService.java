@@ -30,6 +30,7 @@
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Chain;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.FoldableEntity;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Folder;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.FolderClosure;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ChainRepository;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.FolderRepository;
 import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.chain.ChainSearchRequestDTO;
@@ -98,8 +99,13 @@ public Folder findEntityByIdOrNull(String folderId) {
     }
 
     public Map<String, String> provideNavigationPath(String folderId) {
-        var folder = findById(folderId);
-        return folder.getAncestors();
+        List<Folder> path = folderRepository.getPath(folderId);
+        if (path.isEmpty()) {
+            throw new EntityNotFoundException(FOLDER_WITH_ID_NOT_FOUND_MESSAGE + folderId);
+        }
+        Map<String, String> navigationMap = new LinkedHashMap<>();
+        path.forEach(folder -> navigationMap.put(folder.getId(), folder.getName()));
+        return navigationMap;
     }
 
     public Folder save(Folder folder, String parentFolderId) {
@@ -125,14 +131,7 @@ public Folder move(String folderId, String targetFolderId) throws FolderMoveExce
     }
 
     private boolean checkIfMovingToChild(Folder folder, Folder targetFolder) {
-        while (targetFolder.getParentFolder() != null) {
-            Folder parentFolder = targetFolder.getParentFolder();
-            if (parentFolder.getId().equals(folder.getId())) {
-                return true;
-            }
-            targetFolder = parentFolder;
-        }
-        return false;
+        return folderRepository.isFolderOrDescendant(targetFolder.getId(), folder.getId());
     }
 
     public Folder update(Folder entityFromDto, String folderId, String parentFolderId) {
@@ -185,8 +184,10 @@ public List<Folder> findByRequest(ListFolderRequest request) {
                     criteriaBuilder.count(chainRoot.get("id")),
                     criteriaBuilder.literal(0L)));
 
-            Specification<Chain> chainSpecification = (r, q, cb) ->
-                    cb.isTrue(cb.function("is_parent_folder", Boolean.class, root.get("id"), chainRoot.get("parentFolder").get("id")));
+            Root<FolderClosure> closureRoot = subquery.from(FolderClosure.class);
+            Specification<Chain> chainSpecification = (r, q, cb) -> cb.and(
+                    cb.equal(closureRoot.get("ancestorId"), root.get("id")),
+                    cb.equal(closureRoot.get("descendantId"), r.get("parentFolder").get("id")));
             if (StringUtils.isNotBlank(request.getSearchString())) {
                 chainSpecification = chainSpecification.and(chainFilterSpecificationBuilder.buildSearch(request.getSearchString()));
             }
@@ -17,6 +17,7 @@
 package org.qubership.integration.platform.runtime.catalog.service;
 
 import lombok.extern.slf4j.Slf4j;
+import org.qubership.integration.platform.runtime.catalog.model.deployment.engine.LiveExchangesResult;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.AbstractEntity;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.actionlog.ActionLog;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.actionlog.EntityType;
@@ -25,10 +26,13 @@
 import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.engine.LiveExchangeExtDTO;
 import org.qubership.integration.platform.runtime.catalog.service.helpers.ChainFinderService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -36,43 +40,97 @@
 public class LiveExchangesService {
     private static final String SESSION_GET_URL = "http://%s:8080/v1/engine/live-exchanges?limit=%d";
     private static final String SESSION_DELETE_URL = "http://%s:8080/v1/engine/live-exchanges/%s/%s";
+    private static final Comparator<LiveExchangeDTO> BY_DURATION =
+            Comparator.comparing(LiveExchangeDTO::getDuration, Comparator.nullsFirst(Comparator.naturalOrder()));
 
     private final RuntimeDeploymentService runtimeDeploymentService;
     private final RestTemplate restTemplateMs;
     private final ActionsLogService actionLogger;
     private final DeploymentService deploymentService;
     private final ChainFinderService chainFinderService;
+    private final Duration engineTimeout;
+    private final Duration timeout;
 
     @Autowired
     public LiveExchangesService(RuntimeDeploymentService runtimeDeploymentService,
                                 RestTemplate restTemplateMs,
                                 ActionsLogService actionLogger,
                                 DeploymentService deploymentService,
-                                ChainFinderService chainFinderService) {
+                                ChainFinderService chainFinderService,
+                                @Value("${qip.engine.live-exchanges.engine-timeout}") Duration engineTimeout,
+                                @Value("${qip.engine.live-exchanges.timeout}") Duration timeout) {
         this.runtimeDeploymentService = runtimeDeploymentService;
         this.restTemplateMs = restTemplateMs;
         this.actionLogger = actionLogger;
         this.deploymentService = deploymentService;
         this.chainFinderService = chainFinderService;
+        this.engineTimeout = engineTimeout;
+        this.timeout = timeout;
     }
 
-    public List<LiveExchangeExtDTO> getTopLongLiveExchanges(int limit) {
+    private record EngineRequest(String ip, long deadline, Future<LiveExchangeDTO[]> response) {
+    }
+
+    /**
+     * Requests live exchanges from all engines concurrently and merges them into a single top.
+     * Engines that do not answer within the per-engine timeout, or before the overall deadline,
+     * are skipped and reported in the result.
+     */
+    public LiveExchangesResult getTopLongLiveExchanges(int limit) {
         List<String> engineIps = runtimeDeploymentService.getEngineHosts().values().stream().flatMap(Collection::stream).toList();
-        List<LiveExchangeExtDTO> result = engineIps.stream().parallel().map(ip -> {
-            LiveExchangeDTO[] requestResult = null;
-            try {
-                requestResult = restTemplateMs.getForObject(String.format(SESSION_GET_URL, ip, limit), LiveExchangeDTO[].class);
-            } catch (Exception e) {
-                log.warn("Unable to retrieve live sessions from engine ip {}", ip, e);
+        long totalDeadline = System.nanoTime() + timeout.toNanos();
+
+        // Min-heap of the longest exchanges seen so far, never larger than the limit
+        PriorityQueue<LiveExchangeExtDTO> top = new PriorityQueue<>(limit + 1, BY_DURATION);
+        List<String> timedOutEngines = new ArrayList<>();
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            List<EngineRequest> requests = engineIps.stream()
+                    .map(ip -> new EngineRequest(
+                            ip,
+                            Math.min(totalDeadline, System.nanoTime() + engineTimeout.toNanos()),
+                            executor.submit(() -> restTemplateMs.getForObject(
+                                    String.format(SESSION_GET_URL, ip, limit), LiveExchangeDTO[].class))))
+                    .toList();
+
+            for (EngineRequest request : requests) {
+                LiveExchangeDTO[] exchanges = awaitResponse(request, timedOutEngines);
+                if (exchanges == null) {
+                    continue;
+                }
+                for (LiveExchangeDTO exchange : exchanges) {
+                    top.offer(new LiveExchangeExtDTO(exchange, request.ip()));
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                }
             }
-            return Optional.ofNullable(requestResult).map(l -> Arrays.stream(l)
-                    .map(le -> new LiveExchangeExtDTO(le, ip))).orElse(null);
-        }).filter(Objects::nonNull).flatMap(l -> l).toList();
+        } finally {
+            executor.shutdownNow();
+        }
 
+        List<LiveExchangeExtDTO> result = new ArrayList<>(top);
+        result.sort(BY_DURATION.reversed());
         enrichResultWithChainName(result);
 
+        return new LiveExchangesResult(result, timedOutEngines);
+    }
 
-        return result;
+    private LiveExchangeDTO[] awaitResponse(EngineRequest request, List<String> timedOutEngines) {
+        try {
+            return request.response().get(Math.max(0, request.deadline() - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Engine ip {} did not return live sessions in time", request.ip());
+            request.response().cancel(true);
+            timedOutEngines.add(request.ip());
+        } catch (ExecutionException e) {
+            log.warn("Unable to retrieve live sessions from engine ip {}", request.ip(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Live sessions request was interrupted", e);
+        }
+        return null;
     }
 
     private void enrichResultWithChainName(List<LiveExchangeExtDTO> result) {
@@ -16,8 +16,10 @@
 
 package org.qubership.integration.platform.runtime.catalog.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -129,19 +131,34 @@ public Operation getOperationLight(String operationId) {
     }
 
     public String getSpecification(String operationId) {
-        Operation operation = getOperation(operationId);
-        return operation.getSpecification().toString();
+        return readJson(operationId, operationRepository.findSpecificationById(operationId)).toString();
     }
 
     public JsonNode getRequestSchema(String operationId, String contentType) {
-        Operation operation = getOperation(operationId);
-        return operation.getRequestSchema().get(contentType);
+        return readJson(operationId, operationRepository.findRequestSchema(operationId, contentType));
     }
 
     public JsonNode getResponseSchema(String operationId, String contentType, String responseCode) {
-        Operation operation = getOperation(operationId);
-        System.out.print(operation.getResponseSchemas().get(responseCode).path(contentType));
-        return operation.getResponseSchemas().get(responseCode).path(contentType);
+        JsonNode schema = readJson(operationId, operationRepository.findResponseSchema(operationId, responseCode, contentType));
+        return schema == null ? MissingNode.getInstance() : schema;
+    }
+
+    /**
+     * Parses a part of the operation selected by a targeted query, a missing part is distinguished
+     * from a missing operation by an existence check.
+     */
+    private JsonNode readJson(String operationId, String json) {
+        if (json == null) {
+            if (!operationRepository.existsById(operationId)) {
+                throw new EntityNotFoundException(OPERATION_WITH_ID_NOT_FOUND_MESSAGE + operationId);
+            }
+            return null;
+        }
+        try {
+            return objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Unable to read schema of operation " + operationId + ": " + e.getMessage());
+        }
     }
 
     private void enrichOperationWithChains(Operation operation) {
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.SnapshotRetentionPolicy;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.SnapshotRetentionPolicyRepository;
+import org.qubership.integration.platform.runtime.catalog.service.helpers.ChainFinderService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Snapshot retention policies of chains, applied by {@link SnapshotService#pruneSnapshotsAsync}.
+ */
+@Slf4j
+@Service
+@Transactional
+public class SnapshotRetentionPolicyService {
+
+    private final SnapshotRetentionPolicyRepository retentionPolicyRepository;
+    private final ChainFinderService chainFinderService;
+
+    @Autowired
+    public SnapshotRetentionPolicyService(SnapshotRetentionPolicyRepository retentionPolicyRepository,
+                                          ChainFinderService chainFinderService) {
+        this.retentionPolicyRepository = retentionPolicyRepository;
+        this.chainFinderService = chainFinderService;
+    }
+
+    public Optional<SnapshotRetentionPolicy> findByChainId(String chainId) {
+        return retentionPolicyRepository.findById(chainId);
+    }
+
+    public SnapshotRetentionPolicy save(String chainId, Integer keepLast, Integer olderThanDays) {
+        // Fails for a missing chain
+        chainFinderService.findById(chainId);
+        return retentionPolicyRepository.save(SnapshotRetentionPolicy.builder()
+                .chainId(chainId)
+                .keepLast(keepLast)
+                .olderThanDays(olderThanDays)
+                .build());
+    }
+
+    public void deleteByChainId(String chainId) {
+        retentionPolicyRepository.findById(chainId).ifPresent(retentionPolicyRepository::delete);
+    }
+}
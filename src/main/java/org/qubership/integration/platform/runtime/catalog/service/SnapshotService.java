@@ -37,9 +37,12 @@
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ChainRepository;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.DependencyRepository;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ElementRepository;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.HttpTriggerRouteRepository;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.SnapshotXmlBlobRepository;
 import org.qubership.integration.platform.runtime.catalog.service.helpers.ChainFinderService;
 import org.qubership.integration.platform.runtime.catalog.service.verification.ElementPropertiesVerificationService;
 import org.qubership.integration.platform.runtime.catalog.service.verification.properties.VerificationError;
+import org.qubership.integration.platform.runtime.catalog.util.TriggerUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.lang.NonNull;
@@ -50,7 +53,6 @@
 
 import java.sql.Timestamp;
 import java.time.Instant;
-import java.time.Period;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
@@ -63,9 +65,12 @@
 public class SnapshotService {
 
     private static final String CONFIGURATION_WITH_ID_NOT_FOUND_MESSAGE = "Can't find configuration with id ";
+    private static final String PRUNED_SNAPSHOT_CHAIN_NAME = "chain_name";
 
     private final SnapshotRepository snapshotRepository;
     private final ElementRepository elementRepository;
+    private final HttpTriggerRouteRepository httpTriggerRouteRepository;
+    private final SnapshotXmlBlobRepository snapshotXmlBlobRepository;
     private final ChainRepository chainRepository;
     private final ElementService elementService;
     private final XmlBuilder xmlBuilder;
@@ -76,11 +81,14 @@ public class SnapshotService {
     private final ElementPropertiesVerificationService elementPropertiesVerificationService;
     private final MaskedFieldsService maskedFieldsService;
     private final TransactionHandler transactionHandler;
+    private final ChainFingerprintCalculator chainFingerprintCalculator;
     private final SnapshotService self;
 
     @Autowired
     public SnapshotService(SnapshotRepository snapshotRepository,
                            ElementRepository elementRepository,
+                           HttpTriggerRouteRepository httpTriggerRouteRepository,
+                           SnapshotXmlBlobRepository snapshotXmlBlobRepository,
                            ChainRepository chainRepository,
                            ElementService elementService,
                            XmlBuilder xmlBuilder,
@@ -91,9 +99,12 @@ public SnapshotService(SnapshotRepository snapshotRepository,
                            ActionsLogService actionLogger,
                            ElementPropertiesVerificationService elementPropertiesVerificationService,
                            MaskedFieldsService maskedFieldsService,
-                           TransactionHandler transactionHandler) {
+                           TransactionHandler transactionHandler,
+                           ChainFingerprintCalculator chainFingerprintCalculator) {
         this.snapshotRepository = snapshotRepository;
         this.elementRepository = elementRepository;
+        this.httpTriggerRouteRepository = httpTriggerRouteRepository;
+        this.snapshotXmlBlobRepository = snapshotXmlBlobRepository;
         this.chainRepository = chainRepository;
         this.elementService = elementService;
         this.xmlBuilder = xmlBuilder;
@@ -104,6 +115,7 @@ public SnapshotService(SnapshotRepository snapshotRepository,
         this.elementPropertiesVerificationService = elementPropertiesVerificationService;
         this.maskedFieldsService = maskedFieldsService;
         this.transactionHandler = transactionHandler;
+        this.chainFingerprintCalculator = chainFingerprintCalculator;
         this.self = self;
     }
 
@@ -154,7 +166,31 @@ public Snapshot build(String chainId) {
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public Snapshot build(String chainId, Set<String> technicalLabels) {
+        return build(chainId, technicalLabels, false);
+    }
+
+    /**
+     * Builds a snapshot of the chain unless the current snapshot was built from the same chain content.
+     * Only snapshots built by this method store the chain fingerprint, other snapshots are never reused.
+     *
+     * @return the new snapshot or the current one if the chain content has not changed since it was built
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Snapshot buildIfChanged(String chainId) {
+        return build(chainId, null, true);
+    }
+
+    private Snapshot build(String chainId, Set<String> technicalLabels, boolean reuseUnchanged) {
         Chain chain = chainFinderService.findById(chainId);
+        String fingerprint = reuseUnchanged ? chainFingerprintCalculator.calculate(chain) : null;
+        Snapshot currentSnapshot = chain.getCurrentSnapshot();
+        if (reuseUnchanged && fingerprint != null && currentSnapshot != null
+                && fingerprint.equals(currentSnapshot.getFingerprint())) {
+            log.debug("Chain {} has not changed since snapshot {} was built", chainId, currentSnapshot.getId());
+            chainRepository.updateUnsavedChanges(chainId, false);
+            return currentSnapshot;
+        }
+
         verifyElementProperties(chain);
 
         String name = snapshotRepository.getNextAvailableName(chainId);
@@ -162,6 +198,7 @@ public Snapshot build(String chainId, Set<String> technicalLabels) {
         Snapshot snapshot = Snapshot.builder()
                         .name(name)
                         .chain(chain)
+                        .fingerprint(fingerprint)
                         .build();
         if (CollectionUtils.isNotEmpty(technicalLabels)) {
             snapshot.addLabels(getSnapshotTechnicalLabels(technicalLabels, snapshot));
@@ -173,9 +210,12 @@ public Snapshot build(String chainId, Set<String> technicalLabels) {
         moveMaskedFields(chain.getMaskedFields(), snapshot);
         List<ChainElement> snapshotElements = snapshot.getElements();
         fillServiceEnvironments(snapshotElements);
+        saveHttpTriggerRoutes(snapshotElements);
 
         try {
-            snapshot.setXmlDefinition(xmlBuilder.build(snapshotElements));
+            SnapshotXmlBlob.ContentWriter xmlWriter = new SnapshotXmlBlob.ContentWriter();
+            xmlBuilder.build(snapshotElements, xmlWriter);
+            snapshot.setXmlBlob(saveXmlBlob(xmlWriter.toBlob()));
         } catch (Exception e) {
             log.error("Failed to build xml configuration: {}", e.getMessage());
             throw (e instanceof RuntimeException)
@@ -190,6 +230,15 @@ public Snapshot build(String chainId, Set<String> technicalLabels) {
         return snapshot;
     }
 
+    /**
+     * Returns the stored blob with the same XML, storing the blob if snapshots with the same XML do not exist.
+     * The blob is locked until the transaction ends, so pruning can not delete it before the snapshot is saved.
+     */
+    private SnapshotXmlBlob saveXmlBlob(SnapshotXmlBlob blob) {
+        snapshotXmlBlobRepository.insertIfAbsent(blob.getHash(), blob.getContent(), blob.getSize());
+        return snapshotXmlBlobRepository.getReferenceById(blob.getHash());
+    }
+
     private Collection<SnapshotLabel> getSnapshotTechnicalLabels(Set<String> technicalLabels, Snapshot snapshot) {
         List<SnapshotLabel> snapshotLabels = new ArrayList<>();
         for (String labelName : technicalLabels) {
@@ -203,6 +252,13 @@ private void fillServiceEnvironments(List<ChainElement> newElements) {
         elementRepository.saveAll(newElements);
     }
 
+    private void saveHttpTriggerRoutes(List<ChainElement> snapshotElements) {
+        httpTriggerRouteRepository.saveAll(snapshotElements.stream()
+                .filter(TriggerUtils::isHttpTrigger)
+                .map(TriggerUtils::buildHttpTriggerRoute)
+                .toList());
+    }
+
     private void verifyElementProperties(Chain chain) {
         Map<ChainElement, Collection<VerificationError>> errorMap =
                 elementPropertiesVerificationService.verifyElementProperties(chain);
@@ -410,7 +466,11 @@ private void logSnapshotAction(Snapshot snapshot, Chain chain, LogOperation oper
     }
 
     private void logSnapshotAction(String snapshotId, String snapshotName, String chainId, String chainName, LogOperation operation) {
-        actionLogger.logAction(ActionLog.builder()
+        actionLogger.logAction(buildSnapshotAction(snapshotId, snapshotName, chainId, chainName, operation));
+    }
+
+    private ActionLog buildSnapshotAction(String snapshotId, String snapshotName, String chainId, String chainName, LogOperation operation) {
+        return ActionLog.builder()
                 .entityType(EntityType.SNAPSHOT)
                 .entityId(snapshotId)
                 .entityName(snapshotName)
@@ -418,10 +478,16 @@ private void logSnapshotAction(String snapshotId, String snapshotName, String ch
                 .parentId(chainId)
                 .parentName(chainName)
                 .operation(operation)
-                .build());
+                .build();
     }
 
-    public void pruneSnapshotsAsync(int olderThanDays, int chunk) {
+    /**
+     * @param olderThanDays snapshots created earlier are deleted, unless the chain has its own retention policy
+     * @param keepLast amount of the latest snapshots of every chain kept regardless of age,
+     *                 unless the chain has its own retention policy
+     * @param chunk amount of snapshots deleted in one transaction
+     */
+    public void pruneSnapshotsAsync(int olderThanDays, int keepLast, int chunk) {
         actionLogger.logAction(ActionLog.builder()
                 .entityType(EntityType.SNAPSHOT_CLEANUP)
                 .operation(LogOperation.EXECUTE)
@@ -430,7 +496,7 @@ public void pruneSnapshotsAsync(int olderThanDays, int chunk) {
         String requestId = RequestIdContext.get();
         CompletableFuture.runAsync(() -> {
             RequestIdContext.set(requestId);
-            pruneSnapshots(olderThanDays, chunk);
+            pruneSnapshots(olderThanDays, keepLast, chunk);
         }).whenCompleteAsync((ignored, throwable) -> {
             RequestIdContext.set(requestId);
             if (throwable != null) {
@@ -439,22 +505,23 @@ public void pruneSnapshotsAsync(int olderThanDays, int chunk) {
         });
     }
 
-    private void pruneSnapshots(int olderThanDays, int chunk) {
+    void pruneSnapshots(int olderThanDays, int keepLast, int chunk) {
         long deletedTotal = 0;
         int deletedCurrent;
 
         long startTime = System.currentTimeMillis();
-        Timestamp deletionDate = Timestamp.from(Instant.now().minus(Period.ofDays(olderThanDays)));
+        Timestamp now = Timestamp.from(Instant.now());
 
         do {
-            deletedCurrent = transactionHandler.supplyInNewTransaction(() -> {
-                List<Map<String, String>> result = snapshotRepository.pruneByCreatedWhen(deletionDate, chunk);
-                result.forEach(s -> logSnapshotAction(
-                        s.get(AbstractEntity.Fields.id), s.get(AbstractEntity.Fields.name), s.get(Snapshot.Fields.chain),
-                        chainFinderService.tryFindById(s.get(Snapshot.Fields.chain)).map(Chain::getName).orElse(null), // XXX Potential performance improvement
-                        LogOperation.DELETE));
-                return result.size();
-            });
+            List<Map<String, String>> result = transactionHandler.supplyInNewTransaction(
+                    () -> snapshotRepository.prune(now, olderThanDays, keepLast, chunk));
+            // Chain names are returned by the deletion query, actions of the chunk are logged at once
+            actionLogger.logActions(result.stream()
+                    .map(s -> buildSnapshotAction(
+                            s.get(AbstractEntity.Fields.id), s.get(AbstractEntity.Fields.name), s.get(Snapshot.Fields.chain),
+                            s.get(PRUNED_SNAPSHOT_CHAIN_NAME), LogOperation.DELETE))
+                    .toList());
+            deletedCurrent = result.size();
             deletedTotal += deletedCurrent;
 
             if (deletedCurrent > 0) {
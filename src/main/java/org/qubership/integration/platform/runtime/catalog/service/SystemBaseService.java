@@ -72,6 +72,18 @@ public IntegrationSystem getByIdOrNull(String id) {
         return systemRepository.findById(id).orElse(null);
     }
 
+    /**
+     * Loads the systems with their environments in a single query. Missing systems are skipped.
+     */
+    @Transactional
+    public SystemResolutionContext resolveSystems(Collection<String> ids) {
+        Set<String> uniqueIds = new HashSet<>(ids);
+        if (uniqueIds.isEmpty()) {
+            return new SystemResolutionContext(Collections.emptyList());
+        }
+        return new SystemResolutionContext(systemRepository.findAllWithEnvironmentsByIdIn(uniqueIds));
+    }
+
     @Transactional
     public String getNameByIdOrNull(String id) {
         return systemRepository.findNameById(id);
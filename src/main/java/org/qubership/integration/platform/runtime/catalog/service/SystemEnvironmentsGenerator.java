@@ -9,8 +9,10 @@
 import org.springframework.stereotype.Service;
 
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.qubership.integration.platform.runtime.catalog.model.system.IntegrationSystemType.*;
@@ -28,14 +30,18 @@ public SystemEnvironmentsGenerator(SystemService systemService, ServiceEnvironme
     }
 
     public List<ServiceEnvironment> generateSystemEnvironments(Collection<String> ids) {
-        List<IntegrationSystem> systems = ids.stream()
-                .map(systemService::getByIdOrNull).filter(Objects::nonNull)
+        SystemResolutionContext context = systemService.resolveSystems(ids);
+        List<IntegrationSystem> systems = new LinkedHashSet<>(ids).stream()
+                .map(context::getSystemOrNull).filter(Objects::nonNull)
                 .collect(Collectors.toList());
         List<ServiceEnvironment> result = getActiveEnvironmentsBySystems(systems).stream()
                 .map(serviceEnvironmentMapper::toServiceEnvironment).collect(Collectors.toList());
 
+        Set<String> systemsWithEnvironment = result.stream()
+                .map(ServiceEnvironment::getSystemId)
+                .collect(Collectors.toSet());
         for (IntegrationSystem system : systems) {
-            if (result.stream().anyMatch(environment -> environment.getSystemId().equals(system.getId()))) {
+            if (systemsWithEnvironment.contains(system.getId())) {
                 continue;
             }
             ServiceEnvironment serviceEnvironment = new ServiceEnvironment();
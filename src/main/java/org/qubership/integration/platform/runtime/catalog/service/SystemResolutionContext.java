@@ -0,0 +1,44 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.service;
+
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.Environment;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.IntegrationSystem;
+
+import java.util.*;
+
+/**
+ * Integration systems referenced by a single build, loaded at once together with their environments.
+ * Lookups are served from memory, so the number of queries does not depend on the number of elements.
+ */
+public class SystemResolutionContext {
+    private final Map<String, IntegrationSystem> systems = new LinkedHashMap<>();
+
+    public SystemResolutionContext(Collection<IntegrationSystem> systems) {
+        systems.forEach(system -> this.systems.put(system.getId(), system));
+    }
+
+    public IntegrationSystem getSystemOrNull(String systemId) {
+        return systems.get(systemId);
+    }
+
+    public Optional<Environment> findEnvironment(IntegrationSystem system, String environmentId) {
+        return Optional.ofNullable(system.getEnvironments()).orElse(Collections.emptyList()).stream()
+                .filter(environment -> environmentId.equals(environment.getId()))
+                .findAny();
+    }
+}
@@ -25,6 +25,7 @@
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ElementRepository;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ElementSystemUsageRepository;
 import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.element.CreateElementRequest;
 import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.element.TransferElementRequest;
 import org.qubership.integration.platform.runtime.catalog.service.helpers.ChainFinderService;
@@ -60,7 +61,8 @@ public TransferableElementService(
             DependencyService dependencyService,
             SystemEnvironmentsGenerator systemEnvironmentsGenerator,
             SystemBaseService systemBaseService,
-            SystemModelBaseService systemModelBaseService
+            SystemModelBaseService systemModelBaseService,
+            ElementSystemUsageRepository elementSystemUsageRepository
     ) {
         super(
                 elementRepository,
@@ -73,7 +75,8 @@ public TransferableElementService(
                 elementUtils,
                 systemEnvironmentsGenerator,
                 systemBaseService,
-                systemModelBaseService
+                systemModelBaseService,
+                elementSystemUsageRepository
         );
         this.oldContainerUtils = oldContainerUtils;
         this.dependencyService = dependencyService;
@@ -16,6 +16,12 @@
 
 package org.qubership.integration.platform.runtime.catalog.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
@@ -24,15 +30,16 @@
 import org.qubership.integration.platform.runtime.catalog.model.constant.CamelOptions;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ElementRepository;
+import org.qubership.integration.platform.runtime.catalog.util.HashUtils;
 import org.qubership.integration.platform.runtime.catalog.util.MapUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 @Slf4j
@@ -177,6 +184,23 @@ public class UsedPropertiesAnalyzer {
             "\\$\\{headera?s?((\\.([a-zA-Z0-9_\\-]+))|([.\\[(]'?([a-zA-Z0-9_.\\-]+)))[^}]*}", Pattern.CASE_INSENSITIVE);
     public static final int[] EX_HEADER_GROUPS = {3, 5};
 
+    static final UsedPropertiesScanner GROOVY_SCANNER = new UsedPropertiesScanner("exchange.", List.of(
+            new UsedPropertiesScanner.Rule(GROOVY_GET_HEADERS_PATTERN, GROOVY_GET_HEADER_GROUPS,
+                    UsedPropertySource.HEADER, UsedPropertyElementOperation.GET),
+            new UsedPropertiesScanner.Rule(GROOVY_SET_HEADERS_PATTERN, GROOVY_SET_HEADER_GROUPS,
+                    UsedPropertySource.HEADER, UsedPropertyElementOperation.SET),
+            new UsedPropertiesScanner.Rule(GROOVY_GET_PROPERTIES_PATTERN, GROOVY_GET_PROPERTIES_GROUPS,
+                    UsedPropertySource.EXCHANGE_PROPERTY, UsedPropertyElementOperation.GET),
+            new UsedPropertiesScanner.Rule(GROOVY_SET_PROPERTIES_PATTERN, GROOVY_SET_PROPERTIES_GROUPS,
+                    UsedPropertySource.EXCHANGE_PROPERTY, UsedPropertyElementOperation.SET)));
+
+    // constant operation for simple lang
+    static final UsedPropertiesScanner SIMPLE_SCANNER = new UsedPropertiesScanner("${", List.of(
+            new UsedPropertiesScanner.Rule(PROPS_SIMPLE_PATTERN, EX_PROP_GROUPS,
+                    UsedPropertySource.EXCHANGE_PROPERTY, UsedPropertyElementOperation.GET),
+            new UsedPropertiesScanner.Rule(HEADERS_SIMPLE_PATTERN, EX_HEADER_GROUPS,
+                    UsedPropertySource.HEADER, UsedPropertyElementOperation.GET)));
+
     private static final Set<String> ELEMENTS_WITH_SCRIPT = Set.of(
             CamelNames.SCRIPT, CamelNames.SERVICE_CALL_COMPONENT, CamelNames.HTTP_TRIGGER_COMPONENT);
     private static final Set<String> ELEMENTS_WITH_MAPPER = Set.of(
@@ -186,11 +210,24 @@ public class UsedPropertiesAnalyzer {
 
     public static final String MAPPING_DESCRIPTION = "mappingDescription";
 
+    private static final long ELEMENTS_CACHE_MAXIMUM_SIZE = 10_000;
+
     private final ElementRepository elementRepository;
+    private final ObjectWriter propertiesWriter;
+
+    /**
+     * Properties used by an element, by hash of the element type and properties.
+     * Elements of different chains and snapshots with the same content share the entry.
+     */
+    private final Cache<String, List<ElementUsedProperty>> elementsCache = CacheBuilder.newBuilder()
+            .maximumSize(ELEMENTS_CACHE_MAXIMUM_SIZE)
+            .build();
 
     @Autowired
-    public UsedPropertiesAnalyzer(ElementRepository elementRepository) {
+    public UsedPropertiesAnalyzer(ElementRepository elementRepository,
+                                  @Qualifier("primaryObjectMapper") ObjectMapper objectMapper) {
         this.elementRepository = elementRepository;
+        this.propertiesWriter = objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
     }
 
     public List<UsedProperty> getUsedProperties(String chainId) {
@@ -198,81 +235,120 @@ public List<UsedProperty> getUsedProperties(String chainId) {
         // key = name + type
         Map<String, UsedProperty> usedProperties = new HashMap<>();
         for (ChainElement chainElement : chainElements) {
-            findUsedProperties(chainElement, chainElement.getProperties(), usedProperties);
+            for (ElementUsedProperty elementProperty : getElementUsedProperties(chainElement)) {
+                UsedProperty usedProperty = usedProperties.computeIfAbsent(
+                        buildUsedPropertyKey(elementProperty.name(), elementProperty.source()),
+                        key -> UsedProperty.builder()
+                                .name(elementProperty.name())
+                                .source(elementProperty.source())
+                                .type(elementProperty.type())
+                                .isArray(elementProperty.isArray())
+                                .attributeDataType(elementProperty.attributeDataType())
+                                .build());
 
-            findUsedPropertiesInScript(chainElement, usedProperties);
-            findUsedPropertiesInMapper(chainElement, usedProperties);
-            findUsedPropertiesInHeaderModification(chainElement, usedProperties);
+                UsedPropertyElement usedElement = UsedPropertyElement.builder()
+                        .id(chainElement.getId())
+                        .name(chainElement.getName())
+                        .type(chainElement.getType())
+                        .operations(new HashSet<>(elementProperty.operations()))
+                        .build();
+                usedProperty.getRelatedElements().merge(usedElement.getId(), usedElement, (existing, added) -> {
+                    existing.merge(added);
+                    return existing;
+                });
+            }
         }
 
         return new ArrayList<>(usedProperties.values());
     }
 
-    private void findUsedPropertiesInMapper(ChainElement element, Map<String, UsedProperty> usedProperties) {
+    long getCachedElementsCount() {
+        return elementsCache.size();
+    }
+
+    private List<ElementUsedProperty> getElementUsedProperties(ChainElement element) {
+        String cacheKey = buildCacheKey(element);
+        if (cacheKey == null) {
+            return findElementUsedProperties(element);
+        }
+        List<ElementUsedProperty> elementProperties = elementsCache.getIfPresent(cacheKey);
+        if (elementProperties == null) {
+            elementProperties = findElementUsedProperties(element);
+            elementsCache.put(cacheKey, elementProperties);
+        }
+        return elementProperties;
+    }
+
+    private String buildCacheKey(ChainElement element) {
+        try {
+            return HashUtils.sha256hex(element.getType() + "\n" + propertiesWriter.writeValueAsString(element.getProperties()));
+        } catch (JsonProcessingException e) {
+            log.debug("Failed to serialize properties of element {}, used properties are not cached", element.getId(), e);
+            return null;
+        }
+    }
+
+    private List<ElementUsedProperty> findElementUsedProperties(ChainElement element) {
+        ElementUsedProperties elementProperties = new ElementUsedProperties();
+        findUsedProperties(element, element.getProperties(), elementProperties);
+
+        findUsedPropertiesInScript(element, elementProperties);
+        findUsedPropertiesInMapper(element, elementProperties);
+        findUsedPropertiesInHeaderModification(element, elementProperties);
+        return elementProperties.toList();
+    }
+
+    private void findUsedPropertiesInMapper(ChainElement element, ElementUsedProperties elementProperties) {
         String elementType = element.getType();
         if (ELEMENTS_WITH_MAPPER.contains(elementType)) {
-            Map<String, Object> elementProperties = element.getProperties();
+            Map<String, Object> properties = element.getProperties();
             final List<Map<String, Object>> mappingDescription = new ArrayList<>();
             switch (elementType) {
                 case CamelNames.MAPPER_2:
-                    MapUtils.deepMapTraversalSafe(elementProperties,
+                    MapUtils.deepMapTraversalSafe(properties,
                             value -> mappingDescription.add((Map<String, Object>) value), MAPPING_DESCRIPTION);
                     break;
                 case CamelNames.SERVICE_CALL_COMPONENT:
-                    MapUtils.deepMapTraversalSafe(elementProperties,
+                    MapUtils.deepMapTraversalSafe(properties,
                             value -> mappingDescription.add((Map<String, Object>) value), CamelOptions.AFTER, MAPPING_DESCRIPTION);
-                    MapUtils.deepMapTraversalSafe(elementProperties,
+                    MapUtils.deepMapTraversalSafe(properties,
                             value -> mappingDescription.add((Map<String, Object>) value), CamelOptions.BEFORE, MAPPING_DESCRIPTION);
-                    MapUtils.deepMapTraversalSafe(elementProperties,
+                    MapUtils.deepMapTraversalSafe(properties,
                             value -> mappingDescription.add((Map<String, Object>) value), "handlerContainer", MAPPING_DESCRIPTION);
                     break;
                 case CamelNames.HTTP_TRIGGER_COMPONENT:
-                    MapUtils.deepMapTraversalSafe(elementProperties,
+                    MapUtils.deepMapTraversalSafe(properties,
                             value -> mappingDescription.add((Map<String, Object>) value), "handlerContainer", MAPPING_DESCRIPTION);
                     break;
             }
 
-            if (!mappingDescription.isEmpty()) {
-                for (Map<String, Object> map : mappingDescription) {
-                    MapUtils.deepMapTraversalSafe(map,
-                            mapperTraversalCallback(usedProperties, buildUsedPropertyElement(element, UsedPropertyElementOperation.GET),
-                                    UsedPropertySource.HEADER), "source", "headers");
-                    MapUtils.deepMapTraversalSafe(map,
-                            mapperTraversalCallback(usedProperties, buildUsedPropertyElement(element, UsedPropertyElementOperation.GET),
-                                    UsedPropertySource.EXCHANGE_PROPERTY), "source", "properties");
-                    MapUtils.deepMapTraversalSafe(map,
-                            mapperTraversalCallback(usedProperties, buildUsedPropertyElement(element, UsedPropertyElementOperation.SET),
-                                    UsedPropertySource.HEADER), "target", "headers");
-                    MapUtils.deepMapTraversalSafe(map,
-                            mapperTraversalCallback(usedProperties, buildUsedPropertyElement(element, UsedPropertyElementOperation.SET),
-                                    UsedPropertySource.EXCHANGE_PROPERTY), "target", "properties");
-                }
+            for (Map<String, Object> map : mappingDescription) {
+                MapUtils.deepMapTraversalSafe(map, mapperTraversalCallback(elementProperties,
+                        UsedPropertySource.HEADER, UsedPropertyElementOperation.GET), "source", "headers");
+                MapUtils.deepMapTraversalSafe(map, mapperTraversalCallback(elementProperties,
+                        UsedPropertySource.EXCHANGE_PROPERTY, UsedPropertyElementOperation.GET), "source", "properties");
+                MapUtils.deepMapTraversalSafe(map, mapperTraversalCallback(elementProperties,
+                        UsedPropertySource.HEADER, UsedPropertyElementOperation.SET), "target", "headers");
+                MapUtils.deepMapTraversalSafe(map, mapperTraversalCallback(elementProperties,
+                        UsedPropertySource.EXCHANGE_PROPERTY, UsedPropertyElementOperation.SET), "target", "properties");
             }
         }
     }
 
-    private static @NotNull UsedPropertyElement buildUsedPropertyElement(ChainElement element, UsedPropertyElementOperation operation) {
-        UsedPropertyElement usedSrcElementHeader = UsedPropertyElement.builder()
-                .id(element.getId())
-                .name(element.getName())
-                .type(element.getType())
-                .build();
-        usedSrcElementHeader.getOperations().add(operation);
-        return usedSrcElementHeader;
-    }
-
     @NotNull
-    private Consumer<Object> mapperTraversalCallback(Map<String, UsedProperty> usedProperties,
-                                                     UsedPropertyElement usedElement, UsedPropertySource usedPropertySource) {
+    private Consumer<Object> mapperTraversalCallback(ElementUsedProperties elementProperties,
+                                                     UsedPropertySource usedPropertySource,
+                                                     UsedPropertyElementOperation operation) {
+        Set<UsedPropertyElementOperation> operations = ElementUsedProperties.usage(operation);
         return headers -> {
             if (headers instanceof Collection<?> headersList) {
-                addMapperProperty(usedProperties, headersList, usedElement, usedPropertySource);
+                addMapperProperty(elementProperties, headersList, usedPropertySource, operations);
             }
         };
     }
 
-    private void addMapperProperty(Map<String, UsedProperty> usedProperties, Collection<?> headersList,
-                                   UsedPropertyElement usedSrcElement, UsedPropertySource usedPropertySource) {
+    private void addMapperProperty(ElementUsedProperties elementProperties, Collection<?> headersList,
+                                   UsedPropertySource usedPropertySource, Set<UsedPropertyElementOperation> operations) {
         for (Object entry : headersList) {
             if (entry instanceof Map map1) {
                 String name = (String) map1.get("name");
@@ -285,15 +361,15 @@ private void addMapperProperty(Map<String, UsedProperty> usedProperties, Collect
                         if (typeName.equals("object")) {
                             attributeDataType.set(type);
                         }
-                        buildUsedProperty(usedProperties, name, usedPropertySource, UsedPropertyType.fromString(typeName),
-                                false, attributeDataType.get(), usedSrcElement);
+                        elementProperties.add(name, usedPropertySource, UsedPropertyType.fromString(typeName),
+                                false, attributeDataType.get(), operations);
                     } else {
                         MapUtils.deepMapTraversalSafe(map1, (arrayType) -> {
                             if (arrayType.equals("object")) {
                                 attributeDataType.set(type);
                             }
-                            buildUsedProperty(usedProperties, name, usedPropertySource,
-                                    UsedPropertyType.fromString((String) arrayType), true, attributeDataType.get(), usedSrcElement);
+                            elementProperties.add(name, usedPropertySource, UsedPropertyType.fromString((String) arrayType),
+                                    true, attributeDataType.get(), operations);
                         }, "type", "itemType", "name");
                     }
                 }
@@ -301,42 +377,41 @@ private void addMapperProperty(Map<String, UsedProperty> usedProperties, Collect
         }
     }
 
-    private void findUsedPropertiesInHeaderModification(ChainElement element, Map<String, UsedProperty> usedProperties) {
+    private void findUsedPropertiesInHeaderModification(ChainElement element, ElementUsedProperties elementProperties) {
         String elementType = element.getType();
         if (CamelNames.HEADER_MODIFICATION.equals(elementType)) {
-            Map<String, Object> elementProperties = element.getProperties();
+            Map<String, Object> properties = element.getProperties();
+            Set<UsedPropertyElementOperation> operations = ElementUsedProperties.usage(UsedPropertyElementOperation.SET);
 
-            UsedPropertyElement usedElement = buildUsedPropertyElement(element, UsedPropertyElementOperation.SET);
-
-            Object headerModificationToAdd = elementProperties.getOrDefault("headerModificationToAdd", Collections.emptyMap());
-            Object headerModificationToRemove = elementProperties.getOrDefault("headerModificationToRemove", Collections.emptyList());
+            Object headerModificationToAdd = properties.getOrDefault("headerModificationToAdd", Collections.emptyMap());
+            Object headerModificationToRemove = properties.getOrDefault("headerModificationToRemove", Collections.emptyList());
             if (headerModificationToAdd instanceof Map map) {
                 for (String key : ((Map<String, ?>) map).keySet()) {
-                    buildUsedProperty(usedProperties, key, UsedPropertySource.HEADER, UsedPropertyType.UNKNOWN_TYPE, usedElement);
+                    elementProperties.add(key, UsedPropertySource.HEADER, operations);
                 }
             }
             if (headerModificationToRemove instanceof Collection collection) {
                 for (String key : (Collection<String>) collection) {
-                    buildUsedProperty(usedProperties, key, UsedPropertySource.HEADER, UsedPropertyType.UNKNOWN_TYPE, usedElement);
+                    elementProperties.add(key, UsedPropertySource.HEADER, operations);
                 }
             }
         }
     }
 
-    private void findUsedPropertiesInScript(ChainElement element, Map<String, UsedProperty> usedProperties) {
+    private void findUsedPropertiesInScript(ChainElement element, ElementUsedProperties elementProperties) {
         String elementType = element.getType();
         if (ELEMENTS_WITH_SCRIPT.contains(elementType)) {
-            Map<String, Object> elementProperties = element.getProperties();
+            Map<String, Object> properties = element.getProperties();
             StringBuilder scripts = new StringBuilder();
             switch (elementType) {
                 case CamelNames.SCRIPT:
                     // properties.script
-                    scripts.append(elementProperties.getOrDefault("script", ""));
+                    scripts.append(properties.getOrDefault("script", ""));
                     break;
                 case CamelNames.SERVICE_CALL_COMPONENT:
                     // properties.after[i].script (if properties.after[i].type == 'script')
                     // properties.before.script (if properties.before.type == 'script')
-                    Object after = elementProperties.getOrDefault("after", Collections.emptyList());
+                    Object after = properties.getOrDefault("after", Collections.emptyList());
                     if (after instanceof Collection afterCollection) {
                         for (Object afterObject : afterCollection) {
                             if (afterObject instanceof Map) {
@@ -346,14 +421,14 @@ private void findUsedPropertiesInScript(ChainElement element, Map<String, UsedPr
                         }
                     }
 
-                    Object before = elementProperties.get("before");
+                    Object before = properties.get("before");
                     if (before instanceof Map beforeMap) {
                         scripts.append(beforeMap.getOrDefault("script", ""));
                     }
                     break;
                 case CamelNames.HTTP_TRIGGER_COMPONENT:
                     // properties.handlerContainer.script
-                    Object handlerContainer = elementProperties.get("handlerContainer");
+                    Object handlerContainer = properties.get("handlerContainer");
                     if (handlerContainer instanceof Map containerMap) {
                         scripts.append(containerMap.getOrDefault("script", ""));
                     }
@@ -361,48 +436,22 @@ private void findUsedPropertiesInScript(ChainElement element, Map<String, UsedPr
             }
 
             if (!scripts.isEmpty()) {
-                UsedPropertyElement usedElement = UsedPropertyElement.builder()
-                        .id(element.getId())
-                        .name(element.getName())
-                        .type(element.getType())
-                        .build();
-
-                // get headers
-                buildUsedProperties(scripts, UsedPropertyElementOperation.GET, usedElement, usedProperties,
-                        GROOVY_GET_HEADERS_PATTERN, UsedPropertySource.HEADER, GROOVY_GET_HEADER_GROUPS);
-
-                // set headers
-                buildUsedProperties(scripts, UsedPropertyElementOperation.SET, usedElement, usedProperties,
-                        GROOVY_SET_HEADERS_PATTERN, UsedPropertySource.HEADER, GROOVY_SET_HEADER_GROUPS);
-
-                // get properties
-                buildUsedProperties(scripts, UsedPropertyElementOperation.GET, usedElement, usedProperties,
-                        GROOVY_GET_PROPERTIES_PATTERN, UsedPropertySource.EXCHANGE_PROPERTY, GROOVY_GET_PROPERTIES_GROUPS);
-
-                // set properties
-                buildUsedProperties(scripts, UsedPropertyElementOperation.SET, usedElement, usedProperties,
-                        GROOVY_SET_PROPERTIES_PATTERN, UsedPropertySource.EXCHANGE_PROPERTY, GROOVY_SET_PROPERTIES_GROUPS);
-            }
-        }
-    }
-
-    private void buildUsedProperties(StringBuilder scripts, UsedPropertyElementOperation operation, UsedPropertyElement usedElement,
-                                     Map<String, UsedProperty> usedProperties,
-                                     Pattern pattern, UsedPropertySource usedPropertySource, int[] matchGroups) {
-        Matcher groovyGetHeadersMatcher = pattern.matcher(scripts);
-        while (groovyGetHeadersMatcher.find()) {
-            for (int group : matchGroups) {
-                String propertyName = groovyGetHeadersMatcher.group(group);
-                if (propertyName != null) {
-                    usedElement.getOperations().add(operation);
-                    buildUsedProperty(usedProperties, propertyName, usedPropertySource, UsedPropertyType.UNKNOWN_TYPE, usedElement);
-                    break;
+                List<Map.Entry<String, UsedPropertiesScanner.Rule>> matches = new ArrayList<>();
+                GROOVY_SCANNER.scan(scripts.toString(), (propertyName, rule) -> matches.add(Map.entry(propertyName, rule)));
+                // Matches are added rule by rule, as the patterns were searched one after another
+                matches.sort(Comparator.comparingInt(match -> GROOVY_SCANNER.getRules().indexOf(match.getValue())));
+
+                // All properties of the scripts share the operations found in them
+                Set<UsedPropertyElementOperation> operations = ElementUsedProperties.usage();
+                for (Map.Entry<String, UsedPropertiesScanner.Rule> match : matches) {
+                    operations.add(match.getValue().operation());
+                    elementProperties.add(match.getKey(), match.getValue().source(), operations);
                 }
             }
         }
     }
 
-    private void findUsedProperties(ChainElement element, Map<String, Object> properties, Map<String, UsedProperty> usedProperties) {
+    private void findUsedProperties(ChainElement element, Map<String, Object> properties, ElementUsedProperties elementProperties) {
         String elementType = element.getType();
 
         for (Map.Entry<String, Object> entry : properties.entrySet()) {
@@ -414,83 +463,73 @@ private void findUsedProperties(ChainElement element, Map<String, Object> proper
                 continue;
             }
 
-            parseProperty(element, usedProperties, value, elementType);
+            parseProperty(element, value, elementProperties);
         }
     }
 
-    private void findUsedProperties(ChainElement element, Collection<Object> properties, Map<String, UsedProperty> usedProperties) {
-        String elementType = element.getType();
-
+    private void findUsedProperties(ChainElement element, Collection<Object> properties, ElementUsedProperties elementProperties) {
         for (Object property : properties) {
-            parseProperty(element, usedProperties, property, elementType);
+            parseProperty(element, property, elementProperties);
         }
     }
 
-    private void parseProperty(ChainElement element, Map<String, UsedProperty> usedProperties, Object value, String elementType) {
+    private void parseProperty(ChainElement element, Object value, ElementUsedProperties elementProperties) {
         if (value instanceof Collection listValue) {
-            findUsedProperties(element, listValue, usedProperties);
+            findUsedProperties(element, listValue, elementProperties);
         }
         if (value instanceof Map mapValue) {
-            findUsedProperties(element, mapValue, usedProperties);
+            findUsedProperties(element, mapValue, elementProperties);
         }
         if (value instanceof String stringValue) {
-            Matcher exPropertiesMatcher = PROPS_SIMPLE_PATTERN.matcher(stringValue);
-            Matcher exHeadersMatcher = HEADERS_SIMPLE_PATTERN.matcher(stringValue);
-
-            UsedPropertyElement usedElement = UsedPropertyElement.builder()
-                    .id(element.getId())
-                    .name(element.getName())
-                    .type(elementType)
-                    .build();
-
-            usedElement.getOperations().add(UsedPropertyElementOperation.GET); // constant operation for simple lang
-
-            findUsedPropertyMatches(usedProperties, exPropertiesMatcher, usedElement, UsedPropertySource.EXCHANGE_PROPERTY, EX_PROP_GROUPS);
-            findUsedPropertyMatches(usedProperties, exHeadersMatcher, usedElement, UsedPropertySource.HEADER, EX_HEADER_GROUPS);
+            Set<UsedPropertyElementOperation> operations = ElementUsedProperties.usage(UsedPropertyElementOperation.GET);
+            SIMPLE_SCANNER.scan(stringValue, (propertyName, rule) ->
+                    elementProperties.add(propertyName, rule.source(), operations));
         }
     }
 
-    private void findUsedPropertyMatches(Map<String, UsedProperty> usedProperties, Matcher exPropertiesMatcher, UsedPropertyElement usedElement, UsedPropertySource usedPropertySource, int[] groups) {
-        while (exPropertiesMatcher.find()) {
-            for (int group : groups) {
-                String propertyName = exPropertiesMatcher.group(group);
-                if (propertyName != null) {
-                    buildUsedProperty(usedProperties, propertyName, usedPropertySource, UsedPropertyType.UNKNOWN_TYPE, usedElement);
-                    break;
-                }
-            }
-        }
+    private static String buildUsedPropertyKey(String name, UsedPropertySource source) {
+        return name + source.toString();
     }
 
-    private void buildUsedProperty(Map<String, UsedProperty> usedProperties, String propName,
-                                   UsedPropertySource source, UsedPropertyType type, UsedPropertyElement usedElement) {
-        buildUsedProperty(usedProperties, propName, source, type, false, null, usedElement);
+    /**
+     * Property used by a single element, with the operations the element performs on it.
+     */
+    private record ElementUsedProperty(String name, UsedPropertySource source, UsedPropertyType type,
+                                       boolean isArray, Map<String, Object> attributeDataType,
+                                       Set<UsedPropertyElementOperation> operations) {
     }
 
-    private void buildUsedProperty(Map<String, UsedProperty> usedProperties, String propName,
-                                   UsedPropertySource source, UsedPropertyType type,
-                                   boolean isArray, Map<String, Object> attributeDataType, UsedPropertyElement usedElement) {
-        UsedProperty usedProperty = usedProperties.computeIfAbsent(
-                buildUsedPropertyKey(propName, source),
-                key ->
-                        UsedProperty.builder()
-                                .name(propName)
-                                .source(source)
-                                .type(type)
-                                .isArray(isArray)
-                                .attributeDataType(attributeDataType)
-                                .build());
+    /**
+     * Properties found in an element. The first usage of a property defines its type.
+     * Properties found in the same place, like a script, share one set of operations of that usage,
+     * as they shared one related element before; later usages of a property add their operations to it.
+     */
+    private static class ElementUsedProperties {
+        private final Map<String, ElementUsedProperty> properties = new LinkedHashMap<>();
 
-        Map<String, UsedPropertyElement> relatedElements = usedProperty.getRelatedElements();
-        UsedPropertyElement existingRelatedElement = relatedElements.get(usedElement.getId());
-        if (existingRelatedElement != null) {
-            existingRelatedElement.merge(usedElement);
-        } else {
-            relatedElements.put(usedElement.getId(), usedElement);
+        static Set<UsedPropertyElementOperation> usage(UsedPropertyElementOperation... operations) {
+            Set<UsedPropertyElementOperation> result = EnumSet.noneOf(UsedPropertyElementOperation.class);
+            result.addAll(Arrays.asList(operations));
+            return result;
         }
-    }
 
-    private static String buildUsedPropertyKey(String name, UsedPropertySource source) {
-        return name + source.toString();
+        void add(String name, UsedPropertySource source, Set<UsedPropertyElementOperation> operations) {
+            add(name, source, UsedPropertyType.UNKNOWN_TYPE, false, null, operations);
+        }
+
+        void add(String name, UsedPropertySource source, UsedPropertyType type,
+                 boolean isArray, Map<String, Object> attributeDataType, Set<UsedPropertyElementOperation> operations) {
+            String key = buildUsedPropertyKey(name, source);
+            ElementUsedProperty property = properties.get(key);
+            if (property == null) {
+                properties.put(key, new ElementUsedProperty(name, source, type, isArray, attributeDataType, operations));
+            } else {
+                property.operations().addAll(operations);
+            }
+        }
+
+        List<ElementUsedProperty> toList() {
+            return List.copyOf(properties.values());
+        }
     }
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.service;
+
+import org.qubership.integration.platform.runtime.catalog.model.chain.element.UsedPropertyElementOperation;
+import org.qubership.integration.platform.runtime.catalog.model.chain.element.UsedPropertySource;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Finds usages of exchange properties and headers for a set of patterns in a single pass over the text.
+ * Every pattern starts with the same literal prefix, so the text is scanned once for that prefix
+ * and the patterns are only evaluated at the positions where it occurs.
+ * Matches are the same as if every pattern was searched separately with {@link Matcher#find()}.
+ */
+class UsedPropertiesScanner {
+
+    /**
+     * Pattern of a property usage and the groups that may contain the property name.
+     * The first non-null group is used.
+     */
+    record Rule(Pattern pattern, int[] groups, UsedPropertySource source, UsedPropertyElementOperation operation) {
+    }
+
+    @FunctionalInterface
+    interface MatchConsumer {
+        void accept(String propertyName, Rule rule);
+    }
+
+    private final String prefix;
+    private final List<Rule> rules;
+
+    /**
+     * @param prefix literal that every match of every rule starts with, compared ignoring case
+     */
+    UsedPropertiesScanner(String prefix, List<Rule> rules) {
+        this.prefix = prefix;
+        this.rules = rules;
+    }
+
+    List<Rule> getRules() {
+        return rules;
+    }
+
+    void scan(String text, MatchConsumer consumer) {
+        int length = text.length();
+        int prefixLength = prefix.length();
+        char firstLower = Character.toLowerCase(prefix.charAt(0));
+        char firstUpper = Character.toUpperCase(prefix.charAt(0));
+
+        Matcher[] matchers = new Matcher[rules.size()];
+        // Position where the next match of a rule may start, as find() does not return overlapping matches
+        int[] nextStarts = new int[rules.size()];
+
+        for (int position = 0; position <= length - prefixLength; position++) {
+            char c = text.charAt(position);
+            if ((c != firstLower && c != firstUpper) || !text.regionMatches(true, position, prefix, 0, prefixLength)) {
+                continue;
+            }
+
+            for (int i = 0; i < matchers.length; i++) {
+                if (position < nextStarts[i]) {
+                    continue;
+                }
+                Rule rule = rules.get(i);
+                if (matchers[i] == null) {
+                    matchers[i] = rule.pattern().matcher(text).useTransparentBounds(true);
+                }
+                Matcher matcher = matchers[i].region(position, length);
+                if (matcher.lookingAt()) {
+                    nextStarts[i] = matcher.end();
+                    String propertyName = getFirstGroup(matcher, rule.groups());
+                    if (propertyName != null) {
+                        consumer.accept(propertyName, rule);
+                    }
+                }
+            }
+        }
+    }
+
+    private static String getFirstGroup(Matcher matcher, int[] groups) {
+        for (int group : groups) {
+            String value = matcher.group(group);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+}
@@ -16,6 +16,7 @@
 
 package org.qubership.integration.platform.runtime.catalog.service.deployment;
 
+import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
@@ -71,7 +72,6 @@ public class DeploymentBuilderService {
     private final LibraryElementsService libraryService;
     private final DeploymentRouteMapper deploymentRouteMapper;
     private final SystemService systemService;
-    private final EnvironmentService environmentService;
 
     @Autowired
     public DeploymentBuilderService(
@@ -81,8 +81,7 @@ public DeploymentBuilderService(
             ElementPropertiesBuilderFactory elementPropertiesBuilderFactory,
             LibraryElementsService libraryService,
             DeploymentRouteMapper deploymentRouteMapper,
-            SystemService systemService,
-            EnvironmentService environmentService) {
+            SystemService systemService) {
         this.chainFinderService = chainFinderService;
         this.snapshotService = snapshotService;
         this.elementUtils = elementUtils;
@@ -90,7 +89,6 @@ public DeploymentBuilderService(
         this.libraryService = libraryService;
         this.deploymentRouteMapper = deploymentRouteMapper;
         this.systemService = systemService;
-        this.environmentService = environmentService;
     }
 
     public List<DeploymentUpdate> buildDeploymentsUpdate(List<Deployment> deployments) {
@@ -151,6 +149,11 @@ private DeploymentConfiguration createUpdateDeploymentConfiguration(Deployment d
                                 .orElse(true))
                 .collect(Collectors.toList());
         filteredElements = elementUtils.splitCompositeTriggers(filteredElements);
+        SystemResolutionContext systemContext = systemService.resolveSystems(filteredElements.stream()
+                .filter(DeploymentBuilderService::isExternalServiceCall)
+                .map(element -> (String) element.getProperty(CamelOptions.SYSTEM_ID))
+                .filter(StringUtils::isNotEmpty)
+                .toList());
 
         List<ElementProperties> elementProperties = new ArrayList<>();
         filteredElements.stream()
@@ -170,17 +173,18 @@ private DeploymentConfiguration createUpdateDeploymentConfiguration(Deployment d
                             properties.put(REUSE_ORIGINAL_ID, element.getParent().getOriginalId());
                         }
                     }
-                    if (SERVICE_CALL_ELEMENT.equals(element.getType())) {
-                        if (IntegrationSystemType.EXTERNAL.name().equals(element.getProperty(CamelOptions.SYSTEM_TYPE))) {
-                            String systemId = (String) element.getProperty(CamelOptions.SYSTEM_ID);
-                            if (StringUtils.isNotEmpty(systemId)) {
-                                IntegrationSystem system = systemService.findById(systemId);
-                                properties.put(EXTERNAL_SERVICE_NAME, system.getName());
-                                String activeEnvironmentId = system.getActiveEnvironmentId();
-                                if (StringUtils.isNotEmpty(activeEnvironmentId)) {
-                                    Environment env = environmentService.getByIdForSystem(systemId, activeEnvironmentId);
-                                    properties.put(EXTERNAL_SERVICE_ENV_NAME, env.getName());
-                                }
+                    if (isExternalServiceCall(element)) {
+                        String systemId = (String) element.getProperty(CamelOptions.SYSTEM_ID);
+                        if (StringUtils.isNotEmpty(systemId)) {
+                            IntegrationSystem system = Optional.ofNullable(systemContext.getSystemOrNull(systemId))
+                                    .orElseThrow(() -> new EntityNotFoundException(SystemService.SYSTEM_WITH_ID_NOT_FOUND_MESSAGE + systemId));
+                            properties.put(EXTERNAL_SERVICE_NAME, system.getName());
+                            String activeEnvironmentId = system.getActiveEnvironmentId();
+                            if (StringUtils.isNotEmpty(activeEnvironmentId)) {
+                                Environment env = systemContext.findEnvironment(system, activeEnvironmentId)
+                                        .orElseThrow(() -> new EntityNotFoundException(
+                                                EnvironmentService.ENVIRONMENT_WITH_ID_NOT_FOUND_MESSAGE + activeEnvironmentId));
+                                properties.put(EXTERNAL_SERVICE_ENV_NAME, env.getName());
                             }
                         }
                     }
@@ -196,6 +200,11 @@ private DeploymentConfiguration createUpdateDeploymentConfiguration(Deployment d
                 .build();
     }
 
+    private static boolean isExternalServiceCall(ChainElement element) {
+        return SERVICE_CALL_ELEMENT.equals(element.getType())
+                && IntegrationSystemType.EXTERNAL.name().equals(element.getProperty(CamelOptions.SYSTEM_TYPE));
+    }
+
     private boolean containsCheckpointsElements(List<ElementProperties> elementProperties) {
         return elementProperties.stream().anyMatch(
                 properties -> properties.getProperties() != null
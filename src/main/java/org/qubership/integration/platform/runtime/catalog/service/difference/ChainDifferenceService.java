@@ -28,11 +28,8 @@
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Queue;
-import java.util.stream.Collectors;
+import java.util.*;
+import javax.annotation.Nullable;
 
 /**
  * Finds the differences between two chains/snapshots.
@@ -94,8 +91,8 @@ public EntityDifferenceResult findChainsDifferences(Chain leftChain, Chain right
                 leftChain,
                 rightChain,
                 findElementsDifferences(
-                        filterOutElementsFromSwimlanes(leftChain.getElements()),
-                        filterOutElementsFromSwimlanes(rightChain.getElements()),
+                        leftChain.getElements(),
+                        rightChain.getElements(),
                         !StringUtils.equals(leftChain.getId(), rightChain.getId())
                 )
         );
@@ -106,8 +103,8 @@ public EntityDifferenceResult findChainsDifferences(Snapshot leftSnapshot, Snaps
                 leftSnapshot,
                 rightSnapshot,
                 findElementsDifferences(
-                        filterOutElementsFromSwimlanes(leftSnapshot.getElements()),
-                        filterOutElementsFromSwimlanes(rightSnapshot.getElements()),
+                        leftSnapshot.getElements(),
+                        rightSnapshot.getElements(),
                         !StringUtils.equals(leftSnapshot.getChain().getId(), rightSnapshot.getChain().getId())
                 )
         );
@@ -118,8 +115,8 @@ public EntityDifferenceResult findChainsDifferences(Chain leftChain, Snapshot ri
                 leftChain,
                 rightSnapshot,
                 findElementsDifferences(
-                        filterOutElementsFromSwimlanes(leftChain.getElements()),
-                        filterOutElementsFromSwimlanes(rightSnapshot.getElements()),
+                        leftChain.getElements(),
+                        rightSnapshot.getElements(),
                         !StringUtils.equals(leftChain.getId(), rightSnapshot.getChain().getId())
                 )
         );
@@ -130,8 +127,8 @@ public EntityDifferenceResult findChainsDifferences(Snapshot leftSnapshot, Chain
                 leftSnapshot,
                 rightChain,
                 findElementsDifferences(
-                        filterOutElementsFromSwimlanes(leftSnapshot.getElements()),
-                        filterOutElementsFromSwimlanes(rightChain.getElements()),
+                        leftSnapshot.getElements(),
+                        rightChain.getElements(),
                         !StringUtils.equals(leftSnapshot.getChain().getId(), rightChain.getId())
                 )
         );
@@ -147,47 +144,71 @@ private Chain findChainById(String id) {
                 .orElseThrow(() -> new ComparisonEntityNotFoundException("Chain with id " + id + " not found"));
     }
 
+    /**
+     * Finds the differences between elements of two chains/snapshots: left elements in their order,
+     * followed by unpaired right elements. Elements from swimlanes are not compared.
+     * The content hash of every element is calculated once, and paired elements with equal hashes
+     * are not compared member by member.
+     *
+     * @param differentChains whether the elements belong to different chains. Elements of the same chain are paired
+     *      by their ids, elements of different chains are paired by their content
+     */
     private List<DifferenceResult<ChainElement>> findElementsDifferences(
             List<ChainElement> leftElements,
             List<ChainElement> rightElements,
             boolean differentChains
     ) {
+        List<HashedElement> hashedLeftElements = hashElements(leftElements);
+        List<HashedElement> hashedRightElements = hashElements(rightElements);
+
+        Map<Object, Queue<Integer>> rightElementsByKey = new HashMap<>();
+        for (int i = 0; i < hashedRightElements.size(); i++) {
+            rightElementsByKey
+                    .computeIfAbsent(getPairingKey(hashedRightElements.get(i), differentChains), key -> new ArrayDeque<>())
+                    .add(i);
+        }
+
+        boolean[] pairedRightElements = new boolean[hashedRightElements.size()];
         List<DifferenceResult<ChainElement>> diffResults = new ArrayList<>();
-        List<String> processedElementIds = new ArrayList<>();
-
-        for (ChainElement leftElement : leftElements) {
-            ChainElement comparableRightElement = null;
-            Queue<ChainElement> comparableRightElements = rightElements.stream()
-                    .filter(rightElement -> compareElements(leftElement, rightElement, differentChains))
-                    .collect(Collectors.toCollection(LinkedList::new));
-            while (comparableRightElements.peek() != null) {
-                ChainElement currentElement = comparableRightElements.poll();
-                if (comparableRightElement == null && !processedElementIds.contains(currentElement.getId())) {
-                    comparableRightElement = currentElement;
-                    processedElementIds.add(comparableRightElement.getId());
-                }
+        for (HashedElement left : hashedLeftElements) {
+            Queue<Integer> comparableRightElements = rightElementsByKey.get(getPairingKey(left, differentChains));
+            Integer rightIndex = comparableRightElements != null ? comparableRightElements.poll() : null;
+            if (rightIndex == null) {
+                diffResults.add(chainElementDiffService.findDifferences(left.element(), null));
+            } else {
+                HashedElement right = hashedRightElements.get(rightIndex);
+                pairedRightElements[rightIndex] = true;
+                diffResults.add(chainElementDiffService.findDifferences(
+                        left.element(), right.element(), left.contentHash(), right.contentHash()));
             }
-            diffResults.add(chainElementDiffService.findDifferences(leftElement, comparableRightElement));
         }
 
-        rightElements.stream()
-                .filter(rightElement -> !processedElementIds.contains(rightElement.getId()))
-                .forEach(rightElement -> diffResults.add(chainElementDiffService.findDifferences(null, rightElement)));
+        for (int i = 0; i < hashedRightElements.size(); i++) {
+            if (!pairedRightElements[i]) {
+                diffResults.add(chainElementDiffService.findDifferences(null, hashedRightElements.get(i).element()));
+            }
+        }
         return diffResults;
     }
 
-    private boolean compareElements(ChainElement leftElement, ChainElement rightElement, boolean differentChains) {
+    private List<HashedElement> hashElements(List<ChainElement> elements) {
+        return filterOutElementsFromSwimlanes(elements).stream()
+                .map(element -> new HashedElement(element, chainElementDiffService.calculateContentHash(element)))
+                .toList();
+    }
+
+    /**
+     * Elements of the same chain are paired by id, elements of different chains by the compared content:
+     * by its hash, or by the content itself when it cannot be hashed.
+     */
+    private Object getPairingKey(HashedElement hashedElement, boolean differentChains) {
+        ChainElement element = hashedElement.element();
         if (!differentChains) {
-            String leftElementId = extractElementId(leftElement);
-            String rightElementId = extractElementId(rightElement);
-            return StringUtils.equals(leftElementId, rightElementId);
-        }
-        if (!StringUtils.equals(leftElement.getType(), rightElement.getType())) {
-            return false;
+            return extractElementId(element);
         }
-        return StringUtils.equals(leftElement.getName(), rightElement.getName())
-                && StringUtils.equals(leftElement.getDescription(), rightElement.getDescription())
-                && leftElement.getProperties().equals(rightElement.getProperties());
+        return hashedElement.contentHash() != null
+                ? hashedElement.contentHash()
+                : new ElementContent(element.getType(), element.getName(), element.getDescription(), element.getProperties());
     }
 
     private List<ChainElement> filterOutElementsFromSwimlanes(List<ChainElement> elements) {
@@ -199,4 +220,10 @@ private List<ChainElement> filterOutElementsFromSwimlanes(List<ChainElement> ele
     private String extractElementId(ChainElement element) {
         return element.getChain() != null ? element.getId() : element.getOriginalId();
     }
+
+    private record HashedElement(ChainElement element, @Nullable String contentHash) {
+    }
+
+    private record ElementContent(String type, String name, String description, Map<String, Object> properties) {
+    }
 }
@@ -16,21 +16,23 @@
 
 package org.qubership.integration.platform.runtime.catalog.service.difference;
 
-import com.google.common.collect.MapDifference;
-import com.google.common.collect.Maps;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.hibernate.proxy.HibernateProxy;
+import org.qubership.integration.platform.runtime.catalog.util.HashUtils;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
 import javax.annotation.Nullable;
 
 /**
  * Finds the differences between two entities, using fields marked with {@link DifferenceMember}.
+ * Values of map fields are compared entry by entry, their keys are reported as {@code field.key}.
  *
  * @param <T> - entity type
  *
@@ -38,54 +40,209 @@
  */
 public abstract class EntityDifferenceService<T> {
 
-    private final List<Field> diffMemberFields;
+    /**
+     * Classes whose values are equal exactly when they have the same class and string representation
+     */
+    private static final Set<Class<?>> CONTENT_HASH_VALUE_CLASSES = Set.of(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+            Float.class, Double.class, BigInteger.class, BigDecimal.class, UUID.class);
+
+    private final List<DifferenceMemberAccessor> diffMemberAccessors;
 
     protected EntityDifferenceService(Class<T> type) {
-        this.diffMemberFields = FieldUtils.getFieldsListWithAnnotation(type, DifferenceMember.class);
+        this.diffMemberAccessors = FieldUtils.getFieldsListWithAnnotation(type, DifferenceMember.class).stream()
+                .map(DifferenceMemberAccessor::of)
+                .toList();
     }
 
     public DifferenceResult<T> findDifferences(@Nullable T leftOperand, @Nullable T rightOperand) {
-        Map<String, Object> leftOperandMap = leftOperand != null ? convertObjectToMap(leftOperand) : Collections.emptyMap();
-        Map<String, Object> rightOperandMap = rightOperand != null ? convertObjectToMap(rightOperand) : Collections.emptyMap();
-        MapDifference<String, Object> difference = Maps.difference(leftOperandMap, rightOperandMap);
-        return new DifferenceResult<>(
-                leftOperand,
-                rightOperand,
-                difference.entriesOnlyOnLeft().keySet(),
-                difference.entriesOnlyOnRight().keySet(),
-                difference.entriesDiffering().keySet()
-        );
+        return findDifferences(leftOperand, rightOperand, null, null);
+    }
+
+    /**
+     * Finds the differences between two entities, skipping the comparison of members
+     * when the entities have equal content hashes.
+     *
+     * @param leftContentHash hash of the left entity calculated by {@link #calculateContentHash}, may be null
+     * @param rightContentHash hash of the right entity calculated by {@link #calculateContentHash}, may be null
+     */
+    public DifferenceResult<T> findDifferences(
+            @Nullable T leftOperand,
+            @Nullable T rightOperand,
+            @Nullable String leftContentHash,
+            @Nullable String rightContentHash
+    ) {
+        Set<String> onlyOnLeft = new HashSet<>();
+        Set<String> onlyOnRight = new HashSet<>();
+        Set<String> differing = new HashSet<>();
+        boolean sameContent = leftOperand == rightOperand
+                || (leftContentHash != null && StringUtils.equals(leftContentHash, rightContentHash));
+        if (!sameContent) {
+            Object left = unproxy(leftOperand);
+            Object right = unproxy(rightOperand);
+            for (DifferenceMemberAccessor accessor : diffMemberAccessors) {
+                Object leftValue = left != null ? accessor.get(left) : null;
+                Object rightValue = right != null ? accessor.get(right) : null;
+                if (leftValue instanceof Map<?, ?> || rightValue instanceof Map<?, ?>) {
+                    compareMapMember(accessor.name(), leftValue, rightValue, onlyOnLeft, onlyOnRight, differing);
+                } else {
+                    compareValue(accessor.name(), leftValue, rightValue, onlyOnLeft, onlyOnRight, differing);
+                }
+            }
+        }
+        return new DifferenceResult<>(leftOperand, rightOperand, onlyOnLeft, onlyOnRight, differing);
     }
 
-    private Map<String, Object> convertObjectToMap(Object object) {
-        Object finalObject;
-        if (object instanceof HibernateProxy proxyObject) {
-            finalObject = proxyObject.getHibernateLazyInitializer().getImplementation();
+    private static void compareMapMember(
+            String name,
+            @Nullable Object leftValue,
+            @Nullable Object rightValue,
+            Set<String> onlyOnLeft,
+            Set<String> onlyOnRight,
+            Set<String> differing
+    ) {
+        Map<?, ?> leftMap = leftValue instanceof Map<?, ?> map ? map : Collections.emptyMap();
+        Map<?, ?> rightMap = rightValue instanceof Map<?, ?> map ? map : Collections.emptyMap();
+        for (Map.Entry<?, ?> entry : leftMap.entrySet()) {
+            Object rightEntryValue = rightMap.get(entry.getKey());
+            compareValue(name + "." + entry.getKey(), entry.getValue(), rightEntryValue, onlyOnLeft, onlyOnRight, differing);
+        }
+        for (Map.Entry<?, ?> entry : rightMap.entrySet()) {
+            if (entry.getValue() != null && leftMap.get(entry.getKey()) == null) {
+                onlyOnRight.add(name + "." + entry.getKey());
+            }
+        }
+        // A map member holding a plain value on one side only
+        if (!(leftValue instanceof Map<?, ?>) && leftValue != null) {
+            onlyOnLeft.add(name);
+        }
+        if (!(rightValue instanceof Map<?, ?>) && rightValue != null) {
+            onlyOnRight.add(name);
+        }
+    }
+
+    private static void compareValue(
+            String name,
+            @Nullable Object leftValue,
+            @Nullable Object rightValue,
+            Set<String> onlyOnLeft,
+            Set<String> onlyOnRight,
+            Set<String> differing
+    ) {
+        if (leftValue == null) {
+            if (rightValue != null) {
+                onlyOnRight.add(name);
+            }
+        } else if (rightValue == null) {
+            onlyOnLeft.add(name);
+        } else if (!leftValue.equals(rightValue)) {
+            differing.add(name);
+        }
+    }
+
+    /**
+     * Calculates the hash of the difference members of an entity, so it can be calculated once per entity
+     * and compared instead of the members. The hash covers the classes of the values,
+     * e.g. an {@link Integer} and a {@link Long} of the same value have different hashes.
+     *
+     * @return the hash, equal for entities without differences, or null if a member holds a value
+     *      of other classes than strings, numbers, booleans, enums, UUIDs, maps, lists and sets of them
+     */
+    @Nullable
+    public String calculateContentHash(@Nullable T entity) {
+        Object object = unproxy(entity);
+        if (object == null) {
+            return null;
+        }
+        StringBuilder content = new StringBuilder();
+        for (DifferenceMemberAccessor accessor : diffMemberAccessors) {
+            content.append(accessor.name()).append('=');
+            if (!appendCanonicalValue(content, accessor.get(object))) {
+                return null;
+            }
+        }
+        return HashUtils.sha256hex(content.toString());
+    }
+
+    /**
+     * Appends a representation of the value that is equal for equal values.
+     * Map entries and set items are appended in the order of their representations.
+     *
+     * @return false if the value contains an object of an unsupported class
+     */
+    private static boolean appendCanonicalValue(StringBuilder content, @Nullable Object value) {
+        if (value == null) {
+            content.append("null;");
+        } else if (CONTENT_HASH_VALUE_CLASSES.contains(value.getClass()) || value instanceof Enum<?>) {
+            String text = value.toString();
+            content.append(value.getClass().getName()).append(':').append(text.length()).append(':').append(text).append(';');
+        } else if (value instanceof Map<?, ?> map) {
+            List<String> entries = new ArrayList<>(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                StringBuilder entryContent = new StringBuilder();
+                if (!appendCanonicalValue(entryContent, entry.getKey()) || !appendCanonicalValue(entryContent, entry.getValue())) {
+                    return false;
+                }
+                entries.add(entryContent.toString());
+            }
+            appendItems(content, "map", entries, true);
+        } else if (value instanceof List<?> || value instanceof Set<?>) {
+            Collection<?> collection = (Collection<?>) value;
+            List<String> items = new ArrayList<>(collection.size());
+            for (Object item : collection) {
+                StringBuilder itemContent = new StringBuilder();
+                if (!appendCanonicalValue(itemContent, item)) {
+                    return false;
+                }
+                items.add(itemContent.toString());
+            }
+            appendItems(content, value instanceof List<?> ? "list" : "set", items, value instanceof Set<?>);
         } else {
-            finalObject = object;
+            return false;
+        }
+        return true;
+    }
+
+    private static void appendItems(StringBuilder content, String kind, List<String> items, boolean unordered) {
+        if (unordered) {
+            Collections.sort(items);
+        }
+        content.append(kind).append(':').append(items.size()).append('[');
+        items.forEach(content::append);
+        content.append(']');
+    }
+
+    @Nullable
+    private static Object unproxy(@Nullable Object object) {
+        return object instanceof HibernateProxy proxyObject
+                ? proxyObject.getHibernateLazyInitializer().getImplementation()
+                : object;
+    }
+
+    /**
+     * Getter of a difference member, created once per entity type instead of making the field accessible on every read.
+     */
+    private record DifferenceMemberAccessor(String name, MethodHandle getter) {
+
+        private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+        static DifferenceMemberAccessor of(Field field) {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+                return new DifferenceMemberAccessor(field.getName(), lookup.unreflectGetter(field).asType(GETTER_TYPE));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Unable to access difference member " + field.getName(), e);
+            }
+        }
+
+        Object get(Object object) {
+            try {
+                return (Object) getter.invokeExact(object);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
         }
-        return diffMemberFields.stream()
-                .flatMap(field -> {
-                    try {
-                        field.setAccessible(true);
-                        Object fieldValue = field.get(finalObject);
-                        Map<String, Object> resultMap = new HashMap<>();
-                        if (fieldValue instanceof Map<?, ?> fieldValueMap) {
-                            for (Object key : fieldValueMap.keySet()) {
-                                Object value = fieldValueMap.get(key);
-                                if (value != null) {
-                                    resultMap.put(field.getName() + "." + key, value);
-                                }
-                            }
-                        } else {
-                            resultMap.put(field.getName(), fieldValue);
-                        }
-                        return resultMap.entrySet().stream();
-                    } catch (IllegalAccessException e) {
-                        throw new RuntimeException(e);
-                    }
-                })
-                .filter(entry -> entry.getValue() != null)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
 }
@@ -17,21 +17,24 @@
 package org.qubership.integration.platform.runtime.catalog.service.filter;
 
 import jakarta.persistence.criteria.*;
+import org.apache.commons.lang3.StringUtils;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.jetbrains.annotations.NotNull;
 import org.qubership.integration.platform.runtime.catalog.model.filter.FilterCondition;
 import org.qubership.integration.platform.runtime.catalog.model.filter.FilterFeature;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Chain;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.ChainLabel;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.FilterRequestDTO;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.EscapeCharacter;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static org.qubership.integration.platform.runtime.catalog.model.constant.CamelNames.*;
 import static org.qubership.integration.platform.runtime.catalog.model.constant.CamelOptions.*;
@@ -48,43 +51,75 @@ public ChainFilterSpecificationBuilder(FilterConditionPredicateBuilderFactory fi
         this.filterConditionPredicateBuilderFactory = filterConditionPredicateBuilderFactory;
     }
 
+    /**
+     * Builds a case-insensitive substring search over chains, their labels and elements.
+     * Chain and element texts are matched against the generated search columns.
+     * Ids of the matching chains are collected by a union, so every branch is served by its trigram index
+     * and chains are then fetched by their primary key.
+     */
     public Specification<Chain> buildSearch(String searchString) {
-        Collection<FilterRequestDTO> filters = buildFiltersFromSearchString(searchString);
-        return build(filters, CriteriaBuilder::or, true);
+        String pattern = "%" + EscapeCharacter.DEFAULT.escape(StringUtils.defaultString(searchString).toLowerCase()) + "%";
+        char escapeCharacter = EscapeCharacter.DEFAULT.getEscapeCharacter();
+        return (root, query, criteriaBuilder) -> {
+            Subquery<String> chainsSubquery = query.subquery(String.class);
+            Root<Chain> chainRoot = chainsSubquery.from(Chain.class);
+            chainsSubquery
+                    .select(chainRoot.get("id"))
+                    .where(criteriaBuilder.like(chainRoot.get("searchText"), pattern, escapeCharacter));
+
+            Subquery<String> elementsSubquery = query.subquery(String.class);
+            Root<ChainElement> elementRoot = elementsSubquery.from(ChainElement.class);
+            elementsSubquery
+                    .select(elementRoot.get("chain").get("id"))
+                    .where(criteriaBuilder.or(
+                            criteriaBuilder.like(criteriaBuilder.lower(elementRoot.get("name")), pattern, escapeCharacter),
+                            criteriaBuilder.like(elementRoot.get("searchText"), pattern, escapeCharacter)));
+
+            Subquery<String> labelsSubquery = query.subquery(String.class);
+            Root<ChainLabel> labelRoot = labelsSubquery.from(ChainLabel.class);
+            labelsSubquery
+                    .select(labelRoot.get("chain").get("id"))
+                    .where(criteriaBuilder.like(criteriaBuilder.lower(labelRoot.get("name")), pattern, escapeCharacter));
+
+            return root.get("id").in(((HibernateCriteriaBuilder) criteriaBuilder)
+                    .unionAll(chainsSubquery, elementsSubquery, labelsSubquery));
+        };
     }
 
-    public Specification<Chain> buildFilter(Collection<FilterRequestDTO> filters) {
-        return build(filters, CriteriaBuilder::and, false);
+    /**
+     * Builds the search with the best matches first: exact name, name prefix, name substring,
+     * other chain fields and then labels or elements. Chains of the same rank are ordered by name.
+     */
+    public Specification<Chain> buildRankedSearch(String searchString) {
+        String term = StringUtils.defaultString(searchString).toLowerCase();
+        String escapedTerm = EscapeCharacter.DEFAULT.escape(term);
+        char escapeCharacter = EscapeCharacter.DEFAULT.getEscapeCharacter();
+        Specification<Chain> search = buildSearch(searchString);
+        return (root, query, criteriaBuilder) -> {
+            if (query.getResultType() == Chain.class) {
+                Expression<String> name = criteriaBuilder.lower(root.get("name"));
+                Expression<Integer> rank = criteriaBuilder.<Integer>selectCase()
+                        .when(criteriaBuilder.equal(name, term), 0)
+                        .when(criteriaBuilder.like(name, escapedTerm + "%", escapeCharacter), 1)
+                        .when(criteriaBuilder.like(name, "%" + escapedTerm + "%", escapeCharacter), 2)
+                        .when(criteriaBuilder.like(root.get("searchText"), "%" + escapedTerm + "%", escapeCharacter), 3)
+                        .otherwise(4);
+                query.orderBy(
+                        criteriaBuilder.asc(rank),
+                        criteriaBuilder.asc(root.get("name")),
+                        criteriaBuilder.asc(root.get("id")));
+            }
+            return search.toPredicate(root, query, criteriaBuilder);
+        };
     }
 
-    private List<FilterRequestDTO> buildFiltersFromSearchString(String searchString) {
-        return Stream.of(
-                FilterFeature.ID,
-                FilterFeature.NAME,
-                FilterFeature.DESCRIPTION,
-                FilterFeature.BUSINESS_DESCRIPTION,
-                FilterFeature.ASSUMPTIONS,
-                FilterFeature.OUT_OF_SCOPE,
-                FilterFeature.PATH,
-                FilterFeature.METHOD,
-                FilterFeature.EXCHANGE,
-                FilterFeature.TOPIC,
-                FilterFeature.QUEUE,
-                FilterFeature.LABELS,
-                FilterFeature.CLASSIFIER
-        ).map(feature -> FilterRequestDTO
-                .builder()
-                .feature(feature)
-                .value(searchString)
-                .condition(FilterCondition.CONTAINS)
-                .build()
-        ).toList();
+    public Specification<Chain> buildFilter(Collection<FilterRequestDTO> filters) {
+        return build(filters, CriteriaBuilder::and);
     }
 
     public Specification<Chain> build(
             Collection<FilterRequestDTO> filters,
-            BiFunction<CriteriaBuilder, Predicate[], Predicate> predicateAccumulator,
-            boolean searchMode
+            BiFunction<CriteriaBuilder, Predicate[], Predicate> predicateAccumulator
     ) {
         Map<FilterFeature, List<FilterRequestDTO>> filtersMap =
                 filters.stream().collect(Collectors.groupingBy(FilterRequestDTO::getFeature));
@@ -104,14 +139,13 @@ public Specification<Chain> build(
                     .toList());
         }
 
-        return buildComplexSpec(commonFilters, orFilters, predicateAccumulator, searchMode);
+        return buildComplexSpec(commonFilters, orFilters, predicateAccumulator);
     }
 
     private Specification<Chain> buildComplexSpec(
             List<FilterRequestDTO> commonFilters,
             Map<FilterFeature, List<FilterRequestDTO>> orFilters,
-            BiFunction<CriteriaBuilder, Predicate[], Predicate> predicateAccumulator,
-            boolean searchMode) {
+            BiFunction<CriteriaBuilder, Predicate[], Predicate> predicateAccumulator) {
         return (root, query, criteriaBuilder) -> {
             boolean isMainQuery = query.getResultType() == Chain.class;
             if (isMainQuery) {
@@ -173,7 +207,7 @@ private Specification<Chain> buildComplexSpec(
                     }
                 }
 
-                if (!havingPredicates.isEmpty() && !searchMode) {
+                if (!havingPredicates.isEmpty()) {
                     Path<Integer> chainIdPath = root.get("id");
                     query.groupBy(chainIdPath);
 
@@ -16,17 +16,26 @@
 
 package org.qubership.integration.platform.runtime.catalog.service.filter.complex;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import org.qubership.integration.platform.runtime.catalog.model.chain.ChainStatus;
 import org.qubership.integration.platform.runtime.catalog.model.deployment.engine.ChainRuntimeDeployment;
+import org.qubership.integration.platform.runtime.catalog.model.deployment.engine.DeploymentStatus;
 import org.qubership.integration.platform.runtime.catalog.model.filter.FilterFeature;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Chain;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Deployment;
 import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.FilterRequestDTO;
 import org.qubership.integration.platform.runtime.catalog.service.RuntimeDeploymentService;
-import org.springframework.util.CollectionUtils;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.util.*;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.qubership.integration.platform.runtime.catalog.persistence.ArrayFunctionContributor.equalsAny;
 
 public class ChainStatusFilters implements FilterApplier {
     private static final String NO_DEPLOYMENTS_CAPTION = "No deployments yet";
@@ -37,9 +46,31 @@ public ChainStatusFilters(RuntimeDeploymentService runtimeDeploymentService) {
         this.runtimeDeploymentService = runtimeDeploymentService;
     }
 
+    /**
+     * Runtime deployment states are kept in the engines state cache rather than in the database,
+     * so the cache is resolved to deployment identifiers of each status first.
+     * They are bound as single array parameters, so the statement does not grow with the cache.
+     * A chain has the draft status when it has no deployments and the processing status
+     * for each deployment that is not reported by engines yet.
+     */
     @Override
-    public List<Chain> apply(List<Chain> chains, List<FilterRequestDTO> filters) {
-        List<FilterRequestDTO> deploymentStatusFilters = filters.stream()
+    public Specification<Chain> toSpecification(List<FilterRequestDTO> filters) {
+        List<FilterRequestDTO> deploymentStatusFilters = getDeploymentStatusFilters(filters);
+        if (deploymentStatusFilters.isEmpty()) {
+            return (root, query, criteriaBuilder) -> criteriaBuilder.conjunction();
+        }
+
+        Map<String, DeploymentStatus> deploymentStatuses = getDeploymentStatuses(runtimeDeploymentService.getChainRuntimeDeployments());
+        List<Set<ChainStatus>> filterStatuses = deploymentStatusFilters.stream()
+                .map(this::getFilterStatuses)
+                .toList();
+        return (root, query, criteriaBuilder) -> criteriaBuilder.and(filterStatuses.stream()
+                .map(statuses -> getDeploymentStatusPredicate(root, query, criteriaBuilder, statuses, deploymentStatuses))
+                .toArray(jakarta.persistence.criteria.Predicate[]::new));
+    }
+
+    private List<FilterRequestDTO> getDeploymentStatusFilters(List<FilterRequestDTO> filters) {
+        return filters.stream()
                 .map(filter -> FilterFeature.ENGINES.equals(filter.getFeature())
                                && NO_DEPLOYMENTS_CAPTION.equals(filter.getValue())
                         ? filter.toBuilder()
@@ -50,49 +81,81 @@ public List<Chain> apply(List<Chain> chains, List<FilterRequestDTO> filters) {
                 )
                 .filter(filter -> FilterFeature.STATUS.equals(filter.getFeature()))
                 .toList();
-        if (deploymentStatusFilters.isEmpty()) {
-            return chains;
-        }
+    }
 
-        Map<String, Collection<ChainRuntimeDeployment>> runtimeDeployments = runtimeDeploymentService.getChainRuntimeDeployments();
-        return chains.stream()
-                .filter(chain -> deploymentStatusFilters.stream()
-                        .allMatch(filter -> chainMatchesDeploymentStatusFilter(runtimeDeployments, chain, filter)))
-                .toList();
+    /**
+     * Returns chain statuses matching the filter.
+     */
+    Set<ChainStatus> getFilterStatuses(FilterRequestDTO filter) {
+        return Arrays.stream(ChainStatus.values())
+                .filter(getDeploymentStatusPredicate(filter))
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(ChainStatus.class)));
     }
 
-    private boolean chainMatchesDeploymentStatusFilter(Map<String, Collection<ChainRuntimeDeployment>> runtimeDeployments,
-                                                       Chain chain, FilterRequestDTO filter) {
-        Collection<ChainStatus> chainDeploymentStatuses = getChainDeploymentStatuses(runtimeDeployments, chain);
-        Predicate<ChainStatus> predicate = getDeploymentStatusPredicate(filter);
-        return chainDeploymentStatuses.stream().anyMatch(predicate);
+    /**
+     * Returns runtime statuses by deployment id. When several engines report a deployment,
+     * the first reported status is used.
+     */
+    static Map<String, DeploymentStatus> getDeploymentStatuses(
+            Map<String, Collection<ChainRuntimeDeployment>> runtimeDeployments
+    ) {
+        Map<String, DeploymentStatus> result = new HashMap<>();
+        if (runtimeDeployments != null) {
+            runtimeDeployments.values().stream()
+                    .flatMap(Collection::stream)
+                    .forEach(runtimeDeployment -> result.putIfAbsent(
+                            runtimeDeployment.getDeploymentInfo().getDeploymentId(), runtimeDeployment.getStatus()));
+        }
+        return result;
     }
 
-    private Collection<ChainStatus> getChainDeploymentStatuses(Map<String, Collection<ChainRuntimeDeployment>> runtimeDeployments,
-                                                                    Chain chain) {
-        Collection<Deployment> deployments = chain.getDeployments();
-        Collection<ChainRuntimeDeployment> chainRuntimeDeployments =
-                runtimeDeployments == null ? null : runtimeDeployments.get(chain.getId());
-        if (CollectionUtils.isEmpty(deployments)) {
-            return Collections.singletonList(ChainStatus.DRAFT);
+    private jakarta.persistence.criteria.Predicate getDeploymentStatusPredicate(
+            Root<Chain> root,
+            CriteriaQuery<?> query,
+            CriteriaBuilder criteriaBuilder,
+            Set<ChainStatus> statuses,
+            Map<String, DeploymentStatus> deploymentStatuses
+    ) {
+        List<jakarta.persistence.criteria.Predicate> predicates = new ArrayList<>();
+        if (statuses.contains(ChainStatus.DRAFT)) {
+            predicates.add(criteriaBuilder.not(criteriaBuilder.exists(
+                    getDeploymentsSubquery(root, query, criteriaBuilder, null))));
         }
 
-        Collection<ChainStatus> result = new ArrayList<>();
-        for (Deployment deployment : deployments) {
-            String deploymentId = deployment.getId();
-            ChainRuntimeDeployment runtimeDeployment = chainRuntimeDeployments == null
-                    ? null
-                    : chainRuntimeDeployments.stream()
-                            .filter(dep -> deploymentId.equals(dep.getDeploymentInfo().getDeploymentId()))
-                            .findAny().orElse(null);
-            if (runtimeDeployment != null) {
-                result.add(ChainStatus.valueOf(runtimeDeployment.getStatus().name()));
-            } else {
-                result.add(ChainStatus.PROCESSING);
-            }
+        List<String> deploymentIds = deploymentStatuses.entrySet().stream()
+                .filter(entry -> statuses.stream().anyMatch(status -> status.name().equals(entry.getValue().name())))
+                .map(Map.Entry::getKey)
+                .toList();
+        if (!deploymentIds.isEmpty()) {
+            predicates.add(criteriaBuilder.exists(getDeploymentsSubquery(root, query, criteriaBuilder,
+                    deploymentRoot -> equalsAny(criteriaBuilder, deploymentRoot.get("id"), deploymentIds))));
         }
 
-        return result;
+        if (statuses.contains(ChainStatus.PROCESSING)) {
+            predicates.add(criteriaBuilder.exists(getDeploymentsSubquery(root, query, criteriaBuilder,
+                    deploymentRoot -> criteriaBuilder.not(equalsAny(criteriaBuilder, deploymentRoot.get("id"), deploymentStatuses.keySet())))));
+        }
+
+        return predicates.isEmpty()
+                ? criteriaBuilder.disjunction()
+                : criteriaBuilder.or(predicates.toArray(jakarta.persistence.criteria.Predicate[]::new));
+    }
+
+    private Subquery<Integer> getDeploymentsSubquery(
+            Root<Chain> root,
+            CriteriaQuery<?> query,
+            CriteriaBuilder criteriaBuilder,
+            Function<Root<Deployment>, jakarta.persistence.criteria.Predicate> deploymentCondition
+    ) {
+        Subquery<Integer> subquery = query.subquery(Integer.class);
+        Root<Deployment> deploymentRoot = subquery.from(Deployment.class);
+        jakarta.persistence.criteria.Predicate chainCondition =
+                criteriaBuilder.equal(deploymentRoot.get("chain").get("id"), root.get("id"));
+        return subquery
+                .select(criteriaBuilder.literal(1))
+                .where(deploymentCondition == null
+                        ? chainCondition
+                        : criteriaBuilder.and(chainCondition, deploymentCondition.apply(deploymentRoot)));
     }
 
     private Predicate<ChainStatus> getDeploymentStatusPredicate(FilterRequestDTO filter) {
@@ -16,35 +16,51 @@
 
 package org.qubership.integration.platform.runtime.catalog.service.filter.complex;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import org.qubership.integration.platform.runtime.catalog.model.filter.FilterFeature;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Chain;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.FilterRequestDTO;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.util.Arrays;
 import java.util.List;
 
 public class ElementFilter implements FilterApplier {
     @Override
-    public List<Chain> apply(List<Chain> chains, List<FilterRequestDTO> filters) {
-        List<FilterRequestDTO> elementFilters = filters.stream()
+    public Specification<Chain> toSpecification(List<FilterRequestDTO> filters) {
+        List<FilterRequestDTO> elementFilters = getElementFilters(filters);
+        return (root, query, criteriaBuilder) -> criteriaBuilder.and(elementFilters.stream()
+                .map(filter -> getPredicate(filter, root, query, criteriaBuilder))
+                .toArray(Predicate[]::new));
+    }
+
+    private List<FilterRequestDTO> getElementFilters(List<FilterRequestDTO> filters) {
+        return filters.stream()
                 .filter(filter -> filter.getFeature() == FilterFeature.ELEMENT)
                 .toList();
-        if (elementFilters.isEmpty()) {
-            return chains;
-        }
-        return chains.stream()
-                .filter(chain -> elementFilters.stream()
-                        .allMatch(filter -> getPredicate(filter, chain.getElements())))
-                .toList();
     }
 
-    private boolean getPredicate(FilterRequestDTO filter, List<ChainElement> elements) {
+    private Predicate getPredicate(
+            FilterRequestDTO filter,
+            Root<Chain> root,
+            CriteriaQuery<?> query,
+            CriteriaBuilder criteriaBuilder
+    ) {
+        Subquery<Integer> elementsSubquery = query.subquery(Integer.class);
+        Root<ChainElement> elementRoot = elementsSubquery.from(ChainElement.class);
+        elementsSubquery
+                .select(criteriaBuilder.literal(1))
+                .where(
+                        criteriaBuilder.equal(elementRoot.get("chain").get("id"), root.get("id")),
+                        elementRoot.get("type").in(Arrays.asList(filter.getValue().split(","))));
         return switch (filter.getCondition()) {
-            case IN ->
-                    elements.stream().anyMatch(element -> Arrays.asList(filter.getValue().split(",")).contains(element.getType()));
-            case NOT_IN ->
-                    elements.stream().noneMatch(element -> Arrays.asList(filter.getValue().split(",")).contains(element.getType()));
+            case IN -> criteriaBuilder.exists(elementsSubquery);
+            case NOT_IN -> criteriaBuilder.not(criteriaBuilder.exists(elementsSubquery));
             default -> throw new IllegalStateException("Unexpected filter value: " + filter.getCondition());
         };
     }
@@ -18,9 +18,14 @@
 
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Chain;
 import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.FilterRequestDTO;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.util.List;
 
 public interface FilterApplier {
-    List<Chain> apply(List<Chain> chains, List<FilterRequestDTO> filters);
+    /**
+     * Builds the filter as a query condition, so it is applied by the database
+     * before the chains are loaded and paginated.
+     */
+    Specification<Chain> toSpecification(List<FilterRequestDTO> filters);
 }
@@ -16,17 +16,21 @@
 
 package org.qubership.integration.platform.runtime.catalog.service.filter.complex;
 
+import jakarta.persistence.criteria.Predicate;
 import org.qubership.integration.platform.runtime.catalog.model.chain.SessionsLoggingLevel;
 import org.qubership.integration.platform.runtime.catalog.model.deployment.properties.DeploymentRuntimeProperties;
 import org.qubership.integration.platform.runtime.catalog.model.filter.FilterFeature;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Chain;
 import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.FilterRequestDTO;
 import org.qubership.integration.platform.runtime.catalog.service.ChainRuntimePropertiesService;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
+import static org.qubership.integration.platform.runtime.catalog.persistence.ArrayFunctionContributor.equalsAny;
+
 public class LoggingFilter implements FilterApplier {
 
     private final ChainRuntimePropertiesService chainRuntimePropertiesService;
@@ -35,25 +39,40 @@ public LoggingFilter(ChainRuntimePropertiesService chainRuntimePropertiesService
         this.chainRuntimePropertiesService = chainRuntimePropertiesService;
     }
 
+    /**
+     * Logging levels are kept in the runtime properties cache rather than in the database,
+     * so the cache is resolved to the identifiers of matching chains first.
+     * They are bound as a single array parameter, so the statement does not grow with the cache.
+     */
     @Override
-    public List<Chain> apply(List<Chain> chains, List<FilterRequestDTO> filters) {
-        List<FilterRequestDTO> loggingFilters = filters.stream()
-                .filter(filter -> filter.getFeature() == FilterFeature.LOGGING)
-                .toList();
+    public Specification<Chain> toSpecification(List<FilterRequestDTO> filters) {
+        List<FilterRequestDTO> loggingFilters = getLoggingFilters(filters);
         if (loggingFilters.isEmpty()) {
-            return chains;
+            return (root, query, criteriaBuilder) -> criteriaBuilder.conjunction();
         }
         Map<String, DeploymentRuntimeProperties> runtimePropertiesMap = chainRuntimePropertiesService.getRuntimePropertiesCache();
-        return chains.stream()
-                .filter(chain -> loggingFilters.stream()
-                        .allMatch(filter -> chainMatchLoggingFilter(runtimePropertiesMap, chain, filter)))
+        List<List<String>> matchingChainIds = loggingFilters.stream()
+                .map(filter -> getMatchingChainIds(runtimePropertiesMap, filter))
+                .toList();
+        return (root, query, criteriaBuilder) -> criteriaBuilder.and(matchingChainIds.stream()
+                .map(chainIds -> chainIds.isEmpty()
+                        ? criteriaBuilder.disjunction()
+                        : equalsAny(criteriaBuilder, root.get("id"), chainIds))
+                .toArray(Predicate[]::new));
+    }
+
+    List<String> getMatchingChainIds(Map<String, DeploymentRuntimeProperties> runtimePropertiesMap, FilterRequestDTO filter) {
+        return runtimePropertiesMap.entrySet().stream()
+                .filter(entry -> entry.getValue() != null
+                        && getSessionsLoggingLevelPredicate(filter, entry.getValue().getSessionsLoggingLevel()))
+                .map(Map.Entry::getKey)
                 .toList();
     }
 
-    private boolean chainMatchLoggingFilter(Map<String, DeploymentRuntimeProperties> runtimePropertiesMap,
-                                            Chain chain, FilterRequestDTO chainFilter) {
-        DeploymentRuntimeProperties props = runtimePropertiesMap.get(chain.getId());
-        return props != null && getSessionsLoggingLevelPredicate(chainFilter, props.getSessionsLoggingLevel());
+    private List<FilterRequestDTO> getLoggingFilters(List<FilterRequestDTO> filters) {
+        return filters.stream()
+                .filter(filter -> filter.getFeature() == FilterFeature.LOGGING)
+                .toList();
     }
 
     private boolean getSessionsLoggingLevelPredicate(FilterRequestDTO filter, SessionsLoggingLevel loggingLevel) {
@@ -3,12 +3,15 @@
 import jakarta.persistence.EntityNotFoundException;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Chain;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ChainRepository;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.FolderRepository;
 import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.folder.FolderContentFilter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static java.util.Objects.nonNull;
@@ -19,10 +22,12 @@ public class ChainFinderService {
     private static final String CHAIN_WITH_ID_NOT_FOUND_MESSAGE = "Can't find chain with id: ";
 
     private final ChainRepository chainRepository;
+    private final FolderRepository folderRepository;
 
     @Autowired
-    public ChainFinderService(ChainRepository chainRepository) {
+    public ChainFinderService(ChainRepository chainRepository, FolderRepository folderRepository) {
         this.chainRepository = chainRepository;
+        this.folderRepository = folderRepository;
     }
 
     public List<Chain> findAll() {
@@ -60,6 +65,20 @@ public List<Chain> findAllChainsToRootParentFolder(String openedFolderId) {
         return chainRepository.findAllChainsToRootParentFolder(openedFolderId);
     }
 
+    /**
+     * Returns names of the chain and its parent folders, from the chain to the root folder.
+     */
+    public Map<String, String> provideNavigationPath(String chainId) {
+        Chain chain = findById(chainId);
+        Map<String, String> navigationMap = new LinkedHashMap<>();
+        navigationMap.put(chain.getId(), chain.getName());
+        if (nonNull(chain.getParentFolder())) {
+            folderRepository.getPath(chain.getParentFolder().getId())
+                    .forEach(folder -> navigationMap.put(folder.getId(), folder.getName()));
+        }
+        return navigationMap;
+    }
+
     public Optional<Chain> tryFindById(String chainId) {
         return chainRepository.findById(chainId);
     }
@@ -28,6 +28,7 @@
 import org.qubership.integration.platform.runtime.catalog.model.dto.chain.ElementsFilterDTO;
 import org.qubership.integration.platform.runtime.catalog.model.library.*;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.runtime.catalog.util.HashUtils;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.util.PropertyPlaceholderHelper;
@@ -37,6 +38,7 @@
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -52,6 +54,7 @@ public class LibraryElementsService {
     private final Map<String, ElementDescriptor> elements = new HashMap<>();
     private final Map<String, ElementFolder> folders = new HashMap<>();
     private final Map<String, JsonNode> elementPatches = new HashMap<>();
+    private final Map<String, String> descriptorHashes = new ConcurrentSkipListMap<>();
 
     public LibraryElementsService(
             @Qualifier("defaultYamlMapper") YAMLMapper defaultYamlMapper,
@@ -113,11 +116,19 @@ public ElementDescriptor loadElementDescriptor(String elementName, InputStream i
             ElementDescriptor elementDescriptor = yamlMapper.convertValue(descriptorNode, ElementDescriptor.class);
             if (elementDescriptor != null) {
                 this.registerElement(elementDescriptor);
+                descriptorHashes.put(elementDescriptor.getName(), HashUtils.sha256hex(descriptorNode.toString()));
             }
             return elementDescriptor;
         }
     }
 
+    /**
+     * @return SHA-256 of the loaded element descriptors with placeholders and patches applied
+     */
+    public String getDescriptorsHash() {
+        return HashUtils.sha256hex(descriptorHashes.toString());
+    }
+
     public ElementDescriptor getElementDescriptor(String name) {
         return elements.get(name);
     }
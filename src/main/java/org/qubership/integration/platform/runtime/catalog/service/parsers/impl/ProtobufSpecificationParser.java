@@ -42,6 +42,7 @@
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -91,8 +92,8 @@ public SystemModel enrichSpecificationGroup(
             String systemModelVersion = parserUtils.defineVersion(group, null);
 
             List<ProtoFileElement> protoFiles = parseProtoFiles(sources);
-            ObjectNode typeDefinitions = buildTypeDefinitions(protoFiles);
-            List<Operation> operations = getOperations(protoFiles, typeDefinitions);
+            TypeIndex typeIndex = buildTypeIndex(protoFiles);
+            List<Operation> operations = getOperations(protoFiles, typeIndex);
 
             String systemModelId = buildId(group.getId(), systemModelName);
             systemModel = SystemModel.builder().id(systemModelId).build();
@@ -116,12 +117,23 @@ public SystemModel enrichSpecificationGroup(
         }
     }
 
+    /**
+     * Files are parsed independently of each other, so they are parsed in parallel.
+     */
     private List<ProtoFileElement> parseProtoFiles(Collection<SpecificationSource> sources) {
-        return sources.stream().filter(ProtobufSpecificationParser::isProtobufFile)
+        return sources.parallelStream().filter(ProtobufSpecificationParser::isProtobufFile)
                 .map(ProtobufSpecificationParser::parseProtobuf)
                 .collect(Collectors.toList());
     }
 
+    private TypeIndex buildTypeIndex(Collection<ProtoFileElement> protoFiles) {
+        ObjectNode definitions = buildTypeDefinitions(protoFiles);
+        Map<String, Collection<String>> references = new HashMap<>();
+        definitions.fields().forEachRemaining(entry ->
+                references.put(entry.getKey(), getReferencedTypeNames(entry.getValue())));
+        return new TypeIndex(definitions, references);
+    }
+
     private ObjectNode buildTypeDefinitions(Collection<ProtoFileElement> protoFiles) {
         ObjectNode definitions = objectMapper.createObjectNode();
         Stream<Map.Entry<String, JsonNode>> builtinTypes = createBuiltinTypes().entrySet().stream();
@@ -129,13 +141,22 @@ private ObjectNode buildTypeDefinitions(Collection<ProtoFileElement> protoFiles)
             .flatMap(protoFile -> protoFile.getTypes().stream()
                 .map(typeElement -> buildFullyQualifiedName(protoFile.getPackageName(), typeElement.getName())))
             .collect(Collectors.toSet());
-        Stream<Map.Entry<String, JsonNode>> types = protoFiles.stream()
-                .flatMap(protoFile -> protoFile.getTypes().stream()
-                        .flatMap(typeElement -> buildTypeDefinitionsRecursively(
-                                typeElement,
-                                protoFile.getPackageName(),
-                                getTypeNameResolver(protoFile.getPackageName(), typeNames))))
-                .filter(entry -> nonNull(entry.getValue()));
+        // Definitions of each file depend only on the set of type names, files are processed in parallel
+        // and the definitions are added in the order of the files.
+        Stream<Map.Entry<String, JsonNode>> types = protoFiles.parallelStream()
+                .map(protoFile -> {
+                    Function<String, String> typeResolver = getTypeNameResolver(protoFile.getPackageName(), typeNames);
+                    return protoFile.getTypes().stream()
+                            .flatMap(typeElement -> buildTypeDefinitionsRecursively(
+                                    typeElement,
+                                    protoFile.getPackageName(),
+                                    typeResolver))
+                            .filter(entry -> nonNull(entry.getValue()))
+                            .toList();
+                })
+                .toList()
+                .stream()
+                .flatMap(Collection::stream);
         Stream.concat(builtinTypes, types)
                 .forEach(entry -> definitions.set(entry.getKey(), entry.getValue()));
         return definitions;
@@ -315,8 +336,8 @@ private void addGeneralProperties(ObjectNode typeDefinition, TypeElement typeEle
         }
     }
 
-    private List<Operation> getOperations(Collection<ProtoFileElement> protoFiles, ObjectNode typeDefinitions) {
-        return protoFiles.stream().flatMap(protoFile -> extractOperations(protoFile, typeDefinitions))
+    private List<Operation> getOperations(Collection<ProtoFileElement> protoFiles, TypeIndex typeIndex) {
+        return protoFiles.parallelStream().flatMap(protoFile -> extractOperations(protoFile, typeIndex))
                 .collect(Collectors.toList());
     }
 
@@ -358,7 +379,7 @@ private JsonNode createBytesSchema() {
         return node;
     }
 
-    private Stream<Operation> extractOperations(ProtoFileElement protoFile, ObjectNode typeDefinitions) {
+    private Stream<Operation> extractOperations(ProtoFileElement protoFile, TypeIndex typeIndex) {
         return protoFile.getServices().stream().flatMap(service ->
             service.getRpcs().stream().map(rpc -> {
                 String packageName = protoFile.getPackageName();
@@ -369,8 +390,8 @@ private Stream<Operation> extractOperations(ProtoFileElement protoFile, ObjectNo
                 operation.setMethod(rpc.getName());
                 operation.setPath(buildFullyQualifiedName(javaPackageName, service.getName()));
 
-                JsonNode requestSchema = buildSchema(packageName, operationName, rpc.getRequestType(), "requests", typeDefinitions);
-                JsonNode responseSchema = buildSchema(packageName, operationName, rpc.getResponseType(), "responses", typeDefinitions);
+                JsonNode requestSchema = buildSchema(packageName, operationName, rpc.getRequestType(), "requests", typeIndex);
+                JsonNode responseSchema = buildSchema(packageName, operationName, rpc.getResponseType(), "responses", typeIndex);
 
                 operation.setRequestSchema(Map.of("application/json", requestSchema));
 
@@ -398,35 +419,23 @@ private JsonNode buildSchema(
             String operationName,
             String typeName,
             String kind,
-            ObjectNode typeDefinitions
+            TypeIndex typeIndex
     ) {
         String fullyQualifiedTypeName = getFullyQualifiedName(typeName, packageName);
         ObjectNode node = buildReferenceType(fullyQualifiedTypeName);
         node.put(SCHEMA_ID_NODE_NAME, String.format("http://system.catalog/schemas/%s/%s",
                 kind, buildFullyQualifiedName(packageName, operationName)));
         node.put(SCHEMA_HEADER_NODE_NAME, "http://json-schema.org/draft-07/schema#");
-        node.set(DEFINITIONS_NODE_NAME, filterRelatedTypes(typeDefinitions, fullyQualifiedTypeName));
+        node.set(DEFINITIONS_NODE_NAME, filterRelatedTypes(typeIndex, fullyQualifiedTypeName));
         return node;
     }
 
-    ObjectNode filterRelatedTypes(ObjectNode typeDefinitions, String name) {
+    ObjectNode filterRelatedTypes(TypeIndex typeIndex, String name) {
         ObjectNode result = objectMapper.createObjectNode();
-        collectRelatedTypes(result, typeDefinitions, name);
+        typeIndex.getRelatedTypeNames(name).forEach(typeName -> result.set(typeName, typeIndex.getDefinition(typeName)));
         return result;
     }
 
-    private void collectRelatedTypes(ObjectNode result, ObjectNode typeDefinitions, String name) {
-        if (result.has(name)) {
-            return;
-        }
-        JsonNode definition = typeDefinitions.get(name);
-        if (nonNull(definition) && definition.isObject()) {
-            result.set(name, definition);
-            getReferencedTypeNames(definition).forEach(referencedTypeName ->
-                    collectRelatedTypes(result, typeDefinitions, referencedTypeName));
-        }
-    }
-
     private Collection<String> getReferencedTypeNames(JsonNode node) {
         if (isNull(node)) {
             return Collections.emptyList();
@@ -490,4 +499,44 @@ private JsonNode buildOperationSpecification(RpcElement rpc, String operationNam
 
         return specification;
     }
+
+    /**
+     * Type definitions of all specification files keyed by package-qualified name, with the names
+     * of types each definition refers to. Types related to a type are collected once and shared
+     * by all operations using it.
+     */
+    static class TypeIndex {
+        private final ObjectNode definitions;
+        private final Map<String, Collection<String>> references;
+        private final Map<String, List<String>> relatedTypeNames = new ConcurrentHashMap<>();
+
+        TypeIndex(ObjectNode definitions, Map<String, Collection<String>> references) {
+            this.definitions = definitions;
+            this.references = references;
+        }
+
+        JsonNode getDefinition(String name) {
+            return definitions.get(name);
+        }
+
+        List<String> getRelatedTypeNames(String name) {
+            return relatedTypeNames.computeIfAbsent(name, key -> {
+                Set<String> result = new LinkedHashSet<>();
+                collectRelatedTypeNames(result, key);
+                return List.copyOf(result);
+            });
+        }
+
+        private void collectRelatedTypeNames(Set<String> result, String name) {
+            if (result.contains(name)) {
+                return;
+            }
+            JsonNode definition = definitions.get(name);
+            if (nonNull(definition) && definition.isObject()) {
+                result.add(name);
+                references.getOrDefault(name, Collections.emptyList()).forEach(referencedTypeName ->
+                        collectRelatedTypeNames(result, referencedTypeName));
+            }
+        }
+    }
 }
@@ -18,8 +18,13 @@
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.swagger.parser.Swagger20Parser;
 import io.swagger.parser.util.DeserializationUtils;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -30,7 +35,6 @@
 import io.swagger.v3.oas.models.servers.Server;
 import io.swagger.v3.parser.OpenAPIV3Parser;
 import io.swagger.v3.parser.converter.SwaggerConverter;
-import io.swagger.v3.parser.core.extensions.SwaggerParserExtension;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -45,6 +49,7 @@
 import org.qubership.integration.platform.runtime.catalog.service.parsers.Parser;
 import org.qubership.integration.platform.runtime.catalog.service.parsers.ParserUtils;
 import org.qubership.integration.platform.runtime.catalog.service.parsers.SpecificationParser;
+import org.qubership.integration.platform.runtime.catalog.service.resolvers.SchemaResolutionContext;
 import org.qubership.integration.platform.runtime.catalog.service.resolvers.swagger.SwaggerSchemaResolver;
 import org.qubership.integration.platform.runtime.catalog.service.schemas.Processor;
 import org.qubership.integration.platform.runtime.catalog.service.schemas.SchemaProcessor;
@@ -77,6 +82,8 @@ public class SwaggerSpecificationParser implements SpecificationParser {
     private final SystemModelRepository systemModelRepository;
     private final SwaggerSchemaResolver swaggerSchemaResolver;
     private final ObjectMapper objectMapper;
+    private final ObjectWriter treeWriter;
+    private final ObjectReader treeReader;
     private final ParserUtils parserUtils;
     private final EnvironmentBaseService environmentBaseService;
 
@@ -94,6 +101,9 @@ public SwaggerSpecificationParser(
         this.systemModelRepository = systemModelRepository;
         this.swaggerSchemaResolver = swaggerSchemaResolver;
         this.objectMapper = objectMapper;
+        this.treeWriter = objectMapper.writer();
+        // Keep decimals as written, the same way they look after serialization to text
+        this.treeReader = objectMapper.reader().with(JsonNodeFactory.withExactBigDecimals(true));
         this.parserUtils = parserUtils;
         this.environmentBaseService = environmentBaseService;
         for (SchemaProcessor schemaProcessor : schemaProcessors) {
@@ -114,7 +124,7 @@ public SystemModel enrichSpecificationGroup(
         try {
             SystemModel systemModel;
             String specificationText = sources.stream().map(SpecificationSource::getSource).findFirst().orElse("");
-            OpenAPI importedOpenAPI = getSwaggerParser(specificationText).readContents(specificationText, null, new ParseOptions()).getOpenAPI();
+            OpenAPI importedOpenAPI = readOpenAPI(specificationText);
             String systemModelName = parserUtils.defineVersionName(group, importedOpenAPI);
             String systemModelId = buildId(group.getId(), systemModelName);
             List<Operation> operationList = separate(importedOpenAPI, messageHandler.andThen(log::warn));
@@ -142,12 +152,18 @@ public SystemModel enrichSpecificationGroup(
         }
     }
 
-    private SwaggerParserExtension getSwaggerParser(String specificationAsString) {
+    /**
+     * Deserializes the specification into a tree once and builds the model from that tree,
+     * converting Swagger 2.0 specifications to OpenAPI 3.
+     */
+    private OpenAPI readOpenAPI(String specificationAsString) {
         JsonNode node = DeserializationUtils.deserializeIntoTree(specificationAsString, "file");
-        if (node.has(SWAGGER_LABEL)) {
-            return new SwaggerConverter();
+        if (node == null) {
+            throw new SpecificationImportException(INVALID_SWAGGER_FILE_ERROR_MESSAGE);
+        } else if (node.has(SWAGGER_LABEL)) {
+            return new SwaggerConverter().convert(new Swagger20Parser().readWithInfo(node)).getOpenAPI();
         } else if (node.has(OPEN_API_LABEL)) {
-            return new OpenAPIV3Parser();
+            return new OpenAPIV3Parser().parseJsonNode(null, node, new ParseOptions()).getOpenAPI();
         } else {
             throw new SpecificationImportException(INVALID_SWAGGER_FILE_ERROR_MESSAGE);
         }
@@ -181,16 +197,16 @@ private List<Operation> generateOperationsList(
             if (importedOpenAPI.getComponents() != null) {
                 importedComponents = importedOpenAPI.getComponents();
             }
-            JsonNode importedComponentsString = objectMapper.readTree(objectMapper.writeValueAsString(importedComponents));
+            SchemaResolutionContext resolutionContext = new SchemaResolutionContext(toTree(importedComponents));
             for (var path : allOperations.entrySet()) {
                 PathItem pathItem = importedOpenAPI.getPaths().get(path.getKey());
                 ArrayNode pathItemParams = objectMapper.createArrayNode();
                 if (pathItem.getParameters() != null) {
-                    pathItemParams = (ArrayNode) objectMapper.readTree(objectMapper.writeValueAsString(pathItem.getParameters()));
+                    pathItemParams = (ArrayNode) toTree(pathItem.getParameters());
                 }
                 for (var method : path.getValue().entrySet()) {
                     io.swagger.v3.oas.models.Operation operation = method.getValue();
-                    ObjectNode specification = (ObjectNode) objectMapper.readTree(objectMapper.writeValueAsString(operation));
+                    ObjectNode specification = (ObjectNode) toTree(operation);
                     if (!pathItemParams.isEmpty()) {
                         ArrayNode specificationParameters = objectMapper.createArrayNode();
                         if (specification.has(PARAMETERS_NODE)) {
@@ -205,8 +221,8 @@ private List<Operation> generateOperationsList(
                                 .name(operation.getOperationId())
                                 .method(method.getKey().name())
                                 .specification(specification)
-                                .requestSchema(generateRequest(operation, importedComponentsString))
-                                .responseSchemas(generateResponsesMap(operation, importedComponentsString))
+                                .requestSchema(generateRequest(operation, resolutionContext))
+                                .responseSchemas(generateResponsesMap(operation, resolutionContext))
                                 .build();
 
                         if (resultOperation.getName() == null) {
@@ -240,15 +256,25 @@ private List<Operation> generateOperationsList(
         return generatedOperations;
     }
 
+    /**
+     * Converts a specification model to a tree through a token buffer, without serializing it to text.
+     */
+    private JsonNode toTree(Object value) throws IOException {
+        try (TokenBuffer buffer = new TokenBuffer(objectMapper, false)) {
+            treeWriter.writeValue(buffer, value);
+            return treeReader.readTree(buffer.asParser());
+        }
+    }
+
     private void warnAboutEmptyOperationId(String path, String method, Consumer<String> messageHandler) {
         String message = String.format("Operation has no identifier: %s - %s. ", path, method);
         messageHandler.accept(message);
     }
 
-    private Map<String, JsonNode> generateRequest(io.swagger.v3.oas.models.Operation operation, JsonNode importedComponents) {
+    private Map<String, JsonNode> generateRequest(io.swagger.v3.oas.models.Operation operation, SchemaResolutionContext resolutionContext) {
         Map<String, JsonNode> result = new HashMap<>();
         if (operation.getRequestBody() != null) {
-            result = generateContentMap(operation.getRequestBody().getContent(), importedComponents);
+            result = generateContentMap(operation.getRequestBody().getContent(), resolutionContext);
         }
         List<Parameter> parameters = operation.getParameters();
         if (parameters != null && !parameters.isEmpty()) {
@@ -257,7 +283,7 @@ private Map<String, JsonNode> generateRequest(io.swagger.v3.oas.models.Operation
         return result;
     }
 
-    private Map<String, JsonNode> generateResponsesMap(io.swagger.v3.oas.models.Operation operation, JsonNode importedComponents) {
+    private Map<String, JsonNode> generateResponsesMap(io.swagger.v3.oas.models.Operation operation, SchemaResolutionContext resolutionContext) {
         Map<String, JsonNode> result = new HashMap<>();
         if (operation.getResponses() != null) {
             result = operation.getResponses()
@@ -267,7 +293,7 @@ private Map<String, JsonNode> generateResponsesMap(io.swagger.v3.oas.models.Oper
                         Map responseCodeMap;
                         JsonNode responseCodeMapNode = objectMapper.createObjectNode();
                         if (operation.getResponses().get(responseCode).getContent() != null) {
-                            responseCodeMap = generateContentMap(operation.getResponses().get(responseCode).getContent(), importedComponents);
+                            responseCodeMap = generateContentMap(operation.getResponses().get(responseCode).getContent(), resolutionContext);
                             responseCodeMapNode = objectMapper.convertValue(responseCodeMap, JsonNode.class);
                         }
                         return new MutablePair<>(responseCode, responseCodeMapNode);
@@ -277,7 +303,7 @@ private Map<String, JsonNode> generateResponsesMap(io.swagger.v3.oas.models.Oper
         return result;
     }
 
-    private Map<String, JsonNode> generateContentMap(Content content, JsonNode importedComponents) {
+    private Map<String, JsonNode> generateContentMap(Content content, SchemaResolutionContext resolutionContext) {
         return content.keySet()
                 .stream()
                 .map(mediaType -> {
@@ -291,7 +317,7 @@ private Map<String, JsonNode> generateContentMap(Content content, JsonNode impor
                     MutablePair<String, String> processedSchemaPair = schemaProcessor.process(schema);
                     String ref = processedSchemaPair.left;
                     String schemaAsString = ref != null
-                            ? swaggerSchemaResolver.resolveRef(ref, importedComponents)
+                            ? swaggerSchemaResolver.resolveRef(ref, resolutionContext)
                             : processedSchemaPair.right;
 
                     return new MutablePair<>(mediaType, schemaProcessor.applySchemaType(schemaAsString));
@@ -16,21 +16,18 @@
 
 package org.qubership.integration.platform.runtime.catalog.service.parsers.impl;
 
-import com.predic8.schema.Import;
-import com.predic8.schema.Include;
 import com.predic8.soamodel.WrongGrammarException;
 import com.predic8.wsdl.Definitions;
 import com.predic8.wsdl.WSDLParser;
 import com.predic8.wsdl.WSDLParserContext;
-import com.predic8.xml.util.ExternalResolver;
 import com.predic8.xml.util.ResourceDownloadException;
-import com.predic8.xml.util.ResourceResolver;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.validator.routines.UrlValidator;
 import org.apache.woden.WSDLException;
 import org.apache.woden.WSDLFactory;
 import org.apache.woden.WSDLReader;
+import org.apache.woden.WSDLSource;
 import org.apache.woden.internal.resolver.SimpleURIResolver;
 import org.apache.woden.wsdl20.BindingOperation;
 import org.apache.woden.wsdl20.Description;
@@ -49,13 +46,15 @@
 import org.qubership.integration.platform.runtime.catalog.service.parsers.Parser;
 import org.qubership.integration.platform.runtime.catalog.service.parsers.ParserUtils;
 import org.qubership.integration.platform.runtime.catalog.service.parsers.SpecificationParser;
+import org.qubership.integration.platform.runtime.catalog.service.resolvers.wsdl.SpecificationSourcesResolver;
 import org.qubership.integration.platform.runtime.catalog.service.resolvers.wsdl.WsdlVersionParser;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.xml.sax.InputSource;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.InputStream;
+import java.io.StringReader;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.Paths;
@@ -64,7 +63,6 @@
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import static java.util.Objects.nonNull;
 import static org.qubership.integration.platform.runtime.catalog.model.system.IntegrationSystemType.EXTERNAL;
 
 
@@ -167,24 +165,58 @@ private List<Operation> extractOperationsFromWsdlV2(
             Collection<SpecificationSource> sources,
             SpecificationSource mainSource
     ) {
+        try {
+            WSDLFactory factory = WSDLFactory.newInstance();
+            WSDLReader reader = factory.newWSDLReader();
+            reader.setFeature(WSDLReader.FEATURE_VALIDATION, true);
+
+            Description description = sources.size() == 1
+                    ? readWsdlV2(reader, specificationGroup, mainSource)
+                    : readWsdlV2Files(reader, specificationGroup, sources, mainSource);
+            setUpWoodenEnvironment(specificationGroup, description);
+
+            return generateWoodenOperationsList(description);
+        } catch (WSDLException e) {
+            throw new RuntimeException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads a self-contained WSDL 2.0 description from memory.
+     */
+    private Description readWsdlV2(
+            WSDLReader reader,
+            SpecificationGroup specificationGroup,
+            SpecificationSource source
+    ) throws WSDLException {
+        WSDLSource wsdlSource = reader.createWSDLSource();
+        wsdlSource.setBaseURI(new File(specificationGroup.getId(), getSourceFileName(source)).toURI());
+        wsdlSource.setSource(new InputSource(new StringReader(source.getSource())));
+        return ((DescriptionElement) reader.readWSDL(wsdlSource)).toComponent();
+    }
+
+    /**
+     * Woden opens imported documents and schemas by URL, so descriptions spread across
+     * several files are stored for the time of parsing.
+     */
+    private Description readWsdlV2Files(
+            WSDLReader reader,
+            SpecificationGroup specificationGroup,
+            Collection<SpecificationSource> sources,
+            SpecificationSource mainSource
+    ) throws WSDLException {
         try {
             Map<SpecificationSource, String> sourceFileMap = sources.stream().collect(Collectors.toMap(
                     Function.identity(),
                     source -> "file://" + storageService.save(
-                            Paths.get(
-                                    specificationGroup.getId(),
-                                    StringUtils.isEmpty(source.getName()) ? source.getId() : source.getName()
-                            ).toString(),
+                            Paths.get(specificationGroup.getId(), getSourceFileName(source)).toString(),
                             source.getSource().getBytes())
             ));
-            WSDLFactory factory = WSDLFactory.newInstance();
-            WSDLReader reader = factory.newWSDLReader();
-
-            reader.setFeature(WSDLReader.FEATURE_VALIDATION, true);
+            SpecificationSourcesResolver sourcesResolver = new SpecificationSourcesResolver(sources);
             SimpleURIResolver simpleURIResolver = new SimpleURIResolver();
             reader.setURIResolver(uri -> "file".equals(uri.getScheme())
                     ? simpleURIResolver.resolveURI(uri)
-                    : resolveSource(uri.getSchemeSpecificPart(), sources)
+                    : sourcesResolver.findSource(uri.getSchemeSpecificPart(), null)
                     .map(source -> {
                         try {
                             return new URI(sourceFileMap.get(source));
@@ -193,29 +225,32 @@ private List<Operation> extractOperationsFromWsdlV2(
                         }
                     }).orElse(simpleURIResolver.resolveURI(uri)));
             DescriptionElement descElem = (DescriptionElement) reader.readWSDL(sourceFileMap.get(mainSource));
-            Description description = descElem.toComponent();
-            setUpWoodenEnvironment(specificationGroup, description);
-
-            return generateWoodenOperationsList(description);
-        } catch (WSDLException e) {
-            throw new RuntimeException(e.getMessage(), e);
+            return descElem.toComponent();
         } finally {
             storageService.deleteDirectory(new File(specificationGroup.getId()));
         }
     }
 
+    private static String getSourceFileName(SpecificationSource source) {
+        return StringUtils.isEmpty(source.getName()) ? source.getId() : source.getName();
+    }
+
     private List<Operation> extractOperationsFromWsdlV1(
             SpecificationGroup specificationGroup,
             Collection<SpecificationSource> sources,
             SpecificationSource mainSource
     ) {
         try {
-
             WSDLParser parser = new WSDLParser();
-            parser.setResourceResolver(buildResourceResolver(sources));
+            parser.setResourceResolver(new SpecificationSourcesResolver(sources));
 
+            // Reading the main source by name makes relative imports resolve against its location
             WSDLParserContext wsdlParserContext = new WSDLParserContext();
-            wsdlParserContext.setInput(new ByteArrayInputStream(mainSource.getSource().getBytes()));
+            if (StringUtils.isNotBlank(mainSource.getName())) {
+                wsdlParserContext.setInput(mainSource.getName());
+            } else {
+                wsdlParserContext.setInput(new ByteArrayInputStream(mainSource.getSource().getBytes()));
+            }
 
             Definitions def = parser.parse(wsdlParserContext);
             setUpSOAEnvironment(specificationGroup, def);
@@ -232,42 +267,6 @@ private List<Operation> extractOperationsFromWsdlV1(
         }
     }
 
-    private ResourceResolver buildResourceResolver(Collection<SpecificationSource> sources) {
-        return new ExternalResolver() {
-            @Override
-            public Object resolve(Object input, Object baseDir) {
-                    String location = null;
-                if (input instanceof Import imp) {
-                    location = imp.getSchemaLocation();
-                } else if (input instanceof com.predic8.wsdl.Import imp) {
-                    location = imp.getLocation();
-                } else if (input instanceof Include inc) {
-                    location = inc.getSchemaLocation();
-                } else if (input instanceof File file) {
-                    location = file.getPath();
-                } else if (input instanceof String s) {
-                    location = s;
-                }
-                return Optional.ofNullable(location)
-                        .<Object>flatMap(l -> resolveLocation(l, sources))
-                        .orElseGet(() -> super.resolve(input, baseDir));
-            }
-        };
-    }
-
-    private Optional<SpecificationSource> resolveSource(String location, Collection<SpecificationSource> sources) {
-        return sources.stream()
-                .sorted(Comparator.comparing((SpecificationSource source) ->
-                        Optional.ofNullable(source.getName()).map(String::length).orElse(0)).reversed())
-                .filter(source -> nonNull(source.getName()) && location.endsWith(source.getName()))
-                .findFirst();
-    }
-
-    private Optional<? extends InputStream> resolveLocation(String location, Collection<SpecificationSource> sources) {
-        return resolveSource(location, sources)
-                .map(source -> new ByteArrayInputStream(source.getSource().getBytes()));
-    }
-
     private List<Operation> generateSOAOperationsList(Definitions definitions) {
         return definitions
                 .getServices()
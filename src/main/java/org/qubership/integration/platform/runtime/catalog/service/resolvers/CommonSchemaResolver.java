@@ -24,6 +24,7 @@
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.*;
+import java.util.function.Function;
 
 import static org.qubership.integration.platform.runtime.catalog.service.schemas.SchemasConstants.*;
 
@@ -56,9 +57,16 @@ public abstract class CommonSchemaResolver implements SchemaResolver {
     public abstract String resolveRef(String schemaRef, JsonNode componentsNode);
 
     protected ObjectNode getSchemaNode(String schemaRef, JsonNode componentsJsonNode) {
+        return getSchemaNode(schemaRef, componentsJsonNode::at);
+    }
+
+    /**
+     * @param componentLookup returns the node of the components tree by its JSON pointer
+     */
+    protected ObjectNode getSchemaNode(String schemaRef, Function<String, JsonNode> componentLookup) {
         ObjectNode resolvedSchema = OBJECT_MAPPER.createObjectNode();
 
-        JsonNode componentNode = componentsJsonNode.at(schemaRef.replace(COMPONENTS_PREFIX, EMPTY_STRING_REPLACEMENT));
+        JsonNode componentNode = componentLookup.apply(schemaRef.replace(COMPONENTS_PREFIX, EMPTY_STRING_REPLACEMENT));
         if (!componentNode.isMissingNode()) {
             resolvedSchema = (ObjectNode) componentNode;
         }
@@ -95,6 +103,10 @@ protected void convertPayloadToSchemaNode(ObjectNode componentNode) {
     }
 
     protected Map<String, JsonNode> getNestedRefs(ObjectNode schemaNode, JsonNode componentsNode, String modelType, List<String> refList) {
+        return getNestedRefs(schemaNode, componentsNode::at, modelType, refList);
+    }
+
+    protected Map<String, JsonNode> getNestedRefs(ObjectNode schemaNode, Function<String, JsonNode> componentLookup, String modelType, List<String> refList) {
         Map<String, JsonNode> result = new TreeMap<>();
         if (refList.isEmpty()) {
             refList = new LinkedList<>();
@@ -104,10 +116,10 @@ protected Map<String, JsonNode> getNestedRefs(ObjectNode schemaNode, JsonNode co
             switch (schemaNode.get(TYPE_FIELD_NAME).asText()) {
                 case OBJECT_FIELD_TYPE: {
                     JsonNode propertiesNode = schemaNode.get(PROPERTIES_FIELD_NAME);
-                    getSchemaNodeProperties(componentsNode, result, propertiesNode, modelType, refList);
+                    getSchemaNodeProperties(componentLookup, result, propertiesNode, modelType, refList);
 
                     JsonNode additionalPropertiesNode = schemaNode.get(ADDITIONAL_PROPERTIES_FIELD_NAME);
-                    getSchemaNodeProperties(componentsNode, result, additionalPropertiesNode, modelType, refList);
+                    getSchemaNodeProperties(componentLookup, result, additionalPropertiesNode, modelType, refList);
 
                     break;
                 }
@@ -118,7 +130,7 @@ protected Map<String, JsonNode> getNestedRefs(ObjectNode schemaNode, JsonNode co
                             String refKey = getNewRef(itemsNode.get(REF_FIELD_NAME).asText());
                             JsonNode newRefNode = new TextNode(refKey);
                             schemaNode.replace(REF_FIELD_NAME, newRefNode);
-                            getSchemaNodeProperties(componentsNode, result, schemaNode, modelType, refList);
+                            getSchemaNodeProperties(componentLookup, result, schemaNode, modelType, refList);
                             result.put(refKey.replace(DEFINITIONS_PREFIX, EMPTY_STRING_REPLACEMENT), schemaNode);
                         }
                     }
@@ -134,18 +146,18 @@ protected Map<String, JsonNode> getNestedRefs(ObjectNode schemaNode, JsonNode co
         return result;
     }
 
-    private void getSchemaNodeProperties(JsonNode componentsNode, Map<String, JsonNode> result, JsonNode additionalPropertiesNode, String modelType, List<String> refList) {
+    private void getSchemaNodeProperties(Function<String, JsonNode> componentLookup, Map<String, JsonNode> result, JsonNode additionalPropertiesNode, String modelType, List<String> refList) {
         if (additionalPropertiesNode != null) {
             if (additionalPropertiesNode.elements() != null) {
                 additionalPropertiesNode.elements().forEachRemaining(property -> {
                     if (property.isObject()) {
-                        Map<String, ObjectNode> refValues = getRefs((ObjectNode) property, componentsNode, modelType);
+                        Map<String, ObjectNode> refValues = getRefs((ObjectNode) property, componentLookup, modelType);
 
                         refValues.keySet().forEach(schemaRef -> {
                             if (!refList.contains(schemaRef)) {
                                 refList.add(schemaRef);
                                 result.put(schemaRef, refValues.get(schemaRef));
-                                result.putAll(getNestedRefs(refValues.get(schemaRef), componentsNode, modelType, refList));
+                                result.putAll(getNestedRefs(refValues.get(schemaRef), componentLookup, modelType, refList));
                             }
                         });
                     }
@@ -154,9 +166,9 @@ private void getSchemaNodeProperties(JsonNode componentsNode, Map<String, JsonNo
         }
     }
 
-    private Map<String, ObjectNode> getRefs(ObjectNode property, JsonNode componentsNode, String modelType) {
+    private Map<String, ObjectNode> getRefs(ObjectNode property, Function<String, JsonNode> componentLookup, String modelType) {
         ObjectNode iterableProperties = property.has(ITEMS_FIELD_NAME) ? (ObjectNode) property.get(ITEMS_FIELD_NAME) : property;
-        Map<String, ObjectNode> iterablePropertiesRefs = getIterablePropertyRefs(iterableProperties, componentsNode, modelType);
+        Map<String, ObjectNode> iterablePropertiesRefs = getIterablePropertyRefs(iterableProperties, componentLookup, modelType);
         if (iterablePropertiesRefs != null) {
             return iterablePropertiesRefs;
         }
@@ -183,7 +195,7 @@ private Map<String, ObjectNode> getRefs(ObjectNode property, JsonNode components
             }
         }
         if (!refKey.equals(refKeyNew)) {
-            JsonNode componentJsonNode = componentsNode.at(refKey);
+            JsonNode componentJsonNode = componentLookup.apply(refKey);
             if (componentJsonNode.isMissingNode()) {
                 componentJsonNode = OBJECT_MAPPER.createObjectNode();
             }
@@ -198,7 +210,7 @@ private Map<String, ObjectNode> getRefs(ObjectNode property, JsonNode components
         return result;
     }
 
-    private Map<String, ObjectNode> getIterablePropertyRefs(ObjectNode property, JsonNode componentsNode, String modelType) {
+    private Map<String, ObjectNode> getIterablePropertyRefs(ObjectNode property, Function<String, JsonNode> componentLookup, String modelType) {
         Map<String, ObjectNode> result = new TreeMap<>();
         String fieldName = "";
         if (property.has(PROPERTIES_FIELD_NAME)) {
@@ -215,7 +227,7 @@ private Map<String, ObjectNode> getIterablePropertyRefs(ObjectNode property, Jso
             Iterator<JsonNode> propertiesIterator = nestedProperties.elements();
             while (propertiesIterator.hasNext()) {
                 ObjectNode nestedProperty = (ObjectNode) propertiesIterator.next();
-                result.putAll(getRefs(nestedProperty, componentsNode, modelType));
+                result.putAll(getRefs(nestedProperty, componentLookup, modelType));
             }
             return result;
         }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.service.resolvers;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Schema references resolution state of a single specification.
+ * Components are indexed once and every resolved reference is memoized, so operations
+ * sharing a schema do not resolve it again. The components tree itself is never modified:
+ * each resolution works on copies of the components it visits.
+ */
+public class SchemaResolutionContext {
+    private final JsonNode componentsNode;
+    private final Map<String, Map<String, JsonNode>> componentsIndex = new HashMap<>();
+    private final Map<String, String> resolvedSchemas = new ConcurrentHashMap<>();
+
+    public SchemaResolutionContext(JsonNode componentsNode) {
+        this.componentsNode = componentsNode;
+        componentsNode.fields().forEachRemaining(section -> {
+            Map<String, JsonNode> components = new HashMap<>();
+            section.getValue().fields().forEachRemaining(component -> components.put(component.getKey(), component.getValue()));
+            componentsIndex.put(section.getKey(), components);
+        });
+    }
+
+    /**
+     * Returns the memoized schema for the reference, resolving it on first request.
+     */
+    public String getResolvedSchema(String schemaRef, Function<String, String> resolver) {
+        return resolvedSchemas.computeIfAbsent(schemaRef, resolver);
+    }
+
+    /**
+     * Creates a lookup of components by JSON pointer for a single resolution.
+     * A component is copied on first access and the same copy is returned afterward,
+     * so changes made during the resolution are visible to it and do not leak into the context.
+     */
+    public Function<String, JsonNode> createComponentLookup() {
+        Map<JsonNode, JsonNode> copies = new IdentityHashMap<>();
+        return path -> {
+            JsonPointer sectionPointer = JsonPointer.compile(path);
+            JsonPointer componentPointer = sectionPointer.tail();
+            if (componentPointer == null || componentPointer.matches()) {
+                // Pointer to the components node or a whole section, not expected in references
+                return copies.computeIfAbsent(componentsNode, JsonNode::deepCopy).at(sectionPointer);
+            }
+            JsonNode component = componentsIndex
+                    .getOrDefault(sectionPointer.getMatchingProperty(), Collections.emptyMap())
+                    .get(componentPointer.getMatchingProperty());
+            return component == null
+                    ? MissingNode.getInstance()
+                    : copies.computeIfAbsent(component, JsonNode::deepCopy).at(componentPointer.tail());
+        };
+    }
+}
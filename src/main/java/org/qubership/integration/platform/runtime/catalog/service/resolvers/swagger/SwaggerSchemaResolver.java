@@ -21,11 +21,13 @@
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.extern.slf4j.Slf4j;
 import org.qubership.integration.platform.runtime.catalog.service.resolvers.CommonSchemaResolver;
+import org.qubership.integration.platform.runtime.catalog.service.resolvers.SchemaResolutionContext;
 import org.qubership.integration.platform.runtime.catalog.service.resolvers.SchemaResolver;
 import org.springframework.stereotype.Service;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.function.Function;
 
 
 @Service
@@ -34,13 +36,22 @@ public class SwaggerSchemaResolver extends CommonSchemaResolver implements Schem
 
     @Override
     public String resolveRef(String schemaRef, JsonNode componentsNode) {
+        return resolveRef(schemaRef, new SchemaResolutionContext(componentsNode));
+    }
 
-        JsonNode currentComponentsNode = componentsNode.deepCopy();
+    /**
+     * Resolves the reference within the context of its specification.
+     * Use a single context for all references of a specification to resolve each of them once.
+     */
+    public String resolveRef(String schemaRef, SchemaResolutionContext context) {
+        return context.getResolvedSchema(schemaRef, ref -> {
+            Function<String, JsonNode> componentLookup = context.createComponentLookup();
 
-        ObjectNode schemaNode = getSchemaNode(schemaRef, currentComponentsNode);
+            ObjectNode schemaNode = getSchemaNode(ref, componentLookup);
 
-        Map<String, JsonNode> schemaRefs = getNestedRefs(schemaNode, currentComponentsNode, "swagger", Collections.EMPTY_LIST);
+            Map<String, JsonNode> schemaRefs = getNestedRefs(schemaNode, componentLookup, "swagger", Collections.EMPTY_LIST);
 
-        return getResolvedSchema(schemaRef, schemaNode, schemaRefs);
+            return getResolvedSchema(ref, schemaNode, schemaRefs);
+        });
     }
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.service.resolvers.wsdl;
+
+import com.predic8.schema.Import;
+import com.predic8.schema.Include;
+import com.predic8.xml.util.ExternalResolver;
+import org.apache.commons.lang3.StringUtils;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.SpecificationSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Resolves WSDL and XSD locations against the uploaded specification sources, so that imported
+ * documents are read from memory.
+ * <p>
+ * A relative location is resolved against the location of the importing document first.
+ * If there is no source with the resulting path, the source with the longest name the location ends with is used.
+ * Locations that match no source are resolved by {@link ExternalResolver}.
+ */
+public class SpecificationSourcesResolver extends ExternalResolver {
+    private static final String SEPARATOR = "/";
+
+    private final Map<String, SpecificationSource> sourcesByPath = new HashMap<>();
+    private final List<SpecificationSource> sourcesByNameLength;
+    private final Map<String, byte[]> contents = new ConcurrentHashMap<>();
+
+    public SpecificationSourcesResolver(Collection<SpecificationSource> sources) {
+        for (SpecificationSource source : sources) {
+            if (StringUtils.isNotEmpty(source.getName())) {
+                sourcesByPath.putIfAbsent(normalizePath(source.getName()), source);
+            }
+        }
+        this.sourcesByNameLength = sources.stream()
+                .filter(source -> nonNull(source.getName()))
+                .sorted(Comparator.comparing((SpecificationSource source) -> source.getName().length()).reversed())
+                .toList();
+    }
+
+    @Override
+    public Object resolve(Object input, Object baseDir) {
+        String location = getLocation(input);
+        return Optional.ofNullable(location)
+                .flatMap(l -> findSource(l, nonNull(baseDir) ? baseDir.toString() : null))
+                .<Object>map(source -> new ByteArrayInputStream(getContent(source)))
+                .orElseGet(() -> super.resolve(input, baseDir));
+    }
+
+    /**
+     * Finds the source for a location relative to the given base directory.
+     */
+    public Optional<SpecificationSource> findSource(String location, String baseDir) {
+        if (!isAbsoluteUri(location)) {
+            String path = normalizePath(StringUtils.isEmpty(baseDir) || location.startsWith(SEPARATOR)
+                    ? location
+                    : baseDir + SEPARATOR + location);
+            SpecificationSource source = sourcesByPath.get(path);
+            if (nonNull(source)) {
+                return Optional.of(source);
+            }
+        }
+        return sourcesByNameLength.stream()
+                .filter(source -> location.endsWith(source.getName()))
+                .findFirst();
+    }
+
+    /**
+     * Sources with the same content are encoded once, documents imported from several places share it.
+     */
+    private byte[] getContent(SpecificationSource source) {
+        String key = StringUtils.defaultIfEmpty(source.getSourceHash(), source.getName());
+        return contents.computeIfAbsent(key, k -> source.getSource().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String getLocation(Object input) {
+        if (input instanceof Import imp) {
+            return imp.getSchemaLocation();
+        } else if (input instanceof com.predic8.wsdl.Import imp) {
+            return imp.getLocation();
+        } else if (input instanceof Include inc) {
+            return inc.getSchemaLocation();
+        } else if (input instanceof File file) {
+            return file.getPath();
+        } else if (input instanceof String s) {
+            return s;
+        }
+        return null;
+    }
+
+    private static boolean isAbsoluteUri(String location) {
+        try {
+            return new URI(location).isAbsolute();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Removes empty and "." segments and applies ".." segments, leading ".." segments are dropped.
+     */
+    static String normalizePath(String path) {
+        Deque<String> segments = new ArrayDeque<>();
+        for (String segment : path.replace('\\', '/').split(SEPARATOR)) {
+            if (segment.isEmpty() || ".".equals(segment)) {
+                continue;
+            }
+            if ("..".equals(segment)) {
+                segments.pollLast();
+            } else {
+                segments.addLast(segment);
+            }
+        }
+        return String.join(SEPARATOR, segments);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+public class CompressionUtils {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Compresses UTF-8 representation of the text with deflate.
+     */
+    public static byte[] deflate(String text) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (OutputStream deflaterStream = deflating(outputStream)) {
+            deflaterStream.write(text.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Creates a stream compressing the written data into the output stream with deflate.
+     * Compressed data is complete when the stream is closed.
+     */
+    public static OutputStream deflating(OutputStream outputStream) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        return new DeflaterOutputStream(outputStream, deflater, BUFFER_SIZE) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    deflater.end();
+                }
+            }
+        };
+    }
+
+    public static String inflate(byte[] content) {
+        try (InputStream inflaterStream = new InflaterInputStream(new ByteArrayInputStream(content))) {
+            return new String(inflaterStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -23,6 +23,8 @@
 import org.qubership.integration.platform.runtime.catalog.model.constant.CamelOptions;
 import org.qubership.integration.platform.runtime.catalog.model.system.ServiceEnvironment;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.HttpTriggerRoute;
+import org.qubership.integration.platform.runtime.catalog.util.paths.PathIntersectionChecker;
 import org.springframework.http.HttpMethod;
 
 import java.nio.file.Paths;
@@ -54,6 +56,25 @@ public static ElementRoute getHttpTriggerRoute(ChainElement element) {
                 .build();
     }
 
+    /**
+     * Builds the route record of an HTTP trigger in a snapshot.
+     */
+    public static HttpTriggerRoute buildHttpTriggerRoute(ChainElement element) {
+        String path = getHttpTriggerPath(element);
+        return HttpTriggerRoute.builder()
+                .elementId(element.getId())
+                .snapshotId(element.getSnapshot().getId())
+                .chainId(element.getSnapshot().getChain().getId())
+                .path(path)
+                .pathPattern(new PathIntersectionChecker().getIntersectionKey(path))
+                .methods(areHttpTriggerMethodsSpecified(element)
+                        ? (String) element.getProperties().get(CamelOptions.HTTP_METHOD_RESTRICT)
+                        : null)
+                .isExternal(isExternalHttpTrigger(element))
+                .isPrivate(isPrivateHttpTrigger(element))
+                .build();
+    }
+
     public static String getSdsTriggerJobId(ChainElement element) {
         Map<String, Object> properties = element.getProperties();
         return (String) properties.get(CamelOptions.SDS_JOB_ID);
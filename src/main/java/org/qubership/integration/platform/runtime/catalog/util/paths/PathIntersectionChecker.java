@@ -19,9 +19,13 @@
 
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 public class PathIntersectionChecker {
+    private static final char PLACEHOLDER_KEY = '{';
+    private static final String SEPARATOR = "/";
+
     private final PathParser parser;
 
     public PathIntersectionChecker(PathParser parser) {
@@ -36,6 +40,17 @@ public boolean intersects(String path1, String path2) {
         return intersects(parser.parse(path1), parser.parse(path2));
     }
 
+    /**
+     * Returns a key that is equal for two paths if and only if they intersect.
+     * Placeholders are replaced by '{' that is never left in a parsed path element,
+     * every element is prefixed by a slash to tell an empty path from a path with an empty element.
+     */
+    public String getIntersectionKey(String path) {
+        return parser.parse(path).stream()
+                .map(element -> SEPARATOR + element.getPattern().replace(PathPatternCharacters.PLACEHOLDER, PLACEHOLDER_KEY))
+                .collect(Collectors.joining());
+    }
+
     private boolean intersects(List<PathElement> path1, List<PathElement> path2) {
         return (path1.size() == path2.size())
                 && IntStream.range(0, path1.size()).allMatch(index -> intersects(path1.get(index), path2.get(index)));
@@ -0,0 +1,102 @@
+-- Copyright 2024-2025 NetCracker Technology Corporation
+--
+-- Licensed under the Apache License, Version 2.0 (the "License");
+-- you may not use this file except in compliance with the License.
+-- You may obtain a copy of the License at
+--
+--     http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing, software
+-- distributed under the License is distributed on an "AS IS" BASIS,
+-- WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+-- See the License for the specific language governing permissions and
+-- limitations under the License.
+
+-- Every folder is linked to itself (depth 0) and to each of its ancestors
+CREATE TABLE folder_closure
+(
+    ancestor_id   VARCHAR(255) NOT NULL
+        CONSTRAINT fk_folder_closure_on_ancestor
+            REFERENCES folders
+            ON DELETE CASCADE,
+    descendant_id VARCHAR(255) NOT NULL
+        CONSTRAINT fk_folder_closure_on_descendant
+            REFERENCES folders
+            ON DELETE CASCADE,
+    depth         INTEGER      NOT NULL,
+    CONSTRAINT pk_folder_closure
+        PRIMARY KEY (ancestor_id, descendant_id)
+);
+
+CREATE INDEX idx_folder_closure_descendant_id
+    ON folder_closure (descendant_id, depth);
+
+WITH RECURSIVE folder_hierarchy AS (
+    SELECT f.id AS ancestor_id, f.id AS descendant_id, 0 AS depth
+    FROM catalog.folders f
+    UNION ALL
+    SELECT f.parent_folder_id, fh.descendant_id, fh.depth + 1
+    FROM folder_hierarchy fh
+             INNER JOIN catalog.folders f ON f.id = fh.ancestor_id
+    WHERE f.parent_folder_id IS NOT NULL
+)
+INSERT INTO folder_closure (ancestor_id, descendant_id, depth)
+SELECT ancestor_id, descendant_id, depth
+FROM folder_hierarchy;
+
+-- The closure is kept in the same transaction as the folder changes.
+-- Deleted folders are removed from it by the foreign keys.
+create or replace function folder_closure_on_insert() returns trigger as $$
+begin
+    insert into catalog.folder_closure (ancestor_id, descendant_id, depth)
+    select new.id, new.id, 0
+    union all
+    select fc.ancestor_id, new.id, fc.depth + 1
+    from catalog.folder_closure fc
+    where fc.descendant_id = new.parent_folder_id;
+    return null;
+end;
+$$ language plpgsql;
+
+create or replace function folder_closure_on_move() returns trigger as $$
+begin
+    -- Detach the subtree from the previous ancestors
+    delete from catalog.folder_closure fc
+    where fc.descendant_id in (select sub.descendant_id from catalog.folder_closure sub where sub.ancestor_id = new.id)
+      and fc.ancestor_id not in (select sub.descendant_id from catalog.folder_closure sub where sub.ancestor_id = new.id);
+
+    -- Attach it to the ancestors of the new parent
+    insert into catalog.folder_closure (ancestor_id, descendant_id, depth)
+    select p.ancestor_id, sub.descendant_id, p.depth + sub.depth + 1
+    from catalog.folder_closure p
+             cross join catalog.folder_closure sub
+    where p.descendant_id = new.parent_folder_id
+      and sub.ancestor_id = new.id;
+    return null;
+end;
+$$ language plpgsql;
+
+CREATE TRIGGER folder_closure_insert
+    AFTER INSERT
+    ON folders
+    FOR EACH ROW
+EXECUTE FUNCTION folder_closure_on_insert();
+
+CREATE TRIGGER folder_closure_move
+    AFTER UPDATE OF parent_folder_id
+    ON folders
+    FOR EACH ROW
+    WHEN (old.parent_folder_id IS DISTINCT FROM new.parent_folder_id)
+EXECUTE FUNCTION folder_closure_on_move();
+
+create or replace function is_parent_folder(
+    parent_id varchar(255),
+    folder_id varchar(255)
+) returns bool as $$
+    select exists(
+        select 1
+        from catalog.folder_closure fc
+        where fc.ancestor_id = parent_id
+          and fc.descendant_id = folder_id
+    );
+$$ language sql stable;
@@ -0,0 +1,62 @@
+-- Copyright 2024-2025 NetCracker Technology Corporation
+--
+-- Licensed under the Apache License, Version 2.0 (the "License");
+-- you may not use this file except in compliance with the License.
+-- You may obtain a copy of the License at
+--
+--     http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing, software
+-- distributed under the License is distributed on an "AS IS" BASIS,
+-- WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+-- See the License for the specific language governing permissions and
+-- limitations under the License.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Searchable texts are concatenated with a line break, so a search term never matches across two values
+ALTER TABLE chains
+    ADD COLUMN search_text TEXT GENERATED ALWAYS AS (
+        lower(
+            id
+                || E'\n' || coalesce(name, '')
+                || E'\n' || coalesce(description, '')
+                || E'\n' || coalesce(business_description, '')
+                || E'\n' || coalesce(assumptions, '')
+                || E'\n' || coalesce(out_of_scope, '')
+        )
+    ) STORED;
+
+ALTER TABLE elements
+    ADD COLUMN search_text TEXT GENERATED ALWAYS AS (
+        lower(
+            coalesce(properties ->> 'integrationOperationPath', '')
+                || E'\n' || coalesce(properties ->> 'contextPath', '')
+                || E'\n' || coalesce(regexp_replace(properties ->> 'uri', '^https?://[^:/]+(:\d{1,5})?', ''), '')
+                || E'\n' || coalesce(properties ->> 'httpMethod', '')
+                || E'\n' || coalesce(properties ->> 'httpMethodRestrict', '')
+                || E'\n' || coalesce(properties ->> 'integrationOperationMethod', '')
+                || E'\n' || coalesce(properties ->> 'topics', '')
+                || E'\n' || coalesce(properties ->> 'queues', '')
+                || E'\n' || coalesce(properties ->> 'exchange', '')
+                || E'\n' || coalesce(properties ->> 'integrationSystemId', '')
+                || E'\n' || coalesce(properties ->> 'topicsClassifierName', '')
+                || E'\n' || coalesce(properties ->> 'vhostClassifierName', '')
+                || E'\n' || coalesce(properties ->> 'maas.classifier.name', '')
+                || E'\n' || coalesce(properties #>> '{integrationOperationAsyncProperties,integrationOperationPath}', '')
+                || E'\n' || coalesce(properties #>> '{integrationOperationAsyncProperties,queues}', '')
+                || E'\n' || coalesce(properties #>> '{integrationOperationAsyncProperties,maas.classifier.name}', '')
+        )
+    ) STORED;
+
+CREATE INDEX idx_chains_search_text_trgm
+    ON chains USING gin (search_text gin_trgm_ops);
+
+CREATE INDEX idx_elements_name_trgm
+    ON elements USING gin (lower(name) gin_trgm_ops);
+
+CREATE INDEX idx_elements_search_text_trgm
+    ON elements USING gin (search_text gin_trgm_ops);
+
+CREATE INDEX idx_chain_labels_name_trgm
+    ON chain_labels USING gin (lower(name) gin_trgm_ops);
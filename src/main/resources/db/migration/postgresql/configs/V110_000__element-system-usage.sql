@@ -0,0 +1,100 @@
+-- Copyright 2024-2025 NetCracker Technology Corporation
+--
+-- Licensed under the Apache License, Version 2.0 (the "License");
+-- you may not use this file except in compliance with the License.
+-- You may obtain a copy of the License at
+--
+--     http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing, software
+-- distributed under the License is distributed on an "AS IS" BASIS,
+-- WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+-- See the License for the specific language governing permissions and
+-- limitations under the License.
+
+-- Services referenced by chain elements: the integration system with its specification
+-- and operation, and the context storage service
+CREATE TABLE element_system_usage
+(
+    element_id       VARCHAR(255) NOT NULL
+        CONSTRAINT fk_element_system_usage_on_element
+            REFERENCES elements
+            ON DELETE CASCADE,
+    system_id        VARCHAR(255) NOT NULL,
+    chain_id         VARCHAR(255) NOT NULL,
+    specification_id VARCHAR(255),
+    operation_id     VARCHAR(255),
+    CONSTRAINT pk_element_system_usage
+        PRIMARY KEY (element_id, system_id)
+);
+
+CREATE INDEX idx_element_system_usage_chain_id
+    ON element_system_usage (chain_id, system_id, specification_id);
+
+CREATE INDEX idx_element_system_usage_system_id
+    ON element_system_usage (system_id, specification_id);
+
+create or replace function element_system_usage_refresh(element catalog.elements) returns void as $$
+begin
+    delete from catalog.element_system_usage u where u.element_id = element.id;
+
+    if element.chain_id is null
+        or coalesce(element.type, '') not in ('service-call', 'async-api-trigger', 'context-storage', 'http-trigger') then
+        return;
+    end if;
+
+    insert into catalog.element_system_usage (element_id, system_id, chain_id, specification_id, operation_id)
+    select element.id,
+           element.properties ->> 'integrationSystemId',
+           element.chain_id,
+           nullif(btrim(element.properties ->> 'integrationSpecificationId'), ''),
+           nullif(btrim(element.properties ->> 'integrationOperationId'), '')
+    where btrim(element.properties ->> 'integrationSystemId') <> ''
+    union all
+    select element.id,
+           element.properties ->> 'contextServiceId',
+           element.chain_id,
+           null,
+           null
+    where btrim(element.properties ->> 'contextServiceId') <> ''
+    on conflict do nothing;
+end;
+$$ language plpgsql;
+
+-- Usage rows are kept in the same transaction as the element changes.
+-- Deleted elements are removed from the table by the foreign key.
+create or replace function element_system_usage_on_change() returns trigger as $$
+begin
+    perform catalog.element_system_usage_refresh(new);
+    return null;
+end;
+$$ language plpgsql;
+
+INSERT INTO element_system_usage (element_id, system_id, chain_id, specification_id, operation_id)
+SELECT e.id, usage.system_id, e.chain_id, usage.specification_id, usage.operation_id
+FROM elements e
+         CROSS JOIN LATERAL (
+    VALUES (e.properties ->> 'integrationSystemId',
+            nullif(btrim(e.properties ->> 'integrationSpecificationId'), ''),
+            nullif(btrim(e.properties ->> 'integrationOperationId'), '')),
+           (e.properties ->> 'contextServiceId', NULL, NULL)
+    ) AS usage (system_id, specification_id, operation_id)
+WHERE e.chain_id IS NOT NULL
+  AND e.type IN ('service-call', 'async-api-trigger', 'context-storage', 'http-trigger')
+  AND btrim(usage.system_id) <> ''
+ON CONFLICT DO NOTHING;
+
+CREATE TRIGGER element_system_usage_insert
+    AFTER INSERT
+    ON elements
+    FOR EACH ROW
+EXECUTE FUNCTION element_system_usage_on_change();
+
+CREATE TRIGGER element_system_usage_update
+    AFTER UPDATE OF chain_id, type, properties
+    ON elements
+    FOR EACH ROW
+    WHEN (old.chain_id IS DISTINCT FROM new.chain_id
+        OR old.type IS DISTINCT FROM new.type
+        OR old.properties IS DISTINCT FROM new.properties)
+EXECUTE FUNCTION element_system_usage_on_change();
@@ -0,0 +1,101 @@
+-- Copyright 2024-2025 NetCracker Technology Corporation
+--
+-- Licensed under the Apache License, Version 2.0 (the "License");
+-- you may not use this file except in compliance with the License.
+-- You may obtain a copy of the License at
+--
+--     http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing, software
+-- distributed under the License is distributed on an "AS IS" BASIS,
+-- WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+-- See the License for the specific language governing permissions and
+-- limitations under the License.
+
+
+-- Routes of HTTP triggers in snapshots, used to find conflicting routes without loading the elements.
+-- path_pattern is the path with placeholders replaced by '{' and a leading slash,
+-- so routes intersect when patterns are equal.
+-- Rows are written when a snapshot is created and removed with the snapshot elements by the foreign key.
+CREATE TABLE http_trigger_routes
+(
+    element_id   VARCHAR(255) NOT NULL
+        CONSTRAINT pk_http_trigger_routes
+            PRIMARY KEY
+        CONSTRAINT fk_http_trigger_routes_on_element
+            REFERENCES elements
+            ON DELETE CASCADE,
+    snapshot_id  VARCHAR(255) NOT NULL,
+    chain_id     VARCHAR(255),
+    path         VARCHAR      NOT NULL,
+    path_pattern VARCHAR      NOT NULL,
+    methods      VARCHAR(255),
+    is_external  BOOLEAN      NOT NULL,
+    is_private   BOOLEAN      NOT NULL
+);
+
+CREATE INDEX idx_http_trigger_routes_path_pattern
+    ON http_trigger_routes (path_pattern);
+
+CREATE INDEX idx_http_trigger_routes_path
+    ON http_trigger_routes (path);
+
+CREATE INDEX idx_http_trigger_routes_snapshot_id
+    ON http_trigger_routes (snapshot_id);
+
+-- Same as PathIntersectionChecker.getIntersectionKey for a path without repeated and boundary slashes
+create or replace function http_trigger_path_pattern(path text) returns text as $$
+declare
+    result         text    := '/';
+    in_placeholder boolean := false;
+    c              text;
+begin
+    if path = '' then
+        return '';
+    end if;
+    foreach c in array regexp_split_to_array(path, '') loop
+        if c = '/' then
+            in_placeholder := false;
+            result := result || c;
+        elsif c = '{' then
+            in_placeholder := true;
+            result := result || c;
+        elsif c = '}' then
+            in_placeholder := false;
+        elsif not in_placeholder then
+            result := result || c;
+        end if;
+    end loop;
+    return result;
+end;
+$$ language plpgsql immutable;
+
+INSERT INTO http_trigger_routes (element_id, snapshot_id, chain_id, path, path_pattern, methods, is_external, is_private)
+SELECT route.id,
+       route.snapshot_id,
+       route.chain_id,
+       route.path,
+       http_trigger_path_pattern(route.path),
+       route.methods,
+       route.is_external,
+       route.is_private
+FROM (
+         SELECT e.id,
+                e.snapshot_id,
+                s.chain_id,
+                btrim(regexp_replace(
+                              btrim(coalesce(e.environment ->> 'address', ''), '/')
+                                  || '/'
+                                  || coalesce(e.properties ->> 'contextPath', e.properties ->> 'integrationOperationPath', ''),
+                              '/+', '/', 'g'), '/') AS path,
+                CASE
+                    WHEN btrim(e.properties ->> 'httpMethodRestrict') <> '' THEN e.properties ->> 'httpMethodRestrict'
+                    END                                                   AS methods,
+                coalesce((e.properties ->> 'externalRoute')::BOOLEAN, TRUE)  AS is_external,
+                coalesce((e.properties ->> 'privateRoute')::BOOLEAN, FALSE) AS is_private
+         FROM elements e
+                  INNER JOIN snapshots s ON s.id = e.snapshot_id
+         WHERE e.type = 'http-trigger'
+     ) AS route;
+
+drop function http_trigger_path_pattern(text);
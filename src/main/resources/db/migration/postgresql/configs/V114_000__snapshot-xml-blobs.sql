@@ -0,0 +1,70 @@
+-- Copyright 2024-2025 NetCracker Technology Corporation
+--
+-- Licensed under the Apache License, Version 2.0 (the "License");
+-- you may not use this file except in compliance with the License.
+-- You may obtain a copy of the License at
+--
+--     http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing, software
+-- distributed under the License is distributed on an "AS IS" BASIS,
+-- WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+-- See the License for the specific language governing permissions and
+-- limitations under the License.
+
+-- Deflate-compressed XML configurations of snapshots, addressed by SHA-256 of the XML.
+-- Snapshots built from unchanged chains share the same blob.
+CREATE TABLE snapshot_xml_blobs
+(
+    hash      VARCHAR(64) NOT NULL
+        CONSTRAINT pk_snapshot_xml_blobs
+            PRIMARY KEY,
+    content   BYTEA       NOT NULL,
+    size      INTEGER     NOT NULL,
+    ref_count INTEGER     NOT NULL DEFAULT 0
+);
+
+ALTER TABLE snapshots
+    ADD COLUMN xml_hash VARCHAR(64)
+        CONSTRAINT fk_snapshots_on_xml_blob
+            REFERENCES snapshot_xml_blobs;
+
+CREATE INDEX idx_snapshots_xml_hash
+    ON snapshots (xml_hash);
+
+-- References are counted in the same transaction as the snapshot changes,
+-- including snapshots deleted by cascade with their chains.
+-- A blob is deleted when the last snapshot referencing it is removed.
+create or replace function snapshot_xml_blobs_ref_count() returns trigger as $$
+begin
+    if tg_op in ('UPDATE', 'DELETE') and old.xml_hash is not null then
+        update catalog.snapshot_xml_blobs set ref_count = ref_count - 1 where hash = old.xml_hash;
+        delete from catalog.snapshot_xml_blobs where hash = old.xml_hash and ref_count <= 0;
+    end if;
+    if tg_op in ('INSERT', 'UPDATE') and new.xml_hash is not null then
+        update catalog.snapshot_xml_blobs set ref_count = ref_count + 1 where hash = new.xml_hash;
+    end if;
+    return null;
+end;
+$$ language plpgsql;
+
+CREATE TRIGGER snapshot_xml_blobs_ref_count_insert
+    AFTER INSERT
+    ON snapshots
+    FOR EACH ROW
+    WHEN (new.xml_hash IS NOT NULL)
+EXECUTE FUNCTION snapshot_xml_blobs_ref_count();
+
+CREATE TRIGGER snapshot_xml_blobs_ref_count_update
+    AFTER UPDATE OF xml_hash
+    ON snapshots
+    FOR EACH ROW
+    WHEN (old.xml_hash IS DISTINCT FROM new.xml_hash)
+EXECUTE FUNCTION snapshot_xml_blobs_ref_count();
+
+CREATE TRIGGER snapshot_xml_blobs_ref_count_delete
+    AFTER DELETE
+    ON snapshots
+    FOR EACH ROW
+    WHEN (old.xml_hash IS NOT NULL)
+EXECUTE FUNCTION snapshot_xml_blobs_ref_count();
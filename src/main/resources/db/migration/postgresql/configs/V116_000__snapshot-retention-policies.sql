@@ -0,0 +1,31 @@
+-- Copyright 2024-2025 NetCracker Technology Corporation
+--
+-- Licensed under the Apache License, Version 2.0 (the "License");
+-- you may not use this file except in compliance with the License.
+-- You may obtain a copy of the License at
+--
+--     http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing, software
+-- distributed under the License is distributed on an "AS IS" BASIS,
+-- WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+-- See the License for the specific language governing permissions and
+-- limitations under the License.
+
+-- Snapshot retention of a chain, overriding the defaults of snapshots pruning.
+-- Null values fall back to the defaults of the pruning request.
+CREATE TABLE snapshot_retention_policies
+(
+    chain_id        VARCHAR(255) NOT NULL
+        CONSTRAINT pk_snapshot_retention_policies
+            PRIMARY KEY
+        CONSTRAINT fk_snapshot_retention_policies_on_chain
+            REFERENCES chains
+            ON DELETE CASCADE,
+    keep_last       INTEGER
+        CONSTRAINT chk_snapshot_retention_policies_keep_last
+            CHECK (keep_last >= 0),
+    older_than_days INTEGER
+        CONSTRAINT chk_snapshot_retention_policies_older_than_days
+            CHECK (older_than_days >= 0)
+);
@@ -0,0 +1,57 @@
+-- Copyright 2024-2025 NetCracker Technology Corporation
+--
+-- Licensed under the Apache License, Version 2.0 (the "License");
+-- you may not use this file except in compliance with the License.
+-- You may obtain a copy of the License at
+--
+--     http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing, software
+-- distributed under the License is distributed on an "AS IS" BASIS,
+-- WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+-- See the License for the specific language governing permissions and
+-- limitations under the License.
+
+-- Element properties are searchable only on the element types (and operation protocols) they describe,
+-- as in the search over the jsonb properties the column replaced
+ALTER TABLE elements
+    DROP COLUMN search_text;
+
+ALTER TABLE elements
+    ADD COLUMN search_text TEXT GENERATED ALWAYS AS (
+        lower(
+            CASE
+                WHEN type = 'http-trigger'
+                    THEN coalesce(properties ->> 'integrationOperationPath', '')
+                    || E'\n' || coalesce(properties ->> 'contextPath', '')
+                    || E'\n' || coalesce(properties ->> 'httpMethodRestrict', '')
+                WHEN type = 'http-sender'
+                    THEN coalesce(regexp_replace(properties ->> 'uri', '^https?://[^:/]+(:\d{1,5})?', ''), '')
+                    || E'\n' || coalesce(properties ->> 'httpMethod', '')
+                WHEN type = 'service-call' AND properties ->> 'integrationOperationProtocolType' = 'http'
+                    THEN coalesce(properties ->> 'integrationOperationPath', '')
+                    || E'\n' || coalesce(properties ->> 'integrationOperationMethod', '')
+                WHEN type IN ('service-call', 'async-api-trigger')
+                    AND properties ->> 'integrationOperationProtocolType' IN ('kafka', 'amqp')
+                    THEN coalesce(properties ->> 'integrationOperationPath', '')
+                    || E'\n' || coalesce(properties ->> 'maas.classifier.name', '')
+                    || E'\n' || coalesce(properties #>> '{integrationOperationAsyncProperties,integrationOperationPath}', '')
+                    || E'\n' || coalesce(properties #>> '{integrationOperationAsyncProperties,maas.classifier.name}', '')
+                    || CASE
+                           WHEN properties ->> 'integrationOperationProtocolType' = 'amqp'
+                               THEN E'\n' || coalesce(properties #>> '{integrationOperationAsyncProperties,queues}', '')
+                           ELSE ''
+                       END
+                ELSE ''
+            END
+                || E'\n' || coalesce(properties ->> 'topics', '')
+                || E'\n' || coalesce(properties ->> 'queues', '')
+                || E'\n' || coalesce(properties ->> 'exchange', '')
+                || E'\n' || coalesce(properties ->> 'integrationSystemId', '')
+                || E'\n' || coalesce(properties ->> 'topicsClassifierName', '')
+                || E'\n' || coalesce(properties ->> 'vhostClassifierName', '')
+        )
+    ) STORED;
+
+CREATE INDEX idx_elements_search_text_trgm
+    ON elements USING gin (search_text gin_trgm_ops);
@@ -0,0 +1,497 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.builder;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.qubership.integration.platform.runtime.catalog.model.ChainRoute;
+import org.qubership.integration.platform.runtime.catalog.model.library.ElementDescriptor;
+import org.qubership.integration.platform.runtime.catalog.model.library.ElementType;
+import org.qubership.integration.platform.runtime.catalog.model.library.Quantity;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Dependency;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mockStatic;
+import static org.qubership.integration.platform.runtime.catalog.model.constant.CamelNames.CONTAINER;
+
+@Slf4j
+class ChainGraphTest {
+
+    private static final int CHAINS_COUNT = 500;
+    private static final int BENCHMARK_BRANCHES_COUNT = 200;
+    private static final int BENCHMARK_BRANCH_LENGTH = 20;
+    private static final int BENCHMARK_ITERATIONS = 50;
+    private static final AtomicLong UUID_SEQUENCE = new AtomicLong();
+    private static final Map<String, ElementDescriptor> DESCRIPTORS = Map.of(
+            "trigger", descriptor(ElementType.TRIGGER, false, false),
+            "sftp-trigger-2", descriptor(ElementType.TRIGGER, false, false),
+            "reuse", descriptor(ElementType.REUSE, false, false),
+            "checkpoint", descriptor(ElementType.COMPOSITE_TRIGGER, false, false),
+            "script", descriptor(ElementType.MODULE, false, false),
+            CONTAINER, descriptor(ElementType.CONTAINER, true, false),
+            "loop-2", descriptor(ElementType.MODULE, true, false),
+            "try-catch-finally-2", descriptor(ElementType.MODULE, true, false, "try-2", "catch-2"),
+            "try-2", descriptor(ElementType.MODULE, true, false),
+            "split", descriptor(ElementType.MODULE, true, true)
+    );
+
+    private static MockedStatic<UUID> mockedUUID;
+
+    @BeforeAll
+    static void initializeBeforeAll() {
+        mockedUUID = mockStatic(UUID.class, CALLS_REAL_METHODS);
+        mockedUUID.when(UUID::randomUUID).thenAnswer(invocation -> new UUID(0L, UUID_SEQUENCE.incrementAndGet()));
+    }
+
+    @AfterAll
+    static void finalizeAfterAll() {
+        mockedUUID.close();
+    }
+
+    @Test
+    void shouldIndexElementsAndAdjacency() {
+        ChainElement trigger = element("trigger", "trigger");
+        ContainerChainElement loop = container("loop", "loop-2");
+        ChainElement inner = element("inner", "script");
+        ChainElement script = element("script", "script");
+        loop.addChildElement(inner);
+        connect(trigger, loop);
+        connect(trigger, script);
+        connect(loop, script);
+
+        ChainGraph graph = ChainGraph.of(List.of(script, trigger, loop), ChainGraphTest::getDescriptor);
+
+        assertThat(graph.size()).isEqualTo(4);
+        assertThat(graph.getListedCount()).isEqualTo(3);
+        assertThat(graph.getElement(3)).isSameAs(inner);
+        int triggerIndex = graph.indexOf(trigger);
+        int loopIndex = graph.indexOf(loop);
+        assertThat(triggerIndex).isEqualTo(1);
+        assertThat(graph.getOutputCount(triggerIndex)).isEqualTo(2);
+        assertThat(graph.getOutput(triggerIndex, 0)).isEqualTo(loopIndex);
+        assertThat(graph.getOutput(triggerIndex, 1)).isZero();
+        assertThat(graph.getInputCount(0)).isEqualTo(2);
+        assertThat(graph.isContainer(loopIndex)).isTrue();
+        assertThat(graph.getChildCount(loopIndex)).isEqualTo(1);
+        assertThat(graph.getChild(loopIndex, 0)).isEqualTo(3);
+        assertThat(graph.getParent(3)).isEqualTo(loopIndex);
+        assertThat(graph.getParent(triggerIndex)).isEqualTo(ChainGraph.NO_ELEMENT);
+        assertThat(graph.getDescriptor(loopIndex)).isSameAs(DESCRIPTORS.get("loop-2"));
+        assertThat(graph.indexOf(element("missing", "script"))).isEqualTo(ChainGraph.NO_ELEMENT);
+    }
+
+    @Test
+    void shouldCollectSameRoutesAsPreviousImplementationForRandomChains() {
+        for (long seed = 0; seed < CHAINS_COUNT; seed++) {
+            List<ChainElement> elements = new ChainGenerator(new Random(seed)).generate();
+
+            Map<String, String> expectedCustomIds = new HashMap<>();
+            List<String> expected = describe(collect(() -> LegacyRouteCollector.collectRoutes(
+                    elements, ChainGraphTest::getDescriptor, expectedCustomIds)));
+            Map<String, String> actualCustomIds = new HashMap<>();
+            List<String> actual = describe(collect(() -> XmlBuilder.collectRoutes(
+                    ChainGraph.of(elements, ChainGraphTest::getDescriptor), actualCustomIds)));
+
+            assertThat(actual).as("seed %d", seed).isEqualTo(expected);
+            assertThat(actualCustomIds).as("seed %d", seed).isEqualTo(expectedCustomIds);
+        }
+    }
+
+    @Test
+    void shouldCollectRoutesOfLargeChain() {
+        List<ChainElement> elements = generateLargeChain();
+
+        Duration legacy = measure(() -> LegacyRouteCollector.collectRoutes(
+                elements, ChainGraphTest::getDescriptor, new HashMap<>()));
+        Duration graph = measure(() -> XmlBuilder.collectRoutes(
+                ChainGraph.of(elements, ChainGraphTest::getDescriptor), new HashMap<>()));
+        log.info("Routes of {} elements collected {} times: previous implementation {} ms, chain graph {} ms",
+                elements.size(), BENCHMARK_ITERATIONS, legacy.toMillis(), graph.toMillis());
+
+        assertThat(graph).isLessThan(Duration.ofSeconds(30));
+    }
+
+    private static Duration measure(Supplier<List<ChainRoute>> collector) {
+        for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
+            collector.get();
+        }
+        long startTime = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
+            assertThat(collector.get()).isNotEmpty();
+        }
+        return Duration.ofNanos(System.nanoTime() - startTime);
+    }
+
+    private static List<ChainRoute> collect(Supplier<List<ChainRoute>> collector) {
+        UUID_SEQUENCE.set(0);
+        return collector.get();
+    }
+
+    private static List<String> describe(List<ChainRoute> routes) {
+        return routes.stream()
+                .map(route -> route.getId()
+                        + " " + route.getElements().stream().map(ChainElement::getId).toList()
+                        + " -> " + route.getNextRoutes().stream().map(ChainRoute::getId).toList())
+                .toList();
+    }
+
+    /**
+     * Triggers followed by branches of scripts and loops that merge into the next branch.
+     */
+    private static List<ChainElement> generateLargeChain() {
+        List<ChainElement> elements = new ArrayList<>();
+        ChainElement previousEnd = null;
+        for (int branch = 0; branch < BENCHMARK_BRANCHES_COUNT; branch++) {
+            ChainElement trigger = element("trigger-" + branch, "trigger");
+            elements.add(trigger);
+            ChainElement previous = trigger;
+            for (int i = 0; i < BENCHMARK_BRANCH_LENGTH; i++) {
+                ChainElement element;
+                if (i % 5 == 4) {
+                    ContainerChainElement loop = container("loop-" + branch + "-" + i, "loop-2");
+                    ChainElement inner = element("inner-" + branch + "-" + i, "script");
+                    loop.addChildElement(inner);
+                    elements.add(inner);
+                    element = loop;
+                } else {
+                    element = element("script-" + branch + "-" + i, "script");
+                }
+                elements.add(element);
+                connect(previous, element);
+                previous = element;
+            }
+            if (previousEnd != null) {
+                connect(previousEnd, elements.get(elements.size() - BENCHMARK_BRANCH_LENGTH / 2));
+            }
+            previousEnd = previous;
+        }
+        return elements;
+    }
+
+    private static ElementDescriptor getDescriptor(ChainElement element) {
+        return DESCRIPTORS.getOrDefault(element.getType(), new ElementDescriptor());
+    }
+
+    private static ElementDescriptor descriptor(ElementType type, boolean container, boolean oldStyleContainer,
+                                                String... allowedChildren) {
+        ElementDescriptor descriptor = new ElementDescriptor();
+        descriptor.setType(type);
+        descriptor.setContainer(container);
+        descriptor.setOldStyleContainer(oldStyleContainer);
+        for (String child : allowedChildren) {
+            descriptor.getAllowedChildren().put(child, Quantity.ANY);
+        }
+        return descriptor;
+    }
+
+    private static ChainElement element(String id, String type) {
+        return ChainElement.builder().id(id).type(type).originalId("original-" + id).build();
+    }
+
+    private static ContainerChainElement container(String id, String type) {
+        return ContainerChainElement.builder().id(id).type(type).originalId("original-" + id).build();
+    }
+
+    private static void connect(ChainElement from, ChainElement to) {
+        Dependency dependency = Dependency.of(from, to);
+        from.getOutputDependencies().add(dependency);
+        to.getInputDependencies().add(dependency);
+    }
+
+    /**
+     * Generates acyclic chains with all kinds of start elements and containers.
+     */
+    private static class ChainGenerator {
+        private static final List<String> START_TYPES = List.of("trigger", "sftp-trigger-2", "reuse", "checkpoint");
+        private static final List<String> MODULE_TYPES = List.of(
+                "script", "script", "script", "checkpoint", "loop-2", "try-catch-finally-2", "split");
+
+        private final Random random;
+        private final List<ChainElement> elements = new ArrayList<>();
+        private int sequence;
+
+        ChainGenerator(Random random) {
+            this.random = random;
+        }
+
+        List<ChainElement> generate() {
+            List<ChainElement> topLevel = new ArrayList<>();
+            int startsCount = 1 + random.nextInt(3);
+            for (int i = 0; i < startsCount; i++) {
+                topLevel.add(create(START_TYPES.get(random.nextInt(START_TYPES.size())), 0));
+            }
+            int modulesCount = 3 + random.nextInt(20);
+            for (int i = 0; i < modulesCount; i++) {
+                topLevel.add(create(MODULE_TYPES.get(random.nextInt(MODULE_TYPES.size())), 0));
+            }
+            connectRandomly(topLevel, startsCount);
+
+            // Old style containers lead from their children to the following elements
+            for (int i = 0; i < topLevel.size(); i++) {
+                if (topLevel.get(i) instanceof ContainerChainElement split && "split".equals(split.getType())) {
+                    for (ChainElement child : split.getElements()) {
+                        if (i + 1 < topLevel.size() && random.nextBoolean()) {
+                            connect(child, topLevel.get(i + 1 + random.nextInt(topLevel.size() - i - 1)));
+                        }
+                    }
+                }
+            }
+
+            // Grouping containers do not make elements nested
+            if (random.nextInt(3) == 0) {
+                ContainerChainElement group = container(nextId(), CONTAINER);
+                elements.add(group);
+                topLevel.stream()
+                        .filter(element -> random.nextInt(4) == 0)
+                        .forEach(group::addChildElement);
+            }
+
+            Collections.shuffle(elements, random);
+            return elements;
+        }
+
+        private ChainElement create(String type, int depth) {
+            ChainElement element = switch (type) {
+                case "loop-2", "try-2" -> {
+                    ContainerChainElement container = container(nextId(), type);
+                    createChildren(container, depth);
+                    yield container;
+                }
+                case "try-catch-finally-2" -> {
+                    ContainerChainElement container = container(nextId(), type);
+                    int branchesCount = 1 + random.nextInt(3);
+                    for (int i = 0; i < branchesCount; i++) {
+                        container.addChildElement(random.nextInt(4) == 0 ? create("script", depth + 1) : create("try-2", depth + 1));
+                    }
+                    yield container;
+                }
+                case "split" -> {
+                    ContainerChainElement container = container(nextId(), type);
+                    int branchesCount = 1 + random.nextInt(3);
+                    for (int i = 0; i < branchesCount; i++) {
+                        container.addChildElement(create("script", depth + 1));
+                    }
+                    yield container;
+                }
+                default -> element(nextId(), type);
+            };
+            elements.add(element);
+            return element;
+        }
+
+        private void createChildren(ContainerChainElement container, int depth) {
+            List<ChainElement> children = new ArrayList<>();
+            int childrenCount = 1 + random.nextInt(4);
+            for (int i = 0; i < childrenCount; i++) {
+                String type = depth < 2 && random.nextInt(5) == 0 ? "loop-2" : "script";
+                children.add(create(type, depth + 1));
+            }
+            children.forEach(container::addChildElement);
+            connectRandomly(children, 0);
+        }
+
+        /**
+         * Connects elements to the following ones, the first elements are left without inputs.
+         */
+        private void connectRandomly(List<ChainElement> chainElements, int startsCount) {
+            for (int i = 0; i < chainElements.size() - 1; i++) {
+                int outputsCount = random.nextInt(4) == 0 ? 0 : 1 + random.nextInt(2);
+                for (int n = 0; n < outputsCount; n++) {
+                    int target = Math.max(i + 1, startsCount) + random.nextInt(3);
+                    if (target < chainElements.size()) {
+                        connect(chainElements.get(i), chainElements.get(target));
+                    }
+                }
+            }
+        }
+
+        private String nextId() {
+            return "element-" + sequence++;
+        }
+    }
+
+    /**
+     * Collects routes as XmlBuilder did before the chain graph was introduced.
+     */
+    private static class LegacyRouteCollector {
+
+        static List<ChainRoute> collectRoutes(List<ChainElement> elements,
+                                              Function<ChainElement, ElementDescriptor> libraryService,
+                                              Map<String, String> routesWithCustomId) {
+            List<ChainElement> startElements = elements.stream()
+                    .filter(chainElement -> {
+                        ElementDescriptor descriptor = libraryService.apply(chainElement);
+                        boolean elementHasNoParent = chainElement.getParent() == null
+                                || CONTAINER.equals(chainElement.getParent().getType());
+                        return descriptor != null
+                                && (descriptor.getType() == ElementType.TRIGGER
+                                || descriptor.getType() == ElementType.REUSE
+                                || (descriptor.getType() == ElementType.COMPOSITE_TRIGGER
+                                && elementHasNoParent
+                                && chainElement.getInputDependencies().isEmpty()));
+                    })
+                    .toList();
+
+            List<ChainRoute> routes = new LinkedList<>();
+            Map<String, ChainRoute> elementToRoute = new HashMap<>();
+            Deque<Pair<ChainElement, ChainRoute>> stack = new LinkedList<>();
+            for (ChainElement startElement : startElements) {
+                ChainRoute route = !BuilderConstants.REUSE_ELEMENT_TYPE.equals(startElement.getType())
+                        ? new ChainRoute()
+                        : new ChainRoute(startElement.getOriginalId());
+                routes.add(route);
+                stack.push(Pair.of(startElement, route));
+
+                if (startElement.getType().startsWith(BuilderConstants.SFTP_TRIGGER_PREFIX)) {
+                    routesWithCustomId.put(
+                            route.getId(),
+                            BuilderConstants.DEPLOYMENT_ID_PLACEHOLDER + "-" + startElement.getId());
+                }
+            }
+            while (!stack.isEmpty()) {
+                Pair<ChainElement, ChainRoute> currentElement = stack.pop();
+                ChainElement current = currentElement.getLeft();
+                ChainRoute currentRoute = currentElement.getRight();
+                ElementDescriptor elementDescriptor = libraryService.apply(current);
+                ElementType elementType = elementDescriptor.getType();
+
+                if (currentRoute.getElements().isEmpty()) {
+                    elementToRoute.put(current.getId(), currentRoute);
+                }
+                currentRoute.getElements().add(current);
+
+                boolean completeRoute =
+                        elementType == ElementType.TRIGGER
+                                || (elementType == ElementType.COMPOSITE_TRIGGER)
+                                || current.getOutputDependencies().size() != 1;
+
+                for (Dependency dependency : current.getOutputDependencies()) {
+                    ChainElement nextElement = dependency.getElementTo();
+                    if (elementToRoute.containsKey(nextElement.getId())) {
+                        ChainRoute nextRoute = elementToRoute.get(nextElement.getId());
+                        currentRoute.getNextRoutes().add(nextRoute);
+                    } else {
+                        ChainRoute route = currentRoute;
+                        if (completeRoute || nextElement.getInputDependencies().size() > 1) {
+                            route = new ChainRoute();
+                            routes.add(route);
+                            currentRoute.getNextRoutes().add(route);
+                        }
+                        stack.push(Pair.of(dependency.getElementTo(), route));
+                    }
+                }
+
+                if (current instanceof ContainerChainElement && elementType != ElementType.CONTAINER) {
+                    if (!elementDescriptor.isOldStyleContainer()) {
+                        routes.addAll(collectContainerSubRoutes(
+                                (ContainerChainElement) current, libraryService, elementToRoute, stack));
+                        continue;
+                    }
+
+                    for (ChainElement element : ((ContainerChainElement) current).getElements()) {
+                        ChainRoute branchRoute = new ChainRoute(element.getId());
+                        routes.add(branchRoute);
+                        for (Dependency outputDependency : element.getOutputDependencies()) {
+                            ChainElement nextElement = outputDependency.getElementTo();
+                            branchRoute.getNextRoutes().add(extractNextRoute(nextElement, routes, elementToRoute, stack));
+                        }
+                    }
+                }
+            }
+            return routes;
+        }
+
+        private static List<ChainRoute> collectContainerSubRoutes(
+                ContainerChainElement containerElement,
+                Function<ChainElement, ElementDescriptor> libraryService,
+                Map<String, ChainRoute> elementToRoute,
+                Deque<Pair<ChainElement, ChainRoute>> elementRouteStack
+        ) {
+            List<ChainRoute> routes = new LinkedList<>();
+            ElementDescriptor elementDescriptor = libraryService.apply(containerElement);
+            if (!elementDescriptor.getAllowedChildren().isEmpty()) {
+                for (ChainElement child : containerElement.getElements()) {
+                    if (!(child instanceof ContainerChainElement childContainer)) {
+                        ChainRoute branchRoute = new ChainRoute(child.getId());
+                        routes.add(branchRoute);
+                        branchRoute.getNextRoutes().add(extractNextRoute(child, routes, elementToRoute, elementRouteStack));
+                        continue;
+                    }
+
+                    addContainerRoutes(routes, childContainer, elementToRoute, elementRouteStack);
+                }
+                return routes;
+            }
+
+            addContainerRoutes(routes, containerElement, elementToRoute, elementRouteStack);
+            return routes;
+        }
+
+        private static void addContainerRoutes(
+                List<ChainRoute> routes,
+                ContainerChainElement containerElement,
+                Map<String, ChainRoute> elementToRoute,
+                Deque<Pair<ChainElement, ChainRoute>> elementRouteStack
+        ) {
+            ChainRoute containerRoute = new ChainRoute(containerElement.getId());
+            routes.add(containerRoute);
+
+            List<ChainElement> startElements = containerElement.getElements().stream()
+                    .filter(element -> element.getInputDependencies().isEmpty())
+                    .toList();
+            if (startElements.size() == 1) {
+                elementRouteStack.push(Pair.of(startElements.get(0), containerRoute));
+                return;
+            }
+
+            for (ChainElement startElement : startElements) {
+                ChainRoute nextRoute = extractNextRoute(startElement, routes, elementToRoute, elementRouteStack);
+                containerRoute.getNextRoutes().add(nextRoute);
+            }
+        }
+
+        private static ChainRoute extractNextRoute(
+                ChainElement element,
+                List<ChainRoute> routes,
+                Map<String, ChainRoute> elementToRoute,
+                Deque<Pair<ChainElement, ChainRoute>> elementRouteStack
+        ) {
+            if (elementToRoute.containsKey(element.getId())) {
+                return elementToRoute.get(element.getId());
+            }
+
+            ChainRoute newRoute = new ChainRoute();
+            routes.add(newRoute);
+            elementRouteStack.push(Pair.of(element, newRoute));
+            elementToRoute.put(element.getId(), newRoute);
+            return newRoute;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.builder;
+
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.MockedStatic;
+import org.qubership.integration.platform.runtime.catalog.builder.templates.TemplateService;
+import org.qubership.integration.platform.runtime.catalog.configuration.element.descriptor.DescriptorPropertiesConfiguration;
+import org.qubership.integration.platform.runtime.catalog.mapper.MappingDescriptionValidator;
+import org.qubership.integration.platform.runtime.catalog.mapper.atlasmap.AtlasMapInterpreter;
+import org.qubership.integration.platform.runtime.catalog.model.library.ElementDescriptor;
+import org.qubership.integration.platform.runtime.catalog.model.library.ElementType;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Dependency;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.SnapshotXmlBlob;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.runtime.catalog.service.library.LibraryElementsService;
+import org.qubership.integration.platform.runtime.catalog.service.library.LibraryResourceLoader;
+import org.qubership.integration.platform.runtime.catalog.testutils.TestUtils;
+import org.qubership.integration.platform.runtime.catalog.testutils.configuration.TestConfig;
+import org.qubership.integration.platform.runtime.catalog.testutils.dto.ChainImportDTO;
+import org.qubership.integration.platform.runtime.catalog.testutils.mapper.ChainElementsMapper;
+import org.qubership.integration.platform.runtime.catalog.testutils.mapper.ChainMapper;
+import org.qubership.integration.platform.runtime.catalog.util.ElementUtils;
+import org.qubership.integration.platform.runtime.catalog.util.HashUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mockStatic;
+
+@ContextConfiguration(
+        classes = {
+                TestConfig.class,
+                YAMLMapper.class,
+                DescriptorPropertiesConfiguration.class,
+                AtlasMapInterpreter.class,
+                LibraryElementsService.class,
+                LibraryResourceLoader.class,
+                TemplateService.class,
+                ElementUtils.class,
+                XmlBuilder.class,
+                ChainElementsMapper.class,
+                ChainMapper.class,
+                MappingDescriptionValidator.class
+        }
+)
+@TestPropertySource(properties = {
+        "qip.gateway.egress.protocol=http",
+        "qip.gateway.egress.url=egress-gateway:8080"
+})
+@ExtendWith(SpringExtension.class)
+public class XmlBuilderTest {
+
+    private static final String INPUT_PATH = "/testData/input/builder/templates/";
+    private static final String OUTPUT_PATH = "/testData/output/builder/xml/";
+    private static final String TRIGGER_ID = "golden-trigger";
+    private static final AtomicLong UUID_SEQUENCE = new AtomicLong();
+
+    private static MockedStatic<UUID> mockedUUID;
+
+    private final XmlBuilder xmlBuilder;
+    private final ChainMapper chainMapper;
+    private final LibraryElementsService libraryService;
+
+    @Autowired
+    public XmlBuilderTest(XmlBuilder xmlBuilder, ChainMapper chainMapper, LibraryElementsService libraryService) {
+        this.xmlBuilder = xmlBuilder;
+        this.chainMapper = chainMapper;
+        this.libraryService = libraryService;
+    }
+
+    @BeforeAll
+    public static void initializeBeforeAll() {
+        mockedUUID = mockStatic(UUID.class, CALLS_REAL_METHODS);
+        mockedUUID.when(UUID::randomUUID).thenAnswer(invocation -> new UUID(0L, UUID_SEQUENCE.incrementAndGet()));
+    }
+
+    @AfterAll
+    public static void finalizeAfterAll() {
+        mockedUUID.close();
+    }
+
+    /**
+     * Every element template. A standalone checkpoint trigger is not a valid chain,
+     * its trigger template is covered by the checkpoint module chain.
+     */
+    private static Stream<String> templates() {
+        return Stream.of(
+                "async_api_trigger",
+                "chain_call_2",
+                "chain_trigger_2",
+                "checkpoint_module",
+                "circuit_breaker_2",
+                "condition",
+                "file_read",
+                "file_write",
+                "graphql_sender",
+                "http_sender_external",
+                "http_sender_internal",
+                "http_trigger_custom",
+                "http_trigger_implemented_service",
+                "kafka_sender_2",
+                "kafka_trigger_2",
+                "loop_2",
+                "mail_sender",
+                "mapper_2",
+                "pubsub_sender",
+                "pubsub_trigger",
+                "quartz_scheduler",
+                "rabbitmq_sender_2",
+                "rabbitmq_trigger_2",
+                "script",
+                "service_call_http",
+                "service_call_kafka",
+                "sftp_download",
+                "sftp_trigger_2",
+                "sftp_upload",
+                "split_2",
+                "split_async_2",
+                "try_catch_finally_2",
+                "xslt"
+        );
+    }
+
+    @DisplayName("Test of building routes xml")
+    @ParameterizedTest(name = "#{index} => {0}")
+    @MethodSource("templates")
+    public void buildTest(String template) throws Exception {
+        String expected = TestUtils.getResourceFileContent(OUTPUT_PATH + template + ".xml");
+
+        String actual = build(createElements(template));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @DisplayName("Test of building routes xml into supplied writers")
+    @ParameterizedTest(name = "#{index} => {0}")
+    @MethodSource("templates")
+    public void buildToWriterTest(String template) throws Exception {
+        String expected = TestUtils.getResourceFileContent(OUTPUT_PATH + template + ".xml");
+
+        StringWriter writer = new StringWriter();
+        build(createElements(template), writer);
+        SnapshotXmlBlob.ContentWriter blobWriter = new SnapshotXmlBlob.ContentWriter();
+        build(createElements(template), blobWriter);
+        SnapshotXmlBlob blob = blobWriter.toBlob();
+
+        assertThat(writer.toString()).isEqualTo(expected);
+        assertThat(blob.getHash()).isEqualTo(HashUtils.sha256hex(expected));
+        assertThat(blob.getXml()).isEqualTo(expected);
+    }
+
+    private String build(List<ChainElement> elements) throws Exception {
+        UUID_SEQUENCE.set(0);
+        return xmlBuilder.build(elements);
+    }
+
+    private void build(List<ChainElement> elements, Writer writer) throws Exception {
+        UUID_SEQUENCE.set(0);
+        xmlBuilder.build(elements, writer);
+    }
+
+    /**
+     * Creates elements of the test chain. Elements that are not triggers are connected to a chain trigger,
+     * otherwise they would not get into any route.
+     */
+    private List<ChainElement> createElements(String template) throws Exception {
+        List<ChainElement> elements = new ArrayList<>(chainMapper.toEntity(TestUtils.YAML_MAPPER.readValue(
+                        TestUtils.getResourceFileContent(INPUT_PATH + template + ".yml"),
+                        ChainImportDTO.class
+                ))
+                .getElements());
+        if (elements.stream().noneMatch(this::isTrigger)) {
+            ChainElement trigger = ChainElement.builder()
+                    .id(TRIGGER_ID)
+                    .name("Chain trigger")
+                    .type("chain-trigger-2")
+                    .properties(new LinkedHashMap<>(Map.of("elementId", TRIGGER_ID)))
+                    .build();
+            elements.stream()
+                    .filter(element -> element.getParent() == null && element.getInputDependencies().isEmpty())
+                    .forEach(element -> {
+                        Dependency dependency = Dependency.of(trigger, element);
+                        trigger.getOutputDependencies().add(dependency);
+                        element.getInputDependencies().add(dependency);
+                    });
+            elements.add(0, trigger);
+        }
+        return elements;
+    }
+
+    private boolean isTrigger(ChainElement element) {
+        ElementDescriptor descriptor = libraryService.getElementDescriptor(element);
+        return descriptor != null
+                && (descriptor.getType() == ElementType.TRIGGER || descriptor.getType() == ElementType.COMPOSITE_TRIGGER);
+    }
+}
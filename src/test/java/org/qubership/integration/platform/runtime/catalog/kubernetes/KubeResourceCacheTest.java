@@ -0,0 +1,232 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.kubernetes;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.util.ClientBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.runtime.catalog.model.kubernetes.operator.KubeDeployment;
+import org.qubership.integration.platform.runtime.catalog.model.kubernetes.operator.KubePod;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KubeResourceCacheTest {
+
+    private static final String NAMESPACE = "test-namespace";
+    private static final String ENGINE_LABEL = "qip_engine_app";
+    private static final String POD_LABEL = "name";
+
+    private static final String DEPLOYMENTS = """
+            {"apiVersion": "apps/v1", "kind": "DeploymentList", "metadata": {"resourceVersion": "10"}, "items": [
+              {"metadata": {"name": "qip-engine-v2", "uid": "d3", "namespace": "test-namespace", "resourceVersion": "10",
+                "labels": {"qip_engine_app": "true", "app.kubernetes.io/version": "1.0.2"}},
+               "spec": {"replicas": 1, "selector": {}, "template": {}}},
+              {"metadata": {"name": "qip-engine-v1", "uid": "d1", "namespace": "test-namespace", "resourceVersion": "10",
+                "labels": {"qip_engine_app": "true", "app.kubernetes.io/version": "1.0.0"}},
+               "spec": {"replicas": 2, "selector": {}, "template": {}}},
+              {"metadata": {"name": "custom-domain-v2", "uid": "d2", "namespace": "test-namespace", "resourceVersion": "10",
+                "labels": {"qip_engine_app": "true", "app.kubernetes.io/version": "1.0.1"}},
+               "spec": {"replicas": 1, "selector": {}, "template": {}}}
+            ]}
+            """;
+    private static final String PODS = """
+            {"apiVersion": "v1", "kind": "PodList", "metadata": {"resourceVersion": "10"}, "items": [
+              {"metadata": {"name": "qip-engine-v1-b", "uid": "p2", "namespace": "test-namespace", "resourceVersion": "10",
+                "labels": {"name": "qip-engine-v1"}},
+               "status": {"phase": "Pending", "podIP": "10.0.0.2"}},
+              {"metadata": {"name": "qip-engine-v1-a", "uid": "p1", "namespace": "test-namespace", "resourceVersion": "10",
+                "labels": {"name": "qip-engine-v1"}},
+               "status": {"phase": "Running", "podIP": "10.0.0.1"}},
+              {"metadata": {"name": "custom-domain-v2-a", "uid": "p3", "namespace": "test-namespace", "resourceVersion": "10",
+                "labels": {"name": "custom-domain-v2"}},
+               "status": {"phase": "Running", "podIP": "10.0.0.3"}}
+            ]}
+            """;
+    private static final String SERVICES = """
+            {"apiVersion": "v1", "kind": "ServiceList", "metadata": {"resourceVersion": "10"}, "items": [
+              {"metadata": {"name": "orders", "uid": "s1", "namespace": "test-namespace", "resourceVersion": "10"},
+               "spec": {"ports": [{"port": 8080}, {"port": 8443}]}},
+              {"metadata": {"name": "orders-v2", "uid": "s2", "namespace": "test-namespace", "resourceVersion": "10"},
+               "spec": {"ports": [{"port": 8080}]}}
+            ]}
+            """;
+
+    private final Map<String, AtomicInteger> listRequests = new ConcurrentHashMap<>();
+    private final Map<String, String> requestedSelectors = new ConcurrentHashMap<>();
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private ApiClient client;
+    private KubeResourceCache cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(0), 0);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.createContext("/apis/apps/v1/namespaces/" + NAMESPACE + "/deployments",
+                exchange -> respond(exchange, "deployments", DEPLOYMENTS));
+        server.createContext("/api/v1/namespaces/" + NAMESPACE + "/pods",
+                exchange -> respond(exchange, "pods", PODS));
+        server.createContext("/api/v1/namespaces/" + NAMESPACE + "/services",
+                exchange -> respond(exchange, "services", SERVICES));
+        server.start();
+
+        client = new ClientBuilder()
+                .setBasePath("http://localhost:" + server.getAddress().getPort())
+                .build();
+        client.setHttpClient(client.getHttpClient().newBuilder().readTimeout(0, TimeUnit.SECONDS).build());
+
+        cache = new KubeResourceCache(
+                NAMESPACE,
+                ENGINE_LABEL,
+                POD_LABEL,
+                deploymentName -> deploymentName.replaceFirst("-v\\d+$", ""),
+                Duration.ofMinutes(10)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.stop();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void shouldNotBeSyncedBeforeStart() {
+        assertThat(cache.isSynced()).isFalse();
+    }
+
+    @Test
+    void shouldIndexResourcesAfterSync() throws InterruptedException {
+        cache.start(client);
+        awaitSync();
+
+        assertThat(requestedSelectors.get("deployments")).isEqualTo(ENGINE_LABEL + "=true");
+        assertThat(requestedSelectors.get("pods")).isEqualTo(POD_LABEL);
+        assertThat(cache.getDeployments())
+                .extracting(deployment -> deployment.getMetadata().getName())
+                .containsExactly("custom-domain-v2", "qip-engine-v1", "qip-engine-v2");
+        assertThat(cache.getDeploymentsByDomain("qip-engine"))
+                .extracting(deployment -> deployment.getMetadata().getName())
+                .containsExactly("qip-engine-v1", "qip-engine-v2");
+        assertThat(cache.getDeploymentsByDomain("custom-domain"))
+                .extracting(deployment -> deployment.getMetadata().getName())
+                .containsExactly("custom-domain-v2");
+        assertThat(cache.getDeploymentsByDomain("missing")).isEmpty();
+        assertThat(cache.getPodsByLabelValue("qip-engine-v1"))
+                .extracting(pod -> pod.getMetadata().getName())
+                .containsExactly("qip-engine-v1-a", "qip-engine-v1-b");
+        assertThat(cache.getServices())
+                .extracting(service -> service.getMetadata().getName())
+                .containsExactly("orders", "orders-v2");
+    }
+
+    @Test
+    void shouldQueryApiServerUntilCacheIsSynced() {
+        KubeOperator operator = new KubeOperator(client, NAMESPACE, cache);
+
+        List<KubeDeployment> deployments = operator.getDeploymentsByLabel(ENGINE_LABEL);
+
+        assertThat(deployments).extracting(KubeDeployment::getName)
+                .containsExactlyInAnyOrder("qip-engine-v2", "qip-engine-v1", "custom-domain-v2");
+        assertThat(listRequests.get("deployments").get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldServeOperatorRequestsFromSyncedCache() throws InterruptedException {
+        cache.start(client);
+        awaitSync();
+        int deploymentRequests = listRequests.get("deployments").get();
+        int podRequests = listRequests.get("pods").get();
+        int serviceRequests = listRequests.get("services").get();
+        KubeOperator operator = new KubeOperator(client, NAMESPACE, cache);
+
+        List<KubeDeployment> deployments = operator.getDeploymentsByLabel(ENGINE_LABEL);
+        List<KubePod> pods = operator.getPodsByLabel(POD_LABEL, "custom-domain-v2");
+        List<KubeService> services = operator.getServices();
+
+        assertThat(deployments).extracting(KubeDeployment::getName)
+                .containsExactly("custom-domain-v2", "qip-engine-v1", "qip-engine-v2");
+        assertThat(deployments).extracting(KubeDeployment::getVersion)
+                .containsExactly("1.0.1", "1.0.0", "1.0.2");
+        assertThat(pods).extracting(KubePod::getIp).containsExactly("10.0.0.3");
+        assertThat(services).extracting(KubeService::getName).containsExactly("orders");
+        assertThat(services.get(0).getPorts()).containsExactly(8080, 8443);
+        assertThat(listRequests.get("deployments").get()).isEqualTo(deploymentRequests);
+        assertThat(listRequests.get("pods").get()).isEqualTo(podRequests);
+        assertThat(listRequests.get("services").get()).isEqualTo(serviceRequests);
+    }
+
+    private void awaitSync() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!cache.isSynced() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(cache.isSynced()).isTrue();
+    }
+
+    private void respond(HttpExchange exchange, String resource, String list) throws IOException {
+        String query = exchange.getRequestURI().getQuery();
+        boolean watch = query != null && query.contains("watch=true");
+        if (watch) {
+            // Keep the watch open without events, the informer reconnects when it is closed
+            try {
+                Thread.sleep(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, 0);
+            exchange.close();
+            return;
+        }
+
+        listRequests.computeIfAbsent(resource, key -> new AtomicInteger()).incrementAndGet();
+        if (query != null) {
+            for (String parameter : query.split("&")) {
+                if (parameter.startsWith("labelSelector=")) {
+                    requestedSelectors.put(resource, URLDecoder.decode(
+                            parameter.substring("labelSelector=".length()), StandardCharsets.UTF_8));
+                }
+            }
+        }
+        byte[] body = list.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+}
@@ -28,6 +28,17 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.MatchResult;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -46,6 +57,8 @@ public class AtlasMapInterpreterTest {
     private static final String DEFAULT_VALUE_CONFIG = "mapper/mapping/config/13_default_value.yml";
     private static final String LOOKUP_VALUE_CONFIG = "mapper/mapping/config/14_lookup_values.yml";
     private static final String LOOKUP_VALUE_SOURCE = "mapper/mapping/data/14_source.json";
+    private static final String MAPPING_ID_PATTERN = "mapping\\.[0-9a-f-]{36}";
+    private static final int CONCURRENT_REQUESTS_COUNT = 16;
 
     private MappingInterpreter interpreter;
 
@@ -148,6 +161,61 @@ void interpretationDefaultValue() throws IOException, AtlasException {
         );
     }
 
+    @Test
+    void interpretationCachedForSameMapping() {
+        MappingDescription first = MapperTestUtils.getMappingFromFile(MapperTestUtils.getConfigurationFile(DEFAULT_VALUE_CONFIG));
+        MappingDescription second = MapperTestUtils.getMappingFromFile(MapperTestUtils.getConfigurationFile(DEFAULT_VALUE_CONFIG));
+
+        String firstInterpretation = interpreter.getInterpretation(first);
+        String secondInterpretation = interpreter.getInterpretation(second);
+        String uncachedInterpretation = new AtlasMapInterpreter(MapperTestUtils.OBJECT_MAPPER).getInterpretation(second);
+
+        assertAll(
+                () -> assertEquals(
+                        firstInterpretation.replaceAll(MAPPING_ID_PATTERN, "mapping.id"),
+                        secondInterpretation.replaceAll(MAPPING_ID_PATTERN, "mapping.id")),
+                () -> assertTrue(Collections.disjoint(getMappingIds(firstInterpretation), getMappingIds(secondInterpretation))),
+                () -> assertEquals(
+                        uncachedInterpretation.replaceAll(MAPPING_ID_PATTERN, "mapping.id"),
+                        firstInterpretation.replaceAll(MAPPING_ID_PATTERN, "mapping.id"))
+        );
+    }
+
+    @Test
+    void interpretationNotCachedForChangedMapping() {
+        MappingDescription original = MapperTestUtils.getMappingFromFile(MapperTestUtils.getConfigurationFile(DEFAULT_VALUE_CONFIG));
+        MappingDescription changed = MapperTestUtils.getMappingFromFile(MapperTestUtils.getConfigurationFile(DEFAULT_VALUE_CONFIG));
+        changed.getActions().clear();
+
+        String originalInterpretation = interpreter.getInterpretation(original);
+        String changedInterpretation = interpreter.getInterpretation(changed);
+
+        assertNotEquals(
+                originalInterpretation.replaceAll(MAPPING_ID_PATTERN, "mapping.id"),
+                changedInterpretation.replaceAll(MAPPING_ID_PATTERN, "mapping.id"));
+    }
+
+    @Test
+    void interpretationCachedForConcurrentRequests() throws Exception {
+        Callable<String> request = () -> interpreter.getInterpretation(
+                MapperTestUtils.getMappingFromFile(MapperTestUtils.getConfigurationFile(DEFAULT_VALUE_CONFIG)));
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS_COUNT);
+        try {
+            List<Future<String>> futures = executor.invokeAll(
+                    IntStream.range(0, CONCURRENT_REQUESTS_COUNT).mapToObj(i -> request).toList());
+            String expected = futures.get(0).get().replaceAll(MAPPING_ID_PATTERN, "mapping.id");
+            Set<String> mappingIds = new HashSet<>();
+            for (Future<String> future : futures) {
+                assertEquals(expected, future.get().replaceAll(MAPPING_ID_PATTERN, "mapping.id"));
+                for (String mappingId : getMappingIds(future.get())) {
+                    assertTrue(mappingIds.add(mappingId), "Mapping id is reused: " + mappingId);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     // TODO: fix this
     // @Test
     void interpretationWithLookup() throws IOException, AtlasException {
@@ -169,4 +237,7 @@ void interpretationWithLookup() throws IOException, AtlasException {
         );
     }
 
+    private static List<String> getMappingIds(String interpretation) {
+        return Pattern.compile(MAPPING_ID_PATTERN).matcher(interpretation).results().map(MatchResult::group).toList();
+    }
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.qubership.integration.platform.runtime.catalog.testutils.TestUtils.getResourceFileContent;
+
+@Slf4j
+class SnapshotXmlBlobTest {
+
+    private static final String TEMPLATES_PATH = "/testData/output/builder/templates/";
+    private static final List<String> TEMPLATES = List.of(
+            "service_call_http.xml", "service_call_kafka.xml", "try_catch_finally_2.xml", "xslt.xml");
+    private static final int CHAINS_COUNT = 20;
+    private static final int BUILDS_COUNT = 10;
+    private static final int ROUTES_COUNT = 30;
+    private static final int READS_COUNT = 200;
+
+    @Test
+    void shouldRestoreXml() throws IOException {
+        String xml = generateChainXml("chain", 0) + "<!-- Ünïcødé -->";
+
+        SnapshotXmlBlob blob = new SnapshotXmlBlob(xml);
+        ReflectionTestUtils.setField(blob, "xml", null);
+
+        assertThat(blob.getXml()).isEqualTo(xml);
+        assertThat(blob.getSize()).isEqualTo(xml.length());
+        assertThat(blob.getHash()).isEqualTo(new SnapshotXmlBlob(xml).getHash());
+        assertThat(blob.getHash()).isNotEqualTo(new SnapshotXmlBlob(xml + " ").getHash());
+    }
+
+    @Test
+    void shouldCreateSameBlobWithContentWriter() throws IOException {
+        String xml = generateChainXml("chain", 0) + "<!-- Ünïcødé -->";
+        SnapshotXmlBlob expected = new SnapshotXmlBlob(xml);
+
+        SnapshotXmlBlob.ContentWriter writer = new SnapshotXmlBlob.ContentWriter();
+        for (int offset = 0; offset < xml.length(); offset += 1000) {
+            writer.write(xml, offset, Math.min(1000, xml.length() - offset));
+        }
+        SnapshotXmlBlob blob = writer.toBlob();
+
+        assertThat(blob.getHash()).isEqualTo(expected.getHash());
+        assertThat(blob.getSize()).isEqualTo(expected.getSize());
+        assertThat(blob.getXml()).isEqualTo(xml);
+    }
+
+    /**
+     * Every chain is rebuilt several times and changes only in some of the builds, as on redeploys.
+     */
+    @Test
+    void shouldStoreRepeatedBuildsOnce() throws IOException {
+        long xmlBytes = 0;
+        Map<String, SnapshotXmlBlob> blobs = new HashMap<>();
+        for (int chain = 0; chain < CHAINS_COUNT; chain++) {
+            for (int build = 0; build < BUILDS_COUNT; build++) {
+                String xml = generateChainXml("chain-" + chain, build / 4);
+                xmlBytes += xml.length();
+                SnapshotXmlBlob blob = new SnapshotXmlBlob(xml);
+                blobs.putIfAbsent(blob.getHash(), blob);
+            }
+        }
+        long blobBytes = blobs.values().stream().mapToLong(blob -> blob.getContent().length).sum();
+        log.info("XML of {} snapshots: {} bytes, stored in {} blobs: {} bytes",
+                CHAINS_COUNT * BUILDS_COUNT, xmlBytes, blobs.size(), blobBytes);
+
+        assertThat(blobs).hasSize(CHAINS_COUNT * 3);
+        assertThat(blobBytes).isLessThan(xmlBytes / 20);
+    }
+
+    @Test
+    void shouldReadLargeXml() throws IOException {
+        String xml = generateChainXml("chain", 0);
+        SnapshotXmlBlob blob = new SnapshotXmlBlob(xml);
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < READS_COUNT; i++) {
+            ReflectionTestUtils.setField(blob, "xml", null);
+            assertThat(blob.getXml()).hasSize(xml.length());
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startTime);
+        log.info("XML of {} bytes compressed to {} bytes, read {} times in {} ms",
+                xml.length(), blob.getContent().length, READS_COUNT, elapsed.toMillis());
+
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(30));
+    }
+
+    private static String generateChainXml(String chainId, int version) throws IOException {
+        StringBuilder xml = new StringBuilder("<routes>\n");
+        for (int route = 0; route < ROUTES_COUNT; route++) {
+            String template = getResourceFileContent(TEMPLATES_PATH + TEMPLATES.get(route % TEMPLATES.size()));
+            xml.append("<route id=\"").append(chainId).append("-").append(route).append("-v").append(version).append("\">\n")
+                    .append(template)
+                    .append("</route>\n");
+        }
+        return xml.append("</routes>\n").toString();
+    }
+}
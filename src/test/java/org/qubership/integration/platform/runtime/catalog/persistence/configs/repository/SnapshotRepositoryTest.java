@@ -0,0 +1,182 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.persistence.configs.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.runtime.catalog.testutils.persistence.EmbeddedPersistenceContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks snapshots pruning against an embedded database: the kept snapshots are compared with the
+ * retention semantics computed in memory, and the plan is checked to use the chain index instead of ranking
+ * all snapshots.
+ */
+class SnapshotRepositoryTest {
+
+    private static final Instant NOW = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    private static final int DEFAULT_OLDER_THAN_DAYS = 20;
+    private static final int DEFAULT_KEEP_LAST = 3;
+
+    private EmbeddedPersistenceContext database;
+    private SnapshotRepository snapshotRepository;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedPersistenceContext();
+        snapshotRepository = database.getRepository(SnapshotRepository.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void shouldPruneSnapshotsByRetentionPolicies() {
+        Random random = new Random(43);
+        List<SeededChain> chains = seed(random, 40, 25);
+
+        Set<String> expected = chains.stream()
+                .flatMap(chain -> chain.prunedSnapshotIds().stream())
+                .collect(Collectors.toSet());
+
+        Set<String> pruned = new HashSet<>();
+        List<Map<String, String>> chunk;
+        do {
+            chunk = database.inTransaction(() -> snapshotRepository.prune(
+                    Timestamp.from(NOW), DEFAULT_OLDER_THAN_DAYS, DEFAULT_KEEP_LAST, 7));
+            assertThat(chunk).hasSizeLessThanOrEqualTo(7);
+            chunk.forEach(snapshot -> {
+                assertThat(snapshot.get("chain_name")).isEqualTo("Chain " + snapshot.get("chain"));
+                pruned.add(snapshot.get("id"));
+            });
+        } while (!chunk.isEmpty());
+
+        assertThat(expected).isNotEmpty();
+        assertThat(pruned).isEqualTo(expected);
+        Integer remaining = database.getJdbcTemplate().queryForObject("SELECT count(*) FROM catalog.snapshots", Integer.class);
+        assertThat(remaining).isEqualTo(chains.stream().mapToInt(chain -> chain.snapshots().size()).sum() - expected.size());
+    }
+
+    @Test
+    void shouldCountNewerSnapshotsThroughChainIndex() {
+        seed(new Random(7), 200, 100);
+        database.getJdbcTemplate().execute("ANALYZE");
+
+        String plan = database.explain(() -> database.inTransaction(() -> snapshotRepository.prune(
+                Timestamp.from(NOW), DEFAULT_OLDER_THAN_DAYS, DEFAULT_KEEP_LAST, 1000)));
+
+        assertThat(plan).contains("idx_snapshots_chain_id_created_when").doesNotContain("WindowAgg");
+    }
+
+    private List<SeededChain> seed(Random random, int chainsCount, int maxSnapshotsCount) {
+        List<SeededChain> chains = new ArrayList<>();
+        for (int c = 0; c < chainsCount; c++) {
+            String chainId = "chain-" + c;
+            List<SeededSnapshot> snapshots = IntStream.range(0, random.nextInt(maxSnapshotsCount + 1))
+                    .mapToObj(s -> new SeededSnapshot(
+                            chainId + "-snapshot-" + s,
+                            // Some snapshots share creation time, a few have none
+                            random.nextInt(20) == 0 ? null : NOW.minus(Duration.ofHours(random.nextInt(60) * 12L)),
+                            random.nextInt(10) == 0))
+                    .toList();
+            String currentSnapshotId = snapshots.isEmpty() || random.nextBoolean()
+                    ? null
+                    : snapshots.get(random.nextInt(snapshots.size())).id();
+            Integer keepLast = null;
+            Integer olderThanDays = null;
+            boolean hasPolicy = random.nextInt(3) == 0;
+            if (hasPolicy) {
+                keepLast = random.nextBoolean() ? null : random.nextInt(6);
+                olderThanDays = random.nextBoolean() ? null : random.nextInt(40);
+            }
+            chains.add(new SeededChain(chainId, snapshots, currentSnapshotId, hasPolicy, keepLast, olderThanDays));
+        }
+
+        JdbcTemplate jdbcTemplate = database.getJdbcTemplate();
+        jdbcTemplate.batchUpdate("INSERT INTO catalog.chains (id, name) VALUES (?, ?)",
+                chains.stream().map(chain -> new Object[] {chain.id(), "Chain " + chain.id()}).toList());
+        jdbcTemplate.batchUpdate("INSERT INTO catalog.snapshots (id, name, chain_id, created_when) VALUES (?, ?, ?, ?)",
+                chains.stream()
+                        .flatMap(chain -> chain.snapshots().stream()
+                                .map(snapshot -> new Object[] {snapshot.id(), snapshot.id(), chain.id(),
+                                        snapshot.createdWhen() == null ? null : Timestamp.from(snapshot.createdWhen())}))
+                        .toList());
+        jdbcTemplate.batchUpdate("INSERT INTO catalog.deployments (id, chain_id, snapshot_id) VALUES (?, ?, ?)",
+                chains.stream()
+                        .flatMap(chain -> chain.snapshots().stream()
+                                .filter(SeededSnapshot::deployed)
+                                .map(snapshot -> new Object[] {"deployment-" + snapshot.id(), chain.id(), snapshot.id()}))
+                        .toList());
+        jdbcTemplate.batchUpdate("UPDATE catalog.chains SET current_snapshot_id = ? WHERE id = ?",
+                chains.stream()
+                        .filter(chain -> chain.currentSnapshotId() != null)
+                        .map(chain -> new Object[] {chain.currentSnapshotId(), chain.id()})
+                        .toList());
+        jdbcTemplate.batchUpdate("INSERT INTO catalog.snapshot_retention_policies (chain_id, keep_last, older_than_days) VALUES (?, ?, ?)",
+                chains.stream()
+                        .filter(SeededChain::hasPolicy)
+                        .map(chain -> new Object[] {chain.id(), chain.keepLast(), chain.olderThanDays()})
+                        .toList());
+        return chains;
+    }
+
+    private record SeededSnapshot(String id, Instant createdWhen, boolean deployed) {
+    }
+
+    private record SeededChain(String id, List<SeededSnapshot> snapshots, String currentSnapshotId,
+                               boolean hasPolicy, Integer keepLast, Integer olderThanDays) {
+
+        /**
+         * Snapshots pruned by ranking the chain snapshots by creation time, latest first, ties broken by id:
+         * the ones after keep last that are older than the retention days and neither deployed nor current.
+         */
+        List<String> prunedSnapshotIds() {
+            int keep = keepLast == null ? DEFAULT_KEEP_LAST : keepLast;
+            Instant deletionDate = NOW.minus(Duration.ofDays(olderThanDays == null ? DEFAULT_OLDER_THAN_DAYS : olderThanDays));
+            List<SeededSnapshot> ranked = snapshots.stream()
+                    .filter(snapshot -> snapshot.createdWhen() != null)
+                    .sorted(Comparator.comparing(SeededSnapshot::createdWhen)
+                            .thenComparing(SeededSnapshot::id)
+                            .reversed())
+                    .toList();
+            return ranked.subList(Math.min(keep, ranked.size()), ranked.size()).stream()
+                    .filter(snapshot -> snapshot.createdWhen().isBefore(deletionDate))
+                    .filter(snapshot -> !snapshot.deployed() && !snapshot.id().equals(currentSnapshotId))
+                    .map(SeededSnapshot::id)
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.runtime.catalog.model.filter.ChainElementFilterColumn;
+import org.qubership.integration.platform.runtime.catalog.model.filter.ChainStatusCondition;
+import org.qubership.integration.platform.runtime.catalog.model.filter.FilterCondition;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElementFilterRequestDTO;
+import org.qubership.integration.platform.runtime.catalog.testutils.persistence.EmbeddedPersistenceContext;
+import org.qubership.integration.platform.runtime.catalog.testutils.persistence.StubPersistenceContext;
+import org.qubership.integration.platform.runtime.catalog.testutils.persistence.TestPersistenceContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.qubership.integration.platform.runtime.catalog.testutils.persistence.StubPersistenceContext.stub;
+
+/**
+ * Checks that element filters are applied by the database before the page is cut.
+ * The generated SQL is captured from Hibernate running against a stub connection,
+ * results and index usage are checked on an embedded database.
+ */
+@Slf4j
+class ElementFilterRepositoryTest {
+
+    private static final String HTTP_TRIGGER = "http-trigger";
+
+    private final List<Object[]> rows = new ArrayList<>();
+    private StubPersistenceContext persistenceContext;
+    private ElementFilterRepository elementRepository;
+
+    @BeforeEach
+    void setUp() {
+        // Result sets return the rows of the test
+        persistenceContext = new StubPersistenceContext(this::preparedStatement);
+
+        elementRepository = new ElementFilterRepositoryImpl(new ObjectMapper());
+        ReflectionTestUtils.setField(elementRepository, "entityManager", persistenceContext.getEntityManager());
+    }
+
+    @AfterEach
+    void tearDown() {
+        persistenceContext.close();
+    }
+
+    @Test
+    void shouldFilterImplementedServicesBeforeLimit() {
+        elementRepository.findElementsByFilter(20, 10, List.of(HTTP_TRIGGER), new ArrayList<>(), true);
+
+        String sql = persistenceContext.capturedStatement();
+        assertThat(sql).contains("(ce1_0.properties @> cast(? as jsonb))");
+        assertThat(sql.indexOf(" @> ")).isLessThan(sql.indexOf(" offset "));
+    }
+
+    @Test
+    void shouldNotFilterImplementedServicesWhenNotRequested() {
+        elementRepository.findElementsByFilter(0, 10, List.of(HTTP_TRIGGER), new ArrayList<>(), false);
+
+        assertThat(persistenceContext.capturedStatement()).doesNotContain(" @> ");
+    }
+
+    @Test
+    void shouldFilterRouteTypesByPropertiesContainment() {
+        ChainElementFilterRequestDTO filter = new ChainElementFilterRequestDTO();
+        filter.setColumn(ChainElementFilterColumn.TYPE);
+        filter.setCondition(FilterCondition.IN);
+        filter.setValue("External,Private");
+
+        elementRepository.findElementsByFilter(0, 10, List.of(HTTP_TRIGGER), new ArrayList<>(List.of(filter)), false);
+
+        String sql = persistenceContext.capturedStatement();
+        assertThat(sql).doesNotContain("bool(");
+        assertThat(sql.split("ce1_0.properties @> ", -1)).hasSize(3);
+    }
+
+    @Test
+    void shouldFilterChainStatusesBeforeLimitWithArrayParameters() {
+        ChainStatusCondition condition = new ChainStatusCondition(List.of("deployed-1", "deployed-2"), List.of("deployed-1", "deployed-2", "failed"), true);
+
+        elementRepository.findElementsByFilter(20, 10, List.of(HTTP_TRIGGER), new ArrayList<>(), false, condition);
+
+        String sql = persistenceContext.capturedStatement();
+        assertThat(sql).contains("(ce1_0.chain_id = any(?)) or not((ce1_0.chain_id = any(?)))")
+                .doesNotContain("chain_id in");
+        assertThat(sql.indexOf(" any(")).isLessThan(sql.indexOf(" offset "));
+    }
+
+    @Test
+    void shouldSelectOnlyListedPropertiesAndChainColumns() {
+        elementRepository.findElementsByFilter(0, 10, List.of(HTTP_TRIGGER), new ArrayList<>(), false);
+
+        String sql = persistenceContext.capturedStatement();
+        String selectClause = sql.substring(sql.indexOf("select") + "select".length(), sql.indexOf(" from "));
+        assertThat(selectClause).contains("jsonb_strip_nulls(jsonb_build_object(")
+                .doesNotContain(",ce1_0.properties,")
+                .contains("c1_0.name", "c1_0.unsaved_changes");
+    }
+
+    @Test
+    void shouldBuildDetachedElementsFromRows() {
+        rows.add(new Object[] {
+                "element", "HTTP Trigger", null,
+                "{\"roles\": [\"admin\"], \"contextPath\": \"/orders\", \"externalRoute\": true}",
+                "chain", "Orders", true
+        });
+
+        List<ChainElement> elements = elementRepository.findElementsByFilter(0, 10, List.of(HTTP_TRIGGER), new ArrayList<>(), false);
+
+        assertThat(elements).hasSize(1);
+        ChainElement element = elements.get(0);
+        assertThat(element.getId()).isEqualTo("element");
+        assertThat(element.getName()).isEqualTo("HTTP Trigger");
+        assertThat(element.getProperties()).containsOnlyKeys("roles", "contextPath", "externalRoute")
+                .containsEntry("roles", List.of("admin"));
+        assertThat(element.getChain().getId()).isEqualTo("chain");
+        assertThat(element.getChain().getName()).isEqualTo("Orders");
+        assertThat(element.getChain().isUnsavedChanges()).isTrue();
+        assertThat(persistenceContext.getEntityManager().contains(element)).isFalse();
+    }
+
+    @Test
+    void shouldFilterElementsInDatabase() {
+        try (EmbeddedPersistenceContext database = new EmbeddedPersistenceContext()) {
+            seedHttpTriggers(database, 30);
+            ElementFilterRepository repository = createRepository(database);
+
+            assertThat(findElementIds(repository, new ArrayList<>(), true))
+                    .containsExactlyInAnyOrder("element-10", "element-20", "element-30");
+            assertThat(findElementIds(repository, filters(ChainElementFilterColumn.TYPE, FilterCondition.IN, "External,Private"), false))
+                    .hasSize(20)
+                    .allMatch(id -> elementNumber(id) % 2 == 0 || elementNumber(id) % 3 == 0);
+            assertThat(findElementIds(repository, filters(ChainElementFilterColumn.TYPE, FilterCondition.NOT_IN, "External"), false))
+                    .hasSize(15)
+                    .allMatch(id -> elementNumber(id) % 2 == 1);
+            assertThat(findElementIds(repository, filters(ChainElementFilterColumn.ROLES, FilterCondition.IS, "role-3"), false))
+                    .containsExactlyInAnyOrder("element-3", "element-13", "element-23");
+            assertThat(repository.findElementsByFilter(0, 10, List.of(HTTP_TRIGGER), filters(ChainElementFilterColumn.ROLES, FilterCondition.IS_NOT, "role-3"), false))
+                    .hasSize(10);
+        }
+    }
+
+    @Test
+    void shouldUsePropertiesIndexForContainmentFilters() {
+        try (EmbeddedPersistenceContext database = new EmbeddedPersistenceContext()) {
+            seedHttpTriggers(database, 20_000);
+            // Vacuum updates statistics of the GIN index, as autovacuum does, otherwise its scans are costed pessimistically
+            database.getJdbcTemplate().execute("VACUUM ANALYZE catalog.elements");
+            ElementFilterRepository repository = createRepository(database);
+
+            String plan = database.explain(() -> repository.findElementsByFilter(0, 10, List.of(HTTP_TRIGGER), new ArrayList<>(), true));
+            log.info("Plan of implemented services query:\n{}", plan);
+
+            assertThat(plan).contains("Bitmap Index Scan on idx_elements_properties")
+                    .doesNotContain("Seq Scan on elements");
+        }
+    }
+
+    private static ElementFilterRepository createRepository(TestPersistenceContext context) {
+        ElementFilterRepository repository = new ElementFilterRepositoryImpl(new ObjectMapper());
+        ReflectionTestUtils.setField(repository, "entityManager", context.getEntityManager());
+        return repository;
+    }
+
+    /**
+     * Creates HTTP triggers, every second is external, every third is private, every tenth is an implemented service.
+     */
+    private static void seedHttpTriggers(EmbeddedPersistenceContext database, int count) {
+        database.getJdbcTemplate().update("INSERT INTO catalog.chains (id, name) VALUES ('chain', 'Orders')");
+        database.getJdbcTemplate().update("""
+                INSERT INTO catalog.elements (id, name, type, chain_id, properties)
+                SELECT 'element-' || i, 'HTTP Trigger ' || i, ?, 'chain', jsonb_build_object(
+                        'contextPath', '/orders/' || i,
+                        'roles', jsonb_build_array('role-' || i % 10),
+                        'externalRoute', i % 2 = 0,
+                        'privateRoute', i % 3 = 0,
+                        'systemType', CASE WHEN i % 10 = 0 AND i <= 30 THEN 'IMPLEMENTED' END)
+                FROM generate_series(1, ?) AS i
+                """, HTTP_TRIGGER, count);
+    }
+
+    private static List<String> findElementIds(ElementFilterRepository repository, List<ChainElementFilterRequestDTO> filters,
+                                               boolean isImplementedOnly) {
+        return repository.findElementsByFilter(0, 100, List.of(HTTP_TRIGGER), filters, isImplementedOnly)
+                .stream()
+                .map(ChainElement::getId)
+                .toList();
+    }
+
+    private static List<ChainElementFilterRequestDTO> filters(ChainElementFilterColumn column, FilterCondition condition, String value) {
+        ChainElementFilterRequestDTO filter = new ChainElementFilterRequestDTO();
+        filter.setColumn(column);
+        filter.setCondition(condition);
+        filter.setValue(value);
+        return new ArrayList<>(List.of(filter));
+    }
+
+    private static int elementNumber(String id) {
+        return Integer.parseInt(id.substring("element-".length()));
+    }
+
+    private PreparedStatement preparedStatement() throws Exception {
+        PreparedStatement statement = stub(PreparedStatement.class);
+        Iterator<Object[]> iterator = rows.iterator();
+        Object[][] current = new Object[1][];
+        ResultSet resultSet = stub(ResultSet.class);
+        when(resultSet.next()).thenAnswer(invocation -> {
+            current[0] = iterator.hasNext() ? iterator.next() : null;
+            return current[0] != null;
+        });
+        when(resultSet.getString(anyInt())).thenAnswer(invocation -> (String) current[0][(int) invocation.getArgument(0) - 1]);
+        when(resultSet.getBoolean(anyInt())).thenAnswer(invocation -> (Boolean) current[0][(int) invocation.getArgument(0) - 1]);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        return statement;
+    }
+}
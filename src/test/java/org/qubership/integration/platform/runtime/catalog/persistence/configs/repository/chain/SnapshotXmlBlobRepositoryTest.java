@@ -0,0 +1,109 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.SnapshotXmlBlob;
+import org.qubership.integration.platform.runtime.catalog.testutils.persistence.EmbeddedPersistenceContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks reuse of snapshot XML blobs against an embedded database,
+ * concurrently with deletion of the last snapshot referencing the blob.
+ */
+class SnapshotXmlBlobRepositoryTest {
+
+    private EmbeddedPersistenceContext database;
+    private SnapshotXmlBlobRepository blobRepository;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedPersistenceContext();
+        blobRepository = database.getRepository(SnapshotXmlBlobRepository.class);
+        jdbcTemplate = database.getJdbcTemplate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void shouldKeepReusedBlobWhenLastReferencingSnapshotIsDeletedConcurrently() throws Exception {
+        SnapshotXmlBlob blob = new SnapshotXmlBlob("<routes/>");
+        jdbcTemplate.update("INSERT INTO catalog.chains (id, name) VALUES ('chain', 'Chain')");
+        jdbcTemplate.update("INSERT INTO catalog.snapshot_xml_blobs (hash, content, size) VALUES (?, ?, ?)",
+                blob.getHash(), blob.getContent(), blob.getSize());
+        jdbcTemplate.update("INSERT INTO catalog.snapshots (id, chain_id, xml_hash) VALUES ('old', 'chain', ?)", blob.getHash());
+
+        CompletableFuture<Integer> deletion = database.inTransaction(() -> {
+            blobRepository.insertIfAbsent(blob.getHash(), blob.getContent(), blob.getSize());
+
+            CompletableFuture<Integer> concurrentDeletion = CompletableFuture.supplyAsync(
+                    () -> jdbcTemplate.update("DELETE FROM catalog.snapshots WHERE id = 'old'"));
+            awaitLockWait(concurrentDeletion);
+
+            database.getEntityManager()
+                    .createNativeQuery("INSERT INTO catalog.snapshots (id, chain_id, xml_hash) VALUES ('new', 'chain', ?1)")
+                    .setParameter(1, blob.getHash())
+                    .executeUpdate();
+            return concurrentDeletion;
+        });
+
+        assertThat(deletion.get(30, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT ref_count FROM catalog.snapshot_xml_blobs WHERE hash = ?",
+                Integer.class, blob.getHash())).isEqualTo(1);
+    }
+
+    @Test
+    void shouldInsertAbsentBlobOnce() {
+        SnapshotXmlBlob blob = new SnapshotXmlBlob("<routes/>");
+
+        database.inTransaction(() -> blobRepository.insertIfAbsent(blob.getHash(), blob.getContent(), blob.getSize()));
+        database.inTransaction(() -> blobRepository.insertIfAbsent(blob.getHash(), blob.getContent(), blob.getSize()));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM catalog.snapshot_xml_blobs", Integer.class)).isEqualTo(1);
+        assertThat(blobRepository.findById(blob.getHash())).get()
+                .satisfies(stored -> assertThat(stored.getXml()).isEqualTo("<routes/>"));
+    }
+
+    /**
+     * Waits until the deletion is blocked by the lock of the reused blob, failing if it completes instead.
+     */
+    private void awaitLockWait(CompletableFuture<?> deletion) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (System.nanoTime() < deadline) {
+            assertThat(deletion).as("Deletion has not waited for the reused blob").isNotDone();
+            Integer waiting = jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM pg_stat_activity WHERE wait_event_type = 'Lock' AND query LIKE 'DELETE FROM catalog.snapshots%'",
+                    Integer.class);
+            if (waiting > 0) {
+                return;
+            }
+            Thread.onSpinWait();
+        }
+        throw new AssertionError("Deletion has not started waiting for the reused blob");
+    }
+}
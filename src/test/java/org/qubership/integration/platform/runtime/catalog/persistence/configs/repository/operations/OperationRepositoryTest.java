@@ -0,0 +1,128 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.operations;
+
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.runtime.catalog.testutils.persistence.EmbeddedPersistenceContext;
+import org.qubership.integration.platform.runtime.catalog.testutils.persistence.StubPersistenceContext;
+import org.qubership.integration.platform.runtime.catalog.testutils.persistence.TestPersistenceContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the columns selected by operation queries. Hibernate runs against a stub connection
+ * with empty result sets, so the generated SQL is captured without a database.
+ * Schema lookups are also run against an embedded database to check the selected values.
+ */
+class OperationRepositoryTest {
+
+    private static final List<String> SCHEMA_COLUMNS = List.of("specification", "request_schema", "response_schemas");
+
+    private StubPersistenceContext persistenceContext;
+    private OperationRepository operationRepository;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        persistenceContext = new StubPersistenceContext();
+        statistics = persistenceContext.getStatistics();
+
+        operationRepository = createRepository(persistenceContext);
+    }
+
+    @AfterEach
+    void tearDown() {
+        persistenceContext.close();
+    }
+
+    @Test
+    void shouldNotSelectSchemasWhenLoadingOperation() {
+        operationRepository.findById("operation");
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(selectedColumns()).doesNotContainAnyElementsOf(SCHEMA_COLUMNS);
+    }
+
+    @Test
+    void shouldSelectOnlyListColumnsForOperationsList() {
+        operationRepository.getOperationsByFilter("model", List.of("pets"), List.of("path", "method"), 0, 20);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(selectedColumns()).contains("id", "name", "description", "method", "path", "specification")
+                .doesNotContain("request_schema", "response_schemas");
+    }
+
+    @Test
+    void shouldSelectSingleRequestSchema() {
+        operationRepository.findRequestSchema("operation", "application/json");
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(selectedColumns()).containsExactly("request_schema");
+    }
+
+    @Test
+    void shouldSelectSingleResponseSchema() {
+        operationRepository.findResponseSchema("operation", "200", "application/json");
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(selectedColumns()).containsExactly("response_schemas");
+    }
+
+    @Test
+    void shouldFindSchemasOfContentTypeInDatabase() {
+        try (EmbeddedPersistenceContext database = new EmbeddedPersistenceContext()) {
+            database.getJdbcTemplate().update("""
+                    INSERT INTO catalog.operations (id, name, request_schema, response_schemas)
+                    VALUES ('operation', 'getPet', CAST(? AS jsonb), CAST(? AS jsonb))
+                    """,
+                    "{\"application/json\": {\"type\": \"object\"}, \"text/plain\": {\"type\": \"string\"}}",
+                    "{\"200\": {\"application/json\": {\"type\": \"array\"}}}");
+            OperationRepository repository = createRepository(database);
+
+            assertThat(repository.findRequestSchema("operation", "application/json")).isEqualTo("{\"type\": \"object\"}");
+            assertThat(repository.findRequestSchema("operation", "application/xml")).isNull();
+            assertThat(repository.findResponseSchema("operation", "200", "application/json")).isEqualTo("{\"type\": \"array\"}");
+            assertThat(repository.findResponseSchema("operation", "404", "application/json")).isNull();
+        }
+    }
+
+    private static OperationRepository createRepository(TestPersistenceContext context) {
+        OperationFilterRepositoryImpl filterRepository = new OperationFilterRepositoryImpl();
+        ReflectionTestUtils.setField(filterRepository, "entityManager", context.getEntityManager());
+        return context.getRepository(OperationRepository.class, filterRepository);
+    }
+
+    /**
+     * Returns the columns of the operations table listed in the select clause of the captured statement.
+     */
+    private List<String> selectedColumns() {
+        String sql = persistenceContext.capturedStatement();
+        String selectClause = sql.substring(sql.indexOf("select") + "select".length(), sql.indexOf(" from "));
+        return List.of(selectClause.split(","))
+                .stream()
+                .map(String::strip)
+                .map(column -> column.replaceAll("^cast\\(", ""))
+                .map(column -> column.replaceAll("^\\w+\\.(\\w+).*$", "$1"))
+                .toList();
+    }
+}
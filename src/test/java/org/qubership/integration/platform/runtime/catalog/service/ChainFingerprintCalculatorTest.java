@@ -0,0 +1,257 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.qubership.integration.platform.runtime.catalog.builder.templates.TemplateService;
+import org.qubership.integration.platform.runtime.catalog.model.system.ServiceEnvironment;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Chain;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Dependency;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.MaskedField;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.SwimlaneChainElement;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.operations.OperationRepository;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.system.SystemModelRepository;
+import org.qubership.integration.platform.runtime.catalog.service.library.LibraryElementsService;
+import org.springframework.beans.factory.ListableBeanFactory;
+
+import java.sql.Timestamp;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.qubership.integration.platform.runtime.catalog.model.constant.CamelNames.SERVICE_CALL_COMPONENT;
+import static org.qubership.integration.platform.runtime.catalog.model.constant.CamelOptions.OPERATION_ID;
+import static org.qubership.integration.platform.runtime.catalog.model.constant.CamelOptions.SPECIFICATION_ID;
+import static org.qubership.integration.platform.runtime.catalog.model.constant.CamelOptions.SYSTEM_ID;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ChainFingerprintCalculatorTest {
+
+    @Mock
+    private ElementService elementService;
+    @Mock
+    private SystemEnvironmentsGenerator systemEnvironmentsGenerator;
+    @Mock
+    private LibraryElementsService libraryElementsService;
+    @Mock
+    private TemplateService templateService;
+    @Mock
+    private SystemModelRepository systemModelRepository;
+    @Mock
+    private OperationRepository operationRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, String> environmentAddresses = new HashMap<>();
+    private final Map<String, Map<String, Object>> environmentProperties = new HashMap<>();
+    private final Map<String, Object[]> specificationVersions = new HashMap<>();
+    private final Map<String, Object[]> operationVersions = new HashMap<>();
+    private ChainFingerprintCalculator calculator;
+
+    @BeforeEach
+    void setUp() {
+        when(elementService.getElementsBySystemId(anyList())).thenCallRealMethod();
+        when(systemEnvironmentsGenerator.generateSystemEnvironments(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> systemIds = invocation.getArgument(0);
+            return systemIds.stream().map(this::environment).toList();
+        });
+        environmentAddresses.put("system-1", "https://system-1:8443");
+        environmentProperties.put("system-1", new HashMap<>(Map.of("connectTimeout", 120000, "retry", true)));
+        when(libraryElementsService.getDescriptorsHash()).thenReturn("descriptors");
+        when(templateService.getTemplatesHash()).thenReturn("templates");
+        specificationVersions.put("specification-1", new Object[] {"specification-1", "v1", new Timestamp(1000)});
+        operationVersions.put("operation-1", new Object[] {"operation-1", new Timestamp(2000)});
+        when(systemModelRepository.findVersionsByIds(anyCollection()))
+                .thenAnswer(invocation -> versions(specificationVersions, invocation.getArgument(0)));
+        when(operationRepository.findModifiedWhenByIds(anyCollection()))
+                .thenAnswer(invocation -> versions(operationVersions, invocation.getArgument(0)));
+        calculator = createCalculator();
+    }
+
+    @Test
+    void shouldCalculateSameFingerprintForReloadedChain() {
+        String fingerprint = calculator.calculate(createChain(null));
+
+        assertThat(fingerprint).hasSize(64);
+        for (long seed = 0; seed < 20; seed++) {
+            assertThat(createCalculator().calculate(createChain(new Random(seed))))
+                    .as("seed %d", seed)
+                    .isEqualTo(fingerprint);
+        }
+    }
+
+    @Test
+    void shouldCalculateDifferentFingerprintForEveryRelevantChange() {
+        String fingerprint = calculator.calculate(createChain(null));
+
+        Map<String, Consumer<Chain>> changes = new LinkedHashMap<>();
+        changes.put("type", chain -> element(chain, "script").setType("mapper-2"));
+        changes.put("name", chain -> element(chain, "script").setName("Renamed"));
+        changes.put("description", chain -> element(chain, "script").setDescription("Changed"));
+        changes.put("property", chain -> element(chain, "script").getProperties().put("script", "exchange.stop()"));
+        changes.put("nested property", chain -> nested(element(chain, "service-call")).put("method", "PUT"));
+        changes.put("added property", chain -> element(chain, "script").getProperties().put("extra", ""));
+        changes.put("removed property", chain -> element(chain, "service-call").getProperties().remove("retryCount"));
+        changes.put("dependency", chain -> element(chain, "script").getOutputDependencies().clear());
+        changes.put("added dependency", chain -> element(chain, "script")
+                .addOutputDependency(Dependency.of(element(chain, "script"), element(chain, "trigger"))));
+        changes.put("parent", chain -> element(chain, "service-call").setParent(null));
+        changes.put("swimlane", chain -> element(chain, "trigger").setSwimlane(null));
+        changes.put("default swimlane", chain -> chain.setDefaultSwimlane(null));
+        changes.put("masked field", chain -> chain.addMaskedField(MaskedField.builder().id("m3").name("token").build()));
+        changes.put("environment address", chain -> environmentAddresses.put("system-1", "https://system-1:9443"));
+        changes.put("environment property", chain -> environmentProperties.get("system-1").put("connectTimeout", 60000));
+        changes.put("element descriptors", chain -> when(libraryElementsService.getDescriptorsHash()).thenReturn("changed"));
+        changes.put("templates", chain -> when(templateService.getTemplatesHash()).thenReturn("changed"));
+        changes.put("specification version", chain -> specificationVersions.get("specification-1")[1] = "v2");
+        changes.put("specification modified", chain -> specificationVersions.get("specification-1")[2] = new Timestamp(3000));
+        changes.put("specification removed", chain -> specificationVersions.clear());
+        changes.put("operation modified", chain -> operationVersions.get("operation-1")[1] = new Timestamp(3000));
+
+        changes.forEach((change, mutation) -> {
+            Chain chain = createChain(null);
+            mutation.accept(chain);
+            assertThat(calculator.calculate(chain)).as(change).isNotEqualTo(fingerprint);
+            setUp();
+        });
+    }
+
+    @Test
+    void shouldNotCalculateFingerprintWhenTemplatesAreNotRead() {
+        when(templateService.getTemplatesHash()).thenReturn(null);
+
+        assertThat(calculator.calculate(createChain(null))).isNull();
+    }
+
+    @Test
+    void shouldHashTemplatesFromClasspath() {
+        String templatesHash = new TemplateService(mock(ListableBeanFactory.class), libraryElementsService).getTemplatesHash();
+
+        assertThat(templatesHash).hasSize(64);
+        assertThat(new TemplateService(mock(ListableBeanFactory.class), libraryElementsService).getTemplatesHash())
+                .isEqualTo(templatesHash);
+    }
+
+    private ChainFingerprintCalculator createCalculator() {
+        return new ChainFingerprintCalculator(elementService, systemEnvironmentsGenerator, libraryElementsService,
+                templateService, systemModelRepository, operationRepository, objectMapper);
+    }
+
+    private static List<Object[]> versions(Map<String, Object[]> versions, Collection<String> ids) {
+        // Rows come in the order of the database, not of the ids
+        List<Object[]> rows = new ArrayList<>(ids.stream().map(versions::get).filter(Objects::nonNull).toList());
+        Collections.reverse(rows);
+        return rows;
+    }
+
+    /**
+     * Creates new instances of the same chain. When a random is passed, the chain is created as it could be loaded
+     * from the database again: properties are restored from JSON and elements, properties and masked fields
+     * come in a different order.
+     */
+    private Chain createChain(Random random) {
+        SwimlaneChainElement defaultSwimlane = SwimlaneChainElement.builder()
+                .id("swimlane-default").name("Default").type("swimlane").build();
+        ContainerChainElement container = ContainerChainElement.builder()
+                .id("container").name("Try").type("try-catch-finally-2").build();
+        ChainElement trigger = ChainElement.builder().id("trigger").name("HTTP Trigger").type("http-trigger").build();
+        ChainElement script = ChainElement.builder().id("script").name("Script").type("script").build();
+        ChainElement serviceCall = ChainElement.builder().id("service-call").name("Call").type(SERVICE_CALL_COMPONENT).build();
+
+        trigger.setProperties(properties(random, Map.of("contextPath", "/orders", "httpMethodRestrict", "POST")));
+        script.setProperties(properties(random, Map.of("script", "exchange.getMessage().setBody('')")));
+        serviceCall.setProperties(properties(random, Map.of(
+                SYSTEM_ID, "system-1",
+                SPECIFICATION_ID, "specification-1",
+                OPERATION_ID, "operation-1",
+                "retryCount", 3,
+                "after", List.of(Map.of("type", "mapper-2", "id", "after-1")),
+                "integrationOperationProtocolType", Map.of("method", "POST", "path", "/orders/{id}"))));
+        trigger.setSwimlane(defaultSwimlane);
+        serviceCall.setParent(container);
+        trigger.addOutputDependency(Dependency.of(trigger, script));
+        script.addOutputDependency(Dependency.of(script, container));
+        script.addOutputDependency(Dependency.of(script, serviceCall));
+
+        List<ChainElement> elements = new ArrayList<>(List.of(defaultSwimlane, container, trigger, script, serviceCall));
+        List<MaskedField> maskedFields = new ArrayList<>(List.of(
+                MaskedField.builder().id("m1").name("password").build(),
+                MaskedField.builder().id("m2").name("authorization").build()));
+        if (random != null) {
+            Collections.shuffle(elements, random);
+            Collections.shuffle(maskedFields, random);
+        }
+
+        Chain chain = new Chain();
+        chain.setId("chain");
+        chain.setDefaultSwimlane(defaultSwimlane);
+        elements.forEach(chain::addElement);
+        maskedFields.forEach(chain::addMaskedField);
+        return chain;
+    }
+
+    private Map<String, Object> properties(Random random, Map<String, Object> properties) {
+        if (random == null) {
+            return new LinkedHashMap<>(properties);
+        }
+        List<Map.Entry<String, Object>> entries = new ArrayList<>(properties.entrySet());
+        Collections.shuffle(entries, random);
+        Map<String, Object> shuffled = new LinkedHashMap<>();
+        entries.forEach(entry -> shuffled.put(entry.getKey(), entry.getValue()));
+        try {
+            return objectMapper.readValue(objectMapper.writeValueAsString(shuffled), new TypeReference<>() { });
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> nested(ChainElement element) {
+        Map<String, Object> nested = new HashMap<>(
+                (Map<String, Object>) element.getProperties().get("integrationOperationProtocolType"));
+        element.getProperties().put("integrationOperationProtocolType", nested);
+        return nested;
+    }
+
+    private static ChainElement element(Chain chain, String id) {
+        return chain.getElements().stream().filter(element -> id.equals(element.getId())).findFirst().orElseThrow();
+    }
+
+    private ServiceEnvironment environment(String systemId) {
+        ServiceEnvironment environment = new ServiceEnvironment();
+        environment.setId(systemId + "-environment");
+        environment.setSystemId(systemId);
+        environment.setAddress(environmentAddresses.get(systemId));
+        environment.setProperties(new HashMap<>(environmentProperties.get(systemId)));
+        return environment;
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.qubership.integration.platform.runtime.catalog.model.deployment.engine.ChainRuntimeDeployment;
+import org.qubership.integration.platform.runtime.catalog.model.deployment.engine.DeploymentStatus;
+import org.qubership.integration.platform.runtime.catalog.model.deployment.update.DeploymentInfo;
+import org.qubership.integration.platform.runtime.catalog.model.filter.ChainElementFilterColumn;
+import org.qubership.integration.platform.runtime.catalog.model.filter.ChainStatusCondition;
+import org.qubership.integration.platform.runtime.catalog.model.filter.FilterCondition;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElementFilterRequestDTO;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElementSearchCriteria;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ElementFilterRepository;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ElementFilterRepositoryImpl;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ElementRepository;
+import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.chain.ChainRolesDTO;
+import org.qubership.integration.platform.runtime.catalog.rest.v1.mapper.ChainRolesMapperImpl;
+import org.qubership.integration.platform.runtime.catalog.rest.v1.mapper.DeploymentMapper;
+import org.qubership.integration.platform.runtime.catalog.service.helpers.ChainFinderService;
+import org.qubership.integration.platform.runtime.catalog.testutils.persistence.EmbeddedPersistenceContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares chain roles pages filtered by deployment status on a seeded embedded database
+ * with the chains the former in-memory filter selected from all elements.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ChainRolesServiceTest {
+
+    private static final int CHAINS_COUNT = 40;
+    private static final int PAGE_SIZE = 7;
+
+    @Mock
+    private ElementService elementService;
+    @Mock
+    private DeploymentService deploymentService;
+    @Mock
+    private RuntimeDeploymentService runtimeDeploymentService;
+    @Mock
+    private ChainService chainService;
+    @Mock
+    private ChainFinderService chainFinderService;
+    @Mock
+    private ElementRepository elementRepository;
+    @Mock
+    private DeploymentMapper deploymentMapper;
+    @Mock
+    private SnapshotService snapshotService;
+    @Mock
+    private ActionsLogService actionLogger;
+
+    private EmbeddedPersistenceContext database;
+    private Map<String, Collection<ChainRuntimeDeployment>> runtimeDeployments;
+    private ChainRolesService chainRolesService;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedPersistenceContext();
+        seedChains();
+        runtimeDeployments = generateRuntimeDeployments();
+        when(runtimeDeploymentService.getChainRuntimeDeployments()).thenReturn(runtimeDeployments);
+
+        ElementFilterRepository filterRepository = new ElementFilterRepositoryImpl(new ObjectMapper());
+        ReflectionTestUtils.setField(filterRepository, "entityManager", database.getEntityManager());
+        when(elementRepository.findElementsByFilter(anyInt(), anyInt(), anyList(), anyList(), anyBoolean(), any()))
+                .thenAnswer(invocation -> filterRepository.findElementsByFilter(
+                        invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2),
+                        invocation.getArgument(3), invocation.getArgument(4), invocation.<ChainStatusCondition>getArgument(5)));
+
+        chainRolesService = new ChainRolesService(elementService, deploymentService, runtimeDeploymentService,
+                new ChainRolesMapperImpl(), chainService, chainFinderService, elementRepository, deploymentMapper,
+                snapshotService, actionLogger);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void shouldReturnFullPagesOfChainsWithIncludedStatuses() {
+        assertSamePages(List.of(filter(FilterCondition.IN, "deployed")));
+        assertSamePages(List.of(filter(FilterCondition.IS, "draft")));
+        assertSamePages(List.of(filter(FilterCondition.IN, "draft,failed")));
+    }
+
+    @Test
+    void shouldReturnFullPagesOfChainsWithExcludedStatuses() {
+        assertSamePages(List.of(filter(FilterCondition.NOT_IN, "deployed")));
+        assertSamePages(List.of(filter(FilterCondition.IS_NOT, "draft")));
+        assertSamePages(List.of(filter(FilterCondition.IN, "deployed"), filter(FilterCondition.NOT_IN, "processing,failed")));
+    }
+
+    @Test
+    void shouldNotRestrictChainsWithoutStatusFilters() {
+        assertSamePages(List.of());
+    }
+
+    /**
+     * Pages are read until a short one, which must be the last, and together hold the chains
+     * the in-memory filter selects from all elements.
+     */
+    private void assertSamePages(List<ChainElementFilterRequestDTO> filters) {
+        List<String> chainIds = new ArrayList<>();
+        List<ChainRolesDTO> page;
+        do {
+            page = chainRolesService.findAllChainByHttpTrigger(
+                    new ChainElementSearchCriteria(chainIds.size(), PAGE_SIZE, new ArrayList<>(filters)), false).getRoles();
+            page.forEach(chainRoles -> chainIds.add(chainRoles.getChainId()));
+        } while (page.size() == PAGE_SIZE);
+
+        List<String> expected = IntStream.rangeClosed(1, CHAINS_COUNT)
+                .mapToObj(i -> "chain-" + i)
+                .filter(chainId -> filters.stream().allMatch(filter -> matchesInMemory(chainId, filter)))
+                .toList();
+        assertThat(chainIds).as("chains filtered by %s", describe(filters))
+                .doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    /**
+     * The former filter of a response item by its deployment statuses.
+     */
+    private boolean matchesInMemory(String chainId, ChainElementFilterRequestDTO filter) {
+        Collection<DeploymentStatus> statuses = runtimeDeployments.containsKey(chainId)
+                ? runtimeDeployments.get(chainId).stream().map(ChainRuntimeDeployment::getStatus).toList()
+                : List.of(DeploymentStatus.DRAFT);
+        Set<String> values = new HashSet<>(Arrays.asList(filter.getValue().toLowerCase().split(",")));
+        Predicate<String> predicate = switch (filter.getCondition()) {
+            case IS, IN -> values::contains;
+            case IS_NOT, NOT_IN -> status -> !values.contains(status);
+            default -> status -> true;
+        };
+        return statuses.stream().map(status -> status.name().toLowerCase()).anyMatch(predicate);
+    }
+
+    /**
+     * Creates chains with an HTTP trigger each.
+     */
+    private void seedChains() {
+        database.getJdbcTemplate().update("""
+                INSERT INTO catalog.chains (id, name)
+                SELECT 'chain-' || i, 'Chain ' || i FROM generate_series(1, ?) AS i
+                """, CHAINS_COUNT);
+        database.getJdbcTemplate().update("""
+                INSERT INTO catalog.elements (id, name, type, chain_id, properties)
+                SELECT 'element-' || i, 'HTTP Trigger', 'http-trigger', 'chain-' || i, jsonb_build_object('contextPath', '/chain/' || i)
+                FROM generate_series(1, ?) AS i
+                """, CHAINS_COUNT);
+    }
+
+    /**
+     * Every fourth chain is deployed, the next failed, the next deployed on one engine and processing on another,
+     * the rest are drafts. A chain that is not in the database is reported too.
+     */
+    private static Map<String, Collection<ChainRuntimeDeployment>> generateRuntimeDeployments() {
+        Map<String, Collection<ChainRuntimeDeployment>> result = new HashMap<>();
+        for (int i = 1; i <= CHAINS_COUNT; i++) {
+            String chainId = "chain-" + i;
+            switch (i % 4) {
+                case 0 -> result.put(chainId, List.of(runtimeDeployment(chainId, DeploymentStatus.DEPLOYED)));
+                case 1 -> result.put(chainId, List.of(runtimeDeployment(chainId, DeploymentStatus.FAILED)));
+                case 2 -> result.put(chainId, List.of(runtimeDeployment(chainId, DeploymentStatus.DEPLOYED),
+                        runtimeDeployment(chainId, DeploymentStatus.PROCESSING)));
+                default -> {
+                }
+            }
+        }
+        result.put("deleted-chain", List.of(runtimeDeployment("deleted-chain", DeploymentStatus.DEPLOYED)));
+        return result;
+    }
+
+    private static ChainRuntimeDeployment runtimeDeployment(String chainId, DeploymentStatus status) {
+        return ChainRuntimeDeployment.builder()
+                .deploymentInfo(DeploymentInfo.builder().deploymentId(chainId + "-deployment").chainId(chainId).build())
+                .status(status)
+                .build();
+    }
+
+    private static ChainElementFilterRequestDTO filter(FilterCondition condition, String value) {
+        ChainElementFilterRequestDTO filter = new ChainElementFilterRequestDTO();
+        filter.setColumn(ChainElementFilterColumn.CHAIN_STATUS);
+        filter.setCondition(condition);
+        filter.setValue(value);
+        return filter;
+    }
+
+    private static String describe(List<ChainElementFilterRequestDTO> filters) {
+        return filters.stream().map(filter -> filter.getCondition() + " " + filter.getValue()).toList().toString();
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.qubership.integration.platform.runtime.catalog.exception.exceptions.BadRequestException;
+import org.qubership.integration.platform.runtime.catalog.model.chain.ChainCursor;
+import org.qubership.integration.platform.runtime.catalog.model.chain.ChainsPage;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Chain;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.*;
+import org.qubership.integration.platform.runtime.catalog.service.filter.ChainFilterSpecificationBuilder;
+import org.qubership.integration.platform.runtime.catalog.service.filter.FilterConditionPredicateBuilderFactory;
+import org.qubership.integration.platform.runtime.catalog.service.helpers.ChainFinderService;
+import org.qubership.integration.platform.runtime.catalog.testutils.persistence.StubPersistenceContext;
+import org.qubership.integration.platform.runtime.catalog.util.ElementUtils;
+import org.springframework.data.auditing.AuditingHandler;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.repository.query.FluentQuery;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ChainServiceTest {
+
+    @Mock
+    private ChainRepository chainRepository;
+    @Mock
+    private ElementService elementService;
+    @Mock
+    private ElementRepository elementRepository;
+    @Mock
+    private MaskedFieldRepository maskedFieldRepository;
+    @Mock
+    private DependencyRepository dependencyRepository;
+    @Mock
+    private ChainLabelsRepository chainLabelsRepository;
+    @Mock
+    private FolderService folderService;
+    @Mock
+    private DeploymentService deploymentService;
+    @Mock
+    private RuntimeDeploymentService runtimeDeploymentService;
+    @Mock
+    private ActionsLogService actionLogger;
+    @Mock
+    private ElementUtils elementUtils;
+    @Mock
+    private ChainRuntimePropertiesService chainRuntimePropertiesService;
+    @Mock
+    private AuditingHandler auditingHandler;
+    @Mock
+    private ChainFinderService chainFinderService;
+    @Mock
+    private ContextBaseService contextBaseService;
+    @Mock
+    private FluentQuery.FetchableFluentQuery<Chain> fluentQuery;
+
+    private StubPersistenceContext persistenceContext;
+    private ChainService chainService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        persistenceContext = new StubPersistenceContext();
+
+        when(fluentQuery.sortBy(any())).thenReturn(fluentQuery);
+        when(fluentQuery.limit(anyInt())).thenReturn(fluentQuery);
+        when(chainRepository.findBy(any(Specification.class), any())).thenAnswer(invocation -> {
+            Function<FluentQuery.FetchableFluentQuery<Chain>, List<Chain>> queryFunction = invocation.getArgument(1);
+            return queryFunction.apply(fluentQuery);
+        });
+
+        chainService = new ChainService(
+                chainRepository,
+                elementService,
+                elementRepository,
+                maskedFieldRepository,
+                dependencyRepository,
+                chainLabelsRepository,
+                folderService,
+                deploymentService,
+                runtimeDeploymentService,
+                actionLogger,
+                elementUtils,
+                chainRuntimePropertiesService,
+                new ChainFilterSpecificationBuilder(new FilterConditionPredicateBuilderFactory()),
+                auditingHandler,
+                chainFinderService,
+                contextBaseService
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        persistenceContext.close();
+    }
+
+    @Test
+    void shouldReturnCursorOfLastChainWhenMoreChainsFollow() {
+        when(fluentQuery.all()).thenReturn(chains(4));
+
+        ChainsPage page = chainService.findByFilterRequest(List.of(), null, 3);
+
+        verify(fluentQuery).sortBy(Sort.by("name", "id"));
+        verify(fluentQuery).limit(4);
+        assertThat(page.chains()).extracting(Chain::getId).containsExactly("chain-0", "chain-1", "chain-2");
+        assertThat(ChainCursor.decode(page.nextCursor())).isEqualTo(new ChainCursor("chain-2", "Chain 2"));
+    }
+
+    @Test
+    void shouldNotReturnCursorOfLastPage() {
+        when(fluentQuery.all()).thenReturn(chains(3));
+
+        ChainsPage page = chainService.findByFilterRequest(List.of(), null, 3);
+
+        assertThat(page.chains()).hasSize(3);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void shouldSelectChainsAfterCursor() {
+        when(fluentQuery.all()).thenReturn(List.of());
+
+        chainService.findByFilterRequest(List.of(), new ChainCursor("chain-2", "Chain 2").encode(), 3);
+
+        assertThat(renderFilterSpecification()).endsWith(
+                "where 1=1 and 1=1 and 1=1 and (c1_0.name>? or c1_0.name=? and c1_0.id>? or c1_0.name is null)");
+    }
+
+    @Test
+    void shouldSelectUnnamedChainsAfterUnnamedCursor() {
+        when(fluentQuery.all()).thenReturn(List.of());
+
+        chainService.findByFilterRequest(List.of(), new ChainCursor("chain-2", null).encode(), 3);
+
+        assertThat(renderFilterSpecification()).endsWith("where 1=1 and 1=1 and 1=1 and c1_0.name is null and c1_0.id>?");
+    }
+
+    @Test
+    void shouldRejectInvalidPage() {
+        assertThatThrownBy(() -> chainService.findByFilterRequest(List.of(), null, 0))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> chainService.findByFilterRequest(List.of(), "not a cursor!", 10))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void shouldEncodeCursorsOfChainsWithAnyName() {
+        for (String name : new String[] {null, "", "Orders", "Заказы / 50%"}) {
+            ChainCursor cursor = new ChainCursor("chain", name);
+            assertThat(ChainCursor.decode(cursor.encode())).isEqualTo(cursor);
+        }
+    }
+
+    private String renderFilterSpecification() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Specification<Chain>> specificationCaptor = ArgumentCaptor.forClass(Specification.class);
+        verify(chainRepository).findBy(specificationCaptor.capture(), any(Function.class));
+
+        persistenceContext.findAll(Chain.class, specificationCaptor.getValue());
+        return persistenceContext.capturedStatement();
+    }
+
+    private static List<Chain> chains(int count) {
+        return IntStream.range(0, count).mapToObj(i -> {
+            Chain chain = new Chain();
+            chain.setId("chain-" + i);
+            chain.setName("Chain " + i);
+            return chain;
+        }).toList();
+    }
+}
@@ -34,6 +34,7 @@
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ContainerChainElement;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.DependencyRepository;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ElementRepository;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ElementSystemUsageRepository;
 import org.qubership.integration.platform.runtime.catalog.service.helpers.ChainFinderService;
 import org.qubership.integration.platform.runtime.catalog.service.library.LibraryElementsService;
 import org.qubership.integration.platform.runtime.catalog.service.library.LibraryResourceLoader;
@@ -138,6 +139,8 @@ public class DependencyServiceTest {
     private SystemBaseService systemBaseService;
     @MockBean
     private SystemModelBaseService systemModelBaseService;
+    @MockBean
+    private ElementSystemUsageRepository elementSystemUsageRepository;
 
 
     private final ChainMapper chainMapper;
@@ -0,0 +1,362 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.service;
+
+import jakarta.persistence.EntityManager;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.qubership.integration.platform.runtime.catalog.model.ElementRoute;
+import org.qubership.integration.platform.runtime.catalog.model.constant.CamelNames;
+import org.qubership.integration.platform.runtime.catalog.model.constant.CamelOptions;
+import org.qubership.integration.platform.runtime.catalog.model.system.ServiceEnvironment;
+import org.qubership.integration.platform.runtime.catalog.persistence.TransactionHandler;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Chain;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Deployment;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Snapshot;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.HttpTriggerRoute;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.DeploymentRepository;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ElementRepository;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.HttpTriggerRouteRepository;
+import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.deployment.bulk.BulkDeploymentRequest;
+import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.deployment.bulk.BulkDeploymentResponse;
+import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.deployment.bulk.BulkDeploymentStatus;
+import org.qubership.integration.platform.runtime.catalog.service.helpers.ChainFinderService;
+import org.qubership.integration.platform.runtime.catalog.testutils.persistence.StubPersistenceContext;
+import org.qubership.integration.platform.runtime.catalog.util.TriggerUtils;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.qubership.integration.platform.runtime.catalog.testutils.persistence.TestPersistenceContext.normalize;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DeploymentServiceTest {
+
+    private static final String[] TRIGGER_PATHS = {
+            "", "/", "orders", "/orders/", "orders/{id}", "orders/{orderId}", "orders/id", "orders/{id}-x",
+            "orders/{id}/items", "{tenant}/orders", "api//orders", "orders/{a}{b}", "orders/{a/b}", "}"
+    };
+    private static final String[] METHOD_RESTRICTIONS = {"", "GET", "GET,POST", "DELETE"};
+    private static final List<Set<HttpMethod>> ROUTE_METHODS = List.of(
+            Set.of(HttpMethod.GET),
+            Set.of(HttpMethod.POST, HttpMethod.PUT),
+            Set.of(HttpMethod.values())
+    );
+    private static final int CHAINS_COUNT = 3;
+    private static final int SDS_CHAINS_COUNT = 500;
+    private static final int SDS_JOB_IDS_COUNT = 40;
+
+    @Mock
+    private HttpTriggerRouteRepository httpTriggerRouteRepository;
+    @Mock
+    private ElementRepository elementRepository;
+    @Mock
+    private DeploymentRepository deploymentRepository;
+    @Mock
+    private ChainFinderService chainFinderService;
+    @Mock
+    private SnapshotService snapshotService;
+    @Mock
+    private ActionsLogService actionLogger;
+
+    private StubPersistenceContext persistenceContext;
+    private EntityManager entityManager;
+    private DeploymentService deploymentService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        persistenceContext = new StubPersistenceContext();
+        entityManager = persistenceContext.getEntityManager();
+
+        when(deploymentRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        deploymentService = new DeploymentService(
+                deploymentRepository,
+                elementRepository,
+                httpTriggerRouteRepository,
+                chainFinderService,
+                null,
+                snapshotService,
+                actionLogger,
+                null,
+                new TransactionHandler());
+        ReflectionTestUtils.setField(deploymentService, "triggersCheckEnabled", true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        persistenceContext.close();
+    }
+
+    @Test
+    void shouldFindSameRoutesAsIntersectionCheckOfAllTriggers() {
+        List<ChainElement> triggers = generateDeployedTriggers();
+        // Repository selects routes of deployed snapshots by the path pattern, as the query does
+        when(httpTriggerRouteRepository.findDeployedRoutesByPathPattern(anyString(), anyString())).thenAnswer(invocation -> {
+            String pathPattern = invocation.getArgument(0);
+            String excludeChainId = invocation.getArgument(1);
+            List<Object[]> rows = new ArrayList<>();
+            for (ChainElement trigger : triggers) {
+                HttpTriggerRoute route = TriggerUtils.buildHttpTriggerRoute(trigger);
+                if (route.getPathPattern().equals(pathPattern)) {
+                    trigger.getSnapshot().getDeployments().stream()
+                            .filter(deployment -> !deployment.getChain().getId().equals(excludeChainId))
+                            .forEach(deployment -> rows.add(new Object[] {route, deployment}));
+                }
+            }
+            return rows;
+        });
+
+        for (String path : TRIGGER_PATHS) {
+            for (Set<HttpMethod> methods : ROUTE_METHODS) {
+                ElementRoute route = ElementRoute.builder().path(path).methods(methods).build();
+                for (int chain = 0; chain <= CHAINS_COUNT; chain++) {
+                    String excludeChainId = "chain-" + chain;
+                    List<Pair<String, String>> expected = findRouteDeploymentsOfAllTriggers(triggers, route, excludeChainId);
+
+                    assertThat(deploymentService.checkRouteExists(route, excludeChainId))
+                            .as("%s %s without %s", path, methods, excludeChainId)
+                            .isEqualTo(!expected.isEmpty());
+                    assertThat(deploymentService.findRouteDeployments(route, excludeChainId))
+                            .as("%s %s without %s", path, methods, excludeChainId)
+                            .map(routeDeployment -> Pair.of(routeDeployment.getLeft(), routeDeployment.getRight().getId()))
+                            .containsExactlyInAnyOrderElementsOf(expected);
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldBuildRouteLikeTrigger() {
+        for (ChainElement trigger : generateDeployedTriggers()) {
+            ElementRoute expected = TriggerUtils.getHttpTriggerRoute(trigger);
+            ElementRoute actual = TriggerUtils.buildHttpTriggerRoute(trigger).toElementRoute();
+
+            assertThat(actual.getPath()).isEqualTo(expected.getPath());
+            assertThat(actual.getMethods()).isEqualTo(expected.getMethods());
+            assertThat(actual.isExternal()).isEqualTo(expected.isExternal());
+            assertThat(actual.isPrivate()).isEqualTo(expected.isPrivate());
+        }
+    }
+
+    @Test
+    void shouldSelectRoutesByIndexedColumns() {
+        HttpTriggerRouteRepository repository = persistenceContext.getRepository(HttpTriggerRouteRepository.class);
+
+        repository.findDeployedRoutesByPathPattern("/orders/{", "chain");
+        repository.findRoutesForTriggerCheck(List.of("orders"), "chain", null);
+        repository.findRoutesForDomainTriggerCheck(List.of("orders"), "domain", "chain", List.of("deployment"));
+
+        assertThat(persistenceContext.getStatements()).hasSize(3);
+        assertThat(normalize(persistenceContext.getStatements().get(0)))
+                .contains("from catalog.http_trigger_routes htr1_0 join catalog.deployments d1_0 on htr1_0.snapshot_id=d1_0.snapshot_id")
+                .contains("where htr1_0.path_pattern=?");
+        assertThat(normalize(persistenceContext.getStatements().get(1))).contains("where htr1_0.path in (?)");
+        assertThat(normalize(persistenceContext.getStatements().get(2))).contains("where htr1_0.path in (?)");
+    }
+
+    /**
+     * Chains without SDS triggers are deployed, chains with triggers fail when the same job ids
+     * are deployed by the chain on another domain only.
+     */
+    @Test
+    void shouldCheckSdsTriggerJobIdsOfAllSnapshotsAtOnceInBulkDeploy() {
+        Map<String, Chain> chains = new LinkedHashMap<>();
+        Map<String, Snapshot> snapshots = new LinkedHashMap<>();
+        List<Object[]> pendingJobIds = new ArrayList<>();
+        List<Object[]> deployedJobIds = new ArrayList<>();
+        Set<String> expectedFailedChainIds = new HashSet<>();
+        for (int i = 0; i < SDS_CHAINS_COUNT; i++) {
+            Chain chain = new Chain();
+            chain.setId("chain-" + i);
+            chain.setName("Chain " + i);
+            Snapshot snapshot = new Snapshot();
+            snapshot.setId("snapshot-" + i);
+            snapshot.setChain(chain);
+            chains.put(chain.getId(), chain);
+            snapshots.put(chain.getId(), snapshot);
+
+            boolean hasJobIds = i % 4 != 3;
+            String jobId = "job-" + i % SDS_JOB_IDS_COUNT;
+            if (hasJobIds) {
+                pendingJobIds.add(new Object[] {snapshot.getId(), jobId});
+                pendingJobIds.add(new Object[] {snapshot.getId(), jobId + "-extra"});
+            }
+            if (hasJobIds && i % 5 == 0) {
+                deployedJobIds.add(new Object[] {snapshot.getId(), "custom", jobId});
+                expectedFailedChainIds.add(chain.getId());
+            }
+            if (hasJobIds && i % 5 == 1) {
+                deployedJobIds.add(new Object[] {snapshot.getId(), "default", jobId});
+            }
+        }
+        when(chainFinderService.findAllById(anyList())).thenReturn(new ArrayList<>(chains.values()));
+        when(snapshotService.buildAll(anyCollection(), any(BiConsumer.class))).thenReturn(snapshots);
+        when(elementRepository.findSdsTriggerJobIds(anyCollection())).thenReturn(pendingJobIds);
+        when(elementRepository.findDeployedSdsTriggerJobIds(anyCollection(), any())).thenReturn(deployedJobIds);
+
+        BulkDeploymentRequest request = BulkDeploymentRequest.builder()
+                .domains(List.of("default"))
+                .chainIds(new ArrayList<>(chains.keySet()))
+                .build();
+        List<BulkDeploymentResponse> statuses = deploymentService.bulkCreate(request).getRight();
+
+        assertThat(statuses).hasSize(SDS_CHAINS_COUNT);
+        assertThat(statuses).allSatisfy(status -> assertThat(status.getStatus())
+                .as(status.getChainId())
+                .isEqualTo(expectedFailedChainIds.contains(status.getChainId())
+                        ? BulkDeploymentStatus.FAILED_DEPLOY
+                        : BulkDeploymentStatus.CREATED));
+        verify(elementRepository, times(1)).findSdsTriggerJobIds(anyCollection());
+        verify(elementRepository, times(1)).findDeployedSdsTriggerJobIds(anyCollection(), any());
+        verify(deploymentRepository, times(SDS_CHAINS_COUNT - expectedFailedChainIds.size())).save(any());
+    }
+
+    @Test
+    void shouldCheckSdsTriggerJobIdsOfDeploymentsCreatedBefore() {
+        Chain chain = new Chain();
+        chain.setId("chain");
+        Snapshot snapshot = new Snapshot();
+        snapshot.setId("snapshot");
+        snapshot.setChain(chain);
+        List<Deployment> deployments = new ArrayList<>();
+        for (String domain : List.of("default", "custom")) {
+            Deployment deployment = new Deployment();
+            deployment.setDomain(domain);
+            deployment.setSnapshot(snapshot);
+            deployments.add(deployment);
+        }
+        when(chainFinderService.findById("chain")).thenReturn(chain);
+        when(elementRepository.findSdsTriggerJobIds(anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[] {snapshot.getId(), "job"}));
+
+        assertThatThrownBy(() -> deploymentService.createAll(deployments, "chain", snapshot))
+                .hasMessageContaining("[job]");
+        verify(deploymentRepository, times(1)).save(deployments.get(0));
+        verify(deploymentRepository, never()).save(deployments.get(1));
+    }
+
+    @Test
+    void shouldSelectSdsTriggerJobIdsByIndexedExpression() throws NoSuchMethodException {
+        // Repository has custom fragments, so its queries are run by the entity manager
+        entityManager.createQuery(getQuery("findSdsTriggerJobIds", Collection.class))
+                .setParameter("snapshotIds", List.of("snapshot"))
+                .getResultList();
+        entityManager.createQuery(getQuery("findDeployedSdsTriggerJobIds", Collection.class, List.class))
+                .setParameter("snapshotIds", List.of("snapshot"))
+                .setParameter("excludeDeploymentIds", null)
+                .getResultList();
+
+        assertThat(persistenceContext.getStatements()).hasSize(2);
+        assertThat(normalize(persistenceContext.getStatements().get(0)))
+                .contains("ce1_0.type='sds-trigger'")
+                .contains("jsonb_extract_path_text(ce1_0.properties,'jobid') is not null");
+        assertThat(normalize(persistenceContext.getStatements().get(1)))
+                .contains("jsonb_extract_path_text(ce2_0.properties,'jobid')=jsonb_extract_path_text(ce1_0.properties,'jobid')")
+                .contains("ce1_0.type='sds-trigger'")
+                .contains("ce2_0.type='sds-trigger'");
+    }
+
+    private static String getQuery(String methodName, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return ElementRepository.class.getMethod(methodName, parameterTypes).getAnnotation(Query.class).value();
+    }
+
+    /**
+     * Finds route deployments by checking intersection with every deployed trigger, as the service did before routes table.
+     */
+    private static List<Pair<String, String>> findRouteDeploymentsOfAllTriggers(
+            List<ChainElement> triggers, ElementRoute route, String excludeChainId) {
+        return triggers.stream()
+                .filter(trigger -> TriggerUtils.getHttpTriggerRoute(trigger).intersectsWith(route))
+                .flatMap(trigger -> trigger.getSnapshot().getDeployments().stream()
+                        .filter(deployment -> !deployment.getChain().getId().equals(excludeChainId))
+                        .map(deployment -> Pair.of(TriggerUtils.getHttpTriggerPath(trigger), deployment.getId())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Every chain has a snapshot deployed on two domains and a snapshot that is not deployed.
+     * Triggers of every path and methods restriction are spread between the snapshots.
+     */
+    private static List<ChainElement> generateDeployedTriggers() {
+        List<Snapshot> snapshots = new ArrayList<>();
+        for (int i = 0; i < CHAINS_COUNT; i++) {
+            Chain chain = new Chain();
+            chain.setId("chain-" + i);
+            for (int s = 0; s < 2; s++) {
+                Snapshot snapshot = new Snapshot();
+                snapshot.setId(chain.getId() + "-snapshot-" + s);
+                snapshot.setChain(chain);
+                if (s == 0) {
+                    for (String domain : List.of("default", "custom")) {
+                        Deployment deployment = new Deployment();
+                        deployment.setId(snapshot.getId() + "-" + domain);
+                        deployment.setDomain(domain);
+                        deployment.setChain(chain);
+                        snapshot.addDeployment(deployment);
+                    }
+                }
+                snapshots.add(snapshot);
+            }
+        }
+
+        List<ChainElement> triggers = new ArrayList<>();
+        int index = 0;
+        for (String path : TRIGGER_PATHS) {
+            for (String methods : METHOD_RESTRICTIONS) {
+                ChainElement trigger = new ChainElement();
+                trigger.setId("trigger-" + index);
+                trigger.setType(CamelNames.HTTP_TRIGGER_COMPONENT);
+                Map<String, Object> properties = new HashMap<>();
+                properties.put(index % 2 == 0 ? CamelOptions.CONTEXT_PATH : CamelOptions.OPERATION_PATH, path);
+                properties.put(CamelOptions.HTTP_METHOD_RESTRICT, methods);
+                properties.put(CamelOptions.IS_EXTERNAL_ROUTE, index % 3 != 0);
+                properties.put(CamelOptions.IS_PRIVATE_ROUTE, index % 5 == 0);
+                trigger.setProperties(properties);
+                if (index % 4 == 1) {
+                    ServiceEnvironment environment = new ServiceEnvironment();
+                    environment.setAddress("/base/");
+                    trigger.setEnvironment(environment);
+                }
+                snapshots.get(index % snapshots.size()).addElement(trigger);
+                triggers.add(trigger);
+                index++;
+            }
+        }
+        return triggers;
+    }
+}
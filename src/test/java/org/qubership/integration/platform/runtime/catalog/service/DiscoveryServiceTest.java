@@ -0,0 +1,283 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.qubership.integration.platform.runtime.catalog.kubernetes.KubeOperator;
+import org.qubership.integration.platform.runtime.catalog.kubernetes.KubeService;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.ConfigParameter;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.IntegrationSystem;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.SpecificationGroup;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.SystemModel;
+import org.qubership.integration.platform.runtime.catalog.rest.v1.mapper.DiscoveryServiceMapper;
+import org.qubership.integration.platform.runtime.catalog.service.exportimport.SpecificationImportService;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DiscoveryServiceTest {
+
+    private static final String SPECIFICATION =
+            "{\"openapi\": \"3.0.1\", \"info\": {\"title\": \"test\", \"version\": \"1.0.0\"}, \"paths\": {}}";
+
+    private static final String FAST_HOST = "localhost";
+    private static final String SLOW_HOST = "127.0.0.1";
+
+    @Mock
+    private KubeOperator operator;
+    @Mock
+    private SystemService systemService;
+    @Mock
+    private EnvironmentService environmentService;
+    @Mock
+    private SystemModelService systemModelService;
+    @Mock
+    private SpecificationImportService specificationImportService;
+    @Mock
+    private SpecificationGroupService specificationGroupService;
+    @Mock
+    private DiscoveryServiceMapper discoveryServiceMapper;
+    @Mock
+    private ConfigParameterService configParameterService;
+    @Mock
+    private ActionsLogService actionLogger;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<HttpServer> servers = new ArrayList<>();
+    private final List<ExecutorService> serverExecutors = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(systemService.create(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(specificationGroupService.createAndSaveUniqueSpecificationGroup(
+                any(), anyString(), anyString(), anyString(), anyBoolean())
+        ).thenAnswer(invocation -> {
+            SpecificationGroup group = new SpecificationGroup();
+            group.setId(invocation.getArgument(1));
+            group.setName(invocation.getArgument(1));
+            group.setSystem(invocation.getArgument(0));
+            return group;
+        });
+        when(specificationImportService.importSimpleSpecification(
+                anyString(), anyString(), anyString(), anyString(), anySet(), any())
+        ).thenAnswer(invocation -> CompletableFuture.completedFuture(new SystemModel()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        servers.forEach(server -> server.stop(0));
+        serverExecutors.forEach(ExecutorService::shutdownNow);
+    }
+
+    @Test
+    void shouldReturnPartialResultWhenDiscoveryDeadlineExpires() throws IOException {
+        int fastPort = startSpecificationServer(Duration.ZERO);
+        int slowPort = startSpecificationServer(Duration.ofSeconds(30));
+        when(operator.getServices()).thenReturn(List.of(
+                kubeService(SLOW_HOST, slowPort),
+                kubeService(FAST_HOST, fastPort)
+        ));
+
+        JsonNode result = runDiscovery(Duration.ofSeconds(30), Duration.ofSeconds(2), 4);
+
+        assertThat(textValues(result.get("discoveredSystemIds"))).containsExactly(FAST_HOST);
+        assertThat(textValues(result.get("errorMessages"), "serviceName")).containsExactly(SLOW_HOST);
+        assertThat(textValues(result.get("errorMessages"), "message")).containsExactly("Discovery timed out");
+        verify(systemService, never()).create(argThat(system -> SLOW_HOST.equals(system.getId())));
+    }
+
+    @Test
+    void shouldReportSystemsCreatedByCancelledProbes() throws IOException {
+        int port = startSpecificationServer(Duration.ZERO);
+        when(operator.getServices()).thenReturn(List.of(
+                kubeService(SLOW_HOST, port),
+                kubeService(FAST_HOST, port)
+        ));
+        CountDownLatch slowProbeInterrupted = new CountDownLatch(1);
+        when(environmentService.create(any(), argThat(system -> SLOW_HOST.equals(system.getId()))))
+                .thenAnswer(invocation -> {
+                    try {
+                        new CountDownLatch(1).await();
+                    } catch (InterruptedException e) {
+                        slowProbeInterrupted.countDown();
+                        throw e;
+                    }
+                    return null;
+                });
+
+        JsonNode result = runDiscovery(Duration.ofSeconds(30), Duration.ofSeconds(2), 4);
+
+        assertThat(slowProbeInterrupted.getCount()).isZero();
+        assertThat(textValues(result.get("discoveredSystemIds"))).containsExactlyInAnyOrder(FAST_HOST, SLOW_HOST);
+        assertThat(textValues(result.get("errorMessages"), "serviceName")).containsExactly(SLOW_HOST);
+        assertThat(textValues(result.get("errorMessages"), "message")).containsExactly("Discovery timed out");
+    }
+
+    @Test
+    void shouldSkipServiceWhenProbeTimeoutExpires() throws IOException {
+        int fastPort = startSpecificationServer(Duration.ZERO);
+        int slowPort = startSpecificationServer(Duration.ofSeconds(30));
+        when(operator.getServices()).thenReturn(List.of(
+                kubeService(SLOW_HOST, slowPort),
+                kubeService(FAST_HOST, fastPort)
+        ));
+
+        JsonNode result = runDiscovery(Duration.ofMillis(100), Duration.ofSeconds(30), 4);
+
+        assertThat(textValues(result.get("discoveredSystemIds"))).containsExactly(FAST_HOST);
+        assertThat(result.get("errorMessages")).isEmpty();
+    }
+
+    @Test
+    void shouldLimitConcurrentProbes() throws IOException {
+        int port = startSpecificationServer(Duration.ofMillis(50));
+        when(operator.getServices()).thenReturn(List.of(
+                kubeService(FAST_HOST, port),
+                kubeService(SLOW_HOST, port)
+        ));
+        List<String> events = new ArrayList<>();
+        when(systemService.getByIdOrNull(anyString())).thenAnswer(invocation -> {
+            synchronized (events) {
+                events.add("start " + invocation.getArgument(0));
+            }
+            return null;
+        });
+        when(environmentService.create(any(), any())).thenAnswer(invocation -> {
+            synchronized (events) {
+                events.add("end " + invocation.<IntegrationSystem>getArgument(1).getId());
+            }
+            return null;
+        });
+
+        JsonNode result = runDiscovery(Duration.ofSeconds(30), Duration.ofSeconds(30), 1);
+
+        assertThat(textValues(result.get("discoveredSystemIds"))).containsExactlyInAnyOrder(FAST_HOST, SLOW_HOST);
+        // With a single permit the second service is only probed after the first one is created
+        int firstEnd = events.indexOf(events.stream().filter(event -> event.startsWith("end")).findFirst().orElseThrow());
+        String firstService = events.get(firstEnd).substring("end ".length());
+        assertThat(events.subList(0, firstEnd)).allMatch(event -> event.contains(firstService));
+    }
+
+    private JsonNode runDiscovery(Duration probeTimeout, Duration discoveryTimeout, int maxConcurrency) throws IOException {
+        DiscoveryService discoveryService = new DiscoveryService(
+                operator,
+                systemService,
+                environmentService,
+                systemModelService,
+                specificationImportService,
+                specificationGroupService,
+                new YAMLMapper(),
+                objectMapper,
+                restTemplate(probeTimeout),
+                discoveryServiceMapper,
+                configParameterService,
+                actionLogger,
+                discoveryTimeout,
+                maxConcurrency
+        );
+        discoveryService.runDiscovery();
+
+        ArgumentCaptor<ConfigParameter> captor = ArgumentCaptor.forClass(ConfigParameter.class);
+        verify(configParameterService, timeout(20_000)).update(argThat((ConfigParameter cp) -> "discoveryResult".equals(cp.getName())));
+        verify(configParameterService, atLeastOnce()).update(captor.capture());
+        ConfigParameter resultParameter = captor.getAllValues().stream()
+                .filter(cp -> "discoveryResult".equals(cp.getName()))
+                .findFirst()
+                .orElseThrow();
+        return objectMapper.readTree(resultParameter.getString()).get("result");
+    }
+
+    private RestTemplate restTemplate(Duration probeTimeout) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(probeTimeout);
+        requestFactory.setReadTimeout(probeTimeout);
+        return new RestTemplate(requestFactory);
+    }
+
+    private int startSpecificationServer(Duration latency) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        ExecutorService executor = Executors.newCachedThreadPool();
+        serverExecutors.add(executor);
+        server.setExecutor(executor);
+        server.createContext("/", exchange -> {
+            try {
+                Thread.sleep(latency.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            boolean found = "/v3/api-docs".equals(exchange.getRequestURI().getPath());
+            byte[] body = found ? SPECIFICATION.getBytes(StandardCharsets.UTF_8) : new byte[0];
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(found ? 200 : 404, found ? body.length : -1);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.start();
+        servers.add(server);
+        return server.getAddress().getPort();
+    }
+
+    private static KubeService kubeService(String name, int port) {
+        return KubeService.builder()
+                .id(name)
+                .name(name)
+                .ports(List.of(port))
+                .build();
+    }
+
+    private static List<String> textValues(JsonNode arrayNode) {
+        List<String> values = new ArrayList<>();
+        arrayNode.forEach(node -> values.add(node.asText()));
+        return values;
+    }
+
+    private static List<String> textValues(JsonNode arrayNode, String field) {
+        List<String> values = new ArrayList<>();
+        arrayNode.forEach(node -> values.add(node.get(field).asText()));
+        return values;
+    }
+}
@@ -0,0 +1,374 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.qubership.integration.platform.runtime.catalog.model.ElementsWithSystemUsage;
+import org.qubership.integration.platform.runtime.catalog.model.dto.system.UsedSystem;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ElementRepository;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ElementSystemUsageRepository;
+import org.qubership.integration.platform.runtime.catalog.service.helpers.ChainFinderService;
+import org.qubership.integration.platform.runtime.catalog.service.library.LibraryElementsService;
+import org.qubership.integration.platform.runtime.catalog.testutils.persistence.EmbeddedPersistenceContext;
+import org.qubership.integration.platform.runtime.catalog.testutils.persistence.StubPersistenceContext;
+import org.qubership.integration.platform.runtime.catalog.util.ElementUtils;
+import org.springframework.data.auditing.AuditingHandler;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+import static org.qubership.integration.platform.runtime.catalog.model.constant.CamelOptions.CONTEXT_SYSTEM_ID;
+import static org.qubership.integration.platform.runtime.catalog.model.constant.CamelOptions.OPERATION_ID;
+import static org.qubership.integration.platform.runtime.catalog.model.constant.CamelOptions.SPECIFICATION_ID;
+import static org.qubership.integration.platform.runtime.catalog.model.constant.CamelOptions.SYSTEM_ID;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ElementServiceTest {
+
+    private static final List<String> CHAIN_IDS = List.of("chain-0", "chain-1", "chain-2", "chain-3");
+    private static final List<String> ELEMENT_TYPES = Stream.concat(
+                    Arrays.stream(ElementsWithSystemUsage.values()).map(ElementsWithSystemUsage::getElementName),
+                    Stream.of("script", "mapper-2"))
+            .toList();
+    private static final List<String> SYSTEM_IDS = Arrays.asList(null, "", " ", "system-1", "system-2", "system-3");
+    private static final List<String> SPECIFICATION_IDS = Arrays.asList(null, "", " ", "specification-1", "specification-2");
+    private static final List<String> OPERATION_IDS = Arrays.asList(null, "", "operation-1", "operation-2");
+    private static final List<String> CONTEXT_SERVICE_IDS = Arrays.asList(null, "", "context-1", "system-1");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private ElementRepository elementRepository;
+    @Mock
+    private AuditingHandler auditingHandler;
+    @Mock
+    private LibraryElementsService libraryService;
+    @Mock
+    private ChainFinderService chainFinderService;
+    @Mock
+    private SwimlaneService swimlaneService;
+    @Mock
+    private ActionsLogService actionLogger;
+    @Mock
+    private OrderedElementService orderedElementService;
+    @Mock
+    private ElementUtils elementUtils;
+    @Mock
+    private SystemEnvironmentsGenerator systemEnvironmentsGenerator;
+    @Mock
+    private SystemBaseService systemBaseService;
+    @Mock
+    private SystemModelBaseService systemModelBaseService;
+    @Mock
+    private ElementSystemUsageRepository elementSystemUsageRepository;
+
+    private StubPersistenceContext persistenceContext;
+    private ElementService elementService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        persistenceContext = new StubPersistenceContext();
+        elementService = createElementService(elementSystemUsageRepository);
+    }
+
+    private ElementService createElementService(ElementSystemUsageRepository elementSystemUsageRepository) {
+        return new ElementService(
+                elementRepository,
+                auditingHandler,
+                libraryService,
+                chainFinderService,
+                swimlaneService,
+                actionLogger,
+                orderedElementService,
+                elementUtils,
+                systemEnvironmentsGenerator,
+                systemBaseService,
+                systemModelBaseService,
+                elementSystemUsageRepository
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        persistenceContext.close();
+    }
+
+    @Test
+    void shouldGroupSpecificationsOfUsedSystems() {
+        when(elementSystemUsageRepository.findUsedSystemsByChainIds(anyList())).thenReturn(List.of(
+                new Object[] {"context-storage", null},
+                new Object[] {"orders", "orders-v1"},
+                new Object[] {"orders", "orders-v2"},
+                new Object[] {"orders", null},
+                new Object[] {"payments", null}
+        ));
+
+        List<UsedSystem> usedSystems = elementService.getUsedSystemIdsByChainIds(List.of("chain-1", "chain-2"));
+
+        verify(elementSystemUsageRepository).findUsedSystemsByChainIds(List.of("chain-1", "chain-2"));
+        assertThat(usedSystems).extracting(UsedSystem::getSystemId).containsExactly("context-storage", "orders", "payments");
+        assertThat(usedSystems).extracting(UsedSystem::getUsedSystemModelIds)
+                .containsExactly(List.of(), List.of("orders-v1", "orders-v2"), List.of());
+    }
+
+    @Test
+    void shouldReturnAllUsedSystems() {
+        when(elementSystemUsageRepository.findAllUsedSystems()).thenReturn(List.<Object[]>of(
+                new Object[] {"orders", "orders-v1"}
+        ));
+
+        List<UsedSystem> usedSystems = elementService.getAllUsedSystemIds();
+
+        assertThat(usedSystems).singleElement().satisfies(usedSystem -> {
+            assertThat(usedSystem.getSystemId()).isEqualTo("orders");
+            assertThat(usedSystem.getUsedSystemModelIds()).containsExactly("orders-v1");
+        });
+    }
+
+    @Test
+    void shouldGroupUsedSystemsOfChainsInQuery() throws NoSuchMethodException {
+        String sql = persistenceContext.render(ElementSystemUsageRepository.class, "findUsedSystemsByChainIds", Collection.class);
+
+        assertThat(sql).startsWith("select esu1_0.system_id,esu1_0.specification_id from catalog.element_system_usage esu1_0 ");
+        assertThat(sql).endsWith("where esu1_0.chain_id in (?) "
+                + "group by esu1_0.system_id,esu1_0.specification_id "
+                + "order by esu1_0.system_id,esu1_0.specification_id");
+    }
+
+    @Test
+    void shouldFilterElementsBySystemTypeInQuery() throws NoSuchMethodException {
+        String sql = persistenceContext.render(ElementRepository.class, "findAllByTypeInAndSystemTypeAndFetchChain", Collection.class, String.class);
+
+        assertThat(sql).contains("join catalog.chains c1_0 on c1_0.id=ce1_0.chain_id");
+        assertThat(sql).endsWith("where ce1_0.type in (?) and jsonb_extract_path_text(ce1_0.properties,'systemtype')=?");
+    }
+
+    @Test
+    void shouldKeepSystemUsageConsistentWithElements() {
+        try (EmbeddedPersistenceContext database = new EmbeddedPersistenceContext()) {
+            JdbcTemplate jdbcTemplate = database.getJdbcTemplate();
+            ElementService service = createElementService(database.getRepository(ElementSystemUsageRepository.class));
+            Random random = new Random(38);
+            CHAIN_IDS.forEach(chainId -> insertChain(jdbcTemplate, chainId));
+            for (int step = 0; step < 400; step++) {
+                String operation = changeElements(jdbcTemplate, random, step);
+
+                assertThat(findUsageRows(jdbcTemplate)).as("step %d: %s", step, operation)
+                        .isEqualTo(findExpectedUsageRows(jdbcTemplate));
+                List<String> chainIds = CHAIN_IDS.subList(0, 1 + random.nextInt(CHAIN_IDS.size()));
+                assertThat(toSpecificationsBySystem(service.getUsedSystemIdsByChainIds(chainIds)))
+                        .as("step %d: %s, used systems of %s", step, operation, chainIds)
+                        .isEqualTo(findUsedSystemsWithElementsQuery(jdbcTemplate, chainIds));
+                assertThat(toSpecificationsBySystem(service.getAllUsedSystemIds()))
+                        .as("step %d: %s, all used systems", step, operation)
+                        .isEqualTo(findUsedSystemsWithElementsQuery(jdbcTemplate, CHAIN_IDS));
+            }
+        }
+    }
+
+    @Test
+    void shouldRefreshSystemUsageForElementTypesWithSystemUsage() {
+        try (EmbeddedPersistenceContext database = new EmbeddedPersistenceContext()) {
+            String function = database.getJdbcTemplate().queryForObject(
+                    "SELECT pg_get_functiondef('catalog.element_system_usage_refresh(catalog.elements)'::regprocedure)",
+                    String.class);
+            Matcher typesList = Pattern.compile("not in \\(([^)]*)\\)").matcher(function);
+
+            assertThat(typesList.find()).as(function).isTrue();
+            assertThat(Arrays.stream(typesList.group(1).split(","))
+                    .map(type -> StringUtils.strip(type, " '"))
+                    .collect(Collectors.toSet()))
+                    .isEqualTo(Arrays.stream(ElementsWithSystemUsage.values())
+                            .map(ElementsWithSystemUsage::getElementName)
+                            .collect(Collectors.toSet()));
+        }
+    }
+
+    /**
+     * Applies a random change to elements the way the element service, snapshots and cascades do.
+     *
+     * @return description of the change
+     */
+    private String changeElements(JdbcTemplate jdbcTemplate, Random random, int step) {
+        List<String> elementIds = jdbcTemplate.queryForList("SELECT id FROM catalog.elements ORDER BY id", String.class);
+        List<String> snapshotIds = jdbcTemplate.queryForList("SELECT id FROM catalog.snapshots ORDER BY id", String.class);
+        String elementId = elementIds.isEmpty() ? null : elementIds.get(random.nextInt(elementIds.size()));
+        String chainId = CHAIN_IDS.get(random.nextInt(CHAIN_IDS.size()));
+        switch (elementIds.size() < 10 ? 0 : random.nextInt(11)) {
+            case 0, 1, 2 -> {
+                String id = "element-" + step;
+                String parentId = elementId != null && random.nextInt(4) == 0 ? elementId : null;
+                jdbcTemplate.update("INSERT INTO catalog.elements (id, type, chain_id, parent_element_id, properties) "
+                                + "VALUES (?, ?, ?, ?, CAST(? AS jsonb))",
+                        id, randomItem(random, ELEMENT_TYPES), chainId, parentId, randomProperties(random));
+                return "insert " + id;
+            }
+            case 3, 4 -> {
+                jdbcTemplate.update("UPDATE catalog.elements SET properties = CAST(? AS jsonb) WHERE id = ?",
+                        randomProperties(random), elementId);
+                return "change system of " + elementId;
+            }
+            case 5 -> {
+                jdbcTemplate.update("UPDATE catalog.elements SET environment = CAST(? AS jsonb) WHERE id = ?",
+                        "{\"address\": \"https://host-" + random.nextInt(3) + "\"}", elementId);
+                return "change environment of " + elementId;
+            }
+            case 6 -> {
+                jdbcTemplate.update("UPDATE catalog.elements SET type = ? WHERE id = ?", randomItem(random, ELEMENT_TYPES), elementId);
+                return "change type of " + elementId;
+            }
+            case 7 -> {
+                jdbcTemplate.update("UPDATE catalog.elements SET chain_id = ? WHERE id = ?", chainId, elementId);
+                return "move " + elementId + " to " + chainId;
+            }
+            case 8 -> {
+                String snapshotId = "snapshot-" + step;
+                jdbcTemplate.update("INSERT INTO catalog.snapshots (id, chain_id) VALUES (?, ?)", snapshotId, chainId);
+                jdbcTemplate.update("UPDATE catalog.elements SET chain_id = NULL, snapshot_id = ? WHERE chain_id = ?",
+                        snapshotId, chainId);
+                return "move elements of " + chainId + " to " + snapshotId;
+            }
+            case 9 -> {
+                jdbcTemplate.update("DELETE FROM catalog.elements WHERE id = ?", elementId);
+                return "delete " + elementId;
+            }
+            default -> {
+                if (!snapshotIds.isEmpty() && random.nextBoolean()) {
+                    String snapshotId = randomItem(random, snapshotIds);
+                    jdbcTemplate.update("DELETE FROM catalog.snapshots WHERE id = ?", snapshotId);
+                    return "delete " + snapshotId;
+                }
+                jdbcTemplate.update("DELETE FROM catalog.chains WHERE id = ?", chainId);
+                insertChain(jdbcTemplate, chainId);
+                return "delete " + chainId;
+            }
+        }
+    }
+
+    private static void insertChain(JdbcTemplate jdbcTemplate, String chainId) {
+        jdbcTemplate.update("INSERT INTO catalog.chains (id, name) VALUES (?, ?)", chainId, chainId);
+    }
+
+    private String randomProperties(Random random) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(SYSTEM_ID, randomItem(random, SYSTEM_IDS));
+        properties.put(SPECIFICATION_ID, randomItem(random, SPECIFICATION_IDS));
+        properties.put(OPERATION_ID, randomItem(random, OPERATION_IDS));
+        properties.put(CONTEXT_SYSTEM_ID, randomItem(random, CONTEXT_SERVICE_IDS));
+        properties.values().removeIf(Objects::isNull);
+        try {
+            return objectMapper.writeValueAsString(properties);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static <T> T randomItem(Random random, List<T> items) {
+        return items.get(random.nextInt(items.size()));
+    }
+
+    private static Set<List<String>> findUsageRows(JdbcTemplate jdbcTemplate) {
+        return new HashSet<>(jdbcTemplate.query(
+                "SELECT element_id, system_id, chain_id, specification_id, operation_id FROM catalog.element_system_usage",
+                (resultSet, rowNum) -> Arrays.asList(resultSet.getString(1), resultSet.getString(2),
+                        resultSet.getString(3), resultSet.getString(4), resultSet.getString(5))));
+    }
+
+    /**
+     * Usage rows derived from the element properties, one per referenced integration system or context service.
+     */
+    private static Set<List<String>> findExpectedUsageRows(JdbcTemplate jdbcTemplate) {
+        return new HashSet<>(jdbcTemplate.query("""
+                        SELECT e.id, e.properties ->> 'integrationSystemId', e.chain_id,
+                               nullif(btrim(e.properties ->> 'integrationSpecificationId'), ''),
+                               nullif(btrim(e.properties ->> 'integrationOperationId'), '')
+                        FROM catalog.elements e
+                        WHERE e.chain_id IS NOT NULL AND e.type IN (%1$s)
+                            AND btrim(e.properties ->> 'integrationSystemId') <> ''
+                        UNION
+                        SELECT e.id, e.properties ->> 'contextServiceId', e.chain_id, NULL, NULL
+                        FROM catalog.elements e
+                        WHERE e.chain_id IS NOT NULL AND e.type IN (%1$s)
+                            AND btrim(e.properties ->> 'contextServiceId') <> ''
+                            AND e.properties ->> 'contextServiceId' IS DISTINCT FROM e.properties ->> 'integrationSystemId'
+                        """.formatted(elementTypesList()),
+                (resultSet, rowNum) -> Arrays.asList(resultSet.getString(1), resultSet.getString(2),
+                        resultSet.getString(3), resultSet.getString(4), resultSet.getString(5))));
+    }
+
+    /**
+     * Loads elements with the jsonb query the used systems were found by before the usage table
+     * and groups their systems and specifications the same way.
+     */
+    private static Map<String, Set<String>> findUsedSystemsWithElementsQuery(JdbcTemplate jdbcTemplate, List<String> chainIds) {
+        Map<String, Set<String>> usedSystems = new HashMap<>();
+        jdbcTemplate.query("""
+                        SELECT e.chain_id, e.properties ->> 'contextServiceId', e.properties ->> 'integrationSystemId',
+                               e.properties ->> 'integrationSpecificationId'
+                        FROM catalog.elements e
+                        WHERE e.type IN (%s) AND e.chain_id IS NOT NULL
+                        """.formatted(elementTypesList()),
+                resultSet -> {
+                    if (!chainIds.contains(resultSet.getString(1))) {
+                        return;
+                    }
+                    String contextServiceId = resultSet.getString(2);
+                    String systemId = resultSet.getString(3);
+                    String specificationId = resultSet.getString(4);
+                    if (!StringUtils.isBlank(contextServiceId)) {
+                        usedSystems.computeIfAbsent(contextServiceId, id -> new HashSet<>());
+                    }
+                    if (!StringUtils.isBlank(systemId)) {
+                        Set<String> specificationIds = usedSystems.computeIfAbsent(systemId, id -> new HashSet<>());
+                        if (!StringUtils.isBlank(specificationId)) {
+                            specificationIds.add(specificationId);
+                        }
+                    }
+                });
+        return usedSystems;
+    }
+
+    private static String elementTypesList() {
+        return Arrays.stream(ElementsWithSystemUsage.values())
+                .map(type -> "'" + type.getElementName() + "'")
+                .collect(Collectors.joining(", "));
+    }
+
+    private static Map<String, Set<String>> toSpecificationsBySystem(List<UsedSystem> usedSystems) {
+        assertThat(usedSystems).extracting(UsedSystem::getSystemId).doesNotHaveDuplicates().isSorted();
+        return usedSystems.stream().collect(Collectors.toMap(UsedSystem::getSystemId,
+                usedSystem -> new HashSet<>(usedSystem.getUsedSystemModelIds())));
+    }
+}
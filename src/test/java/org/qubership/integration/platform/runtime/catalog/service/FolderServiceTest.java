@@ -0,0 +1,242 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.qubership.integration.platform.runtime.catalog.exception.exceptions.FolderMoveException;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Chain;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Folder;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ChainRepository;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.FolderRepository;
+import org.qubership.integration.platform.runtime.catalog.rest.v2.dto.ListFolderRequest;
+import org.qubership.integration.platform.runtime.catalog.service.filter.ChainFilterSpecificationBuilder;
+import org.qubership.integration.platform.runtime.catalog.testutils.persistence.EmbeddedPersistenceContext;
+import org.qubership.integration.platform.runtime.catalog.testutils.persistence.StubPersistenceContext;
+import org.springframework.data.auditing.AuditingHandler;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class FolderServiceTest {
+
+    @Mock
+    private FolderRepository folderRepository;
+    @Mock
+    private ActionsLogService actionLogger;
+    @Mock
+    private ChainRepository chainRepository;
+    @Mock
+    private DeploymentService deploymentService;
+    @Mock
+    private AuditingHandler auditingHandler;
+    @Mock
+    private ChainFilterSpecificationBuilder chainFilterSpecificationBuilder;
+
+    private StubPersistenceContext persistenceContext;
+    private EntityManager entityManager;
+    private FolderService folderService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        persistenceContext = new StubPersistenceContext();
+        entityManager = persistenceContext.getEntityManager();
+
+        folderService = new FolderService(
+                folderRepository,
+                actionLogger,
+                chainRepository,
+                deploymentService,
+                auditingHandler,
+                entityManager,
+                chainFilterSpecificationBuilder
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        persistenceContext.close();
+    }
+
+    @Test
+    void shouldSearchNestedChainsThroughFolderClosure() {
+        Specification<Chain> search = (root, query, cb) -> cb.like(cb.lower(root.get("name")), "%orders%");
+        when(chainFilterSpecificationBuilder.buildSearch(anyString())).thenReturn(search);
+        ListFolderRequest request = new ListFolderRequest();
+        request.setFolderId("folder");
+        request.setSearchString("orders");
+
+        folderService.findByRequest(request);
+
+        String sql = persistenceContext.capturedStatement();
+        assertThat(sql).contains("catalog.folder_closure").doesNotContain("is_parent_folder");
+    }
+
+    @Test
+    void shouldRejectMoveIntoOwnSubtree() {
+        Folder folder = folder("folder", null);
+        Folder target = folder("target", null);
+        when(folderRepository.findById("folder")).thenReturn(Optional.of(folder));
+        when(folderRepository.findById("target")).thenReturn(Optional.of(target));
+        when(folderRepository.isFolderOrDescendant("target", "folder")).thenReturn(true);
+
+        assertThatThrownBy(() -> folderService.move("folder", "target")).isInstanceOf(FolderMoveException.class);
+        assertThat(folder.getParentFolder()).isNull();
+    }
+
+    @Test
+    void shouldMoveFolderOutsideOwnSubtree() throws FolderMoveException {
+        Folder folder = folder("folder", null);
+        Folder target = folder("target", null);
+        when(folderRepository.findById("folder")).thenReturn(Optional.of(folder));
+        when(folderRepository.findById("target")).thenReturn(Optional.of(target));
+        when(folderRepository.isFolderOrDescendant("target", "folder")).thenReturn(false);
+
+        folderService.move("folder", "target");
+
+        assertThat(folder.getParentFolder()).isSameAs(target);
+    }
+
+    @Test
+    void shouldProvideNavigationPathFromFolderToRoot() {
+        Folder root = folder("root", null);
+        Folder parent = folder("parent", root);
+        Folder folder = folder("folder", parent);
+        when(folderRepository.getPath("folder")).thenReturn(List.of(folder, parent, root));
+
+        assertThat(folderService.provideNavigationPath("folder"))
+                .containsExactly(Map.entry("folder", "Folder folder"), Map.entry("parent", "Folder parent"), Map.entry("root", "Folder root"));
+    }
+
+    @Test
+    void shouldFailNavigationPathForMissingFolder() {
+        when(folderRepository.getPath("missing")).thenReturn(List.of());
+
+        assertThatThrownBy(() -> folderService.provideNavigationPath("missing")).isInstanceOf(EntityNotFoundException.class);
+    }
+
+    private static Folder folder(String id, Folder parent) {
+        Folder folder = new Folder();
+        folder.setId(id);
+        folder.setName("Folder " + id);
+        folder.setParentFolder(parent);
+        return folder;
+    }
+
+    @Test
+    void shouldKeepFolderClosureConsistentWithHierarchy() {
+        try (EmbeddedPersistenceContext database = new EmbeddedPersistenceContext()) {
+            JdbcTemplate jdbcTemplate = database.getJdbcTemplate();
+            Random random = new Random(35);
+
+            for (int step = 0; step < 400; step++) {
+                String operation = changeFolders(jdbcTemplate, random, step);
+
+                assertThat(findClosure(jdbcTemplate)).as("step %d: %s", step, operation)
+                        .isEqualTo(findHierarchy(jdbcTemplate));
+            }
+        }
+    }
+
+    /**
+     * Applies a random change to the folder tree the way the folder service and cascades do.
+     *
+     * @return description of the change
+     */
+    private static String changeFolders(JdbcTemplate jdbcTemplate, Random random, int step) {
+        List<String> folderIds = findFolderIds(jdbcTemplate);
+        String folderId = folderIds.isEmpty() ? null : folderIds.get(random.nextInt(folderIds.size()));
+        String targetId = folderIds.isEmpty() || random.nextInt(5) == 0 ? null : folderIds.get(random.nextInt(folderIds.size()));
+        switch (folderIds.size() < 5 ? 0 : random.nextInt(7)) {
+            case 0, 1, 2 -> {
+                String id = "folder-" + step;
+                jdbcTemplate.update("INSERT INTO catalog.folders (id, name, parent_folder_id) VALUES (?, ?, ?)", id, id, targetId);
+                return "insert " + id + " into " + targetId;
+            }
+            case 3, 4, 5 -> {
+                if (targetId != null && findAncestors(jdbcTemplate, targetId).contains(folderId)) {
+                    return "skip move of " + folderId + " into own subtree " + targetId;
+                }
+                jdbcTemplate.update("UPDATE catalog.folders SET parent_folder_id = ? WHERE id = ?", targetId, folderId);
+                return "move " + folderId + " to " + targetId;
+            }
+            default -> {
+                jdbcTemplate.update("DELETE FROM catalog.folders WHERE id = ?", folderId);
+                return "delete " + folderId;
+            }
+        }
+    }
+
+    private static List<String> findFolderIds(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForList("SELECT id FROM catalog.folders ORDER BY id", String.class);
+    }
+
+    private static Set<List<Object>> findClosure(JdbcTemplate jdbcTemplate) {
+        return new HashSet<>(jdbcTemplate.query("SELECT ancestor_id, descendant_id, depth FROM catalog.folder_closure",
+                (resultSet, rowNum) -> List.of(resultSet.getString(1), resultSet.getString(2), resultSet.getInt(3))));
+    }
+
+    private static Set<List<Object>> findHierarchy(JdbcTemplate jdbcTemplate) {
+        return new HashSet<>(jdbcTemplate.query("""
+                        WITH RECURSIVE folder_hierarchy AS (
+                            SELECT f.id AS ancestor_id, f.id AS descendant_id, 0 AS depth
+                            FROM catalog.folders f
+                            UNION ALL
+                            SELECT f.parent_folder_id, fh.descendant_id, fh.depth + 1
+                            FROM folder_hierarchy fh
+                                     INNER JOIN catalog.folders f ON f.id = fh.ancestor_id
+                            WHERE f.parent_folder_id IS NOT NULL
+                        )
+                        SELECT ancestor_id, descendant_id, depth FROM folder_hierarchy
+                        """,
+                (resultSet, rowNum) -> List.of(resultSet.getString(1), resultSet.getString(2), resultSet.getInt(3))));
+    }
+
+    /**
+     * Returns the folder and its ancestors, following the parent references.
+     */
+    private static List<String> findAncestors(JdbcTemplate jdbcTemplate, String folderId) {
+        return jdbcTemplate.queryForList("""
+                        WITH RECURSIVE path AS (
+                            SELECT f.id, f.parent_folder_id, 0 AS depth
+                            FROM catalog.folders f
+                            WHERE f.id = ?
+                            UNION ALL
+                            SELECT f.id, f.parent_folder_id, p.depth + 1
+                            FROM path p
+                                     INNER JOIN catalog.folders f ON f.id = p.parent_folder_id
+                        )
+                        SELECT id FROM path ORDER BY depth
+                        """, String.class, folderId);
+    }
+}
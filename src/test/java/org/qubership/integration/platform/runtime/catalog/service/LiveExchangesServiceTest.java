@@ -0,0 +1,210 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.service;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.qubership.integration.platform.runtime.catalog.model.deployment.engine.LiveExchangesResult;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Chain;
+import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.engine.LiveExchangeExtDTO;
+import org.qubership.integration.platform.runtime.catalog.service.helpers.ChainFinderService;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.support.HttpRequestWrapper;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class LiveExchangesServiceTest {
+
+    private static final String FIRST_ENGINE = "engine-first";
+    private static final String SECOND_ENGINE = "engine-second";
+    private static final String SLOW_ENGINE = "engine-slow";
+    private static final String FAILING_ENGINE = "engine-failing";
+
+    @Mock
+    private RuntimeDeploymentService runtimeDeploymentService;
+    @Mock
+    private ActionsLogService actionLogger;
+    @Mock
+    private DeploymentService deploymentService;
+    @Mock
+    private ChainFinderService chainFinderService;
+
+    private final Map<String, Integer> enginePorts = new ConcurrentHashMap<>();
+    private final List<HttpServer> servers = new ArrayList<>();
+    private final List<ExecutorService> serverExecutors = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(chainFinderService.findAllById(anyList())).thenAnswer(invocation -> {
+            List<String> ids = invocation.getArgument(0);
+            return ids.stream().distinct().map(id -> {
+                Chain chain = new Chain();
+                chain.setId(id);
+                chain.setName("Chain " + id);
+                return chain;
+            }).toList();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        servers.forEach(server -> server.stop(0));
+        serverExecutors.forEach(ExecutorService::shutdownNow);
+    }
+
+    @Test
+    void shouldMergeTopExchangesFromAllEngines() throws IOException {
+        startEngine(FIRST_ENGINE, Duration.ZERO, 200, exchanges("c1", 10, 50, 30));
+        startEngine(SECOND_ENGINE, Duration.ZERO, 200, exchanges("c2", 40, 20));
+        engines(FIRST_ENGINE, SECOND_ENGINE);
+
+        LiveExchangesResult result = service(Duration.ofSeconds(5), Duration.ofSeconds(10)).getTopLongLiveExchanges(3);
+
+        assertThat(result.exchanges()).extracting(LiveExchangeExtDTO::getDuration).containsExactly(50L, 40L, 30L);
+        assertThat(result.exchanges()).extracting(LiveExchangeExtDTO::getPodIp)
+                .containsExactly(FIRST_ENGINE, SECOND_ENGINE, FIRST_ENGINE);
+        assertThat(result.exchanges()).extracting(LiveExchangeExtDTO::getChainName)
+                .containsExactly("Chain c1", "Chain c2", "Chain c1");
+        assertThat(result.timedOutEngines()).isEmpty();
+    }
+
+    @Test
+    void shouldSkipFailingAndSlowEngines() throws IOException {
+        startEngine(FIRST_ENGINE, Duration.ZERO, 200, exchanges("c1", 10, 20));
+        startEngine(SLOW_ENGINE, Duration.ofSeconds(30), 200, exchanges("c2", 100));
+        startEngine(FAILING_ENGINE, Duration.ZERO, 500, "{}");
+        engines(SLOW_ENGINE, FAILING_ENGINE, FIRST_ENGINE);
+
+        long startTime = System.nanoTime();
+        LiveExchangesResult result = service(Duration.ofMillis(500), Duration.ofSeconds(10)).getTopLongLiveExchanges(10);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startTime);
+
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(5));
+        assertThat(result.exchanges()).extracting(LiveExchangeExtDTO::getDuration).containsExactly(20L, 10L);
+        assertThat(result.timedOutEngines()).containsExactly(SLOW_ENGINE);
+    }
+
+    @Test
+    void shouldStopWaitingWhenOverallDeadlineExpires() throws IOException {
+        startEngine(FIRST_ENGINE, Duration.ZERO, 200, exchanges("c1", 10));
+        startEngine(SLOW_ENGINE, Duration.ofSeconds(30), 200, exchanges("c2", 100));
+        startEngine(SECOND_ENGINE, Duration.ofSeconds(30), 200, exchanges("c3", 200));
+        engines(SLOW_ENGINE, SECOND_ENGINE, FIRST_ENGINE);
+
+        long startTime = System.nanoTime();
+        LiveExchangesResult result = service(Duration.ofSeconds(30), Duration.ofSeconds(1)).getTopLongLiveExchanges(10);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startTime);
+
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(5));
+        assertThat(result.exchanges()).extracting(LiveExchangeExtDTO::getPodIp).containsExactly(FIRST_ENGINE);
+        assertThat(result.timedOutEngines()).containsExactly(SLOW_ENGINE, SECOND_ENGINE);
+    }
+
+    private LiveExchangesService service(Duration engineTimeout, Duration timeout) {
+        return new LiveExchangesService(
+                runtimeDeploymentService,
+                restTemplate(),
+                actionLogger,
+                deploymentService,
+                chainFinderService,
+                engineTimeout,
+                timeout
+        );
+    }
+
+    private void engines(String... hosts) {
+        when(runtimeDeploymentService.getEngineHosts()).thenReturn(Map.of("default", List.of(hosts)));
+    }
+
+    /**
+     * Engine urls always point to port 8080 of the engine host, redirect them to the stub servers.
+     */
+    private RestTemplate restTemplate() {
+        RestTemplate restTemplate = new RestTemplate(new SimpleClientHttpRequestFactory());
+        restTemplate.getInterceptors().add((request, body, execution) -> execution.execute(
+                new HttpRequestWrapper(request) {
+                    @Override
+                    public URI getURI() {
+                        URI uri = request.getURI();
+                        return UriComponentsBuilder.fromUri(uri)
+                                .host("localhost")
+                                .port(enginePorts.get(uri.getHost()))
+                                .build(true)
+                                .toUri();
+                    }
+                }, body));
+        return restTemplate;
+    }
+
+    private void startEngine(String host, Duration latency, int status, String response) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        ExecutorService executor = Executors.newCachedThreadPool();
+        serverExecutors.add(executor);
+        server.setExecutor(executor);
+        server.createContext("/v1/engine/live-exchanges", exchange -> {
+            try {
+                Thread.sleep(latency.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = response.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.start();
+        servers.add(server);
+        enginePorts.put(host, server.getAddress().getPort());
+    }
+
+    private static String exchanges(String chainId, long... durations) {
+        List<String> items = new ArrayList<>();
+        for (long duration : durations) {
+            items.add("{\"exchangeId\": \"" + chainId + "-" + duration + "\", \"chainId\": \"" + chainId
+                    + "\", \"duration\": " + duration + "}");
+        }
+        return "[" + String.join(",", items) + "]";
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.qubership.integration.platform.runtime.catalog.exception.exceptions.SnapshotCreationException;
+import org.qubership.integration.platform.runtime.catalog.persistence.TransactionHandler;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.actionlog.ActionLog;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.actionlog.EntityType;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.actionlog.LogOperation;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Chain;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Snapshot;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.SnapshotRepository;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ChainRepository;
+import org.qubership.integration.platform.runtime.catalog.service.helpers.ChainFinderService;
+import org.qubership.integration.platform.runtime.catalog.service.verification.ElementPropertiesVerificationService;
+import org.qubership.integration.platform.runtime.catalog.service.verification.properties.VerificationError;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SnapshotServiceTest {
+
+    private static final int CHUNK = 1000;
+    private static final int PRUNED_SNAPSHOTS_COUNT = 4500;
+
+    @Mock
+    private SnapshotRepository snapshotRepository;
+    @Mock
+    private ChainFinderService chainFinderService;
+    @Mock
+    private ActionsLogService actionLogger;
+    @Mock
+    private ChainRepository chainRepository;
+    @Mock
+    private ElementPropertiesVerificationService elementPropertiesVerificationService;
+    @Mock
+    private ChainFingerprintCalculator chainFingerprintCalculator;
+
+    private SnapshotService snapshotService;
+
+    @BeforeEach
+    void setUp() {
+        snapshotService = new SnapshotService(
+                snapshotRepository,
+                null,
+                null,
+                null,
+                chainRepository,
+                null,
+                null,
+                chainFinderService,
+                null,
+                null,
+                null,
+                actionLogger,
+                elementPropertiesVerificationService,
+                null,
+                new TransactionHandler(),
+                chainFingerprintCalculator);
+    }
+
+    @Test
+    void shouldLogPrunedSnapshotsOncePerChunk() {
+        Deque<Map<String, String>> snapshots = new ArrayDeque<>();
+        for (int i = 0; i < PRUNED_SNAPSHOTS_COUNT; i++) {
+            Map<String, String> snapshot = new HashMap<>();
+            snapshot.put("id", "snapshot-" + i);
+            snapshot.put("name", "V" + i);
+            // Chain is removed concurrently for some snapshots
+            snapshot.put("chain", i % 10 == 0 ? null : "chain-" + i % 100);
+            snapshot.put("chain_name", i % 10 == 0 ? null : "Chain " + i % 100);
+            snapshots.add(snapshot);
+        }
+        when(snapshotRepository.prune(any(Timestamp.class), anyInt(), anyInt(), anyInt())).thenAnswer(invocation -> {
+            int chunk = invocation.getArgument(3);
+            List<Map<String, String>> deleted = new ArrayList<>();
+            while (!snapshots.isEmpty() && deleted.size() < chunk) {
+                deleted.add(snapshots.poll());
+            }
+            return deleted;
+        });
+
+        Instant startTime = Instant.now();
+        snapshotService.pruneSnapshots(7, 3, CHUNK);
+
+        ArgumentCaptor<Timestamp> now = ArgumentCaptor.forClass(Timestamp.class);
+        verify(snapshotRepository, times(PRUNED_SNAPSHOTS_COUNT / CHUNK + 2))
+                .prune(now.capture(), eq(7), eq(3), eq(CHUNK));
+        assertThat(now.getAllValues()).containsOnly(now.getValue());
+        assertThat(now.getValue().toInstant()).isBetween(startTime, Instant.now());
+
+        ArgumentCaptor<List<ActionLog>> actions = ArgumentCaptor.forClass(List.class);
+        verify(actionLogger, times(PRUNED_SNAPSHOTS_COUNT / CHUNK + 2)).logActions(actions.capture());
+        List<ActionLog> logged = actions.getAllValues().stream().flatMap(List::stream).toList();
+        assertThat(logged).hasSize(PRUNED_SNAPSHOTS_COUNT);
+        assertThat(logged).allSatisfy(action -> {
+            int index = Integer.parseInt(action.getEntityId().substring("snapshot-".length()));
+            assertThat(action.getEntityType()).isEqualTo(EntityType.SNAPSHOT);
+            assertThat(action.getOperation()).isEqualTo(LogOperation.DELETE);
+            assertThat(action.getEntityName()).isEqualTo("V" + index);
+            if (index % 10 == 0) {
+                assertThat(action.getParentType()).isNull();
+                assertThat(action.getParentName()).isNull();
+            } else {
+                assertThat(action.getParentType()).isEqualTo(EntityType.CHAIN);
+                assertThat(action.getParentId()).isEqualTo("chain-" + index % 100);
+                assertThat(action.getParentName()).isEqualTo("Chain " + index % 100);
+            }
+        });
+        verify(actionLogger, never()).logAction(any());
+        verifyNoInteractions(chainFinderService);
+    }
+
+    @Test
+    void shouldReuseSnapshotOfUnchangedChain() {
+        Snapshot currentSnapshot = Snapshot.builder().id("snapshot").fingerprint("fingerprint").build();
+        Chain chain = Chain.builder().id("chain").currentSnapshot(currentSnapshot).build();
+        when(chainFinderService.findById("chain")).thenReturn(chain);
+        when(chainFingerprintCalculator.calculate(chain)).thenReturn("fingerprint");
+
+        assertThat(snapshotService.buildIfChanged("chain")).isSameAs(currentSnapshot);
+
+        verify(chainRepository).updateUnsavedChanges("chain", false);
+        verifyNoInteractions(elementPropertiesVerificationService);
+    }
+
+    @Test
+    void shouldNotCalculateFingerprintWhenSnapshotIsNotReused() {
+        Chain chain = Chain.builder().id("chain").build();
+        ChainElement element = ChainElement.builder().id("element").build();
+        when(chainFinderService.findById("chain")).thenReturn(chain);
+        when(elementPropertiesVerificationService.verifyElementProperties(chain))
+                .thenReturn(Map.of(element, List.of(new VerificationError("Invalid property"))));
+
+        assertThatThrownBy(() -> snapshotService.build("chain"))
+                .isInstanceOf(SnapshotCreationException.class)
+                .hasMessage("Invalid property");
+
+        verifyNoInteractions(chainFingerprintCalculator);
+    }
+}
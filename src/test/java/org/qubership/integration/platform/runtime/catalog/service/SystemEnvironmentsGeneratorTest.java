@@ -0,0 +1,149 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.qubership.integration.platform.runtime.catalog.model.system.IntegrationSystemType;
+import org.qubership.integration.platform.runtime.catalog.model.system.ServiceEnvironment;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.Environment;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.IntegrationSystem;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.system.SystemRepository;
+import org.qubership.integration.platform.runtime.catalog.service.mapping.ServiceEnvironmentMapper;
+import org.qubership.integration.platform.runtime.catalog.testutils.persistence.StubPersistenceContext;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SystemEnvironmentsGeneratorTest {
+
+    private static final int SYSTEMS_COUNT = 100;
+
+    @Mock
+    private SystemRepository systemRepository;
+    @Mock
+    private ServiceEnvironmentMapper serviceEnvironmentMapper;
+
+    private StubPersistenceContext persistenceContext;
+    private SystemEnvironmentsGenerator generator;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        persistenceContext = new StubPersistenceContext();
+
+        when(serviceEnvironmentMapper.toServiceEnvironment(any())).thenAnswer(invocation -> {
+            Environment environment = invocation.getArgument(0);
+            ServiceEnvironment serviceEnvironment = new ServiceEnvironment();
+            serviceEnvironment.setId(environment.getId());
+            serviceEnvironment.setSystemId(environment.getSystem().getId());
+            return serviceEnvironment;
+        });
+        generator = new SystemEnvironmentsGenerator(systemService(systemRepository), serviceEnvironmentMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        persistenceContext.close();
+    }
+
+    @Test
+    void shouldLoadReferencedSystemsOnce() {
+        List<IntegrationSystem> systems = IntStream.range(0, SYSTEMS_COUNT).mapToObj(this::system).toList();
+        when(systemRepository.findAllWithEnvironmentsByIdIn(anyCollection())).thenReturn(systems);
+        // Every system is referenced by several elements
+        List<String> ids = IntStream.range(0, SYSTEMS_COUNT * 3).mapToObj(i -> "system-" + i % SYSTEMS_COUNT).toList();
+
+        List<ServiceEnvironment> environments = generator.generateSystemEnvironments(ids);
+
+        verify(systemRepository).findAllWithEnvironmentsByIdIn(Set.copyOf(ids));
+        verifyNoMoreInteractions(systemRepository);
+        assertThat(environments).hasSize(SYSTEMS_COUNT);
+        assertThat(environments).extracting(ServiceEnvironment::getSystemId)
+                .containsExactlyInAnyOrderElementsOf(new HashSet<>(ids));
+        for (ServiceEnvironment environment : environments) {
+            int index = Integer.parseInt(environment.getSystemId().substring("system-".length()));
+            switch (index % 4) {
+                case 0 -> assertThat(environment.getId()).isEqualTo("system-" + index + "-env-0");
+                case 1, 2 -> assertThat(environment.getId()).isEqualTo("system-" + index + "-env-1");
+                default -> assertThat(environment.isNotActivated()).isTrue();
+            }
+        }
+    }
+
+    @Test
+    void shouldSkipMissingSystems() {
+        when(systemRepository.findAllWithEnvironmentsByIdIn(anyCollection())).thenReturn(List.of(system(0)));
+
+        List<ServiceEnvironment> environments = generator.generateSystemEnvironments(List.of("system-0", "missing"));
+
+        assertThat(environments).extracting(ServiceEnvironment::getSystemId).containsExactly("system-0");
+    }
+
+    @Test
+    void shouldLoadSystemsWithEnvironmentsInSingleQuery() {
+        SystemRepository repository = persistenceContext.getRepository(SystemRepository.class);
+        Set<String> ids = new HashSet<>();
+        IntStream.range(0, SYSTEMS_COUNT).forEach(i -> ids.add("system-" + i));
+
+        systemService(repository).resolveSystems(ids);
+
+        assertThat(persistenceContext.capturedStatement())
+                .contains("from catalog.integration_system is1_0 left join catalog.environment e1_0 on is1_0.id=e1_0.system_id")
+                .contains("where is1_0.id in (");
+    }
+
+    private static SystemService systemService(SystemRepository repository) {
+        return new SystemService(repository, null, null, null, null, null, null);
+    }
+
+    /**
+     * Systems cycle through the ways their active environment is chosen: the first internal environment,
+     * the active implemented one, the active external one and an external one without active environment.
+     */
+    private IntegrationSystem system(int index) {
+        IntegrationSystem system = new IntegrationSystem();
+        system.setId("system-" + index);
+        system.setIntegrationSystemType(switch (index % 4) {
+            case 0 -> IntegrationSystemType.INTERNAL;
+            case 1 -> IntegrationSystemType.IMPLEMENTED;
+            default -> IntegrationSystemType.EXTERNAL;
+        });
+        system.setActiveEnvironmentId(index % 4 == 3 ? null : system.getId() + "-env-1");
+        List<Environment> environments = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            Environment environment = new Environment();
+            environment.setId(system.getId() + "-env-" + i);
+            environment.setSystem(system);
+            environments.add(environment);
+        }
+        system.setEnvironments(environments);
+        return system;
+    }
+}
@@ -42,6 +42,7 @@
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ChainRepository;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.DependencyRepository;
 import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ElementRepository;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ElementSystemUsageRepository;
 import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.element.CreateElementRequest;
 import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.element.TransferElementRequest;
 import org.qubership.integration.platform.runtime.catalog.service.helpers.ChainFinderService;
@@ -116,6 +117,8 @@ public class TransferableElementServiceTest {
     private SystemBaseService systemBaseService;
     @MockBean
     private SystemModelBaseService systemModelBaseService;
+    @MockBean
+    private ElementSystemUsageRepository elementSystemUsageRepository;
 
     @Autowired
     private LibraryElementsService libraryService;
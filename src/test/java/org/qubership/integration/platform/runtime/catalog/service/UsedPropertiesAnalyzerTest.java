@@ -0,0 +1,243 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.qubership.integration.platform.runtime.catalog.model.chain.element.UsedProperty;
+import org.qubership.integration.platform.runtime.catalog.model.chain.element.UsedPropertyElementOperation;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.chain.ElementRepository;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.qubership.integration.platform.runtime.catalog.testutils.TestUtils.getResourceFileContent;
+
+@Slf4j
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class UsedPropertiesAnalyzerTest {
+
+    private static final String CHAIN_ID = "chain";
+    private static final String OTHER_CHAIN_ID = "other-chain";
+    private static final int BENCHMARK_ELEMENTS_COUNT = 200;
+    private static final int BENCHMARK_SCRIPT_LINES = 500;
+
+    private static final String[] SCRIPT_LINES = {
+            "def value = exchange.message.headers.header%d",
+            "exchange.message.headers['header%d'] = value",
+            "exchange.getMessage().setHeader(\"header%d\", 1)",
+            "exchange.message.removeHeader('header%d')",
+            "log.info(\"value: \" + exchange.properties.property%d)",
+            "exchange.properties.property%d",
+            "exchange.setProperty('property%d', value)",
+            "exchange.getProperties().remove(\"property%d\")",
+            "if (exchange.getProperty('property%d') == null) { return }",
+            "def text = \"${header.simple%d} ${exchangeProperty['simple%d']}\"",
+            "def exchangeId = exchange.exchangeId // exchange.%d"
+    };
+
+    @Mock
+    private ElementRepository elementRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private UsedPropertiesAnalyzer analyzer;
+
+    @BeforeEach
+    void setUp() {
+        analyzer = new UsedPropertiesAnalyzer(elementRepository, objectMapper);
+    }
+
+    @Test
+    void shouldFindUsedProperties() throws IOException {
+        when(elementRepository.findAllByChainId(CHAIN_ID)).thenReturn(readElements());
+
+        JsonNode expected = objectMapper.readTree(
+                getResourceFileContent("/testData/output/service/analyzers/used_properties.json"));
+
+        assertThat(toJson(analyzer.getUsedProperties(CHAIN_ID))).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldReuseResultsOfElementsWithSameProperties() throws IOException {
+        List<ChainElement> elements = readElements();
+        List<ChainElement> copies = readElements();
+        copies.forEach(element -> element.setId("copy-" + element.getId()));
+        when(elementRepository.findAllByChainId(CHAIN_ID)).thenReturn(elements);
+        when(elementRepository.findAllByChainId(OTHER_CHAIN_ID)).thenReturn(copies);
+
+        ArrayNode first = toJson(analyzer.getUsedProperties(CHAIN_ID));
+        ArrayNode second = toJson(analyzer.getUsedProperties(CHAIN_ID));
+        List<UsedProperty> copyProperties = analyzer.getUsedProperties(OTHER_CHAIN_ID);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(analyzer.getCachedElementsCount()).isEqualTo(elements.size());
+        assertThat(copyProperties).flatExtracting(property -> property.getRelatedElements().keySet())
+                .isNotEmpty()
+                .allMatch(id -> id.startsWith("copy-"));
+    }
+
+    @Test
+    void shouldRescanElementWithChangedProperties() throws IOException {
+        ChainElement element = readElements().get(0);
+        when(elementRepository.findAllByChainId(CHAIN_ID)).thenReturn(List.of(element));
+        analyzer.getUsedProperties(CHAIN_ID);
+
+        element.setProperties(Map.of("script", "exchange.properties.changed = 1"));
+        List<UsedProperty> usedProperties = analyzer.getUsedProperties(CHAIN_ID);
+
+        assertThat(usedProperties).extracting(UsedProperty::getName).containsExactly("changed");
+        assertThat(usedProperties.get(0).getRelatedElements().get(element.getId()).getOperations())
+                .containsExactly(UsedPropertyElementOperation.SET);
+        assertThat(analyzer.getCachedElementsCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldMatchLikeSeparatePatternSearches() {
+        Random random = new Random(42);
+        for (int i = 0; i < 50; i++) {
+            String script = generateScript(random, 40);
+
+            assertThat(scan(UsedPropertiesAnalyzer.GROOVY_SCANNER, script))
+                    .as(script)
+                    .isEqualTo(findSeparately(UsedPropertiesAnalyzer.GROOVY_SCANNER, script));
+            assertThat(scan(UsedPropertiesAnalyzer.SIMPLE_SCANNER, script))
+                    .as(script)
+                    .isEqualTo(findSeparately(UsedPropertiesAnalyzer.SIMPLE_SCANNER, script));
+        }
+    }
+
+    @Test
+    void shouldAnalyzeLargeScripts() {
+        Random random = new Random(7);
+        List<ChainElement> elements = new ArrayList<>();
+        for (int i = 0; i < BENCHMARK_ELEMENTS_COUNT; i++) {
+            ChainElement element = new ChainElement();
+            element.setId("script-" + i);
+            element.setName("Script " + i);
+            element.setType("script");
+            element.setProperties(Map.of("script", generateScript(random, BENCHMARK_SCRIPT_LINES)));
+            elements.add(element);
+        }
+        when(elementRepository.findAllByChainId(CHAIN_ID)).thenReturn(elements);
+
+        long startTime = System.nanoTime();
+        List<UsedProperty> usedProperties = analyzer.getUsedProperties(CHAIN_ID);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startTime);
+        startTime = System.nanoTime();
+        analyzer.getUsedProperties(CHAIN_ID);
+        Duration cachedElapsed = Duration.ofNanos(System.nanoTime() - startTime);
+        log.info("Used properties of {} scripts with {} lines found in {} ms, with cached results in {} ms",
+                BENCHMARK_ELEMENTS_COUNT, BENCHMARK_SCRIPT_LINES, elapsed.toMillis(), cachedElapsed.toMillis());
+
+        assertThat(usedProperties).isNotEmpty();
+    }
+
+    private static String generateScript(Random random, int lines) {
+        StringBuilder script = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            String line = SCRIPT_LINES[random.nextInt(SCRIPT_LINES.length)];
+            script.append(line.replace("%d", String.valueOf(random.nextInt(20)))).append('\n');
+        }
+        return script.toString();
+    }
+
+    private static List<String> scan(UsedPropertiesScanner scanner, String text) {
+        List<String> matches = new ArrayList<>();
+        scanner.scan(text, (propertyName, rule) -> matches.add(describe(propertyName, rule)));
+        matches.sort(null);
+        return matches;
+    }
+
+    /**
+     * Searches every pattern over the whole text, as the analyzer did before the single pass scanner.
+     */
+    private static List<String> findSeparately(UsedPropertiesScanner scanner, String text) {
+        List<String> matches = new ArrayList<>();
+        for (UsedPropertiesScanner.Rule rule : scanner.getRules()) {
+            Matcher matcher = rule.pattern().matcher(text);
+            while (matcher.find()) {
+                Arrays.stream(rule.groups())
+                        .mapToObj(matcher::group)
+                        .filter(Objects::nonNull)
+                        .findFirst()
+                        .ifPresent(propertyName -> matches.add(describe(propertyName, rule)));
+            }
+        }
+        matches.sort(null);
+        return matches;
+    }
+
+    private static String describe(String propertyName, UsedPropertiesScanner.Rule rule) {
+        return rule.source() + ":" + rule.operation() + ":" + propertyName;
+    }
+
+    private List<ChainElement> readElements() throws IOException {
+        List<Map<String, Object>> elements = objectMapper.readValue(
+                getResourceFileContent("/testData/input/service/analyzers/used_properties_elements.json"),
+                new TypeReference<>() {});
+        return elements.stream().map(element -> {
+            ChainElement chainElement = new ChainElement();
+            chainElement.setId((String) element.get("id"));
+            chainElement.setName((String) element.get("name"));
+            chainElement.setType((String) element.get("type"));
+            chainElement.setProperties((Map<String, Object>) element.get("properties"));
+            return chainElement;
+        }).collect(Collectors.toList());
+    }
+
+    /**
+     * Converts used properties to JSON ordered by source and name, with related elements ordered by id.
+     */
+    private ArrayNode toJson(List<UsedProperty> usedProperties) {
+        ArrayNode result = objectMapper.createArrayNode();
+        usedProperties.stream()
+                .sorted(Comparator.comparing((UsedProperty property) -> property.getSource().name())
+                        .thenComparing(UsedProperty::getName))
+                .forEach(property -> {
+                    ObjectNode propertyNode = result.addObject();
+                    propertyNode.put("name", property.getName());
+                    propertyNode.put("source", property.getSource().name());
+                    propertyNode.put("type", property.getType().name());
+                    propertyNode.put("isArray", property.isArray());
+                    propertyNode.set("attributeDataType", objectMapper.valueToTree(property.getAttributeDataType()));
+                    ObjectNode elementsNode = propertyNode.putObject("relatedElements");
+                    new TreeMap<>(property.getRelatedElements()).forEach((id, element) -> {
+                        ArrayNode operations = elementsNode.putArray(id);
+                        element.getOperations().stream().map(Enum::name).sorted().forEach(operations::add);
+                    });
+                });
+        return result;
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.service.difference;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Chain;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Snapshot;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.SwimlaneChainElement;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@Slf4j
+class ChainDifferenceServiceTest {
+
+    private static final int ELEMENTS_COUNT = 5000;
+
+    private ChainElementDifferenceService chainElementDiffService;
+    private ChainDifferenceService chainDifferenceService;
+
+    @BeforeEach
+    void setUp() {
+        chainElementDiffService = spy(new ChainElementDifferenceService());
+        chainDifferenceService = new ChainDifferenceService(null, null, chainElementDiffService);
+    }
+
+    @Test
+    void shouldPairChainAndSnapshotElementsLikeListSearch() {
+        Random random = new Random(42);
+        Chain chain = generateChain(random, "chain", ELEMENTS_COUNT);
+        Snapshot snapshot = generateSnapshot(random, chain);
+
+        EntityDifferenceResult result = chainDifferenceService.findChainsDifferences(chain, snapshot);
+
+        assertSameDifferences(result.elementsDifferences(),
+                findElementsDifferencesWithListSearch(chain.getElements(), snapshot.getElements(), false));
+    }
+
+    @Test
+    void shouldPairElementsOfDifferentChainsLikeListSearch() {
+        Random random = new Random(7);
+        Chain leftChain = generateChain(random, "left-chain", ELEMENTS_COUNT);
+        Chain rightChain = generateChain(new Random(7), "right-chain", ELEMENTS_COUNT);
+        rightChain.getElements().forEach(element -> element.setId(UUID.randomUUID().toString()));
+        Collections.shuffle(rightChain.getElements(), random);
+        rightChain.getElements().subList(0, ELEMENTS_COUNT / 10)
+                .forEach(element -> element.setDescription("Changed description"));
+
+        EntityDifferenceResult result = chainDifferenceService.findChainsDifferences(leftChain, rightChain);
+
+        assertSameDifferences(result.elementsDifferences(),
+                findElementsDifferencesWithListSearch(leftChain.getElements(), rightChain.getElements(), true));
+    }
+
+    @Test
+    void shouldHashEveryElementOnceAndSkipComparisonOfEqualElements() {
+        Random random = new Random(1);
+        Chain chain = generateChain(random, "chain", ELEMENTS_COUNT);
+        Snapshot snapshot = generateSnapshot(random, chain);
+        int comparedElementsCount = (int) (chain.getElements().stream().filter(element -> !(element instanceof SwimlaneChainElement)).count()
+                + snapshot.getElements().stream().filter(element -> !(element instanceof SwimlaneChainElement)).count());
+
+        EntityDifferenceResult result = chainDifferenceService.findChainsDifferences(chain, snapshot);
+
+        verify(chainElementDiffService, times(comparedElementsCount)).calculateContentHash(any());
+        List<DifferenceResult<ChainElement>> pairedDifferences = result.elementsDifferences().stream()
+                .filter(difference -> difference.getLeftOperand() != null && difference.getRightOperand() != null)
+                .toList();
+        verify(chainElementDiffService, times(pairedDifferences.size()))
+                .findDifferences(any(ChainElement.class), any(ChainElement.class), anyString(), anyString());
+        assertThat(pairedDifferences).anyMatch(difference -> difference.getDiffering().isEmpty()
+                && difference.getOnlyOnLeft().isEmpty() && difference.getOnlyOnRight().isEmpty());
+    }
+
+    @Test
+    void shouldReportPropertiesDifferingOnlyInNumberType() {
+        Chain chain = generateChain(new Random(3), "chain", 100);
+        Snapshot snapshot = new Snapshot();
+        snapshot.setChain(chain);
+        snapshot.setElements(chain.getElements().stream().map(element -> {
+            ChainElement copy = element.copy();
+            copy.setChain(null);
+            copy.setSnapshot(snapshot);
+            return copy;
+        }).toList());
+        // The first element is a swimlane, which is not compared
+        chain.getElements().get(1).getProperties().put("timeout", 1000);
+        snapshot.getElements().get(1).getProperties().put("timeout", 1000L);
+
+        EntityDifferenceResult result = chainDifferenceService.findChainsDifferences(chain, snapshot);
+
+        assertThat(result.elementsDifferences()).allSatisfy(difference -> assertThat(difference.getRightOperand()).isNotNull());
+        assertThat(result.elementsDifferences())
+                .filteredOn(difference -> !difference.getDiffering().isEmpty())
+                .singleElement()
+                .satisfies(difference -> assertThat(difference.getDiffering()).containsExactly("properties.timeout"));
+        assertSameDifferences(result.elementsDifferences(),
+                findElementsDifferencesWithListSearch(chain.getElements(), snapshot.getElements(), false));
+    }
+
+    @Test
+    void shouldFindDifferencesOfLargeChains() {
+        Random random = new Random(11);
+        Chain chain = generateChain(random, "chain", ELEMENTS_COUNT);
+        Snapshot snapshot = generateSnapshot(random, chain);
+        chainDifferenceService.findChainsDifferences(chain, snapshot);
+
+        long startTime = System.nanoTime();
+        findElementsDifferencesWithListSearch(chain.getElements(), snapshot.getElements(), false);
+        Duration listSearchElapsed = Duration.ofNanos(System.nanoTime() - startTime);
+        startTime = System.nanoTime();
+        EntityDifferenceResult result = chainDifferenceService.findChainsDifferences(chain, snapshot);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startTime);
+        log.info("Differences of {} elements found in {} ms, with list search pairing in {} ms",
+                ELEMENTS_COUNT, elapsed.toMillis(), listSearchElapsed.toMillis());
+
+        assertThat(result.elementsDifferences()).isNotEmpty();
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(10));
+    }
+
+    private static void assertSameDifferences(
+            List<DifferenceResult<ChainElement>> actual,
+            List<DifferenceResult<ChainElement>> expected
+    ) {
+        assertThat(actual).hasSameSizeAs(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            DifferenceResult<ChainElement> actualResult = actual.get(i);
+            DifferenceResult<ChainElement> expectedResult = expected.get(i);
+            assertThat(actualResult.getLeftOperand()).as("left operand #%d", i).isSameAs(expectedResult.getLeftOperand());
+            assertThat(actualResult.getRightOperand()).as("right operand #%d", i).isSameAs(expectedResult.getRightOperand());
+            assertThat(actualResult.getOnlyOnLeft()).as("only on left #%d", i).isEqualTo(expectedResult.getOnlyOnLeft());
+            assertThat(actualResult.getOnlyOnRight()).as("only on right #%d", i).isEqualTo(expectedResult.getOnlyOnRight());
+            assertThat(actualResult.getDiffering()).as("differing #%d", i).isEqualTo(expectedResult.getDiffering());
+        }
+    }
+
+    private static Chain generateChain(Random random, String id, int elementsCount) {
+        Chain chain = new Chain();
+        chain.setId(id);
+        List<ChainElement> elements = new ArrayList<>();
+        for (int i = 0; i < elementsCount; i++) {
+            ChainElement element = i % 50 == 0
+                    ? new SwimlaneChainElement()
+                    : new ChainElement();
+            element.setId(id + "-element-" + i);
+            element.setType("type-" + random.nextInt(5));
+            element.setName("Element " + random.nextInt(elementsCount / 2));
+            element.setDescription(random.nextBoolean() ? "Description" : null);
+            element.setProperties(randomProperties(random));
+            element.setChain(chain);
+            elements.add(element);
+        }
+        chain.setElements(elements);
+        return chain;
+    }
+
+    /**
+     * Copies chain elements into a snapshot the way snapshots are built, then changes, removes and adds some of them.
+     */
+    private static Snapshot generateSnapshot(Random random, Chain chain) {
+        Snapshot snapshot = new Snapshot();
+        snapshot.setId(chain.getId() + "-snapshot");
+        snapshot.setChain(chain);
+        List<ChainElement> elements = new ArrayList<>();
+        for (ChainElement element : chain.getElements()) {
+            ChainElement copy = element.copy();
+            copy.setChain(null);
+            copy.setSnapshot(snapshot);
+            switch (random.nextInt(10)) {
+                case 0 -> copy.setName(element.getName() + " changed");
+                case 1 -> copy.getProperties().put("property" + random.nextInt(10), "changed");
+                case 2 -> copy.setOriginalId(null);
+                default -> {
+                    // Unchanged copy
+                }
+            }
+            elements.add(copy);
+        }
+        Collections.shuffle(elements, random);
+        int removedCount = elements.size() / 20;
+        elements.subList(0, removedCount).clear();
+        for (int i = 0; i < removedCount; i++) {
+            ChainElement element = new ChainElement();
+            element.setName("Added " + i);
+            element.setType("type-added");
+            element.setSnapshot(snapshot);
+            elements.add(element);
+        }
+        snapshot.setElements(elements);
+        return snapshot;
+    }
+
+    private static Map<String, Object> randomProperties(Random random) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        int propertiesCount = random.nextInt(8);
+        for (int i = 0; i < propertiesCount; i++) {
+            properties.put("property" + i, switch (random.nextInt(4)) {
+                case 0 -> random.nextInt(3);
+                case 1 -> List.of("value" + random.nextInt(3));
+                case 2 -> Map.of("nested", "value" + random.nextInt(3));
+                default -> "value" + random.nextInt(3);
+            });
+        }
+        return properties;
+    }
+
+    /**
+     * Pairs elements by searching the right elements list for every left element,
+     * as the service did before indexing them.
+     */
+    private List<DifferenceResult<ChainElement>> findElementsDifferencesWithListSearch(
+            List<ChainElement> leftChainElements,
+            List<ChainElement> rightChainElements,
+            boolean differentChains
+    ) {
+        List<ChainElement> leftElements = leftChainElements.stream()
+                .filter(element -> !(element instanceof SwimlaneChainElement))
+                .toList();
+        List<ChainElement> rightElements = rightChainElements.stream()
+                .filter(element -> !(element instanceof SwimlaneChainElement))
+                .toList();
+        List<DifferenceResult<ChainElement>> diffResults = new ArrayList<>();
+        List<String> processedElementIds = new ArrayList<>();
+
+        for (ChainElement leftElement : leftElements) {
+            ChainElement comparableRightElement = null;
+            Queue<ChainElement> comparableRightElements = rightElements.stream()
+                    .filter(rightElement -> compareElements(leftElement, rightElement, differentChains))
+                    .collect(Collectors.toCollection(LinkedList::new));
+            while (comparableRightElements.peek() != null) {
+                ChainElement currentElement = comparableRightElements.poll();
+                if (comparableRightElement == null && !processedElementIds.contains(currentElement.getId())) {
+                    comparableRightElement = currentElement;
+                    processedElementIds.add(comparableRightElement.getId());
+                }
+            }
+            diffResults.add(chainElementDiffService.findDifferences(leftElement, comparableRightElement));
+        }
+
+        rightElements.stream()
+                .filter(rightElement -> !processedElementIds.contains(rightElement.getId()))
+                .forEach(rightElement -> diffResults.add(chainElementDiffService.findDifferences(null, rightElement)));
+        return diffResults;
+    }
+
+    private static boolean compareElements(ChainElement leftElement, ChainElement rightElement, boolean differentChains) {
+        if (!differentChains) {
+            return StringUtils.equals(extractElementId(leftElement), extractElementId(rightElement));
+        }
+        if (!StringUtils.equals(leftElement.getType(), rightElement.getType())) {
+            return false;
+        }
+        return StringUtils.equals(leftElement.getName(), rightElement.getName())
+                && StringUtils.equals(leftElement.getDescription(), rightElement.getDescription())
+                && leftElement.getProperties().equals(rightElement.getProperties());
+    }
+
+    private static String extractElementId(ChainElement element) {
+        return element.getChain() != null ? element.getId() : element.getOriginalId();
+    }
+}
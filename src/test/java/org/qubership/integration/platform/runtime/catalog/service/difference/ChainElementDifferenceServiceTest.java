@@ -17,7 +17,12 @@
 package org.qubership.integration.platform.runtime.catalog.service.difference;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.MapDifference;
+import com.google.common.collect.Maps;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.reflect.FieldUtils;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -27,18 +32,28 @@
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.lang.reflect.Field;
+import java.time.Duration;
 import java.util.*;
 import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.samePropertyValuesAs;
 
+@Slf4j
 @ContextConfiguration(classes = ChainElementDifferenceService.class)
 @ExtendWith(SpringExtension.class)
 public class ChainElementDifferenceServiceTest {
 
     private static final String MOCKED_UUID = "8b56c2f7-52c3-45cf-99bf-70e4be32c8a0";
+    private static final int BENCHMARK_ELEMENTS_COUNT = 1000;
+    private static final int BENCHMARK_ITERATIONS = 20;
 
     @Autowired
     private ChainElementDifferenceService chainElementDifferenceService;
@@ -212,4 +227,199 @@ public void findDifferencesTest(
         assertThat(differenceResult.getOnlyOnRight(), equalTo(expectedOnlyOnRight));
         assertThat(differenceResult.getDiffering(), equalTo(expectedDiffering));
     }
+
+    @Test
+    public void findDifferencesLikeMapComparisonTest() {
+        Random random = new Random(42);
+        List<ChainElement> leftElements = generateElements(random, BENCHMARK_ELEMENTS_COUNT);
+        List<ChainElement> rightElements = modifyElements(random, leftElements);
+        leftElements.add(null);
+        rightElements.add(generateElement(random, "added"));
+
+        for (int i = 0; i < leftElements.size(); i++) {
+            ChainElement leftElement = leftElements.get(i);
+            ChainElement rightElement = rightElements.get(i);
+            DifferenceResult<ChainElement> expected = findDifferencesWithMaps(leftElement, rightElement);
+            DifferenceResult<ChainElement> actual = chainElementDifferenceService.findDifferences(leftElement, rightElement);
+
+            assertThat(actual.getOnlyOnLeft(), equalTo(expected.getOnlyOnLeft()));
+            assertThat(actual.getOnlyOnRight(), equalTo(expected.getOnlyOnRight()));
+            assertThat(actual.getDiffering(), equalTo(expected.getDiffering()));
+        }
+    }
+
+    @Test
+    public void skipComparisonForEqualContentHashesTest() {
+        ChainElement leftElement = ChainElement.builder().name("Left").properties(Map.of("key", "left")).build();
+        ChainElement rightElement = ChainElement.builder().name("Right").properties(Map.of("key", "right")).build();
+
+        DifferenceResult<ChainElement> sameHashes = chainElementDifferenceService.findDifferences(leftElement, rightElement, "hash", "hash");
+        DifferenceResult<ChainElement> differentHashes = chainElementDifferenceService.findDifferences(leftElement, rightElement, "hash", "other");
+
+        assertThat(sameHashes.getDiffering(), empty());
+        assertThat(differentHashes.getDiffering(), equalTo(Set.of("name", "properties.key")));
+    }
+
+    @Test
+    public void equalContentHashesOnlyForElementsWithoutDifferencesTest() {
+        Random random = new Random(11);
+        List<ChainElement> leftElements = generateElements(random, BENCHMARK_ELEMENTS_COUNT);
+        List<ChainElement> rightElements = modifyElements(random, leftElements);
+
+        for (int i = 0; i < leftElements.size(); i++) {
+            ChainElement leftElement = leftElements.get(i);
+            ChainElement rightElement = rightElements.get(i);
+            String leftHash = chainElementDifferenceService.calculateContentHash(leftElement);
+
+            assertThat(leftHash, notNullValue());
+            assertThat(chainElementDifferenceService.calculateContentHash(leftElement.copy()), equalTo(leftHash));
+            if (leftHash.equals(chainElementDifferenceService.calculateContentHash(rightElement))) {
+                DifferenceResult<ChainElement> result = chainElementDifferenceService.findDifferences(leftElement, rightElement);
+                assertThat(result.getOnlyOnLeft(), empty());
+                assertThat(result.getOnlyOnRight(), empty());
+                assertThat(result.getDiffering(), empty());
+            }
+        }
+    }
+
+    @Test
+    public void contentHashDependsOnValueClassesTest() {
+        Map<String, Object> leftProperties = new HashMap<>(Map.of("timeout", 1000, "names", List.of("a", "b")));
+        Map<String, Object> rightProperties = new LinkedHashMap<>(Map.of("names", List.of("a", "b"), "timeout", 1000L));
+        ChainElement leftElement = ChainElement.builder().name("Element").properties(leftProperties).build();
+        ChainElement rightElement = ChainElement.builder().name("Element").properties(rightProperties).build();
+
+        assertThat(chainElementDifferenceService.calculateContentHash(leftElement),
+                not(equalTo(chainElementDifferenceService.calculateContentHash(rightElement))));
+        rightProperties.put("timeout", 1000);
+        assertThat(chainElementDifferenceService.calculateContentHash(leftElement),
+                equalTo(chainElementDifferenceService.calculateContentHash(rightElement)));
+        rightProperties.put("timeout", new Object());
+        assertThat(chainElementDifferenceService.calculateContentHash(rightElement), nullValue());
+    }
+
+    @Test
+    public void findDifferencesOfLargeChainsTest() {
+        Random random = new Random(7);
+        List<ChainElement> leftElements = generateElements(random, BENCHMARK_ELEMENTS_COUNT);
+        List<ChainElement> rightElements = modifyElements(random, leftElements);
+
+        Duration mapComparisonElapsed = measure(() -> {
+            for (int i = 0; i < leftElements.size(); i++) {
+                findDifferencesWithMaps(leftElements.get(i), rightElements.get(i));
+            }
+        });
+        Duration elapsed = measure(() -> {
+            for (int i = 0; i < leftElements.size(); i++) {
+                chainElementDifferenceService.findDifferences(leftElements.get(i), rightElements.get(i));
+            }
+        });
+        log.info("Differences of {} elements found {} times in {} ms, with map comparison in {} ms",
+                BENCHMARK_ELEMENTS_COUNT, BENCHMARK_ITERATIONS, elapsed.toMillis(), mapComparisonElapsed.toMillis());
+
+        assertThat(elapsed, lessThan(Duration.ofSeconds(10)));
+    }
+
+    private static Duration measure(Runnable iteration) {
+        iteration.run();
+        long startTime = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
+            iteration.run();
+        }
+        return Duration.ofNanos(System.nanoTime() - startTime);
+    }
+
+    private static List<ChainElement> generateElements(Random random, int count) {
+        List<ChainElement> elements = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            elements.add(generateElement(random, "element-" + i));
+        }
+        return elements;
+    }
+
+    private static ChainElement generateElement(Random random, String name) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        int propertiesCount = random.nextInt(20);
+        for (int i = 0; i < propertiesCount; i++) {
+            properties.put("property" + i, randomValue(random));
+        }
+        return ChainElement.builder()
+                .type("type-" + random.nextInt(5))
+                .name(name)
+                .description(random.nextBoolean() ? "Description of " + name : null)
+                .properties(properties)
+                .build();
+    }
+
+    private static Object randomValue(Random random) {
+        return switch (random.nextInt(6)) {
+            case 0 -> null;
+            case 1 -> random.nextInt(3);
+            case 2 -> random.nextBoolean();
+            case 3 -> List.of("value" + random.nextInt(3));
+            case 4 -> Map.of("nested", "value" + random.nextInt(3));
+            default -> "value" + random.nextInt(3);
+        };
+    }
+
+    /**
+     * Copies elements, changing some of their members and properties.
+     */
+    private static List<ChainElement> modifyElements(Random random, List<ChainElement> elements) {
+        List<ChainElement> result = new ArrayList<>();
+        for (ChainElement element : elements) {
+            ChainElement copy = element.copy();
+            switch (random.nextInt(6)) {
+                case 0 -> copy.setName(element.getName() + " changed");
+                case 1 -> copy.setDescription(random.nextBoolean() ? null : "Changed description");
+                case 2 -> copy.setType("type-" + random.nextInt(5));
+                case 3 -> copy.getProperties().put("property" + random.nextInt(25), randomValue(random));
+                case 4 -> copy.getProperties().keySet().removeIf(key -> random.nextInt(3) == 0);
+                default -> {
+                    // Unchanged copy
+                }
+            }
+            result.add(copy);
+        }
+        return result;
+    }
+
+    /**
+     * Finds differences by comparing maps of the entity members, as the service did before comparing members directly.
+     */
+    private static DifferenceResult<ChainElement> findDifferencesWithMaps(ChainElement leftElement, ChainElement rightElement) {
+        MapDifference<String, Object> difference = Maps.difference(toMap(leftElement), toMap(rightElement));
+        return new DifferenceResult<>(
+                leftElement,
+                rightElement,
+                difference.entriesOnlyOnLeft().keySet(),
+                difference.entriesOnlyOnRight().keySet(),
+                difference.entriesDiffering().keySet()
+        );
+    }
+
+    private static Map<String, Object> toMap(ChainElement element) {
+        Map<String, Object> result = new HashMap<>();
+        if (element == null) {
+            return result;
+        }
+        for (Field field : FieldUtils.getFieldsListWithAnnotation(ChainElement.class, DifferenceMember.class)) {
+            Object fieldValue;
+            try {
+                fieldValue = FieldUtils.readField(field, element, true);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+            if (fieldValue instanceof Map<?, ?> fieldValueMap) {
+                fieldValueMap.forEach((key, value) -> {
+                    if (value != null) {
+                        result.put(field.getName() + "." + key, value);
+                    }
+                });
+            } else if (fieldValue != null) {
+                result.put(field.getName(), fieldValue);
+            }
+        }
+        return result;
+    }
 }
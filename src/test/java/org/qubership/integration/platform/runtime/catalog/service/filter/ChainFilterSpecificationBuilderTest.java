@@ -0,0 +1,209 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.service.filter;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Chain;
+import org.qubership.integration.platform.runtime.catalog.testutils.persistence.EmbeddedPersistenceContext;
+import org.qubership.integration.platform.runtime.catalog.testutils.persistence.StubPersistenceContext;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.qubership.integration.platform.runtime.catalog.testutils.persistence.StubPersistenceContext.stub;
+
+/**
+ * Checks that the chain search is served by the generated search columns and their trigram indexes.
+ * The generated SQL is captured on a stub connection, results and plans are checked on the embedded database.
+ */
+class ChainFilterSpecificationBuilderTest {
+
+    private final List<String> parameters = new CopyOnWriteArrayList<>();
+    private final ChainFilterSpecificationBuilder builder =
+            new ChainFilterSpecificationBuilder(new FilterConditionPredicateBuilderFactory());
+    private StubPersistenceContext persistenceContext;
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        PreparedStatement statement = stub(PreparedStatement.class);
+        doAnswer(invocation -> parameters.add(invocation.getArgument(1)))
+                .when(statement).setString(anyInt(), any());
+        persistenceContext = new StubPersistenceContext(() -> statement);
+        entityManager = persistenceContext.getEntityManager();
+    }
+
+    @AfterEach
+    void tearDown() {
+        persistenceContext.close();
+    }
+
+    @Test
+    void shouldSearchGeneratedColumnsWithoutJoiningElements() {
+        findChains(builder.buildSearch("orders"));
+
+        String sql = capturedStatement();
+        assertThat(sql).contains("c2_0.search_text like ?", "lower(ce1_0.name) like ?", "ce1_0.search_text like ?",
+                        "lower(cl1_0.name) like ?", " union all ")
+                .doesNotContain(" join ", "distinct", "jsonb_extract_path_text");
+        assertThat(parameters).containsOnly("%orders%");
+    }
+
+    @Test
+    void shouldEscapeWildcardsOfSearchString() {
+        findChains(builder.buildSearch("Orders_50%"));
+
+        assertThat(parameters).contains("%orders\\_50\\%%");
+    }
+
+    @Test
+    void shouldOrderRankedSearchByNameMatchesFirst() {
+        findChains(builder.buildRankedSearch("Orders"));
+
+        String sql = capturedStatement();
+        assertThat(sql).contains(" order by case when lower(c1_0.name)=?")
+                .endsWith("end,c1_0.name,c1_0.id");
+        assertThat(parameters).contains("orders", "orders%", "%orders%");
+    }
+
+    @Test
+    void shouldNotOrderCountQueries() {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Chain> root = query.from(Chain.class);
+        query.select(criteriaBuilder.count(root))
+                .where(builder.buildRankedSearch("orders").toPredicate(root, query, criteriaBuilder));
+        entityManager.createQuery(query).getResultList();
+
+        assertThat(capturedStatement()).doesNotContain("order by");
+    }
+
+    @Test
+    void shouldRankChainsMatchedByFieldsLabelsAndElements() {
+        try (EmbeddedPersistenceContext database = new EmbeddedPersistenceContext()) {
+            seedChain(database, "exact", "Orders", null);
+            seedChain(database, "prefix", "Orders API", null);
+            seedChain(database, "substring", "Legacy orders", null);
+            seedChain(database, "description", "Billing", "Bills processed orders");
+            seedChain(database, "label", "Inventory", null);
+            database.getJdbcTemplate().update("INSERT INTO catalog.chain_labels (id, name, chain_id) VALUES ('label', 'orders-team', 'label')");
+            seedChain(database, "trigger", "Shipping", null);
+            seedElement(database, "trigger", "http-trigger", "HTTP Trigger", "{\"contextPath\": \"/api/v1/orders\"}");
+            seedChain(database, "element-name", "Reports", null);
+            seedElement(database, "element-name", "script", "Export orders", "{}");
+            seedChain(database, "async-call", "Notifications", null);
+            seedElement(database, "async-call", "service-call", "Service Call",
+                    "{\"integrationOperationProtocolType\": \"kafka\", \"integrationOperationPath\": \"orders-events\"}");
+            seedChain(database, "unrelated", "Payments", "Settles invoices");
+
+            assertThat(database.findAll(Chain.class, builder.buildRankedSearch("ORDERS")))
+                    .extracting(Chain::getId)
+                    .containsExactly("exact", "prefix", "substring", "description",
+                            "label", "async-call", "element-name", "trigger");
+        }
+    }
+
+    @Test
+    void shouldSearchElementPropertiesOnlyOnTypesTheyDescribe() {
+        try (EmbeddedPersistenceContext database = new EmbeddedPersistenceContext()) {
+            seedChain(database, "http-trigger", "First", null);
+            seedElement(database, "http-trigger", "http-trigger", "Trigger", "{\"contextPath\": \"/orders\"}");
+            seedChain(database, "http-sender", "Second", null);
+            seedElement(database, "http-sender", "http-sender", "Sender", "{\"uri\": \"https://orders-host:8080/orders\"}");
+            seedChain(database, "http-service-call", "Third", null);
+            seedElement(database, "http-service-call", "service-call", "Call",
+                    "{\"integrationOperationProtocolType\": \"http\", \"integrationOperationPath\": \"/orders\"}");
+            seedChain(database, "script", "Fourth", null);
+            seedElement(database, "script", "script", "Script", "{\"contextPath\": \"/orders\", \"integrationOperationPath\": \"/orders\"}");
+            seedChain(database, "sender-path", "Fifth", null);
+            seedElement(database, "sender-path", "http-sender", "Sender", "{\"uri\": \"https://orders-host\", \"integrationOperationPath\": \"/orders\"}");
+            seedChain(database, "http-call-classifier", "Sixth", null);
+            seedElement(database, "http-call-classifier", "service-call", "Call",
+                    "{\"integrationOperationProtocolType\": \"http\", \"maas.classifier.name\": \"orders\"}");
+            seedChain(database, "kafka-sender", "Seventh", null);
+            seedElement(database, "kafka-sender", "kafka-sender-2", "Sender", "{\"topics\": \"orders\"}");
+
+            assertThat(database.findAll(Chain.class, builder.buildSearch("orders")))
+                    .extracting(Chain::getId)
+                    .containsExactlyInAnyOrder("http-trigger", "http-sender", "http-service-call", "kafka-sender");
+        }
+    }
+
+    @Test
+    void shouldScanTrigramIndexesOfSearchColumns() {
+        try (EmbeddedPersistenceContext database = new EmbeddedPersistenceContext()) {
+            database.getJdbcTemplate().update("""
+                    INSERT INTO catalog.chains (id, name, description)
+                    SELECT 'chain-' || i, 'Chain ' || md5(i::text), 'Description ' || md5((-i)::text)
+                    FROM generate_series(1, 20000) i
+                    """);
+            database.getJdbcTemplate().update("""
+                    INSERT INTO catalog.elements (id, name, type, chain_id, properties)
+                    SELECT 'element-' || i, 'Trigger ' || md5(i::text), 'http-trigger', 'chain-' || (i % 20000 + 1),
+                           jsonb_build_object('contextPath', '/' || md5((-i)::text))
+                    FROM generate_series(1, 40000) i
+                    """);
+            database.getJdbcTemplate().update("""
+                    INSERT INTO catalog.chain_labels (id, name, chain_id)
+                    SELECT 'label-' || i, 'label-' || md5(i::text), 'chain-' || i
+                    FROM generate_series(1, 20000) i
+                    """);
+            // Vacuum updates statistics of the GIN indexes, as autovacuum does, otherwise their scans are costed pessimistically
+            database.getJdbcTemplate().execute("VACUUM ANALYZE catalog.chains, catalog.elements, catalog.chain_labels");
+
+            String plan = database.explain(() -> database.findAll(Chain.class, builder.buildRankedSearch("orders-42")));
+
+            assertThat(plan).contains(
+                    "Bitmap Index Scan on idx_chains_search_text_trgm",
+                    "Bitmap Index Scan on idx_elements_name_trgm",
+                    "Bitmap Index Scan on idx_elements_search_text_trgm",
+                    "Bitmap Index Scan on idx_chain_labels_name_trgm")
+                    .doesNotContain("Seq Scan");
+        }
+    }
+
+    private static void seedChain(EmbeddedPersistenceContext database, String id, String name, String description) {
+        database.getJdbcTemplate().update("INSERT INTO catalog.chains (id, name, description) VALUES (?, ?, ?)", id, name, description);
+    }
+
+    private static void seedElement(EmbeddedPersistenceContext database, String chainId, String type, String name, String properties) {
+        database.getJdbcTemplate().update("""
+                INSERT INTO catalog.elements (id, name, type, chain_id, properties)
+                VALUES (?, ?, ?, ?, CAST(? AS jsonb))
+                """, chainId + "-" + type, name, type, chainId, properties);
+    }
+
+    private void findChains(Specification<Chain> specification) {
+        persistenceContext.findAll(Chain.class, specification);
+    }
+
+    private String capturedStatement() {
+        return persistenceContext.capturedStatement();
+    }
+}
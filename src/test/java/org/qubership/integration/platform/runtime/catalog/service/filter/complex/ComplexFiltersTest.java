@@ -0,0 +1,375 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.service.filter.complex;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.runtime.catalog.model.chain.ChainStatus;
+import org.qubership.integration.platform.runtime.catalog.model.chain.SessionsLoggingLevel;
+import org.qubership.integration.platform.runtime.catalog.model.deployment.engine.ChainRuntimeDeployment;
+import org.qubership.integration.platform.runtime.catalog.model.deployment.update.DeploymentInfo;
+import org.qubership.integration.platform.runtime.catalog.model.deployment.engine.DeploymentStatus;
+import org.qubership.integration.platform.runtime.catalog.model.deployment.properties.DeploymentRuntimeProperties;
+import org.qubership.integration.platform.runtime.catalog.model.filter.FilterCondition;
+import org.qubership.integration.platform.runtime.catalog.model.filter.FilterFeature;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Chain;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.Deployment;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.runtime.catalog.rest.v1.dto.FilterRequestDTO;
+import org.qubership.integration.platform.runtime.catalog.service.ChainRuntimePropertiesService;
+import org.qubership.integration.platform.runtime.catalog.service.RuntimeDeploymentService;
+import org.qubership.integration.platform.runtime.catalog.testutils.persistence.EmbeddedPersistenceContext;
+import org.qubership.integration.platform.runtime.catalog.testutils.persistence.StubPersistenceContext;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+import static org.qubership.integration.platform.runtime.catalog.testutils.persistence.StubPersistenceContext.stub;
+
+/**
+ * Checks that the complex chain filters select the same chains as the former in-memory filters.
+ * The equivalence is checked on random chains seeded into an embedded database,
+ * the shape of the queries is captured from Hibernate running against a stub connection.
+ */
+class ComplexFiltersTest {
+
+    private static final List<String> ELEMENT_TYPES = List.of("http-trigger", "script", "mapper-2", "service-call");
+    private static final List<DeploymentStatus> RUNTIME_STATUSES = List.of(
+            DeploymentStatus.DEPLOYED, DeploymentStatus.FAILED, DeploymentStatus.PROCESSING);
+    private static final int CHAINS_COUNT = 300;
+    private static final int FILTERS_COUNT = 200;
+
+    private final List<Object> parameters = new CopyOnWriteArrayList<>();
+    private final RuntimeDeploymentService runtimeDeploymentService = mock(RuntimeDeploymentService.class);
+    private final ChainRuntimePropertiesService chainRuntimePropertiesService = mock(ChainRuntimePropertiesService.class);
+    private StubPersistenceContext persistenceContext;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        PreparedStatement statement = stub(PreparedStatement.class);
+        doAnswer(invocation -> parameters.add(invocation.getArgument(1)))
+                .when(statement).setString(anyInt(), any());
+        persistenceContext = new StubPersistenceContext(() -> statement);
+    }
+
+    @AfterEach
+    void tearDown() {
+        persistenceContext.close();
+    }
+
+    @Test
+    void shouldSelectSameChainsByStatusAsInMemoryFilter() {
+        Random random = new Random(11);
+        List<Chain> chains = generateChains(random);
+        Map<String, Collection<ChainRuntimeDeployment>> runtimeDeployments = generateRuntimeDeployments(random, chains);
+        when(runtimeDeploymentService.getChainRuntimeDeployments()).thenReturn(runtimeDeployments);
+
+        assertSameChains(chains, random, new ChainStatusFilters(runtimeDeploymentService), FilterFeature.STATUS, statusValues(),
+                (chain, filter) -> getChainStatuses(runtimeDeployments, chain).stream().anyMatch(status -> matches(filter, status.name())));
+    }
+
+    @Test
+    void shouldSelectSameChainsByElementTypesAsInMemoryFilter() {
+        Random random = new Random(12);
+        List<Chain> chains = generateChains(random);
+
+        assertSameChains(chains, random, new ElementFilter(), FilterFeature.ELEMENT, ELEMENT_TYPES, (chain, filter) -> {
+            List<String> types = Arrays.asList(filter.getValue().split(","));
+            boolean exists = chain.getElements().stream().anyMatch(element -> types.contains(element.getType()));
+            return filter.getCondition() == FilterCondition.IN ? exists : !exists;
+        });
+    }
+
+    @Test
+    void shouldSelectSameChainsByLoggingLevelAsInMemoryFilter() {
+        Random random = new Random(13);
+        List<Chain> chains = generateChains(random);
+        Map<String, DeploymentRuntimeProperties> runtimeProperties = generateRuntimeProperties(random, chains);
+        when(chainRuntimePropertiesService.getRuntimePropertiesCache()).thenReturn(runtimeProperties);
+
+        List<String> levels = Arrays.stream(SessionsLoggingLevel.values()).map(level -> level.name().toLowerCase()).toList();
+        assertSameChains(chains, random, new LoggingFilter(chainRuntimePropertiesService), FilterFeature.LOGGING, levels, (chain, filter) -> {
+            DeploymentRuntimeProperties properties = runtimeProperties.get(chain.getId());
+            return properties != null && matches(filter, String.valueOf(properties.getSessionsLoggingLevel()));
+        });
+    }
+
+    @Test
+    void shouldBuildDeploymentStatusSubqueries() {
+        Chain chain = chain("chain");
+        chain.getDeployments().add(deployment(chain, "deployed"));
+        when(runtimeDeploymentService.getChainRuntimeDeployments()).thenReturn(Map.of(
+                "chain", List.of(runtimeDeployment("chain", "deployed", DeploymentStatus.DEPLOYED))));
+
+        findChains(new ChainStatusFilters(runtimeDeploymentService).toSpecification(List.of(
+                filter(FilterFeature.STATUS, FilterCondition.IN, "draft,deployed,processing"))));
+
+        String sql = capturedStatement();
+        assertThat(sql).contains(
+                "not exists(select 1 from catalog.deployments d1_0 where d1_0.chain_id=c1_0.id)",
+                "exists(select 1 from catalog.deployments d2_0 where d2_0.chain_id=c1_0.id and (d2_0.id = any(?)))",
+                "exists(select 1 from catalog.deployments d3_0 where d3_0.chain_id=c1_0.id and not((d3_0.id = any(?))))");
+    }
+
+    @Test
+    void shouldMapNoDeploymentsEngineFilterToDraftStatus() {
+        when(runtimeDeploymentService.getChainRuntimeDeployments()).thenReturn(Map.of());
+
+        findChains(new ChainStatusFilters(runtimeDeploymentService).toSpecification(List.of(
+                filter(FilterFeature.ENGINES, FilterCondition.IN, "No deployments yet"))));
+
+        assertThat(capturedStatement()).contains("where (not exists(select 1 from catalog.deployments")
+                .doesNotContain(" or ");
+    }
+
+    @Test
+    void shouldBuildElementTypeSubqueries() {
+        findChains(new ElementFilter().toSpecification(List.of(
+                filter(FilterFeature.ELEMENT, FilterCondition.IN, "http-trigger,script"),
+                filter(FilterFeature.ELEMENT, FilterCondition.NOT_IN, "mapper-2"))));
+
+        assertThat(capturedStatement()).contains(
+                "exists(select 1 from catalog.elements ce1_0 where ce1_0.chain_id=c1_0.id and ce1_0.type in (?,?))",
+                "not exists(select 1 from catalog.elements ce2_0 where ce2_0.chain_id=c1_0.id and ce2_0.type in (?))");
+        assertThat(parameters).containsExactly("http-trigger", "script", "mapper-2");
+    }
+
+    @Test
+    void shouldSelectNoChainsWhenNoLoggingLevelMatches() {
+        when(chainRuntimePropertiesService.getRuntimePropertiesCache()).thenReturn(Map.of(
+                "chain", DeploymentRuntimeProperties.builder().sessionsLoggingLevel(SessionsLoggingLevel.INFO).build()));
+
+        findChains(new LoggingFilter(chainRuntimePropertiesService).toSpecification(List.of(
+                filter(FilterFeature.LOGGING, FilterCondition.IN, "info"),
+                filter(FilterFeature.LOGGING, FilterCondition.IN, "debug"))));
+
+        assertThat(capturedStatement()).endsWith("where (c1_0.id = any(?)) and 1<>1");
+    }
+
+    @Test
+    void shouldBindRuntimeCachesAsSingleArrayParameters() {
+        List<FilterRequestDTO> filters = List.of(
+                filter(FilterFeature.STATUS, FilterCondition.IN, "deployed,processing"),
+                filter(FilterFeature.LOGGING, FilterCondition.IN, "info"));
+        List<String> statements = new ArrayList<>();
+        for (int chainsCount : List.of(1, 1000)) {
+            Map<String, Collection<ChainRuntimeDeployment>> runtimeDeployments = new HashMap<>();
+            Map<String, DeploymentRuntimeProperties> runtimeProperties = new HashMap<>();
+            for (int i = 0; i < chainsCount; i++) {
+                runtimeDeployments.put("chain-" + i, List.of(runtimeDeployment("chain-" + i, "deployment-" + i, DeploymentStatus.DEPLOYED)));
+                runtimeProperties.put("chain-" + i, DeploymentRuntimeProperties.builder().sessionsLoggingLevel(SessionsLoggingLevel.INFO).build());
+            }
+            when(runtimeDeploymentService.getChainRuntimeDeployments()).thenReturn(runtimeDeployments);
+            when(chainRuntimePropertiesService.getRuntimePropertiesCache()).thenReturn(runtimeProperties);
+
+            persistenceContext.clearStatements();
+            findChains(new ChainStatusFilters(runtimeDeploymentService).toSpecification(filters)
+                    .and(new LoggingFilter(chainRuntimePropertiesService).toSpecification(filters)));
+            statements.add(capturedStatement());
+        }
+
+        assertThat(statements.get(1)).isEqualTo(statements.get(0)).doesNotContain(" in (");
+    }
+
+    @Test
+    void shouldNotRestrictChainsWithoutComplexFilters() {
+        List<FilterRequestDTO> filters = List.of(filter(FilterFeature.NAME, FilterCondition.CONTAINS, "orders"));
+
+        findChains(new ChainStatusFilters(runtimeDeploymentService).toSpecification(filters)
+                .and(new ElementFilter().toSpecification(filters))
+                .and(new LoggingFilter(chainRuntimePropertiesService).toSpecification(filters)));
+
+        assertThat(capturedStatement()).doesNotContain("exists", " in (");
+        verifyNoInteractions(runtimeDeploymentService, chainRuntimePropertiesService);
+    }
+
+    /**
+     * Seeds the chains and compares the chains selected by random filters
+     * with the chains selected by the in-memory condition.
+     */
+    private void assertSameChains(
+            List<Chain> chains,
+            Random random,
+            FilterApplier filterApplier,
+            FilterFeature feature,
+            List<String> values,
+            BiPredicate<Chain, FilterRequestDTO> inMemoryCondition
+    ) {
+        try (EmbeddedPersistenceContext database = new EmbeddedPersistenceContext()) {
+            seedChains(database, chains);
+            for (int i = 0; i < FILTERS_COUNT; i++) {
+                List<FilterRequestDTO> filters = new ArrayList<>();
+                int filtersCount = 1 + random.nextInt(2);
+                for (int f = 0; f < filtersCount; f++) {
+                    List<String> filterValues = new ArrayList<>(values);
+                    Collections.shuffle(filterValues, random);
+                    filters.add(filter(
+                            feature,
+                            random.nextBoolean() ? FilterCondition.IN : FilterCondition.NOT_IN,
+                            String.join(",", filterValues.subList(0, 1 + random.nextInt(filterValues.size())))));
+                }
+
+                List<String> expected = chains.stream()
+                        .filter(chain -> filters.stream().allMatch(filter -> inMemoryCondition.test(chain, filter)))
+                        .map(Chain::getId)
+                        .toList();
+                List<String> actual = database.findAll(Chain.class, filterApplier.toSpecification(filters)).stream()
+                        .map(Chain::getId)
+                        .toList();
+
+                assertThat(actual).as(filters.toString()).containsExactlyInAnyOrderElementsOf(expected);
+            }
+        }
+    }
+
+    private static void seedChains(EmbeddedPersistenceContext database, List<Chain> chains) {
+        JdbcTemplate jdbcTemplate = database.getJdbcTemplate();
+        jdbcTemplate.batchUpdate("INSERT INTO catalog.chains (id, name) VALUES (?, ?)",
+                chains.stream().map(chain -> new Object[] {chain.getId(), chain.getName()}).toList());
+        jdbcTemplate.batchUpdate("INSERT INTO catalog.deployments (id, chain_id) VALUES (?, ?)",
+                chains.stream()
+                        .flatMap(chain -> chain.getDeployments().stream())
+                        .map(deployment -> new Object[] {deployment.getId(), deployment.getChain().getId()})
+                        .toList());
+        jdbcTemplate.batchUpdate("INSERT INTO catalog.elements (id, type, chain_id) VALUES (?, ?, ?)",
+                chains.stream()
+                        .flatMap(chain -> chain.getElements().stream())
+                        .map(element -> new Object[] {element.getId(), element.getType(), element.getChain().getId()})
+                        .toList());
+    }
+
+    /**
+     * Statuses of the chain deployments as the former in-memory filter resolved them:
+     * draft without deployments, processing for deployments not reported by engines yet.
+     */
+    private static List<ChainStatus> getChainStatuses(Map<String, Collection<ChainRuntimeDeployment>> runtimeDeployments, Chain chain) {
+        if (chain.getDeployments().isEmpty()) {
+            return List.of(ChainStatus.DRAFT);
+        }
+        Collection<ChainRuntimeDeployment> chainRuntimeDeployments = runtimeDeployments.getOrDefault(chain.getId(), List.of());
+        return chain.getDeployments().stream()
+                .map(deployment -> chainRuntimeDeployments.stream()
+                        .filter(runtimeDeployment -> deployment.getId().equals(runtimeDeployment.getDeploymentInfo().getDeploymentId()))
+                        .findFirst()
+                        .map(runtimeDeployment -> ChainStatus.valueOf(runtimeDeployment.getStatus().name()))
+                        .orElse(ChainStatus.PROCESSING))
+                .toList();
+    }
+
+    private static boolean matches(FilterRequestDTO filter, String value) {
+        boolean contains = Arrays.stream(filter.getValue().split(",")).anyMatch(value::equalsIgnoreCase);
+        return switch (filter.getCondition()) {
+            case IN -> contains;
+            case NOT_IN -> !contains;
+            default -> throw new IllegalStateException("Unexpected value: " + filter.getCondition());
+        };
+    }
+
+    private List<Chain> generateChains(Random random) {
+        List<Chain> chains = new ArrayList<>();
+        for (int i = 0; i < CHAINS_COUNT; i++) {
+            Chain chain = chain("chain-" + i);
+            int deploymentsCount = random.nextInt(4);
+            for (int d = 0; d < deploymentsCount; d++) {
+                chain.getDeployments().add(deployment(chain, chain.getId() + "-deployment-" + d));
+            }
+            int elementsCount = random.nextInt(4);
+            for (int e = 0; e < elementsCount; e++) {
+                chain.getElements().add(ChainElement.builder()
+                        .id(chain.getId() + "-element-" + e)
+                        .type(ELEMENT_TYPES.get(random.nextInt(ELEMENT_TYPES.size())))
+                        .chain(chain)
+                        .build());
+            }
+            chains.add(chain);
+        }
+        return chains;
+    }
+
+    private Map<String, Collection<ChainRuntimeDeployment>> generateRuntimeDeployments(Random random, List<Chain> chains) {
+        Map<String, Collection<ChainRuntimeDeployment>> result = new HashMap<>();
+        for (Chain chain : chains) {
+            for (Deployment deployment : chain.getDeployments()) {
+                // Some deployments are not reported yet, others are reported by several engines
+                int enginesCount = random.nextInt(3);
+                for (int e = 0; e < enginesCount; e++) {
+                    DeploymentStatus status = RUNTIME_STATUSES.get(random.nextInt(RUNTIME_STATUSES.size()));
+                    result.computeIfAbsent(chain.getId(), key -> new ArrayList<>())
+                            .add(runtimeDeployment(chain.getId(), deployment.getId(), status));
+                }
+            }
+        }
+        return result;
+    }
+
+    private Map<String, DeploymentRuntimeProperties> generateRuntimeProperties(Random random, List<Chain> chains) {
+        Map<String, DeploymentRuntimeProperties> result = new HashMap<>();
+        SessionsLoggingLevel[] levels = SessionsLoggingLevel.values();
+        for (Chain chain : chains) {
+            if (random.nextInt(3) > 0) {
+                SessionsLoggingLevel level = random.nextInt(5) == 0 ? null : levels[random.nextInt(levels.length)];
+                result.put(chain.getId(), DeploymentRuntimeProperties.builder().sessionsLoggingLevel(level).build());
+            }
+        }
+        return result;
+    }
+
+    private static List<String> statusValues() {
+        return Arrays.stream(ChainStatus.values()).map(status -> status.name().toLowerCase()).toList();
+    }
+
+    private static Chain chain(String id) {
+        Chain chain = new Chain();
+        chain.setId(id);
+        chain.setName(id);
+        return chain;
+    }
+
+    private static Deployment deployment(Chain chain, String id) {
+        Deployment deployment = new Deployment();
+        deployment.setId(id);
+        deployment.setChain(chain);
+        return deployment;
+    }
+
+    private static ChainRuntimeDeployment runtimeDeployment(String chainId, String deploymentId, DeploymentStatus status) {
+        return ChainRuntimeDeployment.builder()
+                .deploymentInfo(DeploymentInfo.builder().chainId(chainId).deploymentId(deploymentId).build())
+                .status(status)
+                .build();
+    }
+
+    private static FilterRequestDTO filter(FilterFeature feature, FilterCondition condition, String value) {
+        return FilterRequestDTO.builder().feature(feature).condition(condition).value(value).build();
+    }
+
+    private void findChains(Specification<Chain> specification) {
+        persistenceContext.findAll(Chain.class, specification);
+    }
+
+    private String capturedStatement() {
+        return persistenceContext.capturedStatement();
+    }
+}
@@ -1,6 +1,7 @@
 package org.qubership.integration.platform.runtime.catalog.service.library;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,6 +25,7 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -120,4 +122,29 @@ void shouldLoadElementDescriptorWithoutPatch() throws Exception {
         assertThat(result).isEqualTo(descriptor);
         assertThat(service.getElementDescriptor("test")).isEqualTo(descriptor);
     }
+
+    @Test
+    void shouldChangeDescriptorsHashWhenLoadedDescriptorChanges() throws Exception {
+        ElementDescriptor descriptor = new ElementDescriptor();
+        descriptor.setName("test");
+
+        when(propertyPlaceholderHelper.replacePlaceholders(any(), eq(descriptorProperties)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(yamlMapper.readTree(anyString()))
+                .thenAnswer(invocation -> new ObjectMapper().readTree((String) invocation.getArgument(0)));
+        when(yamlMapper.convertValue(any(JsonNode.class), eq(ElementDescriptor.class))).thenReturn(descriptor);
+
+        service.loadElementDescriptor("test", descriptorStream("{\"title\": \"Test\"}"));
+        String hash = service.getDescriptorsHash();
+
+        service.loadElementDescriptor("test", descriptorStream("{\"title\": \"Test\"}"));
+        assertThat(service.getDescriptorsHash()).isEqualTo(hash);
+
+        service.loadElementDescriptor("test", descriptorStream("{\"title\": \"Changed\"}"));
+        assertThat(service.getDescriptorsHash()).isNotEqualTo(hash);
+    }
+
+    private static InputStream descriptorStream(String descriptor) {
+        return new ByteArrayInputStream(descriptor.getBytes(StandardCharsets.UTF_8));
+    }
 }
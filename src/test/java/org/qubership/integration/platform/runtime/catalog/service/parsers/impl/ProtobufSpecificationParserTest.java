@@ -0,0 +1,211 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.service.parsers.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.IntegrationSystem;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.Operation;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.SpecificationGroup;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.SpecificationSource;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.SystemModel;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.system.SystemModelRepository;
+import org.qubership.integration.platform.runtime.catalog.service.SystemModelBaseService;
+import org.qubership.integration.platform.runtime.catalog.service.parsers.ParserUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.qubership.integration.platform.runtime.catalog.testutils.TestUtils.getResourceFileContent;
+
+@Slf4j
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ProtobufSpecificationParserTest {
+
+    private static final String INPUT_PATH = "/testData/input/service/parsers/protobuf/";
+    private static final String OUTPUT_PATH = "/testData/output/service/parsers/protobuf/";
+    private static final int BENCHMARK_FILES_COUNT = 200;
+    private static final int BENCHMARK_COMMON_FILES_COUNT = 10;
+
+    @Mock
+    private SystemModelRepository systemModelRepository;
+    @Mock
+    private SystemModelBaseService systemModelBaseService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ProtobufSpecificationParser parser;
+
+    @BeforeEach
+    void setUp() {
+        when(systemModelRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        parser = new ProtobufSpecificationParser(
+                systemModelRepository,
+                new ParserUtils(systemModelBaseService, objectMapper),
+                objectMapper
+        );
+    }
+
+    @Test
+    void shouldProduceExpectedOperationsForMultipleFiles() throws IOException {
+        List<SpecificationSource> sources = List.of(
+                source("common/types.proto", getResourceFileContent(INPUT_PATH + "common/types.proto")),
+                source("orders.proto", getResourceFileContent(INPUT_PATH + "orders.proto")),
+                source("README.md", getResourceFileContent(INPUT_PATH + "README.md")),
+                source("payments.proto", getResourceFileContent(INPUT_PATH + "payments.proto"))
+        );
+
+        SystemModel systemModel = parse(sources);
+
+        JsonNode expected = objectMapper.readTree(getResourceFileContent(OUTPUT_PATH + "acme_operations.json"));
+        assertThat(systemModel.getOperations()).extracting(Operation::getName)
+                .containsExactly("OrderService.GetOrder", "OrderService.ListOrders", "PaymentService.Capture", "PaymentService.Refund");
+        assertThat(objectMapper.readTree(objectMapper.writeValueAsString(toJson(systemModel.getOperations()))))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void shouldResolveSharedTypesAcrossLargeFileTree() {
+        List<SpecificationSource> sources = generateFileTree();
+        parse(sources);
+
+        long startTime = System.nanoTime();
+        SystemModel systemModel = parse(sources);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startTime);
+        log.info("{} protobuf files parsed in {} ms", BENCHMARK_FILES_COUNT, elapsed.toMillis());
+
+        List<Operation> operations = systemModel.getOperations();
+        int servicesCount = BENCHMARK_FILES_COUNT - BENCHMARK_COMMON_FILES_COUNT;
+        assertThat(operations).hasSize(servicesCount * 2);
+        for (int i = 0; i < servicesCount; i++) {
+            String packageName = "acme.service" + i;
+            String commonPackageName = "acme.common" + (i % BENCHMARK_COMMON_FILES_COUNT);
+            Operation get = operations.get(i * 2);
+            Operation list = operations.get(i * 2 + 1);
+
+            assertThat(get.getName()).isEqualTo("Service" + i + ".Get");
+            assertThat(get.getPath()).isEqualTo("com.acme.service" + i + ".Service" + i);
+            assertThat(definitionNames(get.getRequestSchema().get("application/json"))).containsExactly(
+                    packageName + ".GetRequest", commonPackageName + ".Id");
+            assertThat(definitionNames(get.getResponseSchemas().get("200").get("application/json"))).containsExactly(
+                    packageName + ".Entity", commonPackageName + ".Id", packageName + ".Entity.Tag",
+                    "int32", commonPackageName + ".Status", commonPackageName + ".Audit", "int64");
+
+            assertThat(list.getName()).isEqualTo("Service" + i + ".List");
+            assertThat(definitionNames(list.getResponseSchemas().get("200").get("application/json")))
+                    .startsWith(packageName + ".ListResponse", packageName + ".Entity")
+                    .doesNotContain("acme.common" + ((i + 1) % BENCHMARK_COMMON_FILES_COUNT) + ".Id");
+        }
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(60));
+    }
+
+    private SystemModel parse(List<SpecificationSource> sources) {
+        IntegrationSystem system = new IntegrationSystem();
+        system.setId("system");
+        SpecificationGroup group = new SpecificationGroup();
+        group.setId("group");
+        group.setName("group");
+        group.setSystem(system);
+
+        return parser.enrichSpecificationGroup(group, sources, Set.of(), false, message -> { });
+    }
+
+    private static SpecificationSource source(String name, String content) {
+        SpecificationSource source = new SpecificationSource();
+        source.setName(name);
+        source.setSource(content);
+        return source;
+    }
+
+    private static List<String> definitionNames(JsonNode schema) {
+        List<String> names = new ArrayList<>();
+        schema.get("definitions").fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+
+    private ObjectNode toJson(List<Operation> operations) {
+        ObjectNode result = objectMapper.createObjectNode();
+        for (Operation operation : operations) {
+            ObjectNode operationNode = result.putObject(operation.getId());
+            operationNode.put("name", operation.getName());
+            operationNode.put("method", operation.getMethod());
+            operationNode.put("path", operation.getPath());
+            operationNode.set("specification", operation.getSpecification());
+            operationNode.set("requestSchema", objectMapper.valueToTree(operation.getRequestSchema()));
+            operationNode.set("responseSchemas", objectMapper.valueToTree(operation.getResponseSchemas()));
+        }
+        return result;
+    }
+
+    /**
+     * Generates service files sharing a few common packages, each service refers to common types
+     * by names relative to its own package, by fully qualified names and to its nested types.
+     */
+    private static List<SpecificationSource> generateFileTree() {
+        List<SpecificationSource> sources = new ArrayList<>();
+        for (int k = 0; k < BENCHMARK_COMMON_FILES_COUNT; k++) {
+            sources.add(source("common/common" + k + ".proto", String.format("""
+                    syntax = "proto3";
+                    package acme.common%1$d;
+                    message Id { string value = 1; }
+                    enum Status { STATUS_UNKNOWN = 0; ACTIVE = 1; }
+                    message Audit { string author = 1; int64 created_at = 2; Id author_id = 3; }
+                    """, k)));
+        }
+        for (int i = 0; i < BENCHMARK_FILES_COUNT - BENCHMARK_COMMON_FILES_COUNT; i++) {
+            int k = i % BENCHMARK_COMMON_FILES_COUNT;
+            sources.add(source("services/service" + i + ".proto", String.format("""
+                    syntax = "proto3";
+                    package acme.service%1$d;
+                    import "common/common%2$d.proto";
+                    option java_package = "com.acme.service%1$d";
+                    message Entity {
+                      common%2$d.Id id = 1;
+                      repeated Tag tags = 2;
+                      common%2$d.Status status = 3;
+                      acme.common%2$d.Audit audit = 4;
+                      map<string, string> attributes = 5;
+                      message Tag { string name = 1; int32 weight = 2; }
+                    }
+                    message GetRequest { common%2$d.Id id = 1; }
+                    message ListRequest { int32 page_size = 1; repeated common%2$d.Status statuses = 2; }
+                    message ListResponse { repeated Entity entities = 1; string next_page_token = 2; }
+                    service Service%1$d {
+                      rpc Get(GetRequest) returns (Entity);
+                      rpc List(ListRequest) returns (ListResponse);
+                    }
+                    """, i, k)));
+        }
+        return sources;
+    }
+}
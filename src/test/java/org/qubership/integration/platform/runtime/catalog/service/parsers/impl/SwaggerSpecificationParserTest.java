@@ -0,0 +1,206 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.service.parsers.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.swagger.v3.core.util.Json;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.qubership.integration.platform.runtime.catalog.model.system.IntegrationSystemType;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.Environment;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.IntegrationSystem;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.Operation;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.SpecificationGroup;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.SpecificationSource;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.SystemModel;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.system.SystemModelRepository;
+import org.qubership.integration.platform.runtime.catalog.service.EnvironmentBaseService;
+import org.qubership.integration.platform.runtime.catalog.service.SystemModelBaseService;
+import org.qubership.integration.platform.runtime.catalog.service.parsers.ParserUtils;
+import org.qubership.integration.platform.runtime.catalog.service.resolvers.swagger.SwaggerSchemaResolver;
+import org.qubership.integration.platform.runtime.catalog.service.schemas.SchemaProcessor;
+import org.qubership.integration.platform.runtime.catalog.service.schemas.impl.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.qubership.integration.platform.runtime.catalog.testutils.TestUtils.getResourceFileContent;
+
+@Slf4j
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SwaggerSpecificationParserTest {
+
+    private static final String INPUT_PATH = "/testData/input/service/parsers/swagger/";
+    private static final String OUTPUT_PATH = "/testData/output/service/parsers/swagger/";
+    private static final int BENCHMARK_OPERATIONS_COUNT = 2000;
+    private static final int SCHEMAS_CLUSTER_SIZE = 8;
+
+    @Mock
+    private SystemModelRepository systemModelRepository;
+    @Mock
+    private SystemModelBaseService systemModelBaseService;
+    @Mock
+    private EnvironmentBaseService environmentBaseService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SwaggerSpecificationParser parser;
+
+    @BeforeEach
+    void setUp() {
+        when(systemModelRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ObjectMapper openApiObjectMapper = Json.mapper();
+        List<SchemaProcessor> schemaProcessors = new ArrayList<>(List.of(
+                new DefaultSchemaProcessor(openApiObjectMapper),
+                new ObjectSchemaProcessor(openApiObjectMapper),
+                new StringSchemaProcessor(openApiObjectMapper),
+                new UUIDSchemaProcessor(openApiObjectMapper),
+                new FileSchemaProcessor(openApiObjectMapper)
+        ));
+        schemaProcessors.add(new ArraySchemaProcessor(List.copyOf(schemaProcessors), openApiObjectMapper));
+
+        parser = new SwaggerSpecificationParser(
+                systemModelRepository,
+                new SwaggerSchemaResolver(),
+                schemaProcessors,
+                openApiObjectMapper,
+                new ParserUtils(systemModelBaseService, objectMapper),
+                environmentBaseService
+        );
+    }
+
+    @Test
+    void shouldProduceExpectedOperationsForOpenApiSpecification() throws IOException {
+        SystemModel systemModel = parse(getResourceFileContent(INPUT_PATH + "petstore_openapi.json"));
+
+        assertOperations(systemModel, OUTPUT_PATH + "petstore_openapi_operations.json");
+    }
+
+    @Test
+    void shouldProduceExpectedOperationsForSwaggerSpecification() throws IOException {
+        SystemModel systemModel = parse(getResourceFileContent(INPUT_PATH + "petstore_swagger.yaml"));
+
+        assertOperations(systemModel, OUTPUT_PATH + "petstore_swagger_operations.json");
+    }
+
+    @Test
+    void shouldParseLargeSpecification() throws IOException {
+        String specification = objectMapper.writeValueAsString(generateSpecification(BENCHMARK_OPERATIONS_COUNT));
+        parse(specification);
+
+        long startTime = System.nanoTime();
+        SystemModel systemModel = parse(specification);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startTime);
+        log.info("Specification with {} operations parsed in {} ms", BENCHMARK_OPERATIONS_COUNT, elapsed.toMillis());
+
+        assertThat(systemModel.getOperations()).hasSize(BENCHMARK_OPERATIONS_COUNT);
+        assertThat(systemModel.getOperations())
+                .allSatisfy(operation -> assertThat(operation.getRequestSchema().get("application/json").get("definitions")).isNotNull());
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(60));
+    }
+
+    private SystemModel parse(String specification) {
+        IntegrationSystem system = new IntegrationSystem();
+        system.setId("system");
+        system.setIntegrationSystemType(IntegrationSystemType.IMPLEMENTED);
+        system.setEnvironments(new ArrayList<>(List.of(new Environment())));
+        SpecificationGroup group = new SpecificationGroup();
+        group.setId("group");
+        group.setName("group");
+        group.setSystem(system);
+        SpecificationSource source = new SpecificationSource();
+        source.setSource(specification);
+
+        return parser.enrichSpecificationGroup(group, List.of(source), Collections.emptySet(), false, message -> { });
+    }
+
+    /**
+     * Compares operations with the output of the parser that converted models through serialized JSON strings.
+     */
+    private void assertOperations(SystemModel systemModel, String expectedPath) throws IOException {
+        JsonNode expected = objectMapper.readTree(getResourceFileContent(expectedPath));
+        JsonNode actual = objectMapper.readTree(objectMapper.writeValueAsString(toJson(systemModel.getOperations())));
+
+        assertThat(actual.size()).isEqualTo(expected.size());
+        expected.fields().forEachRemaining(operation ->
+                assertThat(actual.get(operation.getKey())).as(operation.getKey()).isEqualTo(operation.getValue()));
+    }
+
+    private ObjectNode toJson(List<Operation> operations) {
+        ObjectNode result = objectMapper.createObjectNode();
+        for (Operation operation : operations) {
+            ObjectNode operationNode = result.putObject(operation.getId());
+            operationNode.put("name", operation.getName());
+            operationNode.put("method", operation.getMethod());
+            operationNode.put("path", operation.getPath());
+            operationNode.set("specification", operation.getSpecification());
+            operationNode.set("requestSchema", objectMapper.valueToTree(operation.getRequestSchema()));
+            operationNode.set("responseSchemas", objectMapper.valueToTree(operation.getResponseSchemas()));
+        }
+        return result;
+    }
+
+    private ObjectNode generateSpecification(int operationsCount) {
+        ObjectNode specification = objectMapper.createObjectNode();
+        specification.put("openapi", "3.0.1");
+        specification.putObject("info").put("title", "Generated").put("version", "1.0.0");
+        ObjectNode paths = specification.putObject("paths");
+        ObjectNode schemas = specification.putObject("components").putObject("schemas");
+
+        int schemasCount = operationsCount / 4;
+        for (int i = 0; i < schemasCount; i++) {
+            // Schemas reference each other within small clusters, as models of a single resource usually do
+            int clusterStart = i - i % SCHEMAS_CLUSTER_SIZE;
+            ObjectNode properties = schemas.putObject("Entity" + i).put("type", "object").putObject("properties");
+            properties.putObject("id").put("type", "integer").put("format", "int64");
+            properties.putObject("name").put("type", "string");
+            properties.putObject("amount").put("type", "number").put("minimum", 0.01);
+            properties.putObject("next").put("$ref", "#/components/schemas/Entity" + (clusterStart + (i + 1) % SCHEMAS_CLUSTER_SIZE));
+            properties.putObject("children").put("type", "array")
+                    .putObject("items").put("$ref", "#/components/schemas/Entity" + (clusterStart + (i + 3) % SCHEMAS_CLUSTER_SIZE));
+        }
+
+        for (int i = 0; i < operationsCount; i++) {
+            String schemaRef = "#/components/schemas/Entity" + (i % schemasCount);
+            ObjectNode operation = paths.putObject("/resources" + i + "/{id}").putObject("post");
+            operation.put("operationId", "operation" + i);
+            operation.putArray("parameters").addObject()
+                    .put("name", "id").put("in", "path").put("required", true)
+                    .putObject("schema").put("type", "string");
+            operation.putObject("requestBody").putObject("content").putObject("application/json")
+                    .putObject("schema").put("$ref", schemaRef);
+            ObjectNode responses = operation.putObject("responses");
+            responses.putObject("200").put("description", "OK").putObject("content").putObject("application/json")
+                    .putObject("schema").put("$ref", schemaRef);
+            responses.putObject("404").put("description", "Not found");
+        }
+        return specification;
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.service.parsers.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.qubership.integration.platform.runtime.catalog.configuration.SaxParserFactoryConfiguration;
+import org.qubership.integration.platform.runtime.catalog.model.mapper.mapping.EnvironmentMapper;
+import org.qubership.integration.platform.runtime.catalog.model.system.IntegrationSystemType;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.*;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.repository.system.SystemModelRepository;
+import org.qubership.integration.platform.runtime.catalog.service.EnvironmentBaseService;
+import org.qubership.integration.platform.runtime.catalog.service.FilesStorageService;
+import org.qubership.integration.platform.runtime.catalog.service.SystemModelBaseService;
+import org.qubership.integration.platform.runtime.catalog.service.parsers.ParserUtils;
+import org.qubership.integration.platform.runtime.catalog.service.resolvers.wsdl.WsdlVersionParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.qubership.integration.platform.runtime.catalog.testutils.TestUtils.getResourceFileContent;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class WSDLSpecificationParserTest {
+
+    private static final String INPUT_PATH = "/testData/input/service/parsers/wsdl/";
+
+    private static final String WSDL_2 = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <description xmlns="http://www.w3.org/ns/wsdl"
+                         xmlns:tns="http://example.com/orders/service"
+                         xmlns:ord="http://example.com/orders"
+                         xmlns:wsoap="http://www.w3.org/ns/wsdl/soap"
+                         xmlns:xs="http://www.w3.org/2001/XMLSchema"
+                         targetNamespace="http://example.com/orders/service">
+                <types>
+                    <xs:schema targetNamespace="http://example.com/orders" elementFormDefault="qualified">
+                        <xs:element name="GetOrder" type="xs:string"/>
+                        <xs:element name="Order" type="xs:string"/>
+                    </xs:schema>
+                </types>
+                <interface name="OrderInterface">
+                    <operation name="GetOrder" pattern="http://www.w3.org/ns/wsdl/in-out">
+                        <input element="ord:GetOrder"/>
+                        <output element="ord:Order"/>
+                    </operation>
+                </interface>
+                <binding name="OrderBinding" interface="tns:OrderInterface"
+                         type="http://www.w3.org/ns/wsdl/soap" wsoap:protocol="http://www.w3.org/2003/05/soap/bindings/HTTP/">
+                    <operation ref="tns:GetOrder"/>
+                </binding>
+                <service name="OrderService" interface="tns:OrderInterface">
+                    <endpoint name="OrderEndpoint" binding="tns:OrderBinding" address="http://orders.example.com/soap"/>
+                </service>
+            </description>
+            """;
+
+    @Mock
+    private SystemModelRepository systemModelRepository;
+    @Mock
+    private SystemModelBaseService systemModelBaseService;
+    @Mock
+    private EnvironmentBaseService environmentBaseService;
+    @Mock
+    private EnvironmentMapper environmentMapper;
+    @Mock
+    private FilesStorageService storageService;
+
+    private WSDLSpecificationParser parser;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(systemModelRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        parser = new WSDLSpecificationParser(
+                systemModelRepository,
+                environmentBaseService,
+                environmentMapper,
+                new WsdlVersionParser(new SaxParserFactoryConfiguration().wsdlVersionSaxParserFactory()),
+                new ParserUtils(systemModelBaseService, new ObjectMapper()),
+                storageService
+        );
+    }
+
+    @Test
+    void shouldResolveImportsFromSourcesWithoutStoringFiles() throws IOException {
+        List<SpecificationSource> sources = new ArrayList<>();
+        for (String name : List.of("schemas/orders.xsd", "legacy/types.xsd", "orders.wsdl", "common/types.xsd", "common/party.xsd")) {
+            SpecificationSource source = new SpecificationSource();
+            source.setName(name);
+            source.setSource(getResourceFileContent(INPUT_PATH + name));
+            source.setMainSource("orders.wsdl".equals(name));
+            sources.add(source);
+        }
+
+        SystemModel systemModel = parse(sources);
+
+        assertThat(systemModel.getOperations()).extracting(Operation::getName)
+                .containsExactly("GetOrder", "CancelOrder");
+        verifyNoInteractions(storageService);
+    }
+
+    @Test
+    void shouldParseSingleFileWsdl2WithoutStoringFiles() {
+        SpecificationSource source = new SpecificationSource();
+        source.setName("orders.wsdl");
+        source.setSource(WSDL_2);
+        source.setMainSource(true);
+
+        SystemModel systemModel = parse(List.of(source));
+
+        assertThat(systemModel.getOperations()).extracting(Operation::getName).containsExactly("GetOrder");
+        verifyNoInteractions(storageService);
+    }
+
+    private SystemModel parse(List<SpecificationSource> sources) {
+        IntegrationSystem system = new IntegrationSystem();
+        system.setId("system");
+        system.setIntegrationSystemType(IntegrationSystemType.IMPLEMENTED);
+        SpecificationGroup group = new SpecificationGroup();
+        group.setId("group");
+        group.setName("group");
+        group.setSystem(system);
+
+        return parser.enrichSpecificationGroup(group, sources, Collections.emptySet(), false, message -> { });
+    }
+}
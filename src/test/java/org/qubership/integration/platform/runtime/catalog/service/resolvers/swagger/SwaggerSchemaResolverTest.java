@@ -0,0 +1,177 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.service.resolvers.swagger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.runtime.catalog.service.resolvers.CommonSchemaResolver;
+import org.qubership.integration.platform.runtime.catalog.service.resolvers.SchemaResolutionContext;
+
+import java.io.IOException;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.qubership.integration.platform.runtime.catalog.testutils.TestUtils.getResourceFileContent;
+
+class SwaggerSchemaResolverTest {
+
+    private static final String SCHEMAS_PREFIX = "#/components/schemas/";
+    private static final int GENERATED_SCHEMAS_COUNT = 400;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SwaggerSchemaResolver resolver = new SwaggerSchemaResolver();
+    private final DeepCopySchemaResolver referenceResolver = new DeepCopySchemaResolver();
+
+    @Test
+    void shouldResolveLikeDeepCopyResolverForPetstoreSpecification() throws IOException {
+        JsonNode components = objectMapper.readTree(
+                getResourceFileContent("/testData/input/service/resolvers/swagger/petstore_components.json"));
+
+        assertSameResolution(components, schemaRefs(components));
+    }
+
+    @Test
+    void shouldResolveLikeDeepCopyResolverForLargeSpecification() {
+        JsonNode components = generateComponents(new Random(42));
+        List<String> refs = new ArrayList<>(schemaRefs(components));
+        refs.add(SCHEMAS_PREFIX + "Missing");
+        Collections.shuffle(refs, new Random(7));
+
+        assertSameResolution(components, refs);
+    }
+
+    @Test
+    void shouldResolveCyclicReferences() throws IOException {
+        JsonNode components = objectMapper.readTree(
+                getResourceFileContent("/testData/input/service/resolvers/swagger/petstore_components.json"));
+        SchemaResolutionContext context = new SchemaResolutionContext(components);
+
+        JsonNode resolved = objectMapper.readTree(resolver.resolveRef(SCHEMAS_PREFIX + "Pet", context));
+
+        assertThat(resolved.get("definitions").fieldNames()).toIterable()
+                .contains("Pet", "Category", "Tag", "User", "Address");
+        assertThat(resolved.at("/properties/parent/$ref").asText()).isEqualTo("#/definitions/Pet");
+        assertThat(resolved.at("/definitions/User/properties/pets/items/$ref").asText()).isEqualTo("#/definitions/Pet");
+    }
+
+    @Test
+    void shouldReuseResolvedSchemaWithinContext() {
+        JsonNode components = generateComponents(new Random(1));
+        SchemaResolutionContext context = new SchemaResolutionContext(components);
+
+        String first = resolver.resolveRef(SCHEMAS_PREFIX + "Model0", context);
+        String second = resolver.resolveRef(SCHEMAS_PREFIX + "Model0", context);
+
+        assertThat(second).isSameAs(first);
+    }
+
+    private void assertSameResolution(JsonNode components, List<String> refs) {
+        JsonNode originalComponents = components.deepCopy();
+        SchemaResolutionContext context = new SchemaResolutionContext(components);
+
+        for (int pass = 0; pass < 2; pass++) {
+            for (String ref : refs) {
+                assertThat(resolver.resolveRef(ref, context))
+                        .as(ref)
+                        .isEqualTo(referenceResolver.resolveRef(ref, components));
+            }
+        }
+        assertThat(components).isEqualTo(originalComponents);
+    }
+
+    private static List<String> schemaRefs(JsonNode components) {
+        List<String> refs = new ArrayList<>();
+        components.get("schemas").fieldNames().forEachRemaining(name -> refs.add(SCHEMAS_PREFIX + name));
+        return refs;
+    }
+
+    private JsonNode generateComponents(Random random) {
+        ObjectNode schemas = objectMapper.createObjectNode();
+        for (int i = 0; i < GENERATED_SCHEMAS_COUNT; i++) {
+            ObjectNode schema = schemas.putObject("Model" + i);
+            switch (random.nextInt(10)) {
+                case 0 -> schema.put("$ref", randomRef(random));
+                case 1 -> {
+                    schema.put("type", "array");
+                    schema.putObject("items").put("$ref", randomRef(random));
+                }
+                default -> {
+                    schema.put("type", "object");
+                    ObjectNode properties = schema.putObject("properties");
+                    int propertiesCount = 3 + random.nextInt(6);
+                    for (int p = 0; p < propertiesCount; p++) {
+                        properties.set("field" + p, randomProperty(random));
+                    }
+                }
+            }
+        }
+        ObjectNode components = objectMapper.createObjectNode();
+        components.set("schemas", schemas);
+        return components;
+    }
+
+    private ObjectNode randomProperty(Random random) {
+        ObjectNode property = objectMapper.createObjectNode();
+        switch (random.nextInt(7)) {
+            case 0 -> property.put("$ref", randomRef(random));
+            case 1 -> {
+                property.put("type", "array");
+                property.putObject("items").put("$ref", randomRef(random));
+            }
+            case 2 -> {
+                property.put("type", "object");
+                property.putObject("additionalProperties").put("$ref", randomRef(random));
+            }
+            case 3 -> {
+                ArrayNode allOf = property.putArray("allOf");
+                allOf.addObject().put("$ref", randomRef(random));
+                allOf.addObject().put("type", "object").putObject("properties").putObject("extra").put("type", "string");
+            }
+            case 4 -> {
+                ArrayNode anyOf = property.putArray("anyOf");
+                anyOf.addObject().put("$ref", randomRef(random));
+                anyOf.addObject().put("$ref", SCHEMAS_PREFIX + "Missing" + random.nextInt(3));
+            }
+            case 5 -> {
+                property.put("type", "object");
+                property.putObject("properties").putObject("nested").put("$ref", randomRef(random));
+            }
+            default -> property.put("type", random.nextBoolean() ? "string" : "integer");
+        }
+        return property;
+    }
+
+    private static String randomRef(Random random) {
+        return SCHEMAS_PREFIX + "Model" + random.nextInt(GENERATED_SCHEMAS_COUNT);
+    }
+
+    /**
+     * Resolves every reference on its own copy of the components, as the resolver did before resolution contexts.
+     */
+    private static class DeepCopySchemaResolver extends CommonSchemaResolver {
+        @Override
+        public String resolveRef(String schemaRef, JsonNode componentsNode) {
+            JsonNode currentComponentsNode = componentsNode.deepCopy();
+            ObjectNode schemaNode = getSchemaNode(schemaRef, currentComponentsNode);
+            Map<String, JsonNode> schemaRefs = getNestedRefs(schemaNode, currentComponentsNode, "swagger", Collections.emptyList());
+            return getResolvedSchema(schemaRef, schemaNode, schemaRefs);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.service.resolvers.wsdl;
+
+import com.predic8.schema.Schema;
+import com.predic8.wsdl.Definitions;
+import com.predic8.wsdl.WSDLParser;
+import com.predic8.wsdl.WSDLParserContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.qubership.integration.platform.runtime.catalog.persistence.configs.entity.system.SpecificationSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.qubership.integration.platform.runtime.catalog.testutils.TestUtils.getResourceFileContent;
+
+class SpecificationSourcesResolverTest {
+
+    private static final String INPUT_PATH = "/testData/input/service/parsers/wsdl/";
+    private static final List<String> SOURCE_NAMES = List.of(
+            "orders.wsdl",
+            "schemas/orders.xsd",
+            "common/types.xsd",
+            "common/party.xsd",
+            "legacy/types.xsd"
+    );
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void shouldParseLikeStoredFiles() throws IOException {
+        List<SpecificationSource> sources = sources();
+        for (SpecificationSource source : sources) {
+            Path file = tempDir.resolve(source.getName());
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, source.getSource());
+        }
+
+        Definitions fromFiles = parse(new WSDLParser(), tempDir.resolve("orders.wsdl").toString());
+        WSDLParser parser = new WSDLParser();
+        parser.setResourceResolver(new SpecificationSourcesResolver(sources));
+        Definitions fromMemory = parse(parser, "orders.wsdl");
+
+        assertThat(describeSchemas(fromMemory)).isEqualTo(describeSchemas(fromFiles));
+        assertThat(fromMemory.getOperations()).extracting(operation -> operation.getName())
+                .containsExactlyElementsOf(fromFiles.getOperations().stream().map(operation -> operation.getName()).toList());
+    }
+
+    @Test
+    void shouldResolveNestedRelativeImportsAgainstImportingDocument() throws IOException {
+        SpecificationSourcesResolver resolver = new SpecificationSourcesResolver(sources());
+
+        assertThat(resolver.findSource("types.xsd", "common/")).map(SpecificationSource::getName)
+                .contains("common/types.xsd");
+        assertThat(resolver.findSource("types.xsd", "legacy")).map(SpecificationSource::getName)
+                .contains("legacy/types.xsd");
+        assertThat(resolver.findSource("../common/types.xsd", "schemas/")).map(SpecificationSource::getName)
+                .contains("common/types.xsd");
+        assertThat(resolver.findSource("./party.xsd", "schemas/../common/")).map(SpecificationSource::getName)
+                .contains("common/party.xsd");
+        assertThat(resolver.findSource("http://example.com/xsd/common/party.xsd", "schemas/"))
+                .map(SpecificationSource::getName)
+                .contains("common/party.xsd");
+        assertThat(resolver.findSource("missing.xsd", "common/")).isEmpty();
+    }
+
+    @Test
+    void shouldResolveCyclicImports() throws IOException {
+        WSDLParser parser = new WSDLParser();
+        parser.setResourceResolver(new SpecificationSourcesResolver(sources()));
+
+        Map<String, List<String>> schemas = describeSchemas(parse(parser, "orders.wsdl"));
+
+        assertThat(schemas).containsOnlyKeys(
+                "http://example.com/orders/service",
+                "http://example.com/orders",
+                "http://example.com/common",
+                "http://example.com/party"
+        );
+        assertThat(schemas.get("http://example.com/common")).containsExactly("Identifier", "Party");
+        assertThat(schemas.get("http://example.com/party")).containsExactly("Address");
+    }
+
+    @Test
+    void shouldReadSameContentOnce() throws IOException {
+        List<SpecificationSource> sources = sources();
+        SpecificationSourcesResolver resolver = new SpecificationSourcesResolver(sources);
+
+        String first = read(resolver.resolve("types.xsd", "common/"));
+        String second = read(resolver.resolve("../common/types.xsd", "schemas"));
+
+        assertThat(first).isEqualTo(second).isEqualTo(sources.get(2).getSource());
+    }
+
+    private static Definitions parse(WSDLParser parser, String location) {
+        WSDLParserContext context = new WSDLParserContext();
+        context.setInput(location);
+        return parser.parse(context);
+    }
+
+    /**
+     * Names of the elements and types of every schema reachable from the definitions, by target namespace.
+     */
+    private static Map<String, List<String>> describeSchemas(Definitions definitions) {
+        Map<String, List<String>> result = new TreeMap<>();
+        Deque<Schema> schemas = new ArrayDeque<>(definitions.getSchemas());
+        while (!schemas.isEmpty()) {
+            Schema schema = schemas.pop();
+            if (result.containsKey(schema.getTargetNamespace())) {
+                continue;
+            }
+            List<String> names = new ArrayList<>();
+            schema.getElements().forEach(element -> names.add(element.getName()));
+            schema.getComplexTypes().forEach(type -> names.add(type.getName()));
+            schema.getSimpleTypes().forEach(type -> names.add(type.getName()));
+            result.put(schema.getTargetNamespace(), names.stream().sorted().toList());
+            schemas.addAll(schema.getImportedSchemas());
+        }
+        return result;
+    }
+
+    private static String read(Object resolved) throws IOException {
+        try (InputStream inputStream = (InputStream) resolved) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static List<SpecificationSource> sources() throws IOException {
+        List<SpecificationSource> sources = new ArrayList<>();
+        for (String name : SOURCE_NAMES) {
+            SpecificationSource source = new SpecificationSource();
+            source.setName(name);
+            source.setSource(getResourceFileContent(INPUT_PATH + name));
+            sources.add(source);
+        }
+        return sources;
+    }
+}
@@ -20,10 +20,17 @@
 import org.junit.jupiter.api.Test;
 import org.qubership.integration.platform.runtime.catalog.util.paths.PathIntersectionChecker;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class PathIntersectionCheckerTest {
+    private static final String[] SEGMENTS = {"", "a", "b", "{x}", "{y}", "a{x}", "{x}a", "{x}{y}", "{", "}", "{x", "a}b"};
+    private static final int MAX_SEGMENTS = 3;
+
     private PathIntersectionChecker intersectionChecker;
 
     @BeforeEach
@@ -41,4 +48,38 @@ void testIntersection() {
         assertFalse(intersectionChecker.intersects("/foo/bar", "/foo/bar-{baz}"));
         assertFalse(intersectionChecker.intersects("{foo}-bar", "{foo}-bz"));
     }
+
+    @Test
+    void testIntersectionKeyMatchesIntersection() {
+        List<String> paths = generatePaths();
+        for (String path1 : paths) {
+            String key1 = intersectionChecker.getIntersectionKey(path1);
+            for (String path2 : paths) {
+                assertEquals(intersectionChecker.intersects(path1, path2),
+                        key1.equals(intersectionChecker.getIntersectionKey(path2)),
+                        path1 + " and " + path2);
+            }
+        }
+    }
+
+    /**
+     * All paths of up to three segments, with and without boundary slashes.
+     */
+    private static List<String> generatePaths() {
+        List<String> paths = new ArrayList<>();
+        List<String> current = new ArrayList<>(List.of(""));
+        for (int length = 1; length <= MAX_SEGMENTS; length++) {
+            List<String> next = new ArrayList<>();
+            for (String prefix : current) {
+                for (String segment : SEGMENTS) {
+                    next.add(prefix.isEmpty() && length == 1 ? segment : prefix + "/" + segment);
+                }
+            }
+            current = next;
+            paths.addAll(next);
+        }
+        List<String> result = new ArrayList<>(paths);
+        paths.stream().filter(path -> path.length() < 4).forEach(path -> result.add("/" + path + "/"));
+        return result;
+    }
 }
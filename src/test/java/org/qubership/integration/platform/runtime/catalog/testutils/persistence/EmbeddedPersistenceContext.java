@@ -0,0 +1,248 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.testutils.persistence;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityTransaction;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.ClassicConfiguration;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.qubership.integration.platform.runtime.catalog.db.migration.postgresql.configs.ConfigsJavaMigration;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+
+/**
+ * Persistence context over an embedded PostgreSQL with the configs schema created by the Flyway migrations
+ * of the service. The database is started once per JVM, tables are truncated when the context is closed.
+ * The cluster is kept in the build directory and reused by the next run, the schema is recreated on start.
+ */
+public class EmbeddedPersistenceContext extends TestPersistenceContext {
+
+    private static final String SCHEMA = "catalog";
+    private static final String MIGRATIONS_LOCATION = "classpath:db/migration/postgresql/configs";
+    private static final Path DATA_DIRECTORY = Path.of("target", "embedded-postgres");
+
+    private static DataSource dataSource;
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource());
+    private final AtomicReference<ExecutedStatement> lastExecutedStatement;
+
+    public EmbeddedPersistenceContext() {
+        this(new AtomicReference<>());
+    }
+
+    private EmbeddedPersistenceContext(AtomicReference<ExecutedStatement> lastExecutedStatement) {
+        super(recording(dataSource(), lastExecutedStatement));
+        this.lastExecutedStatement = lastExecutedStatement;
+    }
+
+    /**
+     * Returns the datasource of the embedded database, starting and migrating it on the first call.
+     */
+    public static synchronized DataSource dataSource() {
+        if (dataSource == null) {
+            // The server is stopped by its own shutdown hook, the data directory is not deleted
+            try {
+                EmbeddedPostgres database = EmbeddedPostgres.builder()
+                        .setDataDirectory(DATA_DIRECTORY)
+                        .setCleanDataDirectory(false)
+                        .start();
+                // Connections use the schema as the search path, as the configs datasource of the service does
+                dataSource = database.getPostgresDatabase(Map.of("currentSchema", SCHEMA));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to start embedded PostgreSQL", e);
+            }
+            migrate(dataSource);
+        }
+        return dataSource;
+    }
+
+    /**
+     * Returns a JDBC template for seeding data and running native statements, e.g. {@code EXPLAIN}.
+     */
+    public JdbcTemplate getJdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    /**
+     * Runs the action in a transaction of the entity manager, flushing it before the commit.
+     */
+    public <T> T inTransaction(Supplier<T> action) {
+        EntityTransaction transaction = getEntityManager().getTransaction();
+        transaction.begin();
+        try {
+            T result = action.get();
+            getEntityManager().flush();
+            transaction.commit();
+            return result;
+        } finally {
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+        }
+    }
+
+    public void inTransaction(Runnable action) {
+        inTransaction(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs the query and returns the plan of the last statement it executed, explained with the same parameters.
+     */
+    public String explain(Runnable query) {
+        lastExecutedStatement.set(null);
+        query.run();
+        ExecutedStatement statement = lastExecutedStatement.get();
+        if (statement == null) {
+            throw new IllegalStateException("Query has not executed a prepared statement");
+        }
+        return jdbcTemplate.execute((Connection connection) -> {
+            try (PreparedStatement explainStatement = connection.prepareStatement("EXPLAIN " + statement.sql())) {
+                for (ParameterBinding binding : statement.bindings()) {
+                    try {
+                        binding.setter().invoke(explainStatement, binding.arguments());
+                    } catch (ReflectiveOperationException e) {
+                        throw new IllegalStateException("Failed to bind parameter of explained statement", e);
+                    }
+                }
+                StringJoiner plan = new StringJoiner("\n");
+                try (ResultSet resultSet = explainStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        plan.add(resultSet.getString(1));
+                    }
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        List<String> tables = jdbcTemplate.queryForList("""
+                SELECT quote_ident(table_name)
+                FROM information_schema.tables
+                WHERE table_schema = ? AND table_type = 'BASE TABLE' AND table_name <> 'flyway_schema_history'
+                """, String.class, SCHEMA);
+        if (!tables.isEmpty()) {
+            jdbcTemplate.execute("TRUNCATE " + SCHEMA + "." + String.join(", " + SCHEMA + ".", tables) + " CASCADE");
+        }
+    }
+
+    private static void migrate(DataSource dataSource) {
+        new JdbcTemplate(dataSource).execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        ClassicConfiguration configuration = new ClassicConfiguration();
+        configuration.setDataSource(dataSource);
+        configuration.setSchemas(new String[] {SCHEMA});
+        configuration.setDefaultSchema(SCHEMA);
+        configuration.setLocationsAsStrings(MIGRATIONS_LOCATION);
+        configuration.setJavaMigrations(javaMigrations());
+        new Flyway(configuration).migrate();
+    }
+
+    private static JavaMigration[] javaMigrations() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AssignableTypeFilter(ConfigsJavaMigration.class));
+        return scanner.findCandidateComponents(ConfigsJavaMigration.class.getPackageName())
+                .stream()
+                .map(BeanDefinition::getBeanClassName)
+                .map(className -> ClassUtils.resolveClassName(className, EmbeddedPersistenceContext.class.getClassLoader()))
+                .map(BeanUtils::instantiateClass)
+                .map(JavaMigration.class::cast)
+                .toArray(JavaMigration[]::new);
+    }
+
+    /**
+     * Wraps the datasource so the statements executed through it are recorded with their parameters.
+     */
+    private static DataSource recording(DataSource dataSource, AtomicReference<ExecutedStatement> lastExecutedStatement) {
+        return proxy(DataSource.class, (proxy, method, arguments) -> {
+            Object result = invoke(dataSource, method, arguments);
+            return result instanceof Connection connection
+                    ? recording(connection, lastExecutedStatement)
+                    : result;
+        });
+    }
+
+    private static Connection recording(Connection connection, AtomicReference<ExecutedStatement> lastExecutedStatement) {
+        return proxy(Connection.class, (proxy, method, arguments) -> {
+            Object result = invoke(connection, method, arguments);
+            return result instanceof PreparedStatement statement && "prepareStatement".equals(method.getName())
+                    ? recording(statement, (String) arguments[0], lastExecutedStatement)
+                    : result;
+        });
+    }
+
+    private static PreparedStatement recording(PreparedStatement statement, String sql,
+                                               AtomicReference<ExecutedStatement> lastExecutedStatement) {
+        List<ParameterBinding> bindings = new ArrayList<>();
+        return proxy(PreparedStatement.class, (proxy, method, arguments) -> {
+            String methodName = method.getName();
+            if (methodName.startsWith("set") && arguments != null && arguments.length > 1 && arguments[0] instanceof Integer) {
+                bindings.add(new ParameterBinding(method, arguments));
+            } else if ("clearParameters".equals(methodName)) {
+                bindings.clear();
+            } else if (methodName.startsWith("execute") && arguments == null) {
+                lastExecutedStatement.set(new ExecutedStatement(sql, List.copyOf(bindings)));
+            }
+            return invoke(statement, method, arguments);
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(EmbeddedPersistenceContext.class.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] arguments) throws Throwable {
+        try {
+            return method.invoke(target, arguments);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private record ExecutedStatement(String sql, List<ParameterBinding> bindings) {
+    }
+
+    private record ParameterBinding(Method setter, Object[] arguments) {
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.testutils.persistence;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import javax.sql.DataSource;
+
+import static org.mockito.Mockito.RETURNS_MOCKS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Persistence context over a stub JDBC connection. Statements and result sets are mocks,
+ * results are empty and there are no warnings, so the generated SQL is captured without a database.
+ * Tests built on it check the shape of the SQL only, see {@link EmbeddedPersistenceContext} for checks of results.
+ */
+public class StubPersistenceContext extends TestPersistenceContext {
+
+    public StubPersistenceContext() {
+        this(() -> stub(PreparedStatement.class));
+    }
+
+    /**
+     * Creates the context with prepared statements supplied by the test,
+     * e.g. to capture bound parameters or to return rows.
+     */
+    public StubPersistenceContext(PreparedStatementFactory preparedStatementFactory) {
+        super(stubDataSource(preparedStatementFactory));
+    }
+
+    /**
+     * Creates a JDBC mock returning mocks from all methods except warning getters.
+     */
+    public static <T> T stub(Class<T> type) {
+        return mock(type, invocation -> SQLWarning.class.equals(invocation.getMethod().getReturnType())
+                ? null
+                : RETURNS_MOCKS.answer(invocation));
+    }
+
+    private static DataSource stubDataSource(PreparedStatementFactory preparedStatementFactory) {
+        Connection connection = mock(Connection.class, invocation -> {
+            if (PreparedStatement.class.equals(invocation.getMethod().getReturnType())) {
+                return preparedStatementFactory.create();
+            }
+            return SQLWarning.class.equals(invocation.getMethod().getReturnType())
+                    ? null
+                    : RETURNS_MOCKS.answer(invocation);
+        });
+        DataSource dataSource = mock(DataSource.class);
+        try {
+            when(dataSource.getConnection()).thenReturn(connection);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        return dataSource;
+    }
+
+    @FunctionalInterface
+    public interface PreparedStatementFactory {
+        PreparedStatement create() throws Exception;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.runtime.catalog.testutils.persistence;
+
+import io.hypersistence.utils.hibernate.naming.CamelCaseToSnakeCaseNamingStrategy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Query;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.jpa.HibernatePersistenceProvider;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hibernate entity manager configured the same way as the configs datasource of the service.
+ * Every statement prepared by Hibernate is captured, so tests can check the generated SQL.
+ */
+public abstract class TestPersistenceContext implements AutoCloseable {
+
+    private static final String[] JPA_ENTITIES_PACKAGES_SCAN = {
+            "org.qubership.integration.platform.catalog.persistence.configs.entity",
+            "org.qubership.integration.platform.runtime.catalog.persistence.configs.entity"
+    };
+
+    private final List<String> statements = new CopyOnWriteArrayList<>();
+    private final LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+    private final EntityManager entityManager;
+
+    protected TestPersistenceContext(DataSource dataSource) {
+        entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactoryBean.setDataSource(dataSource);
+        entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactoryBean.setPackagesToScan(JPA_ENTITIES_PACKAGES_SCAN);
+        entityManagerFactoryBean.setPersistenceProvider(new HibernatePersistenceProvider());
+        entityManagerFactoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect",
+                "hibernate.temp.use_jdbc_metadata_defaults", false,
+                "hibernate.physical_naming_strategy", CamelCaseToSnakeCaseNamingStrategy.class.getName(),
+                "hibernate.default_schema", "catalog",
+                "hibernate.jdbc.time_zone", "UTC",
+                "hibernate.generate_statistics", true,
+                "hibernate.session.events.log", false,
+                "hibernate.session_factory.statement_inspector", (StatementInspector) sql -> {
+                    statements.add(sql);
+                    return sql;
+                }
+        ));
+        entityManagerFactoryBean.afterPropertiesSet();
+        entityManager = entityManagerFactoryBean.getObject().createEntityManager();
+    }
+
+    public EntityManager getEntityManager() {
+        return entityManager;
+    }
+
+    public Statistics getStatistics() {
+        EntityManagerFactory entityManagerFactory = entityManagerFactoryBean.getObject();
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * Returns the statements prepared by Hibernate so far, as generated.
+     */
+    public List<String> getStatements() {
+        return statements;
+    }
+
+    public void clearStatements() {
+        statements.clear();
+    }
+
+    /**
+     * Asserts that exactly one statement was prepared and returns it in {@link #normalize(String) normalized} form.
+     */
+    public String capturedStatement() {
+        assertThat(statements).hasSize(1);
+        return normalize(statements.get(0));
+    }
+
+    /**
+     * Lower-cases the statement and collapses whitespace, so it can be compared with a single-line string.
+     */
+    public static String normalize(String sql) {
+        return sql.toLowerCase().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * Creates a Spring Data repository backed by the entity manager,
+     * custom implementations are passed as repository fragments.
+     */
+    public <R> R getRepository(Class<R> repositoryInterface, Object... implementations) {
+        return new JpaRepositoryFactory(entityManager)
+                .getRepository(repositoryInterface, RepositoryFragments.just(implementations));
+    }
+
+    /**
+     * Runs a criteria query selecting entities matching the specification.
+     */
+    public <T> List<T> findAll(Class<T> entityClass, Specification<T> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = criteriaBuilder.createQuery(entityClass);
+        Root<T> root = query.from(entityClass);
+        query.where(specification.toPredicate(root, query, criteriaBuilder));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    /**
+     * Runs the {@link org.springframework.data.jpa.repository.Query} of a repository method with a single value
+     * for every parameter and returns the generated SQL.
+     */
+    public String render(Class<?> repository, String method, Class<?>... parameterTypes) throws NoSuchMethodException {
+        String jpql = repository.getMethod(method, parameterTypes)
+                .getAnnotation(org.springframework.data.jpa.repository.Query.class)
+                .value();
+        Query query = entityManager.createQuery(jpql);
+        query.getParameters().forEach(parameter -> query.setParameter(parameter.getName(),
+                parameter.getName().endsWith("s") ? List.of("value") : "value"));
+        query.getResultList();
+        return capturedStatement();
+    }
+
+    @Override
+    public void close() {
+        entityManager.close();
+        entityManagerFactoryBean.destroy();
+    }
+}